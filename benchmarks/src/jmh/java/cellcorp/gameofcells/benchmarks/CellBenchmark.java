@@ -0,0 +1,41 @@
+package cellcorp.gameofcells.benchmarks;
+
+import cellcorp.gameofcells.objects.Cell;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * CellBenchmark Class
+ * <p>
+ * Rebuilding the flagellum's wave, which happens every frame the cell moves.
+ * The cell is nudged before each call, since the flagellum isn't rebuilt while the cell is still.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+@State(Scope.Thread)
+public class CellBenchmark {
+    private Cell cell;
+    private float x = 0;
+
+    @Setup
+    public void setUp() {
+        cell = Stubs.cell(Stubs.spriteRegions());
+        cell.setHasFlagellum(true);
+    }
+
+    @Benchmark
+    public int updateFlagellum() {
+        x = x > 1000 ? 0 : x + 1;
+        cell.moveTo(x, 0);
+        cell.updateFlagellum(Stubs.DELTA_TIME);
+        return cell.getFlagellumVectors().size;
+    }
+}
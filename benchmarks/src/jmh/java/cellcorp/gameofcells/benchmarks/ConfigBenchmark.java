@@ -0,0 +1,60 @@
+package cellcorp.gameofcells.benchmarks;
+
+import cellcorp.gameofcells.providers.CompiledConfig;
+import cellcorp.gameofcells.providers.ConfigParser;
+import cellcorp.gameofcells.providers.ConfigProvider;
+import cellcorp.gameofcells.providers.ConfigSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ConfigBenchmark Class
+ * <p>
+ * Loading the game's config file: parsing the text, or reading the compiled form desktop builds can ship,
+ * and looking up values once it's loaded.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+@State(Scope.Thread)
+public class ConfigBenchmark {
+    private String text;
+    private byte[] compiled;
+    private int sourceHash;
+    private ConfigProvider configProvider;
+
+    @Setup
+    public void setUp() {
+        text = Stubs.configText();
+        sourceHash = CompiledConfig.hash(text.getBytes(StandardCharsets.UTF_8));
+        compiled = CompiledConfig.encode(ConfigParser.parse(text), sourceHash);
+        configProvider = Stubs.configProvider();
+    }
+
+    @Benchmark
+    public ConfigSnapshot parse() {
+        return ConfigParser.parse(text);
+    }
+
+    /**
+     * Includes hashing the text, since that's how a stale compiled config is caught.
+     */
+    @Benchmark
+    public ConfigSnapshot decodeCompiled() {
+        return CompiledConfig.decode(compiled, CompiledConfig.hash(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Benchmark
+    public float getFloatValue() {
+        return configProvider.getFloatValue("cellMovementSpeed");
+    }
+}
@@ -0,0 +1,127 @@
+package cellcorp.gameofcells.benchmarks;
+
+import cellcorp.gameofcells.SpriteRegions;
+import cellcorp.gameofcells.objects.Cell;
+import cellcorp.gameofcells.objects.Chunk;
+import cellcorp.gameofcells.objects.Glucose;
+import cellcorp.gameofcells.objects.GlucoseHost;
+import cellcorp.gameofcells.objects.GlucoseManager;
+import cellcorp.gameofcells.objects.ZoneManager;
+import com.badlogic.gdx.math.MathUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * GlucoseManagerBenchmark Class
+ * <p>
+ * Spawning a chunk's glucose, and the per-frame update that pushes glucose and checks it for collisions.
+ * <p>
+ * The update runs with the 3x3 chunks around the cell filled to a set density. The cell swims in a circle,
+ * so it pushes and eats glucose. Eaten glucose doesn't come back until the next iteration, so after the
+ * first lap, most frames find nothing to eat -- like most frames in play.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public class GlucoseManagerBenchmark {
+    /**
+     * Far enough from spawn that zones and glucose spawn normally.
+     */
+    private static final int CHUNK = 5;
+    private static final float CENTER = (CHUNK + 0.5f) * Chunk.CHUNK_LENGTH;
+    private static final float SWIM_RADIUS = 300;
+    private static final float SWIM_STEP_RADIANS = 0.05f;
+
+    /**
+     * A glucose manager, with the zones around {@link #CHUNK} spawned, and the cell in its center.
+     */
+    private static GlucoseManager createGlucoseManager(SpriteRegions spriteRegions, Cell cell) {
+        Stubs.seed();
+        cell.moveTo(CENTER, CENTER);
+        var zoneManager = new ZoneManager(spriteRegions, cell);
+        zoneManager.spawnInRange(CHUNK - 3, CHUNK - 3, CHUNK + 4, CHUNK + 4);
+        return new GlucoseManager(Stubs.graphicsProvider(), spriteRegions, GlucoseHost.detached(), zoneManager, cell);
+    }
+
+    @State(Scope.Thread)
+    public static class Spawning {
+        private GlucoseManager glucoseManager;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            var spriteRegions = Stubs.spriteRegions();
+            glucoseManager = createGlucoseManager(spriteRegions, Stubs.cell(spriteRegions));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Field {
+        /**
+         * Glucose in each of the chunks around the cell. Natural spawning puts a few hundred in a chunk.
+         */
+        @Param({"100", "500", "2000"})
+        public int glucosePerChunk;
+
+        private Cell cell;
+        private GlucoseManager glucoseManager;
+        private float swimAngle;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            var spriteRegions = Stubs.spriteRegions();
+            cell = Stubs.cell(spriteRegions);
+            glucoseManager = createGlucoseManager(spriteRegions, cell);
+            swimAngle = 0;
+
+            var random = new Random(Stubs.SEED);
+            for (var chunk : new Chunk(CHUNK, CHUNK).adjacentChunks()) {
+                var rect = chunk.toRectangle();
+                var glucoseList = new ArrayList<Glucose>(glucosePerChunk);
+                for (int i = 0; i < glucosePerChunk; i++) {
+                    float x = rect.x + random.nextFloat() * rect.width;
+                    float y = rect.y + random.nextFloat() * rect.height;
+                    glucoseList.add(new Glucose(spriteRegions.glucose, x, y));
+                }
+                glucoseManager.getGlucoses().put(chunk, glucoseList);
+            }
+            // The first update fills the density grid, like a chunk crossing does.
+            glucoseManager.update(Stubs.DELTA_TIME);
+        }
+    }
+
+    /**
+     * Spawn a chunk's glucose, then despawn it, so the next call spawns it again.
+     */
+    @Benchmark
+    public int spawnChunk(Spawning state) {
+        var glucoseManager = state.glucoseManager;
+        glucoseManager.spawnInRange(CHUNK + 1, CHUNK + 1, CHUNK + 2, CHUNK + 2);
+        int count = glucoseManager.getGlucoses().get(new Chunk(CHUNK + 1, CHUNK + 1)).size();
+        glucoseManager.despawnOutsideRange(0, 0, 0, 0);
+        return count;
+    }
+
+    /**
+     * One frame of pushing glucose and checking collisions.
+     */
+    @Benchmark
+    public int update(Field state) {
+        state.swimAngle += SWIM_STEP_RADIANS;
+        state.cell.moveTo(CENTER + MathUtils.cos(state.swimAngle) * SWIM_RADIUS,
+            CENTER + MathUtils.sin(state.swimAngle) * SWIM_RADIUS);
+        state.glucoseManager.update(Stubs.DELTA_TIME);
+        return state.cell.getCellATP();
+    }
+}
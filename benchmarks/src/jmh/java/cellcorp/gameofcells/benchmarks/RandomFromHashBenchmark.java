@@ -0,0 +1,36 @@
+package cellcorp.gameofcells.benchmarks;
+
+import cellcorp.gameofcells.objects.RandomFromHash;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * RandomFromHashBenchmark Class
+ * <p>
+ * One random value per chunk hash. Zone spawning asks for one per chunk, per zone type.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+@State(Scope.Thread)
+public class RandomFromHashBenchmark {
+    private RandomFromHash random;
+    private int hash = 0;
+
+    @Setup
+    public void setUp() {
+        random = new RandomFromHash(Stubs.SEED);
+    }
+
+    @Benchmark
+    public float floatFrom() {
+        return random.floatFrom(hash++);
+    }
+}
@@ -0,0 +1,90 @@
+package cellcorp.gameofcells.benchmarks;
+
+import cellcorp.gameofcells.AssetFileNames;
+import cellcorp.gameofcells.SpriteRegions;
+import cellcorp.gameofcells.objects.Cell;
+import cellcorp.gameofcells.objects.CellHost;
+import cellcorp.gameofcells.objects.SpawnManager;
+import cellcorp.gameofcells.providers.ConfigProvider;
+import cellcorp.gameofcells.providers.GraphicsProvider;
+import com.badlogic.gdx.assets.AssetManager;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Stubs Class
+ * <p>
+ * Game objects built without a GL context, for benchmarks.
+ * The asset manager is a mock, so every sprite is an empty region. The graphics provider is a mock too,
+ * and is only ever called by draw code, which the benchmarks don't run.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+final class Stubs {
+    /**
+     * Seed for the world's random generators, so every run spawns the same world.
+     */
+    static final long SEED = 405L;
+    /**
+     * One frame at 60 frames per second.
+     */
+    static final float DELTA_TIME = 1 / 60f;
+
+    private Stubs() {
+    }
+
+    /**
+     * Fix the world's seed. Call before creating anything that spawns.
+     */
+    static void seed() {
+        SpawnManager.setRandomSeed(SEED);
+    }
+
+    static SpriteRegions spriteRegions() {
+        return new SpriteRegions(Mockito.mock(AssetManager.class));
+    }
+
+    static GraphicsProvider graphicsProvider() {
+        return Mockito.mock(GraphicsProvider.class);
+    }
+
+    /**
+     * @return The game's config file. Copied onto the benchmark classpath by the build.
+     */
+    static String configText() {
+        try (InputStream in = Stubs.class.getResourceAsStream("/" + AssetFileNames.USER_CONFIG)) {
+            if (in == null) {
+                throw new IllegalStateException(AssetFileNames.USER_CONFIG + " isn't on the classpath");
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return A config provider, loaded with the game's config file.
+     */
+    static ConfigProvider configProvider() {
+        var configProvider = new ConfigProvider();
+        configProvider.loadConfigText(configText());
+        return configProvider;
+    }
+
+    /**
+     * A cell with the game's config, and no game around it.
+     */
+    static Cell cell(SpriteRegions spriteRegions) {
+        return new Cell(CellHost.detached(), spriteRegions, configProvider());
+    }
+}
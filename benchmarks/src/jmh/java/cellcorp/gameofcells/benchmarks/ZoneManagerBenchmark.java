@@ -0,0 +1,99 @@
+package cellcorp.gameofcells.benchmarks;
+
+import cellcorp.gameofcells.objects.Chunk;
+import cellcorp.gameofcells.objects.Zone;
+import cellcorp.gameofcells.objects.ZoneManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * ZoneManagerBenchmark Class
+ * <p>
+ * Spawning zones as the cell moves, and finding the nearest zone, which glucose spawning does once per sub-chunk.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+@State(Scope.Thread)
+public class ZoneManagerBenchmark {
+    /**
+     * Matches {@code SpawnManager.DESPAWN_CHUNK_RANGE}: the most chunks a zone manager holds at once.
+     */
+    private static final int RANGE = 10;
+    /**
+     * Query points per row of the spawned area, for the distance benchmarks.
+     */
+    private static final int POINTS_PER_ROW = 64;
+
+    private ZoneManager zoneManager;
+    private Map<Chunk, Zone> adjacentZones;
+    private float[] pointsX;
+    private float[] pointsY;
+    private int point = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Stubs.seed();
+        var spriteRegions = Stubs.spriteRegions();
+        var cell = Stubs.cell(spriteRegions);
+        // With the first size upgrade, acid zones spawn too.
+        cell.setHasSmallSizeUpgrade(true);
+        zoneManager = new ZoneManager(spriteRegions, cell);
+        zoneManager.spawnInRange(-RANGE, -RANGE, RANGE, RANGE);
+        adjacentZones = zoneManager.basicZonesInChunks(new Chunk(2, 2).adjacentChunks());
+
+        pointsX = new float[POINTS_PER_ROW * POINTS_PER_ROW];
+        pointsY = new float[POINTS_PER_ROW * POINTS_PER_ROW];
+        float extent = 2 * RANGE * Chunk.CHUNK_LENGTH;
+        for (int row = 0; row < POINTS_PER_ROW; row++) {
+            for (int col = 0; col < POINTS_PER_ROW; col++) {
+                pointsX[row * POINTS_PER_ROW + col] = -RANGE * Chunk.CHUNK_LENGTH + extent * col / POINTS_PER_ROW;
+                pointsY[row * POINTS_PER_ROW + col] = -RANGE * Chunk.CHUNK_LENGTH + extent * row / POINTS_PER_ROW;
+            }
+        }
+    }
+
+    private int nextPoint() {
+        point = (point + 1) % pointsX.length;
+        return point;
+    }
+
+    /**
+     * Spawn every zone in range, after despawning them all, like the first frame in a new area.
+     */
+    @Benchmark
+    public int spawnInRange() {
+        zoneManager.despawnOutsideRange(0, 0, 0, 0);
+        zoneManager.spawnInRange(-RANGE, -RANGE, RANGE, RANGE);
+        return zoneManager.getBasicZones().size();
+    }
+
+    /**
+     * Nearest of every basic zone in range, like the minimap's arrow.
+     */
+    @Benchmark
+    public Optional<Double> distanceToNearestZone() {
+        int i = nextPoint();
+        return zoneManager.distanceToNearestBasicZone(pointsX[i], pointsY[i]);
+    }
+
+    /**
+     * Nearest of the basic zones around a chunk, like glucose spawning asks for each sub-chunk.
+     */
+    @Benchmark
+    public Optional<Double> distanceToNearestAdjacentZone() {
+        int i = nextPoint();
+        return zoneManager.distanceToNearestZone(adjacentZones, pointsX[i], pointsY[i]);
+    }
+}
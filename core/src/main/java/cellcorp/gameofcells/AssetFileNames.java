@@ -149,6 +149,11 @@ public class AssetFileNames {
 
     public static String USER_CONFIG = "config.txt";
 
+    /**
+     * The file name for the config file compiled by the `compileConfig` Gradle task. Optional.
+     */
+    public static String COMPILED_CONFIG = "config.bin";
+
     /**
      * File that is read to test parsing sense user_config can
      * change.
@@ -172,4 +177,16 @@ public class AssetFileNames {
     public static String WS_KEYS = "ws.png";
 
     public static String CONTROLS_INFO_BUTTON = "c_key.png";
+
+    /**
+     * The file name of the atlas the world sprites are packed into, at build time.
+     * See {@link SpriteRegions}.
+     */
+    public static String WORLD_ATLAS = "world.atlas";
+
+    /**
+     * The file name of the atlas the HUD and menu icons are packed into, at build time.
+     * See {@link SpriteRegions}.
+     */
+    public static String UI_ATLAS = "ui.atlas";
 }
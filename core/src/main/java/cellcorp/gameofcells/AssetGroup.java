@@ -0,0 +1,64 @@
+package cellcorp.gameofcells;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+
+/**
+ * AssetGroup Enum
+ * <p>
+ * The assets a set of screens needs, loaded together by {@link AssetLoader}.
+ * Only the menu's group has to load before the first frame. The rest load in the background.
+ * <p>
+ * The shop, pause, controls, and game over screens only draw fonts and sprites, so they share the menu's group.
+ * The attract screen runs a demo gameplay screen, so it waits for the gameplay group.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public enum AssetGroup {
+    /**
+     * Fonts, and the packed sprites. Everything the menus draw.
+     */
+    MENU,
+    /**
+     * The large background and overlay textures, and the notification font.
+     */
+    GAMEPLAY;
+
+    /**
+     * Queue this group's assets for loading.
+     * The asset manager expects the asset's file name,
+     * and the class of the asset to load.
+     */
+    public void queue(AssetManager assetManager) {
+        switch (this) {
+            case MENU:
+                assetManager.load(AssetFileNames.HUD_FONT, BitmapFont.class);
+                assetManager.load("rubik1.png", Texture.class);
+                assetManager.load("rubik2.png", Texture.class);
+                assetManager.load(AssetFileNames.HUD_FONT_YELLOW, BitmapFont.class);
+                assetManager.load("rubik_yellow1.png", Texture.class);
+                assetManager.load("rubik_yellow2.png", Texture.class);
+                assetManager.load(AssetFileNames.DEFAULT_FONT, BitmapFont.class);
+                assetManager.load(AssetFileNames.ATTRACT_SCREEN_CELL, Texture.class);
+                // Small sprites come packed into atlases
+                SpriteRegions.load(assetManager);
+                break;
+            case GAMEPLAY:
+                assetManager.load(AssetFileNames.NOTIFICATION_FONT, BitmapFont.class);
+                assetManager.load(AssetFileNames.WHITE_PIXEL, Texture.class);
+                assetManager.load(AssetFileNames.PARALLAX_FAR, Texture.class);
+                assetManager.load(AssetFileNames.PARALLAX_MID, Texture.class);
+                assetManager.load(AssetFileNames.PARALLAX_NEAR, Texture.class);
+                assetManager.load(AssetFileNames.FLOATING_OVERLAY, Texture.class);
+                assetManager.load(AssetFileNames.VIGNETTE_LOW_HEALTH, Texture.class);
+                break;
+        }
+    }
+}
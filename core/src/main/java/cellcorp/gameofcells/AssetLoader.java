@@ -0,0 +1,105 @@
+package cellcorp.gameofcells;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.utils.Queue;
+
+/**
+ * AssetLoader Class
+ * <p>
+ * Loads asset groups one at a time, a time slice per frame, instead of blocking on every asset at startup.
+ * When a group finishes loading, its handles are resolved into the {@link AssetRegistry}.
+ * <p>
+ * Groups load in the order they're requested. A group's handles are null until it's loaded,
+ * so screens needing a group should be shown with {@link Main#setScreenWhenLoaded}.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public class AssetLoader {
+    private final AssetManager assetManager;
+    private final AssetRegistry assets = new AssetRegistry();
+    private final Queue<AssetGroup> pending = new Queue<>();
+    private final boolean[] loaded = new boolean[AssetGroup.values().length];
+    private AssetGroup loading; // The group queued in the asset manager, or null
+
+    public AssetLoader(AssetManager assetManager) {
+        this.assetManager = assetManager;
+    }
+
+    /**
+     * Queue a group for loading, after any already requested.
+     * Groups that are already loaded or requested are ignored.
+     */
+    public void request(AssetGroup group) {
+        if (loaded[group.ordinal()] || group == loading || hasPending(group)) {
+            return;
+        }
+        pending.addLast(group);
+        if (loading == null) {
+            startNext();
+        }
+    }
+
+    /**
+     * Load for up to about `millis` milliseconds.
+     * A slice can run over when a single asset takes longer to load.
+     *
+     * @return Whether every requested group is loaded.
+     */
+    public boolean update(int millis) {
+        if (loading == null) {
+            return true;
+        }
+        if (!assetManager.update(millis)) {
+            return false;
+        }
+        // Finishing a group can take the whole slice, so the next group starts loading on the next call.
+        assets.resolve(loading, assetManager);
+        loaded[loading.ordinal()] = true;
+        loading = null;
+        startNext();
+        return loading == null;
+    }
+
+    private void startNext() {
+        if (pending.notEmpty()) {
+            loading = pending.removeFirst();
+            loading.queue(assetManager);
+        }
+    }
+
+    private boolean hasPending(AssetGroup group) {
+        for (var pendingGroup : pending) {
+            if (pendingGroup == group) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return Whether a group's assets are loaded, and resolved.
+     */
+    public boolean isLoaded(AssetGroup group) {
+        return loaded[group.ordinal()];
+    }
+
+    /**
+     * @return Progress of the group currently loading, from 0 to 1. 1 when nothing is loading.
+     */
+    public float getProgress() {
+        return loading == null ? 1f : assetManager.getProgress();
+    }
+
+    /**
+     * @return The handles of every loaded group.
+     */
+    public AssetRegistry getAssets() {
+        return assets;
+    }
+}
@@ -0,0 +1,96 @@
+package cellcorp.gameofcells;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+
+/**
+ * AssetRegistry Class
+ * <p>
+ * Typed handles to every asset the game uses, resolved once after loading.
+ * Game objects take their assets from here, instead of calling `AssetManager.get(String, Class)`,
+ * which hashes the file name and checks the type on every call.
+ * <p>
+ * Handles are resolved a group at a time, as {@link AssetLoader} finishes loading each {@link AssetGroup}.
+ * A handle is null until its group is loaded.
+ * <p>
+ * The {@link AssetManager} still owns the assets, and disposes them.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public class AssetRegistry {
+    // Fonts
+    public BitmapFont defaultFont; // Menu
+    public BitmapFont hudFont; // Menu
+    public BitmapFont hudFontYellow; // Menu
+    public BitmapFont notificationFont; // Gameplay
+
+    // Large textures, which aren't packed into the sprite atlases
+    public Texture attractScreenCell; // Menu
+    public Texture whitePixel; // Gameplay
+    public Texture parallaxFar; // Gameplay
+    public Texture parallaxMid; // Gameplay
+    public Texture parallaxNear; // Gameplay
+    public Texture floatingOverlay; // Gameplay
+    public Texture vignetteLowHealth; // Gameplay
+
+    /**
+     * Small sprites, packed into atlases. Menu.
+     */
+    public SpriteRegions sprites;
+
+    /**
+     * Queue every group's assets for loading.
+     */
+    public static void load(AssetManager assetManager) {
+        for (var group : AssetGroup.values()) {
+            group.queue(assetManager);
+        }
+    }
+
+    /**
+     * Create a registry with no handles resolved.
+     */
+    public AssetRegistry() {
+    }
+
+    /**
+     * Resolve every group's handles. The assets must already be loaded, with {@link #load(AssetManager)}.
+     * With a mocked asset manager, unstubbed handles are null.
+     */
+    public AssetRegistry(AssetManager assetManager) {
+        for (var group : AssetGroup.values()) {
+            resolve(group, assetManager);
+        }
+    }
+
+    /**
+     * Resolve a group's handles. The group must already be loaded.
+     */
+    public void resolve(AssetGroup group, AssetManager assetManager) {
+        switch (group) {
+            case MENU:
+                defaultFont = assetManager.get(AssetFileNames.DEFAULT_FONT, BitmapFont.class);
+                hudFont = assetManager.get(AssetFileNames.HUD_FONT, BitmapFont.class);
+                hudFontYellow = assetManager.get(AssetFileNames.HUD_FONT_YELLOW, BitmapFont.class);
+                attractScreenCell = assetManager.get(AssetFileNames.ATTRACT_SCREEN_CELL, Texture.class);
+                sprites = new SpriteRegions(assetManager);
+                break;
+            case GAMEPLAY:
+                notificationFont = assetManager.get(AssetFileNames.NOTIFICATION_FONT, BitmapFont.class);
+                whitePixel = assetManager.get(AssetFileNames.WHITE_PIXEL, Texture.class);
+                parallaxFar = assetManager.get(AssetFileNames.PARALLAX_FAR, Texture.class);
+                parallaxMid = assetManager.get(AssetFileNames.PARALLAX_MID, Texture.class);
+                parallaxNear = assetManager.get(AssetFileNames.PARALLAX_NEAR, Texture.class);
+                floatingOverlay = assetManager.get(AssetFileNames.FLOATING_OVERLAY, Texture.class);
+                vignetteLowHealth = assetManager.get(AssetFileNames.VIGNETTE_LOW_HEALTH, Texture.class);
+                break;
+        }
+    }
+}
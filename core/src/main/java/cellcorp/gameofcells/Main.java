@@ -14,18 +14,22 @@ package cellcorp.gameofcells;
  * @assignment GameOfCells
  */
 
+import cellcorp.gameofcells.objects.CellImpostors;
+import cellcorp.gameofcells.objects.ParticleSystem;
 import cellcorp.gameofcells.providers.*;
 import cellcorp.gameofcells.screens.GameOfCellsScreen;
+import cellcorp.gameofcells.screens.LoadingScreen;
 import cellcorp.gameofcells.screens.MainMenuScreen;
+import cellcorp.gameofcells.screens.ScreenManager;
 import com.badlogic.gdx.ApplicationListener;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 
+import java.util.function.Supplier;
+
 /**
  * Main entrypoint of the game.
  */
@@ -35,6 +39,14 @@ public class Main implements ApplicationListener {
 
     public static final Color PURPLE = new Color(0.08f, 0.05f, 0.10f, 1f); // Darker purple
     public static final Color TEAL = new Color(.424f, .553f, .573f, 1f);
+    /**
+     * Time per frame spent loading assets in the background, while a playable screen is up.
+     */
+    private static final int BACKGROUND_SLICE_MILLIS = 4;
+    /**
+     * Time per frame spent loading assets while the loading screen is up.
+     */
+    private static final int LOADING_SCREEN_SLICE_MILLIS = 15;
     /**
      * Loads assets during game creation,
      * then provides loaded assets to draw code, using [AssetManager#get(String)]
@@ -60,9 +72,26 @@ public class Main implements ApplicationListener {
     private final FitViewport viewport;
     private final ConfigProvider configProvider;
     /**
-     * The currently-shown screen.
+     * Lowers the quality of cosmetic effects when frames take too long.
+     * Shared by every screen, so the tier carries over between them.
+     */
+    private final QualityGovernor qualityGovernor = new QualityGovernor();
+    /**
+     * Pool of ambient particles. Shared by every screen, so particles carry on across screen changes.
      */
-    private GameOfCellsScreen screen;
+    private final ParticleSystem particleSystem;
+    /**
+     * Pre-rendered cell interiors. Shared by every screen, so cells that look the same share a texture.
+     */
+    private final CellImpostors cellImpostors;
+    /**
+     * Loads asset groups in the background, and resolves their handles.
+     */
+    private AssetLoader assetLoader;
+    /**
+     * The currently-shown screen, and every screen cached for reuse.
+     */
+    private final ScreenManager screens = new ScreenManager();
 
     /**
      * Creates a game instance.
@@ -86,6 +115,8 @@ public class Main implements ApplicationListener {
         this.camera = camera;
         this.viewport = viewport;
         this.configProvider = configProvider;
+        this.particleSystem = new ParticleSystem(graphicsProvider);
+        this.cellImpostors = new CellImpostors(graphicsProvider);
     }
 
     /**
@@ -97,7 +128,17 @@ public class Main implements ApplicationListener {
      * @return The new GameRunner
      */
     public static Main createMain() {
-        var inputProvider = new DefaultInputProvider();
+        return createMain(new DefaultInputProvider());
+    }
+
+    /**
+     * Constructs a new `Main` that reads input from the given provider, instead of the keyboard.
+     * Used by scripted runs, like benchmarks.
+     *
+     * @param inputProvider The input provider.
+     * @return The new Main
+     */
+    public static Main createMain(InputProvider inputProvider) {
         var graphicsProvider = new DefaultGraphicsProvider();
         var assetManager = new AssetManager();
         var camera = new OrthographicCamera();
@@ -120,48 +161,11 @@ public class Main implements ApplicationListener {
 
         camera.setToOrtho(false, graphicsProvider.getWidth(), graphicsProvider.getHeight());
 
-        // Load up the assets, blocking until they're loaded.
-        // The asset manager expects the asset's file name,
-        // and the class of the asset to load.
-        assetManager.load("rubik.fnt", BitmapFont.class);
-        assetManager.load("rubik1.png", Texture.class);
-        assetManager.load("rubik2.png", Texture.class);
-        assetManager.load("rubik_yellow.fnt", BitmapFont.class);
-        assetManager.load("rubik_yellow1.png", Texture.class);
-        assetManager.load("rubik_yellow2.png", Texture.class);
-        assetManager.load(AssetFileNames.CELL, Texture.class);
-        assetManager.load(AssetFileNames.CELL_MEMBRANE, Texture.class);
-        assetManager.load(AssetFileNames.CELL_MEMBRANE_DAMAGED, Texture.class);
-        assetManager.load(AssetFileNames.ATTRACT_SCREEN_CELL, Texture.class);
-        assetManager.load(AssetFileNames.GLUCOSE, Texture.class);
-        assetManager.load(AssetFileNames.DANGER, Texture.class);
-        assetManager.load(AssetFileNames.DEFAULT_FONT, BitmapFont.class);
-        assetManager.load(AssetFileNames.HUD_FONT, BitmapFont.class);
-        assetManager.load(AssetFileNames.NOTIFICATION_FONT, BitmapFont.class);
-        assetManager.load(AssetFileNames.MITOCHONDRIA_ICON, Texture.class);
-        assetManager.load(AssetFileNames.RIBOSOME_ICON, Texture.class);
-        assetManager.load(AssetFileNames.NUCLEUS_ICON, Texture.class);
-        assetManager.load(AssetFileNames.LOCK_ICON, Texture.class);
-        assetManager.load(AssetFileNames.WHITE_PIXEL, Texture.class);
-        assetManager.load(AssetFileNames.ACID_ZONE, Texture.class);
-        assetManager.load(AssetFileNames.BASIC_ZONE, Texture.class);
-        assetManager.load(AssetFileNames.WASD_ARROWS_ICON, Texture.class);
-        assetManager.load(AssetFileNames.SPACE_ENTER_ICON, Texture.class);
-        assetManager.load(AssetFileNames.SHOP_BUTTON, Texture.class);
-        assetManager.load(AssetFileNames.MOVE_KEY, Texture.class);
-        assetManager.load(AssetFileNames.PAUSE_BUTTON, Texture.class);
-        assetManager.load(AssetFileNames.QUIT_BUTTON, Texture.class);
-        assetManager.load(AssetFileNames.HEAL_ICON, Texture.class);
-        assetManager.load(AssetFileNames.PARALLAX_FAR, Texture.class);
-        assetManager.load(AssetFileNames.PARALLAX_MID, Texture.class);
-        assetManager.load(AssetFileNames.PARALLAX_NEAR, Texture.class);
-        assetManager.load(AssetFileNames.FLOATING_OVERLAY, Texture.class);
-        assetManager.load(AssetFileNames.VIGNETTE_LOW_HEALTH, Texture.class);
-        assetManager.load(AssetFileNames.SCROLL_BAR, Texture.class);
-        assetManager.load(AssetFileNames.WS_KEYS, Texture.class);
-        assetManager.load(AssetFileNames.ARROW_TO_BASIC_ZONE, Texture.class);
-        assetManager.load(AssetFileNames.CONTROLS_INFO_BUTTON, Texture.class);
-        assetManager.finishLoading();
+        // Only the menu's assets are needed for the first frame.
+        // Gameplay assets load in the background, while the player is on the menu.
+        assetLoader = new AssetLoader(assetManager);
+        assetLoader.request(AssetGroup.MENU);
+        assetLoader.request(AssetGroup.GAMEPLAY);
 
         // I know. I know.
         // HeadlessFiles isn't available to GWT, cause the headless backend isn't.
@@ -169,34 +173,60 @@ public class Main implements ApplicationListener {
         if (Gdx.files != null && !(Gdx.files.getClass().getName().contains("Mockito")) && !(Gdx.files.getClass().getName().contains("Headless"))) {
             configProvider.loadConfig();
         }
+        try {
+            qualityGovernor.setEnabled(configProvider.getIntValue("autoQuality") != 0);
+        } catch (NumberFormatException e) {
+            qualityGovernor.setEnabled(true);
+        }
         // May need to set to gameScreenManager at somepoint.
-        setScreen(new MainMenuScreen(inputProvider, graphicsProvider, this, assetManager, camera, viewport, configProvider));
+        setScreenWhenLoaded(AssetGroup.MENU, () -> screens.getOrCreate(null, MainMenuScreen.class,
+            () -> new MainMenuScreen(inputProvider, graphicsProvider, this, assetManager, camera, viewport, configProvider)));
     }
 
     @Override
     public void dispose() {
-        if (screen != null) screen.hide();
+        screens.dispose();
+        graphicsProvider.getUiSkin().dispose();
+        graphicsProvider.getRenderContext().dispose();
+        cellImpostors.dispose();
         assetManager.dispose();
     }
 
 
     @Override
     public void pause() {
+        var screen = screens.getCurrent();
         if (screen != null) screen.pause();
     }
 
     @Override
     public void resume() {
+        var screen = screens.getCurrent();
         if (screen != null) screen.resume();
     }
 
     @Override
     public void render() {
-        if (screen != null) screen.render(Gdx.graphics.getDeltaTime());
+        float deltaTimeSeconds = Gdx.graphics.getDeltaTime();
+        qualityGovernor.recordFrameTime(deltaTimeSeconds);
+        loadAssets();
+        var screen = screens.getCurrent();
+        if (screen != null) screen.render(deltaTimeSeconds);
+        screens.disposePending();
+    }
+
+    /**
+     * Load assets for a slice of the frame.
+     * While a loading screen is up, there's nothing else to do, so it gets a longer slice.
+     */
+    private void loadAssets() {
+        int millis = screens.getCurrent() instanceof LoadingScreen ? LOADING_SCREEN_SLICE_MILLIS : BACKGROUND_SLICE_MILLIS;
+        assetLoader.update(millis);
     }
 
     @Override
     public void resize(int width, int height) {
+        var screen = screens.getCurrent();
         if (screen != null) screen.resize(width, height);
     }
 
@@ -204,18 +234,43 @@ public class Main implements ApplicationListener {
      * @return The current screen
      */
     public GameOfCellsScreen getScreen() {
-        return this.screen;
+        return screens.getCurrent();
     }
 
     /**
      * Set the game's screen, calling its `show` method.
+     * The previous screen is disposed at the end of the frame, unless it's cached. See {@link ScreenManager}.
      */
     public void setScreen(GameOfCellsScreen screen) {
-        if (this.screen != null) this.screen.hide();
+        screens.setScreen(screen);
+        screen.resize(graphicsProvider.getWidth(), graphicsProvider.getHeight());
+    }
 
-        this.screen = screen;
-        this.screen.show();
-        this.screen.resize(graphicsProvider.getWidth(), graphicsProvider.getHeight());
+    /**
+     * @return The screen manager, which caches reusable screens and disposes the rest.
+     */
+    public ScreenManager getScreens() {
+        return screens;
+    }
+
+    /**
+     * Set the game's screen once an asset group is loaded.
+     * If the group is still loading, shows a loading screen until it's done.
+     *
+     * @param group     The asset group the screen needs
+     * @param newScreen Creates the screen. Only called once the group is loaded.
+     */
+    public void setScreenWhenLoaded(AssetGroup group, Supplier<GameOfCellsScreen> newScreen) {
+        assetLoader.request(group);
+        if (!assetLoader.isLoaded(group)) {
+            // Give it a chance to finish, so a nearly-loaded group doesn't flash the loading screen.
+            assetLoader.update(LOADING_SCREEN_SLICE_MILLIS);
+        }
+        if (assetLoader.isLoaded(group)) {
+            setScreen(newScreen.get());
+        } else {
+            setScreen(new LoadingScreen(graphicsProvider, this, group, newScreen));
+        }
     }
 
     /**
@@ -224,7 +279,7 @@ public class Main implements ApplicationListener {
      * @param deltaTimeSeconds The time passed since the last call to `handleInput`, in seconds.
      */
     public void handleInput(float deltaTimeSeconds) {
-        screen.handleInput(deltaTimeSeconds);
+        screens.getCurrent().handleInput(deltaTimeSeconds);
     }
 
     /**
@@ -233,7 +288,9 @@ public class Main implements ApplicationListener {
      * @param deltaTimeSeconds The time passed since the last call to `update`, in seconds.
      */
     public void update(float deltaTimeSeconds) {
-        screen.update(deltaTimeSeconds);
+        loadAssets();
+        screens.getCurrent().update(deltaTimeSeconds);
+        screens.disposePending();
     }
 
     /**
@@ -257,6 +314,21 @@ public class Main implements ApplicationListener {
         return this.assetManager;
     }
 
+    /**
+     * @return this game's asset handles. Only available after {@link #create()}.
+     * A handle is null until its asset group is loaded.
+     */
+    public AssetRegistry getAssets() {
+        return this.assetLoader.getAssets();
+    }
+
+    /**
+     * @return this game's asset loader. Only available after {@link #create()}.
+     */
+    public AssetLoader getAssetLoader() {
+        return this.assetLoader;
+    }
+
     /**
      * @return this game's camera.
      */
@@ -271,4 +343,25 @@ public class Main implements ApplicationListener {
         return this.viewport;
     }
 
+    /**
+     * @return this game's particle system.
+     */
+    public ParticleSystem getParticleSystem() {
+        return this.particleSystem;
+    }
+
+    /**
+     * @return this game's pre-rendered cell interiors.
+     */
+    public CellImpostors getCellImpostors() {
+        return this.cellImpostors;
+    }
+
+    /**
+     * @return this game's quality governor.
+     */
+    public QualityGovernor getQualityGovernor() {
+        return this.qualityGovernor;
+    }
+
 }
@@ -0,0 +1,226 @@
+package cellcorp.gameofcells;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * QualityGovernor Class
+ * <p>
+ * Watches how long frames take, and lowers the quality of cosmetic effects when the machine can't keep up.
+ * Frame times go into a rolling window. When the window's average is over budget, the governor drops a tier;
+ * when it's been back under budget for a while, it raises a tier again.
+ * Raising needs a longer streak than dropping, so the tier doesn't flip-flop at the edge of the budget.
+ * <p>
+ * Subsystems register a {@link Knob} under a name. The knob is told the current tier when it's registered,
+ * and again whenever the tier changes. Registering under a name that's already taken replaces the old knob,
+ * so screens can re-register every time they're shown without piling up stale knobs.
+ * <p>
+ * Tier changes are logged, and kept in {@link #getTierChanges()} for later analysis.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public class QualityGovernor {
+
+    /**
+     * Quality tiers, from best-looking to cheapest.
+     */
+    public enum Tier {
+        HIGH,
+        MEDIUM,
+        LOW
+    }
+
+    /**
+     * Something whose quality can be turned down.
+     */
+    public interface Knob {
+        /**
+         * Apply the given tier. Called on registration, and whenever the tier changes.
+         */
+        void setQualityTier(Tier tier);
+    }
+
+    /**
+     * A recorded change from one tier to another.
+     */
+    public static class TierChange {
+        public final float timeSeconds;
+        public final Tier from;
+        public final Tier to;
+        public final float averageFrameTime;
+
+        public TierChange(float timeSeconds, Tier from, Tier to, float averageFrameTime) {
+            this.timeSeconds = timeSeconds;
+            this.from = from;
+            this.to = to;
+            this.averageFrameTime = averageFrameTime;
+        }
+    }
+
+    // Frame time to aim for (60 fps).
+    public static final float TARGET_FRAME_TIME = 1 / 60f;
+    // Number of frames in the rolling window.
+    public static final int WINDOW_FRAMES = 60;
+    // Drop a tier when the window average is this much over target.
+    private static final float SLOW_FRAME_RATIO = 1.2f;
+    // Count the window as "fast" when its average is within this much of target.
+    // With vsync on, frames never finish early, so this can't be below 1.
+    private static final float FAST_FRAME_RATIO = 1.05f;
+    // Seconds the window must stay fast before raising a tier.
+    public static final float RAISE_DELAY = 10f;
+    // Ignore frames slower than this (loading hitches, window drags), so one stall doesn't drop a tier.
+    private static final float MAX_SAMPLE = 0.25f;
+    // Keep at most this many tier changes.
+    private static final int MAX_TIER_CHANGES = 64;
+
+    private static final Tier[] TIERS = Tier.values();
+
+    private final float[] frameTimes = new float[WINDOW_FRAMES];
+    private int frameIndex = 0;
+    private int frameCount = 0;
+    private float frameTimeSum = 0;
+
+    private final ObjectMap<String, Knob> knobs = new ObjectMap<>();
+    private final Array<TierChange> tierChanges = new Array<>();
+
+    private Tier tier = Tier.HIGH;
+    private boolean enabled = true;
+    private float elapsedTime = 0;
+    private float fastTime = 0; // How long the window has been fast for
+
+    /**
+     * Register a knob under the given name, replacing any knob already registered under it.
+     * The knob is immediately told the current tier.
+     */
+    public void register(String name, Knob knob) {
+        knobs.put(name, knob);
+        knob.setQualityTier(tier);
+    }
+
+    /**
+     * Remove a knob, if it's still the one registered under the given name.
+     * A screen disposed after its replacement registered the same names leaves the replacement's knobs alone.
+     */
+    public void unregister(String name, Knob knob) {
+        if (knobs.get(name) == knob) {
+            knobs.remove(name);
+        }
+    }
+
+    /**
+     * @return Whether a knob is registered under the given name.
+     */
+    public boolean isRegistered(String name) {
+        return knobs.containsKey(name);
+    }
+
+    /**
+     * Record how long the last frame took, and change tier if needed.
+     *
+     * @param frameTimeSeconds Duration of the last frame
+     */
+    public void recordFrameTime(float frameTimeSeconds) {
+        if (!enabled) {
+            return;
+        }
+        elapsedTime += frameTimeSeconds;
+        float sample = Math.min(frameTimeSeconds, MAX_SAMPLE);
+
+        // Replace the oldest sample in the window.
+        if (frameCount == WINDOW_FRAMES) {
+            frameTimeSum -= frameTimes[frameIndex];
+        } else {
+            frameCount++;
+        }
+        frameTimes[frameIndex] = sample;
+        frameTimeSum += sample;
+        frameIndex = (frameIndex + 1) % WINDOW_FRAMES;
+
+        if (frameCount < WINDOW_FRAMES) {
+            return;
+        }
+
+        float average = getAverageFrameTime();
+        if (average > TARGET_FRAME_TIME * SLOW_FRAME_RATIO) {
+            fastTime = 0;
+            if (tier.ordinal() < TIERS.length - 1) {
+                changeTier(TIERS[tier.ordinal() + 1], average);
+            }
+        } else if (average <= TARGET_FRAME_TIME * FAST_FRAME_RATIO) {
+            fastTime += frameTimeSeconds;
+            if (fastTime >= RAISE_DELAY && tier.ordinal() > 0) {
+                changeTier(TIERS[tier.ordinal() - 1], average);
+            }
+        } else {
+            fastTime = 0;
+        }
+    }
+
+    /**
+     * Switch to the given tier, tell every knob, and log the change.
+     * Clears the window, so the next decision is based on frames drawn at the new tier.
+     */
+    private void changeTier(Tier newTier, float averageFrameTime) {
+        var change = new TierChange(elapsedTime, tier, newTier, averageFrameTime);
+        if (tierChanges.size == MAX_TIER_CHANGES) {
+            tierChanges.removeIndex(0);
+        }
+        tierChanges.add(change);
+        if (Gdx.app != null) {
+            Gdx.app.log("QualityGovernor", "t=" + (int) elapsedTime + "s " + change.from + " -> " + change.to
+                + " (average frame " + (int) (averageFrameTime * 1000) + " ms)");
+        }
+
+        setTier(newTier);
+    }
+
+    /**
+     * Force the given tier, telling every knob. Doesn't count as a logged change.
+     */
+    public void setTier(Tier newTier) {
+        tier = newTier;
+        fastTime = 0;
+        frameCount = 0;
+        frameIndex = 0;
+        frameTimeSum = 0;
+        for (var knob : knobs.values()) {
+            knob.setQualityTier(tier);
+        }
+    }
+
+    public Tier getTier() {
+        return tier;
+    }
+
+    /**
+     * Enable or disable automatic tier changes. The current tier is kept either way.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Get the average frame time over the current window, in seconds, or 0 if nothing has been recorded.
+     */
+    public float getAverageFrameTime() {
+        return frameCount == 0 ? 0 : frameTimeSum / frameCount;
+    }
+
+    /**
+     * Get the most recent tier changes, oldest first.
+     */
+    public Array<TierChange> getTierChanges() {
+        return tierChanges;
+    }
+}
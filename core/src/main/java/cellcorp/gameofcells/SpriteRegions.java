@@ -0,0 +1,170 @@
+package cellcorp.gameofcells;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * SpriteRegions Class
+ * <p>
+ * Typed handles to every small sprite, resolved once after loading.
+ * <p>
+ * The build packs the sprites into two atlases ({@link AssetFileNames#WORLD_ATLAS} and {@link AssetFileNames#UI_ATLAS}),
+ * so everything drawn in the world comes from one texture, and drawing it doesn't keep switching textures.
+ * Regions are named after their source file, minus the extension.
+ * When an atlas hasn't been packed (or in tests), the sprites are loaded as standalone textures instead,
+ * and the handles wrap those. Either way, drawing code only sees `TextureRegion`s.
+ * <p>
+ * The build packs world sprites at about the size they're drawn, so the atlas pages stay at 2048x2048.
+ * Draw them at an explicit size, never at the region's size, since that differs from the standalone textures.
+ * Large backgrounds (parallax layers, overlays) aren't packed, and are still loaded on their own.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public class SpriteRegions {
+    /**
+     * Sprites packed into the world atlas. Keep in sync with `spriteAtlases` in the root `build.gradle`.
+     */
+    static final String[] WORLD_SPRITES = {
+        AssetFileNames.CELL,
+        AssetFileNames.CELL_MEMBRANE,
+        AssetFileNames.CELL_MEMBRANE_DAMAGED,
+        AssetFileNames.MITOCHONDRIA_ICON,
+        AssetFileNames.RIBOSOME_ICON,
+        AssetFileNames.NUCLEUS_ICON,
+        AssetFileNames.GLUCOSE,
+        AssetFileNames.ACID_ZONE,
+        AssetFileNames.BASIC_ZONE,
+    };
+
+    /**
+     * Sprites packed into the UI atlas. Keep in sync with `spriteAtlases` in the root `build.gradle`.
+     */
+    static final String[] UI_SPRITES = {
+        AssetFileNames.ESC_KEY,
+        AssetFileNames.MOVE_KEY,
+        AssetFileNames.PAUSE_BUTTON,
+        AssetFileNames.SHOP_BUTTON,
+        AssetFileNames.HEAL_ICON,
+        AssetFileNames.CONTROLS_INFO_BUTTON,
+        AssetFileNames.WASD_ARROWS_ICON,
+        AssetFileNames.WS_KEYS,
+        AssetFileNames.SPACE_ENTER_ICON,
+        AssetFileNames.ARROW_TO_BASIC_ZONE,
+        AssetFileNames.SCROLL_BAR,
+    };
+
+    public final TextureRegion cell;
+    public final TextureRegion cellMembrane;
+    public final TextureRegion cellMembraneDamaged;
+    public final TextureRegion mitochondria;
+    public final TextureRegion ribosome;
+    public final TextureRegion nucleus;
+    public final TextureRegion glucose;
+    public final TextureRegion acidZone;
+    public final TextureRegion basicZone;
+    public final TextureRegion wasdArrowsIcon;
+    public final TextureRegion spaceEnterIcon;
+    public final TextureRegion arrowToBasicZone;
+
+    /**
+     * Every resolved region, by file name
+     */
+    private final ObjectMap<String, TextureRegion> regions = new ObjectMap<>();
+
+    /**
+     * Queue the sprites for loading. Loads each atlas if it has been packed,
+     * or its sprites as standalone textures if it hasn't.
+     */
+    public static void load(AssetManager assetManager) {
+        load(assetManager, AssetFileNames.WORLD_ATLAS, WORLD_SPRITES);
+        load(assetManager, AssetFileNames.UI_ATLAS, UI_SPRITES);
+    }
+
+    private static void load(AssetManager assetManager, String atlasFileName, String[] sprites) {
+        if (isPacked(atlasFileName)) {
+            assetManager.load(atlasFileName, TextureAtlas.class);
+        } else {
+            for (var fileName : sprites) {
+                assetManager.load(fileName, Texture.class);
+            }
+        }
+    }
+
+    private static boolean isPacked(String atlasFileName) {
+        return Gdx.files != null && Gdx.files.internal(atlasFileName).exists();
+    }
+
+    /**
+     * Resolve every handle. The sprites must already be loaded, with {@link #load(AssetManager)}.
+     */
+    public SpriteRegions(AssetManager assetManager) {
+        resolve(assetManager, AssetFileNames.WORLD_ATLAS, WORLD_SPRITES);
+        resolve(assetManager, AssetFileNames.UI_ATLAS, UI_SPRITES);
+
+        cell = get(AssetFileNames.CELL);
+        cellMembrane = get(AssetFileNames.CELL_MEMBRANE);
+        cellMembraneDamaged = get(AssetFileNames.CELL_MEMBRANE_DAMAGED);
+        mitochondria = get(AssetFileNames.MITOCHONDRIA_ICON);
+        ribosome = get(AssetFileNames.RIBOSOME_ICON);
+        nucleus = get(AssetFileNames.NUCLEUS_ICON);
+        glucose = get(AssetFileNames.GLUCOSE);
+        acidZone = get(AssetFileNames.ACID_ZONE);
+        basicZone = get(AssetFileNames.BASIC_ZONE);
+        wasdArrowsIcon = get(AssetFileNames.WASD_ARROWS_ICON);
+        spaceEnterIcon = get(AssetFileNames.SPACE_ENTER_ICON);
+        arrowToBasicZone = get(AssetFileNames.ARROW_TO_BASIC_ZONE);
+    }
+
+    private void resolve(AssetManager assetManager, String atlasFileName, String[] sprites) {
+        TextureAtlas atlas = null;
+        if (assetManager.isLoaded(atlasFileName, TextureAtlas.class)) {
+            atlas = assetManager.get(atlasFileName, TextureAtlas.class);
+        }
+
+        for (var fileName : sprites) {
+            TextureRegion region;
+            if (atlas != null) {
+                region = atlas.findRegion(regionName(fileName));
+                if (region == null) {
+                    throw new IllegalStateException("Atlas " + atlasFileName + " is missing " + fileName);
+                }
+            } else {
+                var texture = assetManager.get(fileName, Texture.class);
+                // Only null in tests, with a mocked asset manager.
+                region = texture == null ? new TextureRegion() : new TextureRegion(texture);
+            }
+            regions.put(fileName, region);
+        }
+    }
+
+    /**
+     * Get the region for a sprite, by its file name in {@link AssetFileNames}.
+     *
+     * @throws IllegalArgumentException If the sprite isn't packed into either atlas.
+     */
+    public TextureRegion get(String fileName) {
+        var region = regions.get(fileName);
+        if (region == null) {
+            throw new IllegalArgumentException("No sprite region for " + fileName);
+        }
+        return region;
+    }
+
+    /**
+     * The atlas region name for a sprite file: its file name without the extension.
+     */
+    static String regionName(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot < 0 ? fileName : fileName.substring(0, dot);
+    }
+}
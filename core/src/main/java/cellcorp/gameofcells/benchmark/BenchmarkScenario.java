@@ -0,0 +1,59 @@
+package cellcorp.gameofcells.benchmark;
+
+/**
+ * BenchmarkScenario Enum
+ * <p>
+ * The scripted routes a benchmark run can take. See {@link BenchmarkScript} for what each does.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public enum BenchmarkScenario {
+    /**
+     * Teleport the cell through the chunks around spawn, stopping in glucose-dense spots.
+     */
+    ROUTE,
+    /**
+     * Open the shop, and buy every upgrade in order.
+     */
+    UPGRADES,
+    /**
+     * Grow a nucleus, and play the split animation.
+     */
+    SPLIT,
+    /**
+     * The route, then the upgrades, then the split.
+     */
+    FULL;
+
+    /**
+     * @return The name used on the command line.
+     */
+    public String getName() {
+        return name().toLowerCase();
+    }
+
+    /**
+     * Look up a scenario by its command-line name.
+     *
+     * @throws IllegalArgumentException If there's no scenario with that name.
+     */
+    public static BenchmarkScenario fromName(String name) {
+        for (var scenario : values()) {
+            if (scenario.getName().equalsIgnoreCase(name)) {
+                return scenario;
+            }
+        }
+        var names = new StringBuilder();
+        for (var scenario : values()) {
+            if (names.length() > 0) names.append(", ");
+            names.append(scenario.getName());
+        }
+        throw new IllegalArgumentException("Unknown benchmark scenario '" + name + "'. Expected one of: " + names);
+    }
+}
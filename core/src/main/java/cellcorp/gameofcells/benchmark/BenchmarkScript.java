@@ -0,0 +1,284 @@
+package cellcorp.gameofcells.benchmark;
+
+import cellcorp.gameofcells.Main;
+import cellcorp.gameofcells.objects.Cell;
+import cellcorp.gameofcells.objects.Chunk;
+import cellcorp.gameofcells.objects.SpawnManager;
+import cellcorp.gameofcells.objects.Zone;
+import cellcorp.gameofcells.screens.GameOfCellsScreen;
+import cellcorp.gameofcells.screens.GamePlayScreen;
+import cellcorp.gameofcells.screens.MainMenuScreen;
+import cellcorp.gameofcells.screens.PopupId;
+import cellcorp.gameofcells.screens.ShopScreen;
+import cellcorp.gameofcells.screens.SplitCellScreen;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * BenchmarkScript Class
+ * <p>
+ * Plays a {@link BenchmarkScenario} through the game, by feeding a {@link ScriptedInputProvider},
+ * and reaching into the gameplay screen where a player couldn't -- teleporting the cell, and topping up its ATP.
+ * <p>
+ * Every scenario starts a new game from the main menu, marks the info popups as shown so they don't interrupt,
+ * and warms up for a couple of seconds before measuring starts. Waits are timed in seconds, not frames,
+ * so the route covers the same ground at any frame rate. Fix the seed to {@link #SEED}, with
+ * {@link SpawnManager#setRandomSeed(long)}, before the game is constructed, and every run spawns the same world.
+ * <p>
+ * Call {@link #beforeFrame(float)} before each frame is rendered.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public class BenchmarkScript {
+    /**
+     * Seed for the world's random generators during benchmark runs.
+     */
+    public static final long SEED = 405L;
+
+    private static final float WARM_UP_SECONDS = 2;
+    private static final float SCREEN_TIMEOUT_SECONDS = 60;
+    /**
+     * Chunks on a side of the square the route walks, centered on spawn.
+     */
+    private static final int ROUTE_CHUNKS = 4;
+    private static final float SECONDS_PER_WAYPOINT = 1.5f;
+    /**
+     * Size upgrades, then organelle upgrades, in the shop.
+     */
+    private static final int UPGRADES_PER_CARD = 4;
+
+    /**
+     * One step of the script.
+     */
+    private interface Step {
+        /**
+         * Run the step for a frame.
+         *
+         * @param stepSeconds Time since the step started.
+         * @return Whether the step is done. The next step starts next frame.
+         */
+        boolean advance(float stepSeconds);
+    }
+
+    private final BenchmarkScenario scenario;
+    private final Main game;
+    private final ScriptedInputProvider input;
+    private final Array<Step> steps = new Array<>();
+
+    private int currentStep = 0;
+    private float stepSeconds = 0;
+    private boolean measuring = false;
+    private GamePlayScreen gamePlayScreen;
+
+    /**
+     * Constructor
+     *
+     * @param scenario The scenario to play.
+     * @param game     The game. Must read its input from `input`.
+     * @param input    The input the script feeds.
+     */
+    public BenchmarkScript(BenchmarkScenario scenario, Main game, ScriptedInputProvider input) {
+        this.scenario = scenario;
+        this.game = game;
+        this.input = input;
+
+        startNewGame();
+        if (scenario == BenchmarkScenario.ROUTE || scenario == BenchmarkScenario.FULL) {
+            addRoute();
+        }
+        if (scenario == BenchmarkScenario.UPGRADES || scenario == BenchmarkScenario.FULL) {
+            addUpgrades();
+        }
+        if (scenario == BenchmarkScenario.SPLIT || scenario == BenchmarkScenario.FULL) {
+            addSplit();
+        }
+        steps.add(idle(1));
+        steps.add(stepSeconds -> {
+            measuring = false;
+            return true;
+        });
+    }
+
+    /**
+     * Feed the script's input for the next frame.
+     *
+     * @param deltaTimeSeconds Time since the last frame.
+     * @throws IllegalStateException If the game didn't reach a screen the script was waiting for.
+     */
+    public void beforeFrame(float deltaTimeSeconds) {
+        input.endFrame();
+        if (isFinished()) {
+            return;
+        }
+        if (steps.get(currentStep).advance(stepSeconds)) {
+            currentStep++;
+            stepSeconds = 0;
+        } else {
+            stepSeconds += deltaTimeSeconds;
+        }
+    }
+
+    /**
+     * @return Whether frames should be measured. False during start-up and warm-up.
+     */
+    public boolean isMeasuring() {
+        return measuring;
+    }
+
+    /**
+     * @return Whether every step has run.
+     */
+    public boolean isFinished() {
+        return currentStep >= steps.size;
+    }
+
+    /**
+     * @return The scenario being played.
+     */
+    public BenchmarkScenario getScenario() {
+        return scenario;
+    }
+
+    private void startNewGame() {
+        steps.add(waitForScreen(MainMenuScreen.class));
+        steps.add(tap(Input.Keys.ENTER));
+        steps.add(waitForScreen(GamePlayScreen.class));
+        steps.add(stepSeconds -> {
+            gamePlayScreen = (GamePlayScreen) game.getScreen();
+            for (var id : PopupId.values()) {
+                gamePlayScreen.getPopups().setWasShown(id, true);
+            }
+            topUp(gamePlayScreen.getCell());
+            return true;
+        });
+        steps.add(idle(WARM_UP_SECONDS));
+        steps.add(stepSeconds -> {
+            measuring = true;
+            return true;
+        });
+    }
+
+    /**
+     * Walk the chunks around spawn in rows, alternating direction, swimming for a bit in each.
+     */
+    private void addRoute() {
+        int first = -ROUTE_CHUNKS / 2;
+        for (int row = 0; row < ROUTE_CHUNKS; row++) {
+            for (int i = 0; i < ROUTE_CHUNKS; i++) {
+                int col = row % 2 == 0 ? i : ROUTE_CHUNKS - 1 - i;
+                float x = (first + col + 0.5f) * Chunk.CHUNK_LENGTH;
+                float y = (first + row + 0.5f) * Chunk.CHUNK_LENGTH;
+                steps.add(stepSeconds -> {
+                    teleportNear(x, y);
+                    input.hold(Input.Keys.RIGHT, Input.Keys.UP);
+                    return true;
+                });
+                steps.add(idle(SECONDS_PER_WAYPOINT));
+                steps.add(stepSeconds -> {
+                    input.releaseAll();
+                    return true;
+                });
+            }
+        }
+    }
+
+    /**
+     * Move the cell to the glucose-densest spot near a point: the closest basic zone, if one has spawned near it.
+     * Also heals the cell, since the route passes through acid zones.
+     */
+    private void teleportNear(float x, float y) {
+        float targetX = x;
+        float targetY = y;
+        double closest = Chunk.CHUNK_LENGTH;
+        for (Zone zone : gamePlayScreen.getZoneManager().getBasicZones().values()) {
+            double distance = zone.distanceFrom(x, y);
+            if (distance < closest) {
+                closest = distance;
+                targetX = zone.x();
+                targetY = zone.y();
+            }
+        }
+        var cell = gamePlayScreen.getCell();
+        cell.moveTo(targetX, targetY);
+        topUp(cell);
+    }
+
+    /**
+     * Buy each size upgrade, then each organelle upgrade.
+     * Buying closes the shop, so it's reopened for every purchase.
+     */
+    private void addUpgrades() {
+        for (int i = 0; i < UPGRADES_PER_CARD; i++) {
+            addPurchase(false);
+        }
+        for (int i = 0; i < UPGRADES_PER_CARD; i++) {
+            addPurchase(true);
+        }
+    }
+
+    private void addPurchase(boolean organelle) {
+        steps.add(stepSeconds -> {
+            topUp(gamePlayScreen.getCell());
+            return true;
+        });
+        steps.add(tap(Input.Keys.Q));
+        steps.add(waitForScreen(ShopScreen.class));
+        if (organelle) {
+            // The shop selects the size card when it opens.
+            steps.add(tap(Input.Keys.RIGHT));
+        }
+        steps.add(tap(Input.Keys.ENTER));
+        steps.add(idle(1.5f));
+        // A failed purchase leaves the shop open.
+        steps.add(stepSeconds -> {
+            if (game.getScreen() instanceof ShopScreen) {
+                input.tap(Input.Keys.Q);
+            }
+            return true;
+        });
+        steps.add(waitForScreen(GamePlayScreen.class));
+    }
+
+    private void addSplit() {
+        steps.add(tap(Input.Keys.N));
+        steps.add(tap(Input.Keys.U));
+        steps.add(waitForScreen(SplitCellScreen.class));
+        steps.add(waitForScreen(GamePlayScreen.class));
+    }
+
+    private static void topUp(Cell cell) {
+        cell.setCellATP(cell.getMaxATP());
+        cell.setCellHealth(cell.getMaxHealth());
+    }
+
+    private Step tap(int key) {
+        return stepSeconds -> {
+            input.tap(key);
+            return true;
+        };
+    }
+
+    private static Step idle(float seconds) {
+        return stepSeconds -> stepSeconds >= seconds;
+    }
+
+    private Step waitForScreen(Class<? extends GameOfCellsScreen> type) {
+        return stepSeconds -> {
+            var screen = game.getScreen();
+            if (screen != null && screen.getClass() == type) {
+                return true;
+            }
+            if (stepSeconds > SCREEN_TIMEOUT_SECONDS) {
+                throw new IllegalStateException("Benchmark timed out waiting for " + type.getSimpleName()
+                    + ", on " + (screen == null ? "no screen" : screen.getClass().getSimpleName()));
+            }
+            return false;
+        };
+    }
+}
@@ -0,0 +1,85 @@
+package cellcorp.gameofcells.benchmark;
+
+import com.badlogic.gdx.utils.FloatArray;
+
+/**
+ * FrameStats Class
+ * <p>
+ * Collects one sample per frame -- a frame time, a draw call count -- and summarizes them as percentiles.
+ * Percentiles use the nearest-rank method, so every reported value is a sample that actually happened.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public class FrameStats {
+    private final FloatArray samples = new FloatArray();
+    private final FloatArray sorted = new FloatArray();
+    private boolean sortedValid = true;
+    private double sum = 0;
+
+    /**
+     * Record a frame's sample.
+     */
+    public void add(float sample) {
+        samples.add(sample);
+        sum += sample;
+        sortedValid = false;
+    }
+
+    /**
+     * @return Number of samples recorded.
+     */
+    public int getCount() {
+        return samples.size;
+    }
+
+    /**
+     * @return Mean of the samples, or 0 if there are none.
+     */
+    public float getMean() {
+        return samples.size == 0 ? 0 : (float) (sum / samples.size);
+    }
+
+    /**
+     * @return Largest sample, or 0 if there are none.
+     */
+    public float getMax() {
+        return percentile(100);
+    }
+
+    /**
+     * Get the sample at the given percentile.
+     *
+     * @param percent Percentile, from 0 to 100.
+     * @return The smallest sample at least `percent`% of samples are at or below, or 0 if there are none.
+     */
+    public float percentile(float percent) {
+        if (samples.size == 0) {
+            return 0;
+        }
+        if (!sortedValid) {
+            sorted.clear();
+            sorted.addAll(samples);
+            sorted.sort();
+            sortedValid = true;
+        }
+        int rank = (int) Math.ceil(percent / 100f * sorted.size);
+        rank = Math.max(1, Math.min(sorted.size, rank));
+        return sorted.get(rank - 1);
+    }
+
+    /**
+     * Forget every sample.
+     */
+    public void clear() {
+        samples.clear();
+        sorted.clear();
+        sortedValid = true;
+        sum = 0;
+    }
+}
@@ -0,0 +1,72 @@
+package cellcorp.gameofcells.benchmark;
+
+import cellcorp.gameofcells.providers.InputProvider;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.utils.IntSet;
+
+/**
+ * ScriptedInputProvider Class
+ * <p>
+ * An {@link InputProvider} driven by a script instead of the keyboard.
+ * A tapped key reads as just-pressed, and pressed, for one frame. A held key stays pressed until it's released.
+ * <p>
+ * Call {@link #endFrame()} once the frame has read its input, so taps don't carry over into the next frame.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public class ScriptedInputProvider implements InputProvider {
+    private final IntSet held = new IntSet();
+    private final IntSet tapped = new IntSet();
+
+    /**
+     * Press a key for the next frame only.
+     */
+    public void tap(int key) {
+        tapped.add(key);
+    }
+
+    /**
+     * Hold keys down until {@link #releaseAll()}.
+     */
+    public void hold(int... keys) {
+        for (int key : keys) {
+            held.add(key);
+        }
+    }
+
+    /**
+     * Release every held key.
+     */
+    public void releaseAll() {
+        held.clear();
+    }
+
+    /**
+     * Forget this frame's taps. Call once per frame, after the game has read its input.
+     */
+    public void endFrame() {
+        tapped.clear();
+    }
+
+    @Override
+    public boolean isKeyPressed(int key) {
+        if (key == Input.Keys.ANY_KEY) {
+            return held.notEmpty() || tapped.notEmpty();
+        }
+        return held.contains(key) || tapped.contains(key);
+    }
+
+    @Override
+    public boolean isKeyJustPressed(int key) {
+        if (key == Input.Keys.ANY_KEY) {
+            return tapped.notEmpty();
+        }
+        return tapped.contains(key);
+    }
+}
@@ -1,13 +1,10 @@
 package cellcorp.gameofcells.hud;
 
-import cellcorp.gameofcells.AssetFileNames;
 import cellcorp.gameofcells.providers.GraphicsProvider;
-import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
 import com.badlogic.gdx.scenes.scene2d.utils.BaseDrawable;
 
 /**
@@ -27,22 +24,32 @@ public class Bar extends BaseDrawable {
     private static final float WIDTH = 600;
     private static final float HEIGHT = 40;
     private static final float FONT_SCALE = 0.40f;
+    private static final float OUTLINE_WIDTH = 2f;
 
-    private final AssetManager assetManager;
-    private final ShapeRenderer shapeRenderer;
-    private final String text;
+    private final BitmapFont font;
+    private final UiSkin uiSkin;
     private final Color color;
+    private final String text;
+
+    /**
+     * Text laid out at `FONT_SCALE`, positioned relative to (0, 0).
+     * Built on the first draw, so drawing never touches the font's scale.
+     */
+    private BitmapFontCache textCache;
+    private float textWidth;
+    private float textHeight;
 
     private float fillPercent;
 
     /**
      * @param graphicsProvider Graphics provider
+     * @param font             Font for the text
      * @param text             Text to display in middle of bar
      * @param color            Color of bar
      */
-    public Bar(GraphicsProvider graphicsProvider, AssetManager assetManager, String text, Color color) {
-        this.shapeRenderer = graphicsProvider.createShapeRenderer();
-        this.assetManager = assetManager;
+    public Bar(GraphicsProvider graphicsProvider, BitmapFont font, String text, Color color) {
+        this.uiSkin = graphicsProvider.getUiSkin();
+        this.font = font;
         this.text = text;
         this.color = color;
 
@@ -50,16 +57,24 @@ public class Bar extends BaseDrawable {
         setMinHeight(HEIGHT);
     }
 
-    private GlyphLayout layout(AssetManager assetManager, String text) {
-        // GlyphLayout uses the font scale at construction to calculate width, height.
-        // So, we have to set it to whatever we'll be using in draw
-        var font = assetManager.get(AssetFileNames.NOTIFICATION_FONT, BitmapFont.class);
+    /**
+     * Lay out the text into the cache.
+     * GlyphLayout and BitmapFontCache use the font scale at the time they're built,
+     * so we set it to whatever we'll be using, then restore it.
+     */
+    private void layoutText() {
         var scaleX = font.getScaleX();
         var scaleY = font.getScaleY();
         font.getData().setScale(FONT_SCALE);
-        var layout = new GlyphLayout(font, text);
+
+        if (textCache == null) {
+            textCache = new BitmapFontCache(font, font.usesIntegerPositions());
+        }
+        var layout = textCache.setText(text, 0, 0);
+        textWidth = layout.width;
+        textHeight = layout.height;
+
         font.getData().setScale(scaleX, scaleY);
-        return layout;
     }
 
     /**
@@ -71,33 +86,30 @@ public class Bar extends BaseDrawable {
 
     @Override
     public void draw(Batch batch, float x, float y, float width, float height) {
-        var layout = layout(assetManager, text);
+        if (textCache == null) {
+            layoutText();
+        }
 
-        // Starts with batch in-progress. Stop it for shape renderer, then restart.
-        shapeRenderer.setProjectionMatrix(batch.getProjectionMatrix());
-        shapeRenderer.setColor(color);
+        // Draw everything inside the stage's batch, with a tinted white pixel,
+        // so the bar doesn't flush the batch.
+        var pixel = uiSkin.getWhitePixel();
+        var oldColor = batch.getPackedColor();
         batch.setColor(color);
 
-        var font = assetManager.get(AssetFileNames.NOTIFICATION_FONT, BitmapFont.class);
-        var scaleX = font.getScaleX();
-        var scaleY = font.getScaleY();
-        font.getData().setScale(FONT_SCALE);
-        var fillWidth = fillPercent * width;
-
-        batch.end();
+        // Outline
+        batch.draw(pixel, x, y, width, OUTLINE_WIDTH);
+        batch.draw(pixel, x, y + height - OUTLINE_WIDTH, width, OUTLINE_WIDTH);
+        batch.draw(pixel, x, y, OUTLINE_WIDTH, height);
+        batch.draw(pixel, x + width - OUTLINE_WIDTH, y, OUTLINE_WIDTH, height);
 
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
-        shapeRenderer.rect(x, y, width, height);
-        shapeRenderer.end();
+        // Fill
+        batch.draw(pixel, x, y, fillPercent * width, height);
 
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        shapeRenderer.rect(x, y, fillWidth, height);
-        shapeRenderer.end();
+        batch.setPackedColor(oldColor);
 
-        var textX = x + width / 2 - layout.width / 2;
-        var textY = y + height / 2 + layout.height / 2;
-        batch.begin();
-        font.draw(batch, text, textX, textY);
-        font.getData().setScale(scaleX, scaleY);
+        var textX = x + width / 2 - textWidth / 2;
+        var textY = y + height / 2 + textHeight / 2;
+        textCache.setPosition(textX, textY);
+        textCache.draw(batch);
     }
 }
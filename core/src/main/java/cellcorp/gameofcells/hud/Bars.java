@@ -1,8 +1,8 @@
 package cellcorp.gameofcells.hud;
 
+import cellcorp.gameofcells.AssetRegistry;
 import cellcorp.gameofcells.objects.Cell;
 import cellcorp.gameofcells.providers.GraphicsProvider;
-import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
@@ -29,15 +29,21 @@ public class Bars {
     private final Bar healthBar;
     private final Bar atpBar;
 
+    // Last values the bars were filled from, so unchanged bars are skipped.
+    private int lastHealth = Integer.MIN_VALUE;
+    private int lastMaxHealth = Integer.MIN_VALUE;
+    private int lastAtp = Integer.MIN_VALUE;
+    private int lastMaxAtp = Integer.MIN_VALUE;
+
     /**
      * Construct the bars
      */
-    public Bars(GraphicsProvider graphicsProvider, AssetManager assetManager, Cell cell) {
+    public Bars(GraphicsProvider graphicsProvider, AssetRegistry assets, Cell cell) {
         super();
         this.cell = cell;
 
-        this.healthBar = new Bar(graphicsProvider, assetManager, "HEALTH", DARK_RED);
-        this.atpBar = new Bar(graphicsProvider, assetManager, "ATP", Color.YELLOW);
+        this.healthBar = new Bar(graphicsProvider, assets.notificationFont, "HEALTH", DARK_RED);
+        this.atpBar = new Bar(graphicsProvider, assets.notificationFont, "ATP", Color.YELLOW);
         this.table = table(healthBar, atpBar);
     }
 
@@ -55,12 +61,29 @@ public class Bars {
 
     /**
      * Update the bars for this game tick.
+     * Only refills a bar when the values behind it changed.
+     *
+     * @return Whether either bar changed
      */
-    public void update() {
-        var percentHealth = (float) cell.getCellHealth() / (float) cell.getMaxHealth();
-        healthBar.setFillPercent(percentHealth);
+    public boolean update() {
+        boolean changed = false;
+        int health = cell.getCellHealth();
+        int maxHealth = cell.getMaxHealth();
+        if (health != lastHealth || maxHealth != lastMaxHealth) {
+            lastHealth = health;
+            lastMaxHealth = maxHealth;
+            healthBar.setFillPercent((float) health / (float) maxHealth);
+            changed = true;
+        }
 
-        var percentAtp = (float) cell.getCellATP() / (float) cell.getMaxATP();
-        atpBar.setFillPercent(percentAtp);
+        int atp = cell.getCellATP();
+        int maxAtp = cell.getMaxATP();
+        if (atp != lastAtp || maxAtp != lastMaxAtp) {
+            lastAtp = atp;
+            lastMaxAtp = maxAtp;
+            atpBar.setFillPercent((float) atp / (float) maxAtp);
+            changed = true;
+        }
+        return changed;
     }
 }
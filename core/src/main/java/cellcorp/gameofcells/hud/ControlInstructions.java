@@ -1,13 +1,11 @@
 package cellcorp.gameofcells.hud;
 
 import cellcorp.gameofcells.AssetFileNames;
+import cellcorp.gameofcells.AssetRegistry;
 import cellcorp.gameofcells.providers.GraphicsProvider;
 import cellcorp.gameofcells.providers.InputProvider;
 import com.badlogic.gdx.Input;
-import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
@@ -66,7 +64,7 @@ public class ControlInstructions {
 
     private final GraphicsProvider graphicsProvider;
     private final InputProvider inputProvider;
-    private final AssetManager assetManager;
+    private final AssetRegistry assets;
 
     /**
      * Outer table, which is placed in the HUD
@@ -88,10 +86,10 @@ public class ControlInstructions {
     /**
      * Create an instance of control instructions
      */
-    public ControlInstructions(GraphicsProvider graphicsProvider, InputProvider inputProvider, AssetManager assetManager) {
+    public ControlInstructions(GraphicsProvider graphicsProvider, InputProvider inputProvider, AssetRegistry assets) {
         this.graphicsProvider = graphicsProvider;
         this.inputProvider = inputProvider;
-        this.assetManager = assetManager;
+        this.assets = assets;
         this.infoTable = infoTable();
         this.controlsTable = controlsTable();
         this.outerTable = outerTable(infoTable);
@@ -157,20 +155,19 @@ public class ControlInstructions {
     }
 
     private Label iconLabel(IconData iconData) {
-        var font = assetManager.get(AssetFileNames.HUD_FONT, BitmapFont.class);
-        var labelStyle = new Label.LabelStyle(font, Color.WHITE);
+        var labelStyle = new Label.LabelStyle(assets.hudFont, Color.WHITE);
         Label label = graphicsProvider.createLabel(iconData.text, labelStyle);
         label.setFontScale(FONT_SCALE);
         return label;
     }
 
     private Image iconImage(IconData iconData) {
-        var texture = assetManager.get(iconData.textureFileName, Texture.class);
+        var texture = assets.sprites.get(iconData.textureFileName);
         var iconDrawable = graphicsProvider.createTextureRegionDrawable(texture);
-        if (texture != null) {
+        if (texture.getTexture() != null) {
             // Only null in tests...
-            iconDrawable.setMinWidth(texture.getWidth() * TEXTURE_SCALE);
-            iconDrawable.setMinHeight(texture.getHeight() * TEXTURE_SCALE);
+            iconDrawable.setMinWidth(texture.getRegionWidth() * TEXTURE_SCALE);
+            iconDrawable.setMinHeight(texture.getRegionHeight() * TEXTURE_SCALE);
         }
         return new Image(iconDrawable);
     }
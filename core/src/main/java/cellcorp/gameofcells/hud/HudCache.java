@@ -0,0 +1,180 @@
+package cellcorp.gameofcells.hud;
+
+import cellcorp.gameofcells.providers.GraphicsProvider;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.HdpiUtils;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.Widget;
+import com.badlogic.gdx.scenes.scene2d.ui.WidgetGroup;
+import com.badlogic.gdx.utils.ScreenUtils;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+/**
+ * HudCache Class
+ * <p>
+ * Draws a scene2d stage into an offscreen framebuffer, and only redraws it when something in it changed.
+ * Every other frame, the stage is drawn as a single textured quad, skipping scene2d's traversal and
+ * glyph submission entirely.
+ * <p>
+ * The stage is redrawn when an actor's layout was invalidated (any label text change or table rebuild does this),
+ * when an actor has actions running, when the screen size changed, or after {@link #invalidate()}.
+ * Changes scene2d can't see, like a bar's fill or a label's color, must call `invalidate` themselves.
+ * <p>
+ * The framebuffer holds premultiplied alpha, so translucent parts of the HUD blend the same as when drawn directly.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public class HudCache {
+    private final GraphicsProvider graphicsProvider;
+    private final Stage stage;
+
+    private FrameBuffer frameBuffer;
+    private TextureRegion frameRegion;
+    private boolean dirty = true;
+    private boolean enabled = true;
+    private int redrawCount = 0;
+
+    public HudCache(GraphicsProvider graphicsProvider, Stage stage) {
+        this.graphicsProvider = graphicsProvider;
+        this.stage = stage;
+    }
+
+    /**
+     * Redraw the stage on the next `draw`.
+     */
+    public void invalidate() {
+        dirty = true;
+    }
+
+    /**
+     * Enable or disable caching. When disabled, the stage is drawn directly every frame.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        dirty = true;
+    }
+
+    /**
+     * Draw the stage, from the cache if nothing in it changed.
+     * The stage's viewport must already be applied.
+     */
+    public void draw() {
+        if (!enabled) {
+            stage.draw();
+            return;
+        }
+
+        var viewport = stage.getViewport();
+        int width = Math.max(1, viewport.getScreenWidth());
+        int height = Math.max(1, viewport.getScreenHeight());
+        if (ensureFrameBuffer(width, height) || dirty || needsRedraw()) {
+            redraw(viewport);
+        }
+
+        var batch = stage.getBatch();
+        batch.setProjectionMatrix(viewport.getCamera().combined);
+        // Already premultiplied by `redraw`.
+        batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        batch.begin();
+        batch.draw(frameRegion, 0, 0, viewport.getWorldWidth(), viewport.getWorldHeight());
+        batch.end();
+        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+    }
+
+    /**
+     * Draw the stage into the framebuffer.
+     */
+    private void redraw(Viewport viewport) {
+        dirty = false;
+        redrawCount++;
+
+        // `begin` sets the GL viewport to the whole framebuffer, which the stage's view rectangle fills.
+        frameBuffer.begin();
+        ScreenUtils.clear(Color.CLEAR);
+        Batch batch = stage.getBatch();
+        // Premultiply color, and accumulate alpha, so the framebuffer can be blended over the world later.
+        batch.setBlendFunctionSeparate(
+            GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA, GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        stage.draw();
+        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        frameBuffer.end();
+
+        // Restore the viewport's GL viewport without recomputing the camera.
+        HdpiUtils.glViewport(viewport.getScreenX(), viewport.getScreenY(),
+            viewport.getScreenWidth(), viewport.getScreenHeight());
+    }
+
+    /**
+     * Whether anything scene2d tracks has changed since the last redraw.
+     * Invalidating an actor's layout invalidates all its parents, so only the top-level actors need checking.
+     */
+    private boolean needsRedraw() {
+        var root = stage.getRoot();
+        if (root.hasActions()) {
+            return true;
+        }
+        for (Actor actor : root.getChildren()) {
+            if (actor.hasActions()) {
+                return true;
+            }
+            // `Layout` itself doesn't expose this; both base classes that implement it do.
+            if (actor instanceof WidgetGroup && ((WidgetGroup) actor).needsLayout()) {
+                return true;
+            }
+            if (actor instanceof Widget && ((Widget) actor).needsLayout()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Create the framebuffer, or re-create it if the target size changed.
+     *
+     * @return Whether the framebuffer was (re-)created, and needs to be drawn.
+     */
+    private boolean ensureFrameBuffer(int width, int height) {
+        if (frameBuffer != null && frameBuffer.getWidth() == width && frameBuffer.getHeight() == height) {
+            return false;
+        }
+        disposeFrameBuffer();
+        frameBuffer = graphicsProvider.createFrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+        Texture texture = frameBuffer.getColorBufferTexture();
+        frameRegion = new TextureRegion(texture);
+        // Framebuffer textures are stored bottom-up.
+        frameRegion.flip(false, true);
+        return true;
+    }
+
+    /**
+     * Number of times the stage was drawn into the cache.
+     */
+    public int getRedrawCount() {
+        return redrawCount;
+    }
+
+    private void disposeFrameBuffer() {
+        if (frameBuffer != null) {
+            frameBuffer.dispose();
+            frameBuffer = null;
+            frameRegion = null;
+        }
+    }
+
+    public void dispose() {
+        disposeFrameBuffer();
+    }
+}
@@ -1,12 +1,10 @@
 package cellcorp.gameofcells.hud;
 
-import cellcorp.gameofcells.AssetFileNames;
+import cellcorp.gameofcells.AssetRegistry;
 import cellcorp.gameofcells.objects.Cell;
 import cellcorp.gameofcells.objects.Stats;
 import cellcorp.gameofcells.providers.GraphicsProvider;
-import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.utils.Align;
@@ -40,22 +38,32 @@ public class HudStats {
     private final Label gameTimeLabel;
     private final Label respawnsLabel;
 
-    public HudStats(GraphicsProvider graphicsProvider, AssetManager assetManager, Cell cell, Stats stats) {
+    private final TextBinding healthText;
+    private final TextBinding atpText;
+    private final TextBinding gameTimeText;
+    private final TextBinding respawnsText;
+
+    public HudStats(GraphicsProvider graphicsProvider, AssetRegistry assets, Cell cell, Stats stats) {
         this.cell = cell;
         this.stats = stats;
 
-        var font = assetManager.get(AssetFileNames.HUD_FONT, BitmapFont.class);
-        var labelStyle = new Label.LabelStyle(font, Color.WHITE);
+        var labelStyle = new Label.LabelStyle(assets.hudFont, Color.WHITE);
 
-        this.healthLabel = graphicsProvider.createLabel(healthText(), labelStyle);
+        this.healthLabel = graphicsProvider.createLabel("", labelStyle);
         healthLabel.setFontScale(FONT_SCALE);
-        this.atpLabel = graphicsProvider.createLabel(atpText(), labelStyle);
+        this.atpLabel = graphicsProvider.createLabel("", labelStyle);
         atpLabel.setFontScale(FONT_SCALE);
-        this.gameTimeLabel = graphicsProvider.createLabel(gameTimeText(), labelStyle);
+        this.gameTimeLabel = graphicsProvider.createLabel("", labelStyle);
         gameTimeLabel.setFontScale(FONT_SCALE);
-        this.respawnsLabel = graphicsProvider.createLabel(respawnsText(), labelStyle);
+        this.respawnsLabel = graphicsProvider.createLabel("", labelStyle);
         respawnsLabel.setFontScale(FONT_SCALE);
 
+        this.healthText = new TextBinding(healthLabel, HEALTH_TEXT);
+        this.atpText = new TextBinding(atpLabel, ATP_TEXT);
+        this.gameTimeText = new TextBinding(gameTimeLabel, GAME_TIME_TEXT);
+        this.respawnsText = new TextBinding(respawnsLabel, RESPAWNS_TEXT);
+        update();
+
         this.table = table();
     }
 
@@ -76,27 +84,15 @@ public class HudStats {
         return this.table;
     }
 
+    /**
+     * Update the labels for this game tick.
+     * Labels are only re-laid out when their displayed value changes,
+     * which for the timer is once per second.
+     */
     public void update() {
-        healthLabel.setText(healthText());
-        atpLabel.setText(atpText());
-        gameTimeLabel.setText(gameTimeText());
-        respawnsLabel.setText(respawnsText());
-    }
-
-    private String healthText() {
-        return HEALTH_TEXT + cell.getCellHealth();
-    }
-
-    private String atpText() {
-        return ATP_TEXT + cell.getCellATP();
-    }
-
-    private String gameTimeText() {
-        return GAME_TIME_TEXT + (int) stats.gameTimer;
-    }
-
-    private String respawnsText() {
-        var respawns = cell.getRespawns();
-        return RESPAWNS_TEXT + respawns;
+        healthText.set(cell.getCellHealth());
+        atpText.set(cell.getCellATP());
+        gameTimeText.set((int) stats.gameTimer);
+        respawnsText.set(cell.getRespawns());
     }
 }
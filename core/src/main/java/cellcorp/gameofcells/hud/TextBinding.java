@@ -0,0 +1,63 @@
+package cellcorp.gameofcells.hud;
+
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.utils.StringBuilder;
+
+/**
+ * TextBinding Class
+ * <p>
+ * Binds an integer value to a label, as `prefix + value`.
+ * Remembers the last value it rendered, and only touches the label when the value changes,
+ * so scene2d doesn't re-run glyph layout every frame for text that looks the same.
+ * Formats into a reused builder, so updating doesn't allocate strings.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public class TextBinding {
+    private final Label label;
+    private final String prefix;
+    private final StringBuilder builder = new StringBuilder();
+
+    private int lastValue;
+    private boolean hasValue = false;
+
+    /**
+     * @param label  Label to write to
+     * @param prefix Text shown before the value
+     */
+    public TextBinding(Label label, String prefix) {
+        this.label = label;
+        this.prefix = prefix;
+    }
+
+    /**
+     * Show the given value. Does nothing if it's the value already shown.
+     *
+     * @return Whether the label's text changed
+     */
+    public boolean set(int value) {
+        if (hasValue && value == lastValue) {
+            return false;
+        }
+        lastValue = value;
+        hasValue = true;
+
+        builder.setLength(0);
+        builder.append(prefix).append(value);
+        label.setText(builder);
+        return true;
+    }
+
+    /**
+     * Get the text most recently written to the label.
+     */
+    public CharSequence getText() {
+        return builder;
+    }
+}
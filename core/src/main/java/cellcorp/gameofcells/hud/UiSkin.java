@@ -0,0 +1,174 @@
+package cellcorp.gameofcells.hud;
+
+import cellcorp.gameofcells.providers.GraphicsProvider;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.NinePatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.scenes.scene2d.utils.NinePatchDrawable;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * UiSkin Class
+ * <p>
+ * Shared source of panel backgrounds for the HUD, popups, and menus.
+ * Generates one small white nine-patch per (corner radius, style), the first time it's asked for,
+ * and tints it at draw time. Panels of any size and color then cost no texture creation.
+ * <p>
+ * Owned by the graphics provider, so every screen shares the same textures.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public class UiSkin implements Disposable {
+
+    /**
+     * Shapes of panel the skin can produce.
+     */
+    public enum Style {
+        /**
+         * Filled panel, with rounded corners if the corner radius is non-zero.
+         */
+        FILLED,
+        /**
+         * Hollow border that fades from opaque at the edge to transparent,
+         * `cornerRadius` pixels in. Used for the shop's selection glow.
+         */
+        GLOW_BORDER
+    }
+
+    private static final int STYLE_COUNT = Style.values().length;
+
+    private final GraphicsProvider graphicsProvider;
+    /**
+     * Cached nine-patches, keyed by `cacheKey(cornerRadius, style)`.
+     */
+    private final Map<Integer, NinePatch> patches = new HashMap<>();
+    private TextureRegion whitePixel;
+
+    public UiSkin(GraphicsProvider graphicsProvider) {
+        this.graphicsProvider = graphicsProvider;
+    }
+
+    /**
+     * Get the white nine-patch for the given corner radius and style, creating it if needed.
+     * The returned patch is shared, so don't change its color. Tint through the batch instead.
+     */
+    public NinePatch getPatch(int cornerRadius, Style style) {
+        int key = cacheKey(cornerRadius, style);
+        var patch = patches.get(key);
+        if (patch == null) {
+            patch = createPatch(cornerRadius, style);
+            patches.put(key, patch);
+        }
+        return patch;
+    }
+
+    /**
+     * Create a scene2d drawable for the given panel, tinted with the given color.
+     * Only allocates the (texture-less) drawable; the texture is shared.
+     */
+    public NinePatchDrawable panel(int cornerRadius, Style style, Color color) {
+        return new NinePatchDrawable(getPatch(cornerRadius, style)).tint(color);
+    }
+
+    /**
+     * Draw a panel with the given color. `batch` must already have begun.
+     */
+    public void drawPanel(Batch batch, int cornerRadius, Style style, Color color,
+                          float x, float y, float width, float height) {
+        float previousColor = batch.getPackedColor();
+        batch.setColor(color);
+        getPatch(cornerRadius, style).draw(batch, x, y, width, height);
+        batch.setPackedColor(previousColor);
+    }
+
+    /**
+     * Get a single white pixel, for drawing solid rectangles inside a sprite batch
+     * instead of switching to a shape renderer. Tint with the batch color.
+     */
+    public TextureRegion getWhitePixel() {
+        if (whitePixel == null) {
+            whitePixel = new TextureRegion(getTexture(0, Style.FILLED));
+        }
+        return whitePixel;
+    }
+
+    /**
+     * Get the texture backing the given panel. Owned by the skin, so don't dispose it.
+     */
+    public Texture getTexture(int cornerRadius, Style style) {
+        return getPatch(cornerRadius, style).getTexture();
+    }
+
+    private NinePatch createPatch(int cornerRadius, Style style) {
+        switch (style) {
+            case GLOW_BORDER:
+                return createGlowBorderPatch(cornerRadius);
+            case FILLED:
+            default:
+                return createFilledPatch(cornerRadius);
+        }
+    }
+
+    /**
+     * A rounded rectangle just big enough to hold its four corners, plus a stretchable 2-pixel center.
+     */
+    private NinePatch createFilledPatch(int cornerRadius) {
+        if (cornerRadius <= 0) {
+            return new NinePatch(graphicsProvider.createWhitePixelTexture());
+        }
+        int size = 2 * cornerRadius + 2;
+        var texture = graphicsProvider.createRoundedRectangleTexture(size, size, Color.WHITE, cornerRadius);
+        return new NinePatch(texture, cornerRadius, cornerRadius, cornerRadius, cornerRadius);
+    }
+
+    /**
+     * A border `borderWidth` pixels wide, fading out toward the center, with a transparent 1-pixel center.
+     */
+    private NinePatch createGlowBorderPatch(int borderWidth) {
+        int size = 2 * borderWidth + 1;
+        Texture texture = graphicsProvider.createTexture(size, size, Pixmap.Format.RGBA8888);
+        Pixmap pixmap = graphicsProvider.createPixmap(size, size, Pixmap.Format.RGBA8888);
+
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                if (x < borderWidth || x >= size - borderWidth || y < borderWidth || y >= size - borderWidth) {
+                    float alpha = Math.max(
+                        Math.max(borderWidth - x, x - (size - borderWidth - 1)),
+                        Math.max(borderWidth - y, y - (size - borderWidth - 1))
+                    ) / (float) borderWidth; // Normalize to 0..1
+                    pixmap.setColor(1, 1, 1, alpha);
+                    pixmap.drawPixel(x, y);
+                }
+            }
+        }
+
+        texture.draw(pixmap, 0, 0);
+        pixmap.dispose();
+        return new NinePatch(texture, borderWidth, borderWidth, borderWidth, borderWidth);
+    }
+
+    private static int cacheKey(int cornerRadius, Style style) {
+        return cornerRadius * STYLE_COUNT + style.ordinal();
+    }
+
+    @Override
+    public void dispose() {
+        for (var patch : patches.values()) {
+            patch.getTexture().dispose();
+        }
+        patches.clear();
+        whitePixel = null;
+    }
+}
@@ -78,6 +78,13 @@ public class Notification {
         }
     }
 
+    /**
+     * Whether this notification is fading out, and changes color every update.
+     */
+    public boolean isFadingOut() {
+        return state == State.FADING_OUT;
+    }
+
     /**
      * * Updates the notification's state.
      * This method updates the elapsed time and calculates the alpha value for fade-in/out effect.
@@ -50,8 +50,11 @@ public class NotificationManager {
     /**
      * Add a notification to the notification system.
      * This method is used to add a notification to the notification system with a specified message, duration, and color.
+     *
+     * @return Whether the notifications look different than before: added, removed, or fading out
      */
-    public void update(float deltaTime) {
+    public boolean update(float deltaTime) {
+        int countBefore = notifications.size();
         for (var source : sources) {
             var notification = source.createNotification(gamePlayScreen);
             if (notification != null) {
@@ -62,8 +65,10 @@ public class NotificationManager {
             }
         }
 
+        boolean fading = false;
         List<Notification> notificationsToDelete = new ArrayList<>();
         for (var notification : notifications) {
+            fading |= notification.isFadingOut();
             var deleteNotification = notification.update(deltaTime);
             if (deleteNotification) {
                 notificationsToDelete.add(notification);
@@ -74,6 +79,7 @@ public class NotificationManager {
             notifications.removeAll(notificationsToDelete);
             rebuildTable();
         }
+        return fading || !notificationsToDelete.isEmpty() || notifications.size() != countBefore;
     }
 
     /**
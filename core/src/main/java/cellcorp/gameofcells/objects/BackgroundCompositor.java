@@ -0,0 +1,185 @@
+package cellcorp.gameofcells.objects;
+
+import cellcorp.gameofcells.providers.GraphicsProvider;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+
+/**
+ * BackgroundCompositor Class
+ * <p>
+ * Draws the gameplay background -- the three parallax layers and the floating overlay --
+ * as a single opaque full-screen quad. A shader samples every layer with its own scale, offset, and alpha,
+ * and blends them in one pass, instead of alpha-blending four full-screen quads on top of each other.
+ * <p>
+ * If the shader fails to compile, `draw` returns false, and the caller should draw the layers itself.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public class BackgroundCompositor {
+    // Layer scale (relative to the view rectangle) and alpha, from far to near.
+    // Match the values the layers were drawn with before compositing.
+    public static final float FAR_SCALE = 1.2f;
+    public static final float MID_SCALE = 1.1f;
+    public static final float NEAR_SCALE = 1.04f;
+    public static final float FAR_ALPHA = 0.6f;
+    public static final float MID_ALPHA = 0.3f;
+    public static final float NEAR_ALPHA = 0.15f;
+    public static final float OVERLAY_ALPHA = 0.3f;
+
+    // GLSL ES 1.0, so the same source works on desktop and WebGL.
+    private static final String VERTEX_SHADER = ""
+        + "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+        + "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+        + "uniform mat4 u_projTrans;\n"
+        + "varying vec2 v_texCoords;\n"
+        + "void main() {\n"
+        + "    v_texCoords = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+        + "    gl_Position = u_projTrans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+        + "}\n";
+
+    // `v_texCoords` is the position within the view rectangle, in [0, 1].
+    // Each layer is centered on the view, so its coords are scaled about (0.5, 0.5).
+    private static final String FRAGMENT_SHADER = ""
+        + "#ifdef GL_ES\n"
+        + "precision mediump float;\n"
+        + "#endif\n"
+        + "varying vec2 v_texCoords;\n"
+        + "uniform sampler2D u_texture;\n" // Far layer, bound by the batch
+        + "uniform sampler2D u_mid;\n"
+        + "uniform sampler2D u_near;\n"
+        + "uniform sampler2D u_overlay;\n"
+        + "uniform vec3 u_baseColor;\n"
+        + "uniform vec3 u_layerScale;\n"
+        + "uniform vec3 u_layerAlpha;\n"
+        + "uniform float u_overlayAlpha;\n"
+        + "uniform vec2 u_overlayOffset;\n"
+        + "void main() {\n"
+        + "    vec3 color = u_baseColor;\n"
+        + "    vec4 far = texture2D(u_texture, (v_texCoords - 0.5) / u_layerScale.x + 0.5);\n"
+        + "    color = mix(color, far.rgb, far.a * u_layerAlpha.x);\n"
+        + "    vec4 mid = texture2D(u_mid, (v_texCoords - 0.5) / u_layerScale.y + 0.5);\n"
+        + "    color = mix(color, mid.rgb, mid.a * u_layerAlpha.y);\n"
+        + "    vec4 near = texture2D(u_near, (v_texCoords - 0.5) / u_layerScale.z + 0.5);\n"
+        + "    color = mix(color, near.rgb, near.a * u_layerAlpha.z);\n"
+        + "    vec2 overlayCoords = v_texCoords + u_overlayOffset;\n"
+        // The overlay drifts with the cell, and leaves a gap behind it, rather than wrapping
+        + "    vec2 inside = step(vec2(0.0), overlayCoords) * step(overlayCoords, vec2(1.0));\n"
+        + "    vec4 overlay = texture2D(u_overlay, overlayCoords);\n"
+        + "    color = mix(color, overlay.rgb, overlay.a * u_overlayAlpha * inside.x * inside.y);\n"
+        + "    gl_FragColor = vec4(color, 1.0);\n"
+        + "}\n";
+
+    private final GraphicsProvider graphicsProvider;
+    private final Texture far;
+    private final Texture mid;
+    private final Texture near;
+    private final Texture overlay;
+    private final Color baseColor;
+
+    private ShaderProgram shader;
+    private boolean shaderFailed = false;
+    private boolean overlayEnabled = true;
+
+    /**
+     * @param baseColor Color the layers are blended over (the screen clear color)
+     */
+    public BackgroundCompositor(GraphicsProvider graphicsProvider,
+                                Texture far, Texture mid, Texture near, Texture overlay,
+                                Color baseColor) {
+        this.graphicsProvider = graphicsProvider;
+        this.far = far;
+        this.mid = mid;
+        this.near = near;
+        this.overlay = overlay;
+        this.baseColor = baseColor;
+    }
+
+    /**
+     * Draw the composited background over the view rectangle centered at (`camX`, `camY`).
+     * `batch` must not have begun, and must already use the camera's projection.
+     *
+     * @param overlayOffsetX World-space drift of the floating overlay
+     * @param overlayOffsetY World-space drift of the floating overlay
+     * @return false if the shader isn't available, and nothing was drawn.
+     */
+    public boolean draw(SpriteBatch batch, float camX, float camY, float worldWidth, float worldHeight,
+                        float overlayOffsetX, float overlayOffsetY) {
+        if (!ensureShader()) {
+            return false;
+        }
+
+        batch.setShader(shader);
+        batch.begin();
+
+        // The batch binds `far` to unit 0 when it flushes. Bind the rest to their own units.
+        mid.bind(1);
+        near.bind(2);
+        overlay.bind(3);
+        Gdx.gl.glActiveTexture(GL20.GL_TEXTURE0);
+
+        shader.setUniformi("u_mid", 1);
+        shader.setUniformi("u_near", 2);
+        shader.setUniformi("u_overlay", 3);
+        shader.setUniformf("u_baseColor", baseColor.r, baseColor.g, baseColor.b);
+        shader.setUniformf("u_layerScale", FAR_SCALE, MID_SCALE, NEAR_SCALE);
+        shader.setUniformf("u_layerAlpha", FAR_ALPHA, MID_ALPHA, NEAR_ALPHA);
+        shader.setUniformf("u_overlayAlpha", overlayEnabled ? OVERLAY_ALPHA : 0f);
+        // Texture v runs top to bottom, so the y drift has the opposite sign.
+        shader.setUniformf("u_overlayOffset", -overlayOffsetX / worldWidth, overlayOffsetY / worldHeight);
+
+        // Opaque, so skip blending entirely.
+        batch.disableBlending();
+        batch.draw(far, camX - worldWidth / 2, camY - worldHeight / 2, worldWidth, worldHeight);
+        batch.enableBlending();
+
+        batch.end();
+        batch.setShader(null);
+        return true;
+    }
+
+    /**
+     * Set whether the floating overlay is blended in. Turned off at lower quality tiers.
+     */
+    public void setOverlayEnabled(boolean overlayEnabled) {
+        this.overlayEnabled = overlayEnabled;
+    }
+
+    /**
+     * Compile the shader the first time it's needed.
+     *
+     * @return Whether the shader is usable.
+     */
+    private boolean ensureShader() {
+        if (shaderFailed) {
+            return false;
+        }
+        if (shader == null) {
+            shader = graphicsProvider.createShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+            if (!shader.isCompiled()) {
+                Gdx.app.error("BackgroundCompositor", "Shader failed to compile, falling back to layered drawing:\n" + shader.getLog());
+                shader.dispose();
+                shader = null;
+                shaderFailed = true;
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void dispose() {
+        if (shader != null) {
+            shader.dispose();
+            shader = null;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package cellcorp.gameofcells.objects;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.glutils.HdpiUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+/**
+ * CameraController Class
+ * <p>
+ * Owns the gameplay camera's follow target, zoom, and shake.
+ * Shake advances with the simulation delta in `update`, not the frame time in draw code.
+ * `apply` only recomputes the viewport and camera matrices when one of them actually changed,
+ * and tells the caller, so matrices shared with sprite batches and shape renderers are only set on change.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public class CameraController {
+    private final OrthographicCamera camera;
+    private final Viewport viewport;
+    private final float baseWorldWidth;
+    private final float baseWorldHeight;
+    private final RandomXS128 random = SpawnManager.isRandomSeedFixed()
+        ? new RandomXS128(SpawnManager.getRandomSeed()) : new RandomXS128();
+
+    // Requested state
+    private float followX = 0;
+    private float followY = 0;
+    private float viewZoom = 1f; // Multiplier on the viewport's world size
+    private float cameraZoom = 1f; // The camera's own zoom, used by the split-cell animation
+
+    // Shake state
+    private float shakeTime = 0; // Time remaining for the shake effect
+    private float shakeDuration = 0; // Duration of the shake effect
+    private float shakeIntensity = 0; // Intensity of the shake effect
+    private float shakeScale = 1f; // Multiplier on shake intensity, lowered at low quality
+    private float shakeOffsetX = 0;
+    private float shakeOffsetY = 0;
+
+    // State the camera was last computed with. NaN, so the first `apply` always computes.
+    private float appliedX = Float.NaN;
+    private float appliedY = Float.NaN;
+    private float appliedViewZoom = Float.NaN;
+    private float appliedCameraZoom = Float.NaN;
+    private int appliedScreenWidth = -1;
+    private int appliedScreenHeight = -1;
+
+    /**
+     * @param baseWorldWidth  Width of the view rectangle at a view zoom of 1
+     * @param baseWorldHeight Height of the view rectangle at a view zoom of 1
+     */
+    public CameraController(OrthographicCamera camera, Viewport viewport, float baseWorldWidth, float baseWorldHeight) {
+        this.camera = camera;
+        this.viewport = viewport;
+        this.baseWorldWidth = baseWorldWidth;
+        this.baseWorldHeight = baseWorldHeight;
+    }
+
+    /**
+     * Center the view on the given point, before shake.
+     */
+    public void follow(float x, float y) {
+        followX = x;
+        followY = y;
+    }
+
+    /**
+     * Set the view zoom. The view rectangle is the base size times `zoom`, so larger values show more of the world.
+     */
+    public void setViewZoom(float zoom) {
+        viewZoom = zoom;
+    }
+
+    /**
+     * Set the camera's own zoom. Smaller values zoom in.
+     */
+    public void setCameraZoom(float zoom) {
+        cameraZoom = zoom;
+    }
+
+    /**
+     * Start shaking the view. Fades out linearly over `duration` seconds.
+     */
+    public void shake(float duration, float intensity) {
+        shakeTime = duration;
+        shakeDuration = duration;
+        shakeIntensity = intensity;
+    }
+
+    /**
+     * Set the multiplier on shake intensity.
+     */
+    public void setShakeScale(float shakeScale) {
+        this.shakeScale = shakeScale;
+    }
+
+    /**
+     * Advance the shake by one simulation step.
+     */
+    public void update(float deltaTimeSeconds) {
+        if (shakeTime > 0) {
+            float currentIntensity = (shakeTime / shakeDuration) * shakeIntensity * shakeScale;
+            shakeOffsetX = random.nextFloat() * 2 * currentIntensity - currentIntensity;
+            shakeOffsetY = random.nextFloat() * 2 * currentIntensity - currentIntensity;
+            shakeTime -= deltaTimeSeconds;
+        } else {
+            shakeOffsetX = 0;
+            shakeOffsetY = 0;
+        }
+    }
+
+    /**
+     * Force the next `apply` to recompute, e.g. after the viewport was updated elsewhere.
+     */
+    public void invalidate() {
+        appliedScreenWidth = -1;
+        appliedScreenHeight = -1;
+    }
+
+    /**
+     * Make the viewport current for drawing. Recomputes the viewport and camera only if
+     * the screen size, zoom, or camera position changed since the last call.
+     *
+     * @param screenWidth  Width of the window in pixels
+     * @param screenHeight Height of the window in pixels
+     * @return Whether `camera.combined` changed, so projection matrices copied from it need to be set again.
+     */
+    public boolean apply(int screenWidth, int screenHeight) {
+        float x = followX + shakeOffsetX;
+        float y = followY + shakeOffsetY;
+        boolean sizeChanged = viewZoom != appliedViewZoom
+            || screenWidth != appliedScreenWidth
+            || screenHeight != appliedScreenHeight;
+        boolean cameraChanged = x != appliedX || y != appliedY || cameraZoom != appliedCameraZoom;
+
+        if (cameraChanged) {
+            camera.position.set(x, y, 0);
+            camera.zoom = cameraZoom;
+            appliedX = x;
+            appliedY = y;
+            appliedCameraZoom = cameraZoom;
+        }
+        if (sizeChanged) {
+            viewport.setWorldSize(baseWorldWidth * viewZoom, baseWorldHeight * viewZoom);
+            // Sets the GL viewport, and recomputes the camera.
+            viewport.update(screenWidth, screenHeight, false);
+            appliedViewZoom = viewZoom;
+            appliedScreenWidth = screenWidth;
+            appliedScreenHeight = screenHeight;
+            return true;
+        }
+
+        // Other passes (HUD, minimap) change the GL viewport, so it's set every frame.
+        // `viewport.apply()` would also recompute the camera, so set it directly.
+        HdpiUtils.glViewport(viewport.getScreenX(), viewport.getScreenY(),
+            viewport.getScreenWidth(), viewport.getScreenHeight());
+        if (cameraChanged) {
+            camera.update();
+        }
+        return cameraChanged;
+    }
+
+    public float getShakeTime() {
+        return shakeTime;
+    }
+
+    public float getShakeIntensity() {
+        return shakeIntensity;
+    }
+
+    public float getViewZoom() {
+        return viewZoom;
+    }
+}
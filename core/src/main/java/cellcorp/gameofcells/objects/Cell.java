@@ -1,14 +1,15 @@
 package cellcorp.gameofcells.objects;
 
-import cellcorp.gameofcells.AssetFileNames;
+import cellcorp.gameofcells.QualityGovernor;
+import cellcorp.gameofcells.SpriteRegions;
 import cellcorp.gameofcells.providers.ConfigProvider;
 import cellcorp.gameofcells.screens.GamePlayScreen;
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Circle;
 import com.badlogic.gdx.math.MathUtils;
@@ -34,7 +35,7 @@ import static java.lang.Math.abs;
  * @course CIS 405
  * @assignment GameOfCells
  */
-public class Cell {
+public class Cell implements QualityGovernor.Knob {
     /**
      * Time between applications of zero-ATP damage, in seconds.
      */
@@ -54,9 +55,9 @@ public class Cell {
     private static float CELL_SPEED = 200f; // Speed of the cell
     private static float CELL_SPEED_WITH_FLAGELLUM = 370f; //Amount to increase cell speed after buying flagellum
     private static float ROTATION_SPEED = 20f; //How quickly the cell rotates
-    private final AssetManager assetManager;
+    private final SpriteRegions spriteRegions;
     private final ConfigProvider configProvider;
-    private final GamePlayScreen gamePlayScreen;
+    private final CellHost host;
     private Vector2 smoothedVelocity = new Vector2();
     private Vector2 previousPosition = new Vector2(-500, -500); //previous position of the cell
     private Circle cellCircle;
@@ -91,6 +92,7 @@ public class Cell {
     private float flagellumThickness = 9.375f;
     private int flagellumLength = 225;
     private boolean notUpgradeRenderCycle = true; // tracks size upgrade to avoid a visual flagellum bug
+    private int flagellumPointSpacing = 1; // distance between flagellum circles. Larger at lower quality tiers.
     /**
      * Times how long the cell has been taking zero-ATP damage.
      * Used to group damage, instead of applying a tiny amount each tick.
@@ -129,12 +131,20 @@ public class Cell {
      */
     private int respawns = 0;
 
+    /**
+     * Pre-rendered interiors to draw the cell from. Drawn sprite by sprite when not set.
+     */
+    private CellImpostors impostors;
+    private final CellImpostors.Painter interiorPainter = this::drawInterior;
+
     /**
      * Create this cell.
+     *
+     * @param host The game the cell is in. Use {@link CellHost#detached()} for a cell outside of one.
      */
-    public Cell(GamePlayScreen gamePlayScreen, AssetManager assetManager, ConfigProvider configProvider) {
-        this.assetManager = assetManager;
-        this.gamePlayScreen = gamePlayScreen;
+    public Cell(CellHost host, SpriteRegions spriteRegions, ConfigProvider configProvider) {
+        this.spriteRegions = spriteRegions;
+        this.host = host;
         this.configProvider = configProvider;
 
         setUserConfigOrDefault();
@@ -148,7 +158,7 @@ public class Cell {
      * Copy constructor for `Cell`.
      */
     public Cell(Cell other) {
-        this(other.gamePlayScreen, other.assetManager, other.configProvider);
+        this(other.host, other.spriteRegions, other.configProvider);
 
         this.cellCircle = new Circle(other.cellCircle);
         // Values used to push glucose
@@ -197,9 +207,11 @@ public class Cell {
         this.healRates = other.healRates;
         this.flagellumLengthLossFactor = other.flagellumLengthLossFactor;
         this.flagellumAlpha = other.flagellumAlpha;
+        this.impostors = other.impostors;
         this.flagellumLength = other.flagellumLength;
         this.flagellumThickness = other.flagellumThickness;
         this.respawns = other.respawns;
+        this.flagellumPointSpacing = other.flagellumPointSpacing;
     }
 
     /**
@@ -285,7 +297,7 @@ public class Cell {
 
         // game stasts
         if (moveLeft || moveRight || moveUp || moveDown) {
-            gamePlayScreen.stats.distanceMoved += speed * deltaTime;
+            host.getStats().distanceMoved += speed * deltaTime;
         }
     }
 
@@ -410,6 +422,15 @@ public class Cell {
         this.cellCircle.y = y;
     }
 
+    /**
+     * Draw the cell's membrane and organelles from pre-rendered interiors, rather than sprite by sprite.
+     *
+     * @param impostors The interiors to draw from, or null to draw sprite by sprite
+     */
+    public void setImpostors(CellImpostors impostors) {
+        this.impostors = impostors;
+    }
+
     /**
      * Draw
      *
@@ -422,45 +443,32 @@ public class Cell {
         }
         batch.setColor(1, 1, 1, alpha);
 
-        // Draw cell centered around its position.
-
-        float bottomLeftX = cellCircle.x - (cellSize / 2);
-        float bottomLeftY = cellCircle.y - (cellSize / 2);
-
-        // Get the already-loaded cell texture
-        // The asset manager expects the asset's file name,
-        // and the class of the asset to load.
-
-        //cell Texture
-        Texture cellTexture;
-        if (hasSmallSizeUpgrade) {
-            if (cellHealth <= (MAX_HEALTH / 2)) {
-                cellTexture = assetManager.get(AssetFileNames.CELL_MEMBRANE_DAMAGED, Texture.class);
-            } else {
-                cellTexture = assetManager.get(AssetFileNames.CELL_MEMBRANE, Texture.class);
+        drawFlagellum(hasFlagellum, shapeRenderer); //moved outside of draw organelles to be underneath the cell.
 
-            }
+        // Drawn centered around the cell's position.
+        if (impostors != null) {
+            // Fetched before `begin`, since it may need to render the interior.
+            var interior = impostors.get(membraneRegion(), hasMitochondria, hasRibosomes, cellSize, interiorPainter);
+            batch.begin();
+            // The impostor is premultiplied, so fade all four channels.
+            batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+            batch.setColor(alpha, alpha, alpha, alpha);
+            float cellRadius = cellSize / 2f;
+            batch.draw(
+                interior,
+                cellCircle.x - cellRadius, cellCircle.y - cellRadius,
+                cellRadius, cellRadius,
+                cellSize, cellSize,
+                1f, 1f,
+                cellRotation
+            );
+            batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+            batch.setColor(1, 1, 1, alpha);
         } else {
-            cellTexture = assetManager.get(AssetFileNames.CELL, Texture.class);
+            batch.begin();
+            drawInterior(batch, cellCircle.x, cellCircle.y, cellRotation);
         }
-
-        drawFlagellum(hasFlagellum, shapeRenderer); //moved outside of draw organelles to be underneath the cell.
-
-        batch.begin();
-
-        batch.draw(
-            cellTexture,
-            bottomLeftX, bottomLeftY,
-            cellSize / 2, cellSize / 2,
-            cellSize, cellSize,
-            1f, 1f,
-            cellRotation,
-            0, 0,
-            cellTexture.getWidth(), cellTexture.getHeight(),
-            false, false
-        );
-
-        drawOrganelles(batch);
+        drawNucleus(batch);
         batch.end();
 
         batch.setColor(Color.WHITE);
@@ -481,7 +489,7 @@ public class Cell {
         if (isDying) {
             deathAnimationTime += deltaTimeSeconds;
             if (deathAnimationTime >= DEATH_ANIMATION_DURATION) {
-                gamePlayScreen.endGame();
+                host.endGame();
             }
             updateFlagellum(deltaTimeSeconds); //used to fade the flagellum
             return;
@@ -522,7 +530,7 @@ public class Cell {
         // Update stats
         var organellesPurchased = List.of(hasMitochondria, hasFlagellum, hasNucleus, hasRibosomes)
             .stream().filter(Boolean::booleanValue).count();
-        gamePlayScreen.stats.organellesPurchased = (int) organellesPurchased;
+        host.getStats().organellesPurchased = (int) organellesPurchased;
         int maxSize;
         if (hasMassiveSizeUpgrade) {
             maxSize = 4;
@@ -535,7 +543,7 @@ public class Cell {
         } else {
             maxSize = 0;
         }
-        gamePlayScreen.stats.maxSize = maxSize;
+        host.getStats().maxSize = maxSize;
 
         updateFlagellum(deltaTimeSeconds);
         setHealCostFactor(organelleUpgradeLevel);
@@ -557,112 +565,127 @@ public class Cell {
         }
     }
 
-    private void drawOrganelles(SpriteBatch batch) {
+    /**
+     * The membrane sprite for the cell's current size and health.
+     */
+    private TextureRegion membraneRegion() {
+        if (!hasSmallSizeUpgrade) {
+            return spriteRegions.cell;
+        }
+        if (cellHealth <= (MAX_HEALTH / 2)) {
+            return spriteRegions.cellMembraneDamaged;
+        }
+        return spriteRegions.cellMembrane;
+    }
+
+    /**
+     * Draw the parts of the cell that only change on upgrades and damage: the membrane, mitochondria, and ribosomes.
+     * Used both to draw directly, and to render the cell's impostor.
+     *
+     * @param centerX  Center of the cell
+     * @param centerY  Center of the cell
+     * @param rotation Rotation of the cell, in degrees
+     */
+    private void drawInterior(Batch batch, float centerX, float centerY, float rotation) {
         float cellRadius = cellSize / 2f;
-        float centerX = cellCircle.x;
-        float centerY = cellCircle.y;
+        float cos = MathUtils.cosDeg(rotation);
+        float sin = MathUtils.sinDeg(rotation);
+
+        batch.draw(
+            membraneRegion(),
+            centerX - cellRadius, centerY - cellRadius,
+            cellRadius, cellRadius,
+            cellSize, cellSize,
+            1f, 1f,
+            rotation
+        );
 
         if (hasMitochondria) {
-            var mitochondriaTexture = assetManager.get(AssetFileNames.MITOCHONDRIA_ICON, Texture.class);
+            var mitochondriaTexture = spriteRegions.mitochondria;
 
             assert (mitochondriaTexture != null);
 
             float size = cellSize * 0.22f;
-
-            Vector2 offset1 = new Vector2(+cellRadius * 0.5f, +cellRadius * 0.5f).rotateDeg(cellRotation);
-            Vector2 offset2 = new Vector2(-cellRadius * 0.5f, -cellRadius * 0.5f).rotateDeg(cellRotation);
-
-            float angle1 = cellRotation + 135;
-            float angle2 = cellRotation + 315;
+            // Offsets of (+0.5r, +0.5r) and (-0.5r, -0.5r), rotated with the cell.
+            float offsetX = (cos - sin) * cellRadius * 0.5f;
+            float offsetY = (sin + cos) * cellRadius * 0.5f;
 
             // Draw first mitochondrion (top-right side)
             batch.draw(
                 mitochondriaTexture,
-                centerX + offset1.x - size / 2,
-                centerY + offset1.y - size / 2,
+                centerX + offsetX - size / 2,
+                centerY + offsetY - size / 2,
                 size / 2, size / 2,
                 size, size,
-                1f, 1f,
-                angle1,
-                0, 0,
-                mitochondriaTexture.getWidth(), mitochondriaTexture.getHeight(),
-                false, true
+                1f, -1f, // Flipped vertically
+                rotation + 135
             );
 
             // Draw second mitochondrion (bottom-left side)
             batch.draw(
                 mitochondriaTexture,
-                centerX + offset2.x - size / 2,
-                centerY + offset2.y - size / 2,
+                centerX - offsetX - size / 2,
+                centerY - offsetY - size / 2,
                 size / 2, size / 2,
                 size, size,
-                1f, 1f,
-                angle2,
-                0, 0,
-                mitochondriaTexture.getWidth(), mitochondriaTexture.getHeight(),
-                false, true
+                1f, -1f, // Flipped vertically
+                rotation + 315
             );
         }
 
-        // Draw ribosomes (top-left quadrant)
         if (hasRibosomes) {
-            var ribosomeTexture = assetManager.get(AssetFileNames.RIBOSOME_ICON, Texture.class);
+            var ribosomeTexture = spriteRegions.ribosome;
 
             assert (ribosomeTexture != null);
 
             float ribosomeSize = cellSize * 0.2f; // Adjust size as needed
 
-            Vector2 offset1 = new Vector2(-cellRadius * 0.4f, +cellRadius * 0.5f).rotateDeg(cellRotation); // Top-left
-            Vector2 offset2 = new Vector2(+cellRadius * 0.6f, -cellRadius * 0.1f).rotateDeg(cellRotation); // Bottom-right
-            Vector2 offset3 = new Vector2(+cellRadius * 0.1f, -cellRadius * 0.7f).rotateDeg(cellRotation); // Bottom-middle-left
-
-            // Draw first ribosome (top-left side)
-            batch.draw(
-                ribosomeTexture,
-                centerX + offset1.x - ribosomeSize / 2,
-                centerY + offset1.y - ribosomeSize / 2,
-                ribosomeSize, ribosomeSize
-            );
+            drawRibosome(batch, ribosomeTexture, ribosomeSize, centerX, centerY, -0.4f, +0.5f, cos, sin); // Top-left
+            drawRibosome(batch, ribosomeTexture, ribosomeSize, centerX, centerY, +0.6f, -0.1f, cos, sin); // Bottom-right
+            drawRibosome(batch, ribosomeTexture, ribosomeSize, centerX, centerY, +0.1f, -0.7f, cos, sin); // Bottom-middle-left
+        }
+    }
 
-            // Draw second ribosome (bottom-right side)
-            batch.draw(
-                ribosomeTexture,
-                centerX + offset2.x - ribosomeSize / 2,
-                centerY + offset2.y - ribosomeSize / 2,
-                ribosomeSize, ribosomeSize
-            );
+    /**
+     * Draw a ribosome at an offset from the cell's center, given in cell radii and rotated with the cell.
+     */
+    private void drawRibosome(Batch batch, TextureRegion ribosomeTexture, float ribosomeSize,
+                              float centerX, float centerY, float offsetX, float offsetY, float cos, float sin) {
+        float cellRadius = cellSize / 2f;
+        float x = (offsetX * cos - offsetY * sin) * cellRadius;
+        float y = (offsetX * sin + offsetY * cos) * cellRadius;
+        batch.draw(
+            ribosomeTexture,
+            centerX + x - ribosomeSize / 2,
+            centerY + y - ribosomeSize / 2,
+            ribosomeSize, ribosomeSize
+        );
+    }
 
-            // Draw third ribosome (bottom-middle-left side)
-            batch.draw(
-                ribosomeTexture,
-                centerX + offset3.x - ribosomeSize / 2,
-                centerY + offset3.y - ribosomeSize / 2,
-                ribosomeSize, ribosomeSize
-            );
+    /**
+     * Draw the nucleus, at the center of the cell with its pulse effect.
+     * Drawn every frame rather than from the impostor, since it pulses.
+     */
+    private void drawNucleus(Batch batch) {
+        if (!hasNucleus) {
+            return;
         }
+        var nucleusTexture = spriteRegions.nucleus;
 
-        // Draw nucleus (center with pulse effect)
-        if (hasNucleus) {
-            var nucleusTexture = assetManager.get(AssetFileNames.NUCLEUS_ICON, Texture.class);
-
-            assert (nucleusTexture != null);
+        assert (nucleusTexture != null);
 
-            float baseSize = cellSize * 0.4f;
-            float nucleusSize = baseSize * pulseScale; // Adjust size based on pulse effect
+        float baseSize = cellSize * 0.4f;
+        float nucleusSize = baseSize * pulseScale; // Adjust size based on pulse effect
 
-            batch.draw(
-                nucleusTexture,
-                centerX - nucleusSize / 2,
-                centerY - nucleusSize / 2,
-                nucleusSize / 2, nucleusSize / 2,
-                nucleusSize, nucleusSize,
-                1f, 1f,
-                cellRotation,
-                0, 0,
-                nucleusTexture.getWidth(), nucleusTexture.getHeight(),
-                false, false
-            );
-        }
+        batch.draw(
+            nucleusTexture,
+            cellCircle.x - nucleusSize / 2,
+            cellCircle.y - nucleusSize / 2,
+            nucleusSize / 2, nucleusSize / 2,
+            nucleusSize, nucleusSize,
+            1f, 1f,
+            cellRotation
+        );
     }
 
     /**
@@ -859,10 +882,8 @@ public class Cell {
      * Dispose
      */
     public void dispose() {
-        assetManager.unload(AssetFileNames.CELL);
-        assetManager.unload(AssetFileNames.CELL_MEMBRANE);
-        assetManager.unload(AssetFileNames.CELL_MEMBRANE_DAMAGED);
-
+        // The cell's sprites are shared, and owned by `Main`'s asset manager.
+        // Unloading them here would pull them out from under every other cell.
     }
 
     /**
@@ -929,7 +950,7 @@ public class Cell {
         if (cellHealth <= 0 && !isDying) {
             isDying = true;
             deathAnimationTime = 0f;
-            gamePlayScreen.triggerShake(1.5f, 12f); // Shake for 1.5 seconds
+            host.triggerShake(1.5f, 12f); // Shake for 1.5 seconds
         }
     }
 
@@ -1195,6 +1216,28 @@ public class Cell {
 
     }
 
+    /**
+     * Draw the flagellum with fewer, more widely spaced circles at lower quality tiers.
+     * The circles are much wider than the spacing, so the flagellum still looks solid.
+     */
+    @Override
+    public void setQualityTier(QualityGovernor.Tier tier) {
+        switch (tier) {
+            case LOW:
+                flagellumPointSpacing = 4;
+                break;
+            case MEDIUM:
+                flagellumPointSpacing = 2;
+                break;
+            case HIGH:
+            default:
+                flagellumPointSpacing = 1;
+                break;
+        }
+        // Rebuild the flagellum on the next update, even if the cell hasn't moved.
+        notUpgradeRenderCycle = false;
+    }
+
     /**
      * Update the flagellum for this tick.
      */
@@ -1235,7 +1278,7 @@ public class Cell {
         flagellumVectors.clear();
 
         //calculate new sin wave positions.
-        for (int y = 0; y < flagellumLength; y++) {
+        for (int y = 0; y < flagellumLength; y += flagellumPointSpacing) {
             float flagX = (float) (amplitude * Math.sin((y * frequency + flagTime)));
             flagellumVectors.add(new Vector2(flagX, y - cellCircle.radius - flagellumLength)); // <-shifts flagellum down, stupid calc, but it works
         }
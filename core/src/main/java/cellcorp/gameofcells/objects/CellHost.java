@@ -0,0 +1,57 @@
+package cellcorp.gameofcells.objects;
+
+/**
+ * CellHost Interface
+ * <p>
+ * What a cell needs from the game it's in: somewhere to record stats, and callbacks for when it dies.
+ * The gameplay screen is the usual host. Menus and tests can use a {@link #detached()} host,
+ * instead of building a whole gameplay screen.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public interface CellHost {
+    /**
+     * @return The stats the cell records its movement and upgrades in.
+     */
+    Stats getStats();
+
+    /**
+     * Called once the cell's death animation finishes.
+     */
+    void endGame();
+
+    /**
+     * Called when the cell starts dying.
+     *
+     * @param duration  How long to shake, in seconds.
+     * @param intensity How far to shake.
+     */
+    void triggerShake(float duration, float intensity);
+
+    /**
+     * A host that isn't part of a game. It keeps its own stats, and ignores the cell dying.
+     */
+    static CellHost detached() {
+        var stats = new Stats();
+        return new CellHost() {
+            @Override
+            public Stats getStats() {
+                return stats;
+            }
+
+            @Override
+            public void endGame() {
+            }
+
+            @Override
+            public void triggerShake(float duration, float intensity) {
+            }
+        };
+    }
+}
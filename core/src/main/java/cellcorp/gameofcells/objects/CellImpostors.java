@@ -0,0 +1,234 @@
+package cellcorp.gameofcells.objects;
+
+import cellcorp.gameofcells.providers.GraphicsProvider;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.ScreenUtils;
+
+import java.nio.IntBuffer;
+
+/**
+ * CellImpostors Class
+ * <p>
+ * Pre-rendered cell interiors -- membrane, mitochondria, and ribosomes -- drawn once into a framebuffer
+ * in cell-local space, so each frame draws a cell's interior as a single rotated quad.
+ * <p>
+ * Interiors are keyed by how they look: the membrane sprite, which organelles are shown, and the cell size,
+ * rounded up to a `SIZE_STEP`. Cells that look the same share one texture, stretched to each cell's size,
+ * so several cells on screen (after splitting, say) don't cost a framebuffer each.
+ * A texture is only rendered when a cell first asks for a look that isn't cached,
+ * which happens on upgrades, when the membrane switches to its damaged sprite, and at each size step.
+ * <p>
+ * Textures hold premultiplied alpha. Draw them with `GL_ONE, GL_ONE_MINUS_SRC_ALPHA` blending.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public class CellImpostors {
+    /**
+     * Largest texture an interior is rendered to. Bigger cells are upscaled.
+     */
+    static final int MAX_TEXTURE_SIZE = 1024;
+    /**
+     * Cell sizes are rounded up to a multiple of this, so a growing cell only renders a new interior
+     * each time it crosses a step, and texture sizes are rounded the same way.
+     */
+    static final int SIZE_STEP = 32;
+    /**
+     * Number of interiors kept. The least recently used is dropped past this.
+     */
+    static final int MAX_ENTRIES = 8;
+
+    /**
+     * Draws a cell's interior, centered at (`centerX`, `centerY`), rotated by `rotation` degrees.
+     */
+    public interface Painter {
+        void paint(Batch batch, float centerX, float centerY, float rotation);
+    }
+
+    private static final class Entry {
+        private final FrameBuffer frameBuffer;
+        private final TextureRegion region;
+        private long lastUsed;
+
+        private Entry(FrameBuffer frameBuffer, TextureRegion region) {
+            this.frameBuffer = frameBuffer;
+            this.region = region;
+        }
+    }
+
+    private final GraphicsProvider graphicsProvider;
+    private final LongMap<Entry> entries = new LongMap<>();
+    /**
+     * Every membrane sprite seen so far. A membrane's key is its index here.
+     */
+    private final Array<TextureRegion> membranes = new Array<>();
+    private final Matrix4 projection = new Matrix4();
+    private final IntBuffer savedViewport = BufferUtils.newIntBuffer(16);
+    private final IntBuffer savedFrameBuffer = BufferUtils.newIntBuffer(16);
+    private SpriteBatch batch; // Created on first render, since it needs a GL context
+    private long uses = 0;
+    private int renderCount = 0;
+
+    public CellImpostors(GraphicsProvider graphicsProvider) {
+        this.graphicsProvider = graphicsProvider;
+    }
+
+    /**
+     * Get the pre-rendered interior for a cell that looks like this, rendering it if it isn't cached.
+     * Must not be called while a batch is drawing.
+     *
+     * @param membrane     The membrane sprite the cell is drawn with
+     * @param mitochondria Whether the cell shows mitochondria
+     * @param ribosomes    Whether the cell shows ribosomes
+     * @param cellSize     Diameter of the cell, in world units
+     * @param painter      Draws the interior, if it needs rendering
+     * @return A region covering the cell's `cellSize` square, unrotated
+     */
+    public TextureRegion get(TextureRegion membrane, boolean mitochondria, boolean ribosomes,
+                             float cellSize, Painter painter) {
+        int textureSize = textureSize(cellSize);
+        long key = key(membraneIndex(membrane), mitochondria, ribosomes, sizeStep(cellSize));
+
+        var entry = entries.get(key);
+        if (entry == null) {
+            entry = render(textureSize, cellSize, painter);
+            entries.put(key, entry);
+        }
+        // Marked used before evicting, so a new entry isn't the one evicted.
+        entry.lastUsed = ++uses;
+        evictLeastRecentlyUsed();
+        return entry.region;
+    }
+
+    /**
+     * Texture size for a cell: its size in world units (one texel per unit at the default zoom),
+     * rounded up to `SIZE_STEP`, and capped at `MAX_TEXTURE_SIZE`.
+     */
+    static int textureSize(float cellSize) {
+        int size = ((int) Math.ceil(cellSize / SIZE_STEP)) * SIZE_STEP;
+        return Math.max(SIZE_STEP, Math.min(MAX_TEXTURE_SIZE, size));
+    }
+
+    /**
+     * Number of `SIZE_STEP`s in a cell size, rounded up. Cells with the same step share an interior.
+     */
+    static int sizeStep(float cellSize) {
+        return (int) Math.ceil(cellSize / SIZE_STEP);
+    }
+
+    /**
+     * Pack a look into a key: the size step, then the membrane's index, then the organelle flags.
+     * The texture size follows from the size step, so it needn't be part of the key.
+     */
+    private static long key(int membraneIndex, boolean mitochondria, boolean ribosomes, int sizeStep) {
+        return ((long) sizeStep << 16) | ((long) (membraneIndex & 0x3fff) << 2)
+            | (mitochondria ? 2 : 0) | (ribosomes ? 1 : 0);
+    }
+
+    private int membraneIndex(TextureRegion membrane) {
+        int index = membranes.indexOf(membrane, true);
+        if (index < 0) {
+            membranes.add(membrane);
+            index = membranes.size - 1;
+        }
+        return index;
+    }
+
+    private Entry render(int textureSize, float cellSize, Painter painter) {
+        if (batch == null) {
+            batch = graphicsProvider.createSpriteBatch();
+        }
+        renderCount++;
+
+        var frameBuffer = graphicsProvider.createFrameBuffer(Pixmap.Format.RGBA8888, textureSize, textureSize, false);
+        Texture texture = frameBuffer.getColorBufferTexture();
+        // Interiors are drawn rotated, so filter them smoothly.
+        texture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        var region = new TextureRegion(texture);
+        // Framebuffer textures are stored bottom-up.
+        region.flip(false, true);
+
+        // Rendering can happen mid-frame, inside whatever framebuffer and viewport the caller set up
+        // (the world render scaler's, say), so put both back after. `end` always binds the default framebuffer.
+        // Only happens when a cell's look changes, so the read back is rare.
+        savedViewport.clear();
+        Gdx.gl.glGetIntegerv(GL20.GL_VIEWPORT, savedViewport);
+        savedFrameBuffer.clear();
+        Gdx.gl.glGetIntegerv(GL20.GL_FRAMEBUFFER_BINDING, savedFrameBuffer);
+
+        // `begin` sets the GL viewport to the whole framebuffer, which the cell's square fills.
+        frameBuffer.begin();
+        ScreenUtils.clear(Color.CLEAR);
+        batch.setProjectionMatrix(projection.setToOrtho2D(0, 0, cellSize, cellSize));
+        // Premultiply color, and accumulate alpha, so the interior can be blended over the world later.
+        batch.setBlendFunctionSeparate(
+            GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA, GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        batch.begin();
+        painter.paint(batch, cellSize / 2, cellSize / 2, 0);
+        batch.end();
+        frameBuffer.end();
+
+        Gdx.gl.glBindFramebuffer(GL20.GL_FRAMEBUFFER, savedFrameBuffer.get(0));
+        Gdx.gl.glViewport(savedViewport.get(0), savedViewport.get(1), savedViewport.get(2), savedViewport.get(3));
+        return new Entry(frameBuffer, region);
+    }
+
+    private void evictLeastRecentlyUsed() {
+        if (entries.size <= MAX_ENTRIES) {
+            return;
+        }
+        long oldestKey = 0;
+        Entry oldest = null;
+        for (var entry : entries) {
+            if (oldest == null || entry.value.lastUsed < oldest.lastUsed) {
+                oldestKey = entry.key;
+                oldest = entry.value;
+            }
+        }
+        entries.remove(oldestKey);
+        oldest.frameBuffer.dispose();
+    }
+
+    /**
+     * Number of interiors rendered so far.
+     */
+    public int getRenderCount() {
+        return renderCount;
+    }
+
+    /**
+     * Number of interiors currently cached.
+     */
+    public int getCachedCount() {
+        return entries.size;
+    }
+
+    public void dispose() {
+        for (var entry : entries.values()) {
+            entry.frameBuffer.dispose();
+        }
+        entries.clear();
+        membranes.clear();
+        if (batch != null) {
+            batch.dispose();
+            batch = null;
+        }
+    }
+}
@@ -1,9 +1,9 @@
 package cellcorp.gameofcells.objects;
 
 import cellcorp.gameofcells.screens.GamePlayScreen;
-import com.badlogic.gdx.assets.AssetManager;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Circle;
 
@@ -27,18 +27,19 @@ public class Glucose {
     public static int ATP_PER_GLUCOSE = 2;
     public static final int ATP_PER_GLUCOSE_WITH_MITOCHONDRIA = 10;
 
-    private final AssetManager assetManager;
+    private final TextureRegion texture;
     private final Circle boundCircle;
+    private boolean pushed = false; // Whether the cell's force circle is pushing this glucose
 
     /**
      * Constructor
      *
-     * @param assetManager The Game assetManager
-     * @param x            - The x position
-     * @param y            - The y position
+     * @param texture The glucose sprite, from {@link cellcorp.gameofcells.SpriteRegions}
+     * @param x       - The x position
+     * @param y       - The y position
      */
-    public Glucose(AssetManager assetManager, float x, float y) {
-        this.assetManager = assetManager;
+    public Glucose(TextureRegion texture, float x, float y) {
+        this.texture = texture;
         boundCircle = new Circle(x, y, RADIUS);
     }
 
@@ -50,14 +51,23 @@ public class Glucose {
      * @param batch The gamePlayScreen Spritebatch
      */
     public void draw(SpriteBatch batch) {
-        // other options for glucose exist within assests.
-        var glucoseTexture = assetManager.get("glucose_orange.png", Texture.class);
-
         var bottomLeftX = boundCircle.x - boundCircle.radius;
         var bottomLeftY = boundCircle.y - boundCircle.radius;
         var diameter = boundCircle.radius * 2;
 
-        batch.draw(glucoseTexture, bottomLeftX, bottomLeftY, diameter, diameter);
+        batch.draw(texture, bottomLeftX, bottomLeftY, diameter, diameter);
+    }
+
+    /**
+     * Add this glucose to a chunk's static sprite cache.
+     * Pushed glucose is drawn with the sprite batch instead, so it's added with zero size,
+     * which keeps the chunk's sprite count from changing.
+     *
+     * @param cache A sprite cache between `beginCache` and `endCache`
+     */
+    public void addTo(SpriteCache cache) {
+        var diameter = pushed ? 0 : boundCircle.radius * 2;
+        cache.add(texture, boundCircle.x - boundCircle.radius, boundCircle.y - boundCircle.radius, diameter, diameter);
     }
 
     /**
@@ -91,6 +101,17 @@ public class Glucose {
         return boundCircle;
     }
 
+    /**
+     * @return Whether the cell's force circle is pushing this glucose
+     */
+    public boolean isPushed() {
+        return pushed;
+    }
+
+    void setPushed(boolean pushed) {
+        this.pushed = pushed;
+    }
+
     /**
      * Radius Getter
      *
@@ -0,0 +1,153 @@
+package cellcorp.gameofcells.objects;
+
+import java.util.Arrays;
+
+/**
+ * GlucoseDensityGrid Class
+ * <p>
+ * A small raster of glucose counts covering the 3x3 chunks around an anchor chunk.
+ * Fed incrementally by the glucose manager on spawn, consume, push and despawn,
+ * so the minimap can draw the whole glucose layer as a single texture,
+ * regardless of how many glucose are resident.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public class GlucoseDensityGrid {
+    /**
+     * Number of rows/cols of cells in the grid.
+     */
+    public static final int GRID_SIZE = 64;
+    /**
+     * World length covered by the grid: the anchor chunk and one chunk on every side.
+     */
+    public static final float AREA_LENGTH = 3f * Chunk.CHUNK_LENGTH;
+    /**
+     * World length covered by a single grid cell.
+     */
+    public static final float CELL_LENGTH = AREA_LENGTH / GRID_SIZE;
+
+    /**
+     * Unsigned glucose counts, saturating at 255.
+     * Indexed as `row * GRID_SIZE + col`, with row 0 at the bottom of the area.
+     */
+    private final byte[] counts = new byte[GRID_SIZE * GRID_SIZE];
+    private Chunk anchor;
+    private float originX;
+    private float originY;
+    private boolean dirty = true;
+
+    /**
+     * Clears the grid and moves it to cover the chunks around the given anchor.
+     * Callers are expected to re-add the glucose in range afterward.
+     */
+    public void recenter(Chunk anchor) {
+        this.anchor = anchor;
+        var anchorRect = anchor.toRectangle();
+        this.originX = anchorRect.x - Chunk.CHUNK_LENGTH;
+        this.originY = anchorRect.y - Chunk.CHUNK_LENGTH;
+        Arrays.fill(counts, (byte) 0);
+        dirty = true;
+    }
+
+    /**
+     * Record a glucose at the given world coordinates. Ignored if outside the area.
+     */
+    public void add(float x, float y) {
+        int index = indexOf(x, y);
+        if (index < 0) {
+            return;
+        }
+        int count = counts[index] & 0xFF;
+        if (count < 255) {
+            counts[index] = (byte) (count + 1);
+            dirty = true;
+        }
+    }
+
+    /**
+     * Forget a glucose at the given world coordinates. Ignored if outside the area.
+     */
+    public void remove(float x, float y) {
+        int index = indexOf(x, y);
+        if (index < 0) {
+            return;
+        }
+        int count = counts[index] & 0xFF;
+        if (count > 0) {
+            counts[index] = (byte) (count - 1);
+            dirty = true;
+        }
+    }
+
+    /**
+     * Move a glucose between world coordinates.
+     * Only touches the grid if it crossed into a different cell.
+     */
+    public void move(float fromX, float fromY, float toX, float toY) {
+        if (indexOf(fromX, fromY) == indexOf(toX, toY)) {
+            return;
+        }
+        remove(fromX, fromY);
+        add(toX, toY);
+    }
+
+    /**
+     * Get the glucose count of the given cell, in range [0, 255].
+     */
+    public int getCount(int row, int col) {
+        return counts[row * GRID_SIZE + col] & 0xFF;
+    }
+
+    /**
+     * Index of the cell containing the given world coordinates, or -1 if outside the area.
+     */
+    private int indexOf(float x, float y) {
+        if (anchor == null) {
+            return -1;
+        }
+        int col = (int) Math.floor((x - originX) / CELL_LENGTH);
+        int row = (int) Math.floor((y - originY) / CELL_LENGTH);
+        if (col < 0 || col >= GRID_SIZE || row < 0 || row >= GRID_SIZE) {
+            return -1;
+        }
+        return row * GRID_SIZE + col;
+    }
+
+    /**
+     * Whether the grid has changed since the last call to `clearDirty`.
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    public void clearDirty() {
+        dirty = false;
+    }
+
+    /**
+     * Chunk the grid is currently centered on, or null if it has not been placed yet.
+     */
+    public Chunk getAnchor() {
+        return anchor;
+    }
+
+    /**
+     * World x-coordinate of the left edge of the grid.
+     */
+    public float getOriginX() {
+        return originX;
+    }
+
+    /**
+     * World y-coordinate of the bottom edge of the grid.
+     */
+    public float getOriginY() {
+        return originY;
+    }
+}
@@ -0,0 +1,45 @@
+package cellcorp.gameofcells.objects;
+
+/**
+ * GlucoseHost Interface
+ * <p>
+ * What the glucose manager needs from the game it's in: somewhere to record collected glucose,
+ * and a callback for the first collision. The gameplay screen is the usual host.
+ * Benchmarks and tests can use a {@link #detached()} host, instead of building a whole gameplay screen.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public interface GlucoseHost {
+    /**
+     * @return The stats collected glucose is recorded in.
+     */
+    Stats getStats();
+
+    /**
+     * Called every frame the cell collides with glucose.
+     */
+    void reportGlucoseCollision();
+
+    /**
+     * A host that isn't part of a game. It keeps its own stats, and ignores collisions.
+     */
+    static GlucoseHost detached() {
+        var stats = new Stats();
+        return new GlucoseHost() {
+            @Override
+            public Stats getStats() {
+                return stats;
+            }
+
+            @Override
+            public void reportGlucoseCollision() {
+            }
+        };
+    }
+}
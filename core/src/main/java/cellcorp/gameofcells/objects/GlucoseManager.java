@@ -1,8 +1,8 @@
 package cellcorp.gameofcells.objects;
 
+import cellcorp.gameofcells.SpriteRegions;
 import cellcorp.gameofcells.Util;
-import cellcorp.gameofcells.screens.GamePlayScreen;
-import com.badlogic.gdx.assets.AssetManager;
+import cellcorp.gameofcells.providers.GraphicsProvider;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Circle;
@@ -108,8 +108,8 @@ public class GlucoseManager {
         }
     }
 
-    private final AssetManager assetManager;
-    private final GamePlayScreen gamePlayScreen;
+    private final SpriteRegions spriteRegions;
+    private final GlucoseHost host;
     private final ZoneManager zoneManager;
     private final Cell cell; // Store the cell's position
 
@@ -119,19 +119,30 @@ public class GlucoseManager {
      * When a chunk is despawned, the set of glucose is removed entirely from the hashmap.
      */
     private final Map<Chunk, List<Glucose>> glucoses;
+    /**
+     * Glucose counts around the cell, fed to the minimap.
+     * Kept in sync on spawn, consume, push, and despawn, so the minimap never walks the glucose lists.
+     */
+    private final GlucoseDensityGrid densityGrid;
+    /**
+     * Static geometry for resting glucose, per chunk. Invalidated whenever a chunk's resting glucose changes.
+     */
+    private final GlucoseSpriteCache spriteCache;
     private final Random rand;
 
     /**
      * Spawns and updates glucose
      */
-    public GlucoseManager(AssetManager assetManager, GamePlayScreen gamePlayScreen, ZoneManager zoneManager, Cell cell) {
-        this.assetManager = assetManager;
-        this.gamePlayScreen = gamePlayScreen;
+    public GlucoseManager(GraphicsProvider graphicsProvider, SpriteRegions spriteRegions, GlucoseHost host, ZoneManager zoneManager, Cell cell) {
+        this.spriteRegions = spriteRegions;
+        this.host = host;
         this.zoneManager = zoneManager;
         this.cell = cell;
 
         this.glucoses = new HashMap<>();
-        this.rand = new Random();
+        this.densityGrid = new GlucoseDensityGrid();
+        this.spriteCache = new GlucoseSpriteCache(graphicsProvider);
+        this.rand = SpawnManager.isRandomSeedFixed() ? new Random(SpawnManager.getRandomSeed()) : new Random();
     }
 
     /**
@@ -174,6 +185,7 @@ public class GlucoseManager {
                 if (rand.nextFloat() <= spawnChance) {
                     var glucose = spawnInSubChunk(subChunk);
                     glucoseList.add(glucose);
+                    densityGrid.add(glucose.getX(), glucose.getY());
 
                 }
             }
@@ -213,31 +225,56 @@ public class GlucoseManager {
         float x = x0 + xPct * (x1 - x0);
         float yPct = rand.nextFloat();
         float y = y0 + yPct * (y1 - y0);
-        return new Glucose(assetManager, x, y);
+        return new Glucose(spriteRegions.glucose, x, y);
     }
 
     /**
      * Despawn glucose outside the given range of chunks
      */
     public void despawnOutsideRange(int row0, int col0, int row1, int col1) {
-        var keep = glucoses.
-            keySet().
-            stream().
-            filter(chunk ->
-                row0 <= chunk.row() && chunk.row() < row1
-                    && col0 <= chunk.col() && chunk.col() < col1
-            ).collect(Collectors.toList());
-        glucoses.keySet().retainAll(keep);
+        var iterator = glucoses.entrySet().iterator();
+        while (iterator.hasNext()) {
+            var entry = iterator.next();
+            var chunk = entry.getKey();
+            if (row0 <= chunk.row() && chunk.row() < row1
+                && col0 <= chunk.col() && chunk.col() < col1) {
+                continue;
+            }
+            for (var glucose : entry.getValue()) {
+                densityGrid.remove(glucose.getX(), glucose.getY());
+            }
+            spriteCache.remove(chunk);
+            iterator.remove();
+        }
     }
 
     /**
      * Checks for cell <-> glucose collisions
      */
     public void update(float deltaTime) {
+        updateDensityGridAnchor();
         handleGlucoseMovement(deltaTime);
         handleCollisions();
     }
 
+    /**
+     * Re-centers the density grid when the cell moves into a new chunk,
+     * and re-adds all resident glucose that fall inside it.
+     * Only happens on chunk crossings, so the full walk is rare.
+     */
+    private void updateDensityGridAnchor() {
+        var currentChunk = Chunk.fromWorldCoords(cell.getX(), cell.getY());
+        if (currentChunk.equals(densityGrid.getAnchor())) {
+            return;
+        }
+        densityGrid.recenter(currentChunk);
+        for (var glucoseList : glucoses.values()) {
+            for (var glucose : glucoseList) {
+                densityGrid.add(glucose.getX(), glucose.getY());
+            }
+        }
+    }
+
     /**
      * GlucoseMover
      * <p>
@@ -272,14 +309,23 @@ public class GlucoseManager {
         Circle cellForceCircle = cell.getForceCircle();
         for (Glucose g : glucoseList) {
             Circle glucoseCircle = g.getCircle();
-            if (cellForceCircle.overlaps(glucoseCircle)) {
+            boolean pushed = cellForceCircle.overlaps(glucoseCircle);
+            if (pushed != g.isPushed()) {
+                // Moves between the chunk's static cache and the sprite batch
+                g.setPushed(pushed);
+                spriteCache.invalidate(chunk);
+            }
+            if (pushed) {
 
                 Vector2 vector = new Vector2(cellForceCircle.x - g.getX(), cellForceCircle.y - g.getY());
                 vector.nor();
                 vector.scl(cell.getGlucoseVectorScaleFactor() * deltaTime);
 
+                float oldX = glucoseCircle.x;
+                float oldY = glucoseCircle.y;
                 glucoseCircle.setX(glucoseCircle.x - (vector.x));
                 glucoseCircle.setY(glucoseCircle.y - (vector.y));
+                densityGrid.move(oldX, oldY, glucoseCircle.x, glucoseCircle.y);
 
             }
         }
@@ -310,7 +356,8 @@ public class GlucoseManager {
             ).collect(Collectors.toList());
 
         if (!collisions.isEmpty()) {
-            gamePlayScreen.reportGlucoseCollision();
+            host.reportGlucoseCollision();
+            spriteCache.invalidate(chunk);
         }
 
         int atpPerGlucose;
@@ -320,9 +367,10 @@ public class GlucoseManager {
             atpPerGlucose = Glucose.ATP_PER_GLUCOSE;
         }
 
-        for (var ignored : collisions) {
-            gamePlayScreen.stats.glucoseCollected += 1;
-            gamePlayScreen.stats.atpGenerated += atpPerGlucose;
+        for (var glucose : collisions) {
+            densityGrid.remove(glucose.getX(), glucose.getY());
+            host.getStats().glucoseCollected += 1;
+            host.getStats().atpGenerated += atpPerGlucose;
             cell.addCellATP(atpPerGlucose);
         }
         glucoseList.removeAll(collisions);
@@ -336,9 +384,11 @@ public class GlucoseManager {
         // Will unnecessarily draw some glucose, but should be fine.
         var currentChunk = Chunk.fromWorldCoords(cell.getX(), cell.getY());
         var adjacentChunks = currentChunk.adjacentChunks();
+        // Resting glucose comes from each chunk's static cache, and pushed glucose is drawn on top.
+        spriteCache.draw(spriteBatch.getProjectionMatrix(), adjacentChunks, glucoses);
         spriteBatch.begin();
         for (var chunk : adjacentChunks) {
-            drawInChunk(spriteBatch, chunk);
+            drawPushedInChunk(spriteBatch, chunk);
         }
         spriteBatch.end();
         shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
@@ -348,14 +398,16 @@ public class GlucoseManager {
         shapeRenderer.end();
     }
 
-    private void drawInChunk(SpriteBatch spriteBatch, Chunk chunk) {
+    private void drawPushedInChunk(SpriteBatch spriteBatch, Chunk chunk) {
         var glucoseList = glucoses.get(chunk);
         if (glucoseList == null) {
             return;
         }
 
         for (var glucose : glucoseList) {
-            glucose.draw(spriteBatch);
+            if (glucose.isPushed()) {
+                glucose.draw(spriteBatch);
+            }
         }
     }
 
@@ -385,4 +437,22 @@ public class GlucoseManager {
     public Map<Chunk, List<Glucose>> getGlucoses() {
         return glucoses;
     }
+
+    /**
+     * Get the glucose density grid around the cell, for drawing the minimap.
+     */
+    public GlucoseDensityGrid getDensityGrid() {
+        return densityGrid;
+    }
+
+    /**
+     * Get the static geometry cache for resting glucose.
+     */
+    public GlucoseSpriteCache getSpriteCache() {
+        return spriteCache;
+    }
+
+    public void dispose() {
+        spriteCache.dispose();
+    }
 }
@@ -0,0 +1,187 @@
+package cellcorp.gameofcells.objects;
+
+import cellcorp.gameofcells.providers.GraphicsProvider;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.math.Matrix4;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GlucoseSpriteCache Class
+ * <p>
+ * Static geometry for resting glucose, one cache per chunk, so each visible chunk's glucose is one draw call
+ * instead of re-submitting every glucose quad to the sprite batch every frame.
+ * <p>
+ * A chunk's cache is built the first time it's drawn, and rebuilt only after {@link #invalidate(Chunk)}:
+ * when glucose in it is eaten, or starts or stops being pushed. Pushed glucose stays in the cache with zero size,
+ * so a chunk's cache never needs more room than it was built with, and can be rebuilt in place.
+ * <p>
+ * All chunks share one {@link SpriteCache}, which can't free a single chunk's space.
+ * Despawned chunks are dropped, and their space is reclaimed by clearing everything the next time the cache fills up.
+ * A chunk that still doesn't fit after that isn't drawn.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public class GlucoseSpriteCache {
+    /**
+     * Sprites the shared cache holds. Comfortably more than the glucose in the chunks around the cell.
+     */
+    static final int CAPACITY = 4096;
+
+    private static final class ChunkCache {
+        private final int cacheId;
+        private final int size; // Sprites the cache was built with; rebuilds can't add more
+        private boolean dirty = false;
+
+        private ChunkCache(int cacheId, int size) {
+            this.cacheId = cacheId;
+            this.size = size;
+        }
+    }
+
+    private final GraphicsProvider graphicsProvider;
+    private final Map<Chunk, ChunkCache> chunkCaches = new HashMap<>();
+    private SpriteCache cache; // Created on first draw, since it needs a GL context
+    private int used = 0; // Sprites allocated in `cache`, including those of despawned chunks
+    private int rebuildCount = 0;
+
+    public GlucoseSpriteCache(GraphicsProvider graphicsProvider) {
+        this.graphicsProvider = graphicsProvider;
+    }
+
+    /**
+     * Mark a chunk's glucose as changed, so its cache is rebuilt the next time it's drawn.
+     */
+    public void invalidate(Chunk chunk) {
+        var chunkCache = chunkCaches.get(chunk);
+        if (chunkCache != null) {
+            chunkCache.dirty = true;
+        }
+    }
+
+    /**
+     * Forget a despawned chunk.
+     */
+    public void remove(Chunk chunk) {
+        chunkCaches.remove(chunk);
+    }
+
+    /**
+     * Draw the resting glucose in the given chunks, one draw call per chunk.
+     * No sprite batch may be drawing.
+     *
+     * @param projection The projection to draw with, usually the sprite batch's
+     * @param chunks     The chunks to draw
+     * @param glucoses   Glucose in each chunk
+     */
+    public void draw(Matrix4 projection, List<Chunk> chunks, Map<Chunk, List<Glucose>> glucoses) {
+        if (cache == null) {
+            cache = graphicsProvider.createSpriteCache(CAPACITY);
+        }
+
+        // Build every cache before drawing any; a cache can't be defined between `begin` and `end`.
+        if (!buildAll(chunks, glucoses)) {
+            clear();
+            buildAll(chunks, glucoses);
+        }
+
+        // Unlike a sprite batch, a sprite cache leaves blending alone, and the last batch to end turned it off.
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        cache.setProjectionMatrix(projection);
+        cache.begin();
+        for (var chunk : chunks) {
+            var glucoseList = glucoses.get(chunk);
+            var chunkCache = chunkCaches.get(chunk);
+            // An emptied chunk's cache isn't rebuilt, so it still holds the eaten glucose.
+            if (chunkCache != null && glucoseList != null && !glucoseList.isEmpty()) {
+                cache.draw(chunkCache.cacheId);
+            }
+        }
+        cache.end();
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+    }
+
+    /**
+     * Build or rebuild the caches of the given chunks.
+     *
+     * @return false if some chunk didn't fit in the remaining space.
+     */
+    private boolean buildAll(List<Chunk> chunks, Map<Chunk, List<Glucose>> glucoses) {
+        boolean fits = true;
+        for (var chunk : chunks) {
+            var glucoseList = glucoses.get(chunk);
+            if (glucoseList != null && !glucoseList.isEmpty()) {
+                fits &= build(chunk, glucoseList);
+            }
+        }
+        return fits;
+    }
+
+    private boolean build(Chunk chunk, List<Glucose> glucoseList) {
+        var chunkCache = chunkCaches.get(chunk);
+        if (chunkCache != null && glucoseList.size() <= chunkCache.size) {
+            if (chunkCache.dirty) {
+                cache.beginCache(chunkCache.cacheId);
+                addAll(glucoseList);
+                cache.endCache();
+                chunkCache.dirty = false;
+                rebuildCount++;
+            }
+            return true;
+        }
+
+        // New chunk, or one that gained glucose since it was built: allocate fresh space.
+        if (used + glucoseList.size() > CAPACITY) {
+            return false;
+        }
+        cache.beginCache();
+        addAll(glucoseList);
+        chunkCaches.put(chunk, new ChunkCache(cache.endCache(), glucoseList.size()));
+        used += glucoseList.size();
+        rebuildCount++;
+        return true;
+    }
+
+    private void addAll(List<Glucose> glucoseList) {
+        for (var glucose : glucoseList) {
+            glucose.addTo(cache);
+        }
+    }
+
+    /**
+     * Drop every chunk's cache, reclaiming the space of despawned chunks.
+     * Visible chunks are rebuilt as they're drawn.
+     */
+    private void clear() {
+        cache.clear();
+        chunkCaches.clear();
+        used = 0;
+    }
+
+    /**
+     * Number of chunk caches built or rebuilt so far.
+     */
+    public int getRebuildCount() {
+        return rebuildCount;
+    }
+
+    public void dispose() {
+        if (cache != null) {
+            cache.dispose();
+            cache = null;
+        }
+        chunkCaches.clear();
+        used = 0;
+    }
+}
@@ -1,22 +1,29 @@
 package cellcorp.gameofcells.objects;
 
+import cellcorp.gameofcells.QualityGovernor;
 import cellcorp.gameofcells.providers.GraphicsProvider;
+import cellcorp.gameofcells.providers.RenderContext;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.utils.ScissorStack;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 
 import java.util.Collection;
-import java.util.List;
 
 /**
  * MinimapRenderer Class
  * <p>
  * Controls the Rendering by the minimap. Draws the minimap
  * based on the Glucose and zones in the chunk.
+ * Glucose are drawn from a density grid, uploaded as a single texture when it changes,
+ * so the cost of the minimap doesn't depend on the number of glucose.
  *
  * @author Brendon Vineyard / vineyabn207
  * @author Andrew Sennoga-Kimuli / sennogat106
@@ -26,7 +33,7 @@ import java.util.List;
  * @course CIS 405
  * @assignment GameOfCells
  */
-public class MinimapRenderer {
+public class MinimapRenderer implements QualityGovernor.Knob {
     // Chosen to roughly existing minimap size and location.
     private static final int VIEW_RECT_WIDTH = 1333;
     private static final int VIEW_RECT_HEIGHT = 800;
@@ -36,10 +43,29 @@ public class MinimapRenderer {
     private final float visibleWorldWidth = 2000f;
     private final float visibleWorldHeight = 2000f;
 
-    private ShapeRenderer shapeRenderer;
+    private final GraphicsProvider graphicsProvider;
+    private final RenderContext renderContext;
+    // Shared through the render context, so not disposed here.
+    private final ShapeRenderer shapeRenderer;
+    private final SpriteBatch batch;
     private final FitViewport viewport;
 
+    /**
+     * CPU-side copy of the glucose density texture, rewritten when the grid is dirty.
+     */
+    private Pixmap densityPixmap;
+    private Texture densityTexture;
+    /**
+     * Frames to wait between density uploads. Larger at lower quality tiers.
+     */
+    private int densityRefreshInterval = 1;
+    private int framesSinceDensityUpload = 0;
+
     public MinimapRenderer(GraphicsProvider graphicsProvider, float worldWidth, float worldHeight, float minimapWidth, float minimapHeight, OrthographicCamera camera) {
+        this.graphicsProvider = graphicsProvider;
+        this.renderContext = graphicsProvider.getRenderContext();
+        this.shapeRenderer = renderContext.getShapeRenderer();
+        this.batch = renderContext.getBatch();
         this.minimapWidth = minimapWidth;
         this.minimapHeight = minimapHeight;
         // Needed for `ScissorStack` clipping to work
@@ -47,16 +73,13 @@ public class MinimapRenderer {
     }
 
     // Renders the minimap
-    // Takes the screen width and height, player coordinates, and collections of acid zones, basic zones, and glucose objects
+    // Takes the screen width and height, player coordinates, collections of acid zones and basic zones, and the glucose density grid
     // The minimap is drawn at the bottom left corner of the screen with a margin
     // The player is represented by a white square in the center of the minimap
     public void render(float screenWidth, float screenHeight, float playerX, float playerY,
                        Collection<Zone> acidZones, Collection<Zone> basicZones,
-                       List<Glucose> glucoseList) {
-        if (shapeRenderer == null) {
-            shapeRenderer = new ShapeRenderer();
-        }
-
+                       GlucoseDensityGrid densityGrid) {
+        renderContext.push();
         float x = margin;
         float y = margin;
 
@@ -84,12 +107,12 @@ public class MinimapRenderer {
             shapeRenderer.setColor(0.3f, 0.6f, 1f, 0.6f);
             drawZoneRelative(zone.x(), zone.y(), zone.getZoneRadius(), x, y, playerX, playerY);
         }
+        shapeRenderer.end();
+
         // Glucose
-        for (Glucose glucose : glucoseList) {
-            shapeRenderer.setColor(1f, 1f, 0.3f, 0.6f);
-            drawRelativeObject(glucose.getX(), glucose.getY(), 2f, x, y, playerX, playerY);
-        }
+        drawDensity(densityGrid, x, y, playerX, playerY);
 
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
         // Player (centered)
         shapeRenderer.setColor(1f, 1f, 1f, 1f);
         shapeRenderer.rect(
@@ -100,25 +123,90 @@ public class MinimapRenderer {
 
         shapeRenderer.end();
         Gdx.gl.glDisable(GL20.GL_BLEND);
+        renderContext.pop();
     }
 
-    // Draws a relative object on the minimap
-    // Takes the world coordinates of the object and converts them to minimap coordinates
-    // The object is drawn at the specified offset from the minimap center
-    // The player coordinates are used to determine the relative position of the object
-    private void drawRelativeObject(float worldX, float worldY, float size, float offsetX, float offsetY, float playerX, float playerY) {
-        float dx = worldX - playerX;
-        float dy = worldY - playerY;
+    // Draws the glucose density layer on the minimap
+    // Uploads the density grid to its texture if it changed, then draws the part of it
+    // covering the visible world window as a single quad, tinted glucose-yellow
+    private void drawDensity(GlucoseDensityGrid densityGrid, float offsetX, float offsetY, float playerX, float playerY) {
+        if (densityGrid.getAnchor() == null) {
+            return;
+        }
+        if (densityTexture == null) {
+            densityPixmap = graphicsProvider.createPixmap(
+                GlucoseDensityGrid.GRID_SIZE, GlucoseDensityGrid.GRID_SIZE, Pixmap.Format.RGBA8888);
+            // Every upload rewrites each pixel, so a cell that lost glucose has to get dimmer, not blend over its old value.
+            densityPixmap.setBlending(Pixmap.Blending.None);
+            densityTexture = graphicsProvider.createTexture(
+                GlucoseDensityGrid.GRID_SIZE, GlucoseDensityGrid.GRID_SIZE, Pixmap.Format.RGBA8888);
+            densityTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        }
+        framesSinceDensityUpload++;
+        if (densityGrid.isDirty() && framesSinceDensityUpload >= densityRefreshInterval) {
+            uploadDensity(densityGrid);
+            densityGrid.clearDirty();
+            framesSinceDensityUpload = 0;
+        }
 
-        if (Math.abs(dx) > visibleWorldWidth / 2f || Math.abs(dy) > visibleWorldHeight / 2f) return;
+        // The player is always inside the grid's center chunk, so the visible window never leaves the grid.
+        // Pixmap rows run top to bottom, so `v` is flipped relative to world y.
+        float u = (playerX - visibleWorldWidth / 2f - densityGrid.getOriginX()) / GlucoseDensityGrid.AREA_LENGTH;
+        float u2 = (playerX + visibleWorldWidth / 2f - densityGrid.getOriginX()) / GlucoseDensityGrid.AREA_LENGTH;
+        float v = 1f - (playerY - visibleWorldHeight / 2f - densityGrid.getOriginY()) / GlucoseDensityGrid.AREA_LENGTH;
+        float v2 = 1f - (playerY + visibleWorldHeight / 2f - densityGrid.getOriginY()) / GlucoseDensityGrid.AREA_LENGTH;
+
+        batch.setProjectionMatrix(viewport.getCamera().combined);
+        batch.begin();
+        batch.setColor(1f, 1f, 0.3f, 0.8f);
+        batch.draw(densityTexture, offsetX, offsetY, minimapWidth, minimapHeight, u, v, u2, v2);
+        batch.setColor(Color.WHITE);
+        batch.end();
+    }
 
-        float relX = (dx / visibleWorldWidth) * minimapWidth;
-        float relY = (dy / visibleWorldHeight) * minimapHeight;
+    // Writes the density grid into the pixmap as white pixels whose alpha is the glucose count,
+    // then uploads it to the texture
+    private void uploadDensity(GlucoseDensityGrid densityGrid) {
+        int size = GlucoseDensityGrid.GRID_SIZE;
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                // A single glucose should be clearly visible, a handful saturates the cell.
+                float alpha = Math.min(1f, densityGrid.getCount(row, col) * 0.5f);
+                densityPixmap.drawPixel(col, size - 1 - row, Color.rgba8888(1f, 1f, 1f, alpha));
+            }
+        }
+        densityTexture.draw(densityPixmap, 0, 0);
+    }
 
-        float drawX = offsetX + minimapWidth / 2f + relX;
-        float drawY = offsetY + minimapHeight / 2f + relY;
+    /**
+     * Refresh the glucose density less often at lower quality tiers.
+     */
+    @Override
+    public void setQualityTier(QualityGovernor.Tier tier) {
+        switch (tier) {
+            case LOW:
+                densityRefreshInterval = 15;
+                break;
+            case MEDIUM:
+                densityRefreshInterval = 5;
+                break;
+            case HIGH:
+            default:
+                densityRefreshInterval = 1;
+                break;
+        }
+    }
 
-        shapeRenderer.circle(drawX, drawY, size);
+    /**
+     * Dispose of the minimap's graphics resources.
+     */
+    public void dispose() {
+        if (densityPixmap != null) {
+            densityPixmap.dispose();
+        }
+        if (densityTexture != null) {
+            densityTexture.dispose();
+        }
     }
 
     // Draws a zone on the minimap
@@ -0,0 +1,80 @@
+package cellcorp.gameofcells.objects;
+
+import com.badlogic.gdx.graphics.Color;
+
+/**
+ * ParticleEmitter Class
+ * <p>
+ * Describes a field of ambient particles: how many there are, how big, how fast, which way they drift,
+ * and what color they are. The {@link ParticleSystem} allocates one {@link Particles} layer per emitter,
+ * so every screen using the same emitter shares the same particles.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public class ParticleEmitter {
+    /**
+     * Light blue specks falling behind the menus.
+     */
+    public static final ParticleEmitter MENU_DUST = new ParticleEmitter(
+        "menuDust", 100,
+        1f, 3f,
+        6f, 36f,
+        0f, -1f,
+        new Color(0.5f, 0.5f, 0.8f, 0.5f)
+    );
+
+    /**
+     * Faint particulate drifting through the fluid around the cell.
+     */
+    public static final ParticleEmitter WORLD_PARTICULATE = new ParticleEmitter(
+        "worldParticulate", 3000,
+        2f, 5f,
+        4f, 20f,
+        0.6f, 0.8f,
+        new Color(0.7f, 0.8f, 1f, 0.12f)
+    );
+
+    public final String name;
+    public final int count;
+    public final float minSize;
+    public final float maxSize;
+    public final float minSpeed; // Units per second
+    public final float maxSpeed; // Units per second
+    public final float directionX; // Drift direction, normalized on construction
+    public final float directionY;
+    public final float packedColor;
+
+    /**
+     * @param name       Name, used as the quality knob name
+     * @param count      Number of particles at full quality
+     * @param minSize    Smallest particle side length
+     * @param maxSize    Largest particle side length
+     * @param minSpeed   Slowest drift speed, in units per second
+     * @param maxSpeed   Fastest drift speed, in units per second
+     * @param directionX Drift direction
+     * @param directionY Drift direction
+     * @param color      Color of every particle
+     */
+    public ParticleEmitter(String name, int count,
+                           float minSize, float maxSize,
+                           float minSpeed, float maxSpeed,
+                           float directionX, float directionY,
+                           Color color) {
+        this.name = name;
+        this.count = count;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.minSpeed = minSpeed;
+        this.maxSpeed = maxSpeed;
+        float length = (float) Math.sqrt(directionX * directionX + directionY * directionY);
+        this.directionX = length == 0 ? 0 : directionX / length;
+        this.directionY = length == 0 ? 0 : directionY / length;
+        this.packedColor = color.toFloatBits();
+    }
+}
@@ -0,0 +1,195 @@
+package cellcorp.gameofcells.objects;
+
+import cellcorp.gameofcells.providers.GraphicsProvider;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * ParticleSystem Class
+ * <p>
+ * One pool of ambient particles, shared by every screen.
+ * Particle state is kept in flat arrays (structure of arrays), not one object per particle,
+ * so updating touches a few contiguous arrays, and tens of thousands of particles cost no allocation.
+ * Each {@link ParticleEmitter} gets its own contiguous range of the pool, wrapped in a {@link Particles} layer.
+ * Layers are created once and kept, so particles carry on across screen transitions.
+ * <p>
+ * Particles are drawn as raw vertices with their color baked into each vertex,
+ * using the UI skin's shared white pixel, so a whole layer is one `batch.draw` call with no color changes.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public class ParticleSystem {
+    public static final int DEFAULT_CAPACITY = 32768;
+    // x, y, color, u, v for each of a quad's four corners. Matches SpriteBatch's vertex layout.
+    private static final int VERTICES_PER_PARTICLE = 20;
+
+    private final GraphicsProvider graphicsProvider;
+    private final RandomXS128 random = SpawnManager.isRandomSeedFixed()
+        ? new RandomXS128(SpawnManager.getRandomSeed()) : new RandomXS128();
+    private final int capacity;
+    private int allocated = 0;
+
+    // Particle state, indexed by particle
+    final float[] positionX;
+    final float[] positionY;
+    final float[] velocityX;
+    final float[] velocityY;
+    final float[] size;
+    final float[] color;
+
+    private final ObjectMap<ParticleEmitter, Particles> layers = new ObjectMap<>();
+    private float[] vertices = new float[0]; // Scratch buffer for drawing, grown on demand
+    private TextureRegion region;
+
+    public ParticleSystem(GraphicsProvider graphicsProvider) {
+        this(graphicsProvider, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity Maximum number of particles across every layer
+     */
+    public ParticleSystem(GraphicsProvider graphicsProvider, int capacity) {
+        this.graphicsProvider = graphicsProvider;
+        this.capacity = capacity;
+        positionX = new float[capacity];
+        positionY = new float[capacity];
+        velocityX = new float[capacity];
+        velocityY = new float[capacity];
+        size = new float[capacity];
+        color = new float[capacity];
+    }
+
+    /**
+     * Get the layer for the given emitter, allocating it from the pool the first time.
+     *
+     * @throws IllegalStateException If the pool doesn't have room for the emitter's particles.
+     */
+    public Particles getLayer(ParticleEmitter emitter) {
+        var layer = layers.get(emitter);
+        if (layer == null) {
+            if (allocated + emitter.count > capacity) {
+                throw new IllegalStateException("Particle pool is full, can't allocate " + emitter.count
+                    + " particles for " + emitter.name);
+            }
+            layer = new Particles(this, emitter, allocated);
+            allocated += emitter.count;
+            layers.put(emitter, layer);
+        }
+        return layer;
+    }
+
+    /**
+     * Scatter a layer's particles over the given area, with random sizes and speeds.
+     */
+    void spawn(Particles layer, float minX, float minY, float width, float height) {
+        var emitter = layer.getEmitter();
+        int end = layer.getStart() + emitter.count;
+        for (int i = layer.getStart(); i < end; i++) {
+            positionX[i] = minX + random.nextFloat() * width;
+            positionY[i] = minY + random.nextFloat() * height;
+            float speed = emitter.minSpeed + random.nextFloat() * (emitter.maxSpeed - emitter.minSpeed);
+            velocityX[i] = emitter.directionX * speed;
+            velocityY[i] = emitter.directionY * speed;
+            size[i] = emitter.minSize + random.nextFloat() * (emitter.maxSize - emitter.minSize);
+            color[i] = emitter.packedColor;
+        }
+    }
+
+    /**
+     * Move a layer's active particles, wrapping them around the given area,
+     * so the area is always evenly covered however far it moves.
+     */
+    void update(Particles layer, float deltaTimeSeconds, float minX, float minY, float width, float height) {
+        int end = layer.getStart() + layer.getActiveCount();
+        for (int i = layer.getStart(); i < end; i++) {
+            float x = (positionX[i] + velocityX[i] * deltaTimeSeconds - minX) % width;
+            float y = (positionY[i] + velocityY[i] * deltaTimeSeconds - minY) % height;
+            positionX[i] = minX + (x < 0 ? x + width : x);
+            positionY[i] = minY + (y < 0 ? y + height : y);
+        }
+    }
+
+    /**
+     * Draw a layer's active particles in a single call. `batch` must already have begun.
+     */
+    void draw(Particles layer, Batch batch) {
+        int start = layer.getStart();
+        int count = layer.getActiveCount();
+        if (count == 0) {
+            return;
+        }
+        if (vertices.length < count * VERTICES_PER_PARTICLE) {
+            vertices = new float[count * VERTICES_PER_PARTICLE];
+        }
+
+        var region = getRegion();
+        float u = region.getU();
+        float v = region.getV();
+        float u2 = region.getU2();
+        float v2 = region.getV2();
+
+        int index = 0;
+        for (int i = start; i < start + count; i++) {
+            float x = positionX[i];
+            float y = positionY[i];
+            float x2 = x + size[i];
+            float y2 = y + size[i];
+            float c = color[i];
+
+            vertices[index++] = x;
+            vertices[index++] = y;
+            vertices[index++] = c;
+            vertices[index++] = u;
+            vertices[index++] = v2;
+
+            vertices[index++] = x;
+            vertices[index++] = y2;
+            vertices[index++] = c;
+            vertices[index++] = u;
+            vertices[index++] = v;
+
+            vertices[index++] = x2;
+            vertices[index++] = y2;
+            vertices[index++] = c;
+            vertices[index++] = u2;
+            vertices[index++] = v;
+
+            vertices[index++] = x2;
+            vertices[index++] = y;
+            vertices[index++] = c;
+            vertices[index++] = u2;
+            vertices[index++] = v2;
+        }
+        batch.draw(region.getTexture(), vertices, 0, index);
+    }
+
+    /**
+     * Get the region every particle is drawn with. Owned by the UI skin.
+     */
+    public TextureRegion getRegion() {
+        // Resolved lazily, since the skin's textures need a GL context.
+        if (region == null) {
+            region = graphicsProvider.getUiSkin().getWhitePixel();
+        }
+        return region;
+    }
+
+    /**
+     * Get the number of particles allocated to layers so far.
+     */
+    public int getAllocatedCount() {
+        return allocated;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
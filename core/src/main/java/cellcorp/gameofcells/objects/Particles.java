@@ -1,15 +1,15 @@
 package cellcorp.gameofcells.objects;
 
+import cellcorp.gameofcells.QualityGovernor;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.utils.Array;
-
-import java.util.Random;
+import com.badlogic.gdx.graphics.g2d.Batch;
 
 /**
  * Particles Class
  * <p>
- * Controls the Rendering of the Particles displayed on the screen
+ * One emitter's layer of the shared {@link ParticleSystem}.
+ * Get it from `ParticleSystem.getLayer`; every screen asking for the same emitter gets the same layer,
+ * so the particles don't restart when the screen changes.
  *
  * @author Brendon Vineyard / vineyabn207
  * @author Andrew Sennoga-Kimuli / sennogat106
@@ -20,71 +20,78 @@ import java.util.Random;
  * @assignment GameOfCells
  */
 
-public class Particles {
-    private static final int NUM_PARTICLES = 100; // Number of particles
-    private final Array<Particle> particles;
-    private final Texture whitePixelTexture;
-    private final Random random;
-
-    public Particles(Texture whitePixelTexture) {
-        this.whitePixelTexture = whitePixelTexture;
-        this.random = new Random();
-        this.particles = new Array<>();
-
-        // Initialize particles
-        for (int i = 0; i < NUM_PARTICLES; i++) {
-            particles.add(new Particle(
-                random.nextFloat() * 1200, // Random x position (adjust to your screen width)
-                random.nextFloat() * 800,  // Random y position (adjust to your screen height)
-                random.nextFloat() * 2 + 1, // Random size between 1 and 3
-                random.nextFloat() * 0.5f + 0.1f, // Random speed between 0.1 and 0.6
-                whitePixelTexture // Pass the white pixel texture to the particle
-            ));
-        }
+public class Particles implements QualityGovernor.Knob {
+    /**
+     * Name the menu screens register their particles under with the quality governor.
+     * The menus share one layer, so re-registering it from each screen is harmless.
+     * Each menu unregisters it on hide, not dispose, since a screen is disposed after the next one has shown,
+     * and the next menu may have registered the same layer again by then.
+     */
+    public static final String QUALITY_KNOB = "menuParticles";
+    private static final float MEDIUM_QUALITY_FRACTION = 0.5f; // Fraction of particles shown at medium quality
+    private static final float LOW_QUALITY_FRACTION = 0.2f; // Fraction of particles shown at low quality
+
+    private final ParticleSystem system;
+    private final ParticleEmitter emitter;
+    private final int start; // Index of this layer's first particle in the pool
+    private int activeCount; // Only the first `activeCount` particles are updated and drawn
+    private boolean spawned = false;
+
+    Particles(ParticleSystem system, ParticleEmitter emitter, int start) {
+        this.system = system;
+        this.emitter = emitter;
+        this.start = start;
+        this.activeCount = emitter.count;
     }
 
+    /**
+     * Move the particles, wrapping them around the area from (0, 0) to (`worldWidth`, `worldHeight`).
+     */
     public void update(float delta, float worldWidth, float worldHeight) {
-        for (Particle particle : particles) {
-            particle.update(delta, worldWidth, worldHeight);
-        }
+        update(delta, 0, 0, worldWidth, worldHeight);
     }
 
-    public void draw(SpriteBatch batch) {
-        for (Particle particle : particles) {
-            particle.draw(batch);
+    /**
+     * Move the particles, wrapping them around the given area.
+     * The first call scatters them over the area.
+     */
+    public void update(float delta, float minX, float minY, float width, float height) {
+        if (width <= 0 || height <= 0) {
+            return;
         }
-    }
-
-    public void dispose() {
-        whitePixelTexture.dispose();
-    }
-
-    // Inner class for individual particles
-    private static class Particle {
-        private float x, y;
-        private final float size;
-        private final float speed;
-        private final Texture texture;
-
-        public Particle(float x, float y, float size, float speed, Texture texture) {
-            this.x = x;
-            this.y = y;
-            this.size = size;
-            this.speed = speed;
-            this.texture = texture;
+        if (!spawned) {
+            system.spawn(this, minX, minY, width, height);
+            spawned = true;
         }
+        system.update(this, delta, minX, minY, width, height);
+    }
 
-        public void update(float delta, float worldWidth, float worldHeight) {
-            y -= speed; // Move particles downward
-            if (y < 0) { // Reset particle position if it goes off-screen
-                y = worldHeight;
-                x = (float) Math.random() * worldWidth;
-            }
+    /**
+     * Draw the particles. `batch` must already have begun.
+     */
+    public void draw(Batch batch) {
+        if (!spawned) {
+            return;
         }
+        system.draw(this, batch);
+    }
 
-        public void draw(SpriteBatch batch) {
-            batch.setColor(0.5f, 0.5f, 0.8f, 0.5f); // Light blue with transparency
-            batch.draw(texture, x, y, size, size); // Draw the particle
+    /**
+     * Show fewer particles at lower quality tiers.
+     */
+    @Override
+    public void setQualityTier(QualityGovernor.Tier tier) {
+        switch (tier) {
+            case LOW:
+                activeCount = (int) (emitter.count * LOW_QUALITY_FRACTION);
+                break;
+            case MEDIUM:
+                activeCount = (int) (emitter.count * MEDIUM_QUALITY_FRACTION);
+                break;
+            case HIGH:
+            default:
+                activeCount = emitter.count;
+                break;
         }
     }
 
@@ -94,24 +101,45 @@ public class Particles {
      * @return true if particles are active, false otherwise
      */
     public boolean isActive() {
-        return !particles.isEmpty();
+        return activeCount > 0;
     }
 
     /**
      * Get the white pixel texture.
      *
-     * @return The white pixel texture used for rendering particles.
+     * @return The shared white pixel texture used for rendering particles.
      */
     public Texture getWhitePixelTexture() {
-        return whitePixelTexture;
+        return system.getRegion().getTexture();
     }
 
     /**
      * Get the number of particles.
      *
-     * @return The number of particles in the system.
+     * @return The number of particles in the layer.
      */
     public int getParticleCount() {
-        return particles.size;
+        return emitter.count;
+    }
+
+    /**
+     * Get the number of particles currently updated and drawn.
+     *
+     * @return The number of active particles, which depends on the quality tier.
+     */
+    public int getActiveParticleCount() {
+        return activeCount;
+    }
+
+    ParticleEmitter getEmitter() {
+        return emitter;
+    }
+
+    int getStart() {
+        return start;
+    }
+
+    int getActiveCount() {
+        return activeCount;
     }
 }
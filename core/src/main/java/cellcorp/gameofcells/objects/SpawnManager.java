@@ -14,7 +14,11 @@ package cellcorp.gameofcells.objects;
  */
 public class SpawnManager {
 
-    public static final long RANDOM_SEED = System.nanoTime();
+    /**
+     * Seeds the world's random generators. Random per launch, unless a benchmark fixes it.
+     */
+    private static long randomSeed = System.nanoTime();
+    private static boolean randomSeedFixed = false;
 
     /**
      * SpawnManager spawns in a `SPAWN_CHUNK_RANGE` x `SPAWN_CHUNK_RANGE` grid around the cell position.
@@ -38,6 +42,31 @@ public class SpawnManager {
         this.glucoseManager = glucoseManager;
     }
 
+    /**
+     * @return The seed for the world's random generators.
+     */
+    public static long getRandomSeed() {
+        return randomSeed;
+    }
+
+    /**
+     * Fix the seed for the world's random generators, so every run spawns the same world.
+     * Only affects generators created afterward.
+     */
+    public static void setRandomSeed(long seed) {
+        randomSeed = seed;
+        randomSeedFixed = true;
+    }
+
+    /**
+     * Whether a benchmark or test fixed the seed with {@link #setRandomSeed(long)}.
+     * Per-game generators (glucose, particles, shake) only use the seed then.
+     * Otherwise they're unseeded, so each new game in a session plays out differently.
+     */
+    public static boolean isRandomSeedFixed() {
+        return randomSeedFixed;
+    }
+
     /**
      * Spawn and despawn chunks, if needed, based on the current cell position.
      */
@@ -0,0 +1,174 @@
+package cellcorp.gameofcells.objects;
+
+import cellcorp.gameofcells.QualityGovernor;
+import cellcorp.gameofcells.providers.GraphicsProvider;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.HdpiUtils;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.ScreenUtils;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+/**
+ * WorldRenderScaler Class
+ * <p>
+ * Draws the gameplay world into an offscreen framebuffer at a fraction of the viewport's resolution,
+ * then stretches it back over the viewport. Fill-rate-bound machines trade sharpness for frame rate,
+ * while the HUD, which is drawn after, stays at full resolution.
+ * <p>
+ * The configured scale is used at the highest quality tier. As a {@link QualityGovernor.Knob},
+ * each lower tier draws the world a step below it, so the governor's single frame-time loop decides
+ * when resolution drops, along with every other cosmetic effect.
+ * At a scale of 1, the world is drawn straight to the screen, and no framebuffer is created.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public class WorldRenderScaler implements QualityGovernor.Knob {
+    public static final float MIN_SCALE = 0.5f;
+    public static final float MAX_SCALE = 1f;
+    public static final float SCALE_STEP = 0.1f;
+    // How much lower the scale is for each tier below HIGH.
+    public static final float TIER_SCALE_DROP = 2 * SCALE_STEP;
+
+    private final GraphicsProvider graphicsProvider;
+    private final Color clearColor;
+
+    private float baseScale = MAX_SCALE; // Scale at the highest tier
+    private QualityGovernor.Tier tier = QualityGovernor.Tier.HIGH;
+    private float scale = MAX_SCALE;
+
+    private FrameBuffer frameBuffer;
+    private TextureRegion frameRegion;
+    private boolean active = false; // Whether the world is currently being drawn into the framebuffer
+
+    /**
+     * @param clearColor Color the framebuffer is cleared to (the screen clear color)
+     */
+    public WorldRenderScaler(GraphicsProvider graphicsProvider, Color clearColor) {
+        this.graphicsProvider = graphicsProvider;
+        this.clearColor = clearColor;
+    }
+
+    /**
+     * Get the current render scale, in [MIN_SCALE, MAX_SCALE], after lowering it for the quality tier.
+     */
+    public float getScale() {
+        return scale;
+    }
+
+    /**
+     * Get the scale used at the highest quality tier.
+     */
+    public float getBaseScale() {
+        return baseScale;
+    }
+
+    /**
+     * Set the scale used at the highest quality tier. Clamped to [MIN_SCALE, MAX_SCALE].
+     */
+    public void setScale(float scale) {
+        this.baseScale = MathUtils.clamp(scale, MIN_SCALE, MAX_SCALE);
+        updateScale();
+    }
+
+    /**
+     * Lower the scale a step for each tier below HIGH, but not below MIN_SCALE.
+     */
+    @Override
+    public void setQualityTier(QualityGovernor.Tier tier) {
+        this.tier = tier;
+        updateScale();
+    }
+
+    private void updateScale() {
+        scale = MathUtils.clamp(baseScale - tier.ordinal() * TIER_SCALE_DROP, MIN_SCALE, MAX_SCALE);
+    }
+
+    /**
+     * Start the world pass. If the scale is below 1, everything drawn until `end` goes into the framebuffer.
+     * Otherwise, this does nothing, and the world is drawn straight to the screen.
+     * The viewport must already be applied; draw calls should keep using the camera's projection.
+     */
+    public void begin(Viewport viewport) {
+        // Snap to the step size, so tiny differences don't recreate the framebuffer.
+        if (scale >= MAX_SCALE - SCALE_STEP / 2) {
+            active = false;
+            return;
+        }
+        int width = Math.max(1, Math.round(viewport.getScreenWidth() * scale));
+        int height = Math.max(1, Math.round(viewport.getScreenHeight() * scale));
+        ensureFrameBuffer(width, height);
+
+        // `begin` sets the GL viewport to the whole framebuffer.
+        frameBuffer.begin();
+        ScreenUtils.clear(clearColor);
+        active = true;
+    }
+
+    /**
+     * Finish the world pass, and stretch the framebuffer over the viewport's view rectangle.
+     * `batch` must not have begun, and must already use the camera's projection.
+     */
+    public void end(SpriteBatch batch, Camera camera, Viewport viewport) {
+        if (!active) {
+            return;
+        }
+        active = false;
+        frameBuffer.end();
+        // Restore the viewport's GL viewport without recomputing the camera.
+        HdpiUtils.glViewport(viewport.getScreenX(), viewport.getScreenY(),
+            viewport.getScreenWidth(), viewport.getScreenHeight());
+
+        batch.begin();
+        // Opaque, since the framebuffer was cleared to the background color.
+        batch.disableBlending();
+        batch.draw(
+            frameRegion,
+            camera.position.x - viewport.getWorldWidth() / 2,
+            camera.position.y - viewport.getWorldHeight() / 2,
+            viewport.getWorldWidth(),
+            viewport.getWorldHeight()
+        );
+        batch.enableBlending();
+        batch.end();
+    }
+
+    /**
+     * Create the framebuffer, or re-create it if the target size changed.
+     */
+    private void ensureFrameBuffer(int width, int height) {
+        if (frameBuffer != null && frameBuffer.getWidth() == width && frameBuffer.getHeight() == height) {
+            return;
+        }
+        disposeFrameBuffer();
+        frameBuffer = graphicsProvider.createFrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+        Texture texture = frameBuffer.getColorBufferTexture();
+        texture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        frameRegion = new TextureRegion(texture);
+        // Framebuffer textures are stored bottom-up.
+        frameRegion.flip(false, true);
+    }
+
+    private void disposeFrameBuffer() {
+        if (frameBuffer != null) {
+            frameBuffer.dispose();
+            frameBuffer = null;
+            frameRegion = null;
+        }
+    }
+
+    public void dispose() {
+        disposeFrameBuffer();
+    }
+}
@@ -1,9 +1,8 @@
 package cellcorp.gameofcells.objects;
 
 import cellcorp.gameofcells.screens.GamePlayScreen;
-import com.badlogic.gdx.assets.AssetManager;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 
 import java.util.Objects;
@@ -23,7 +22,7 @@ import java.util.Objects;
  */
 public final class Zone {
     public static final float ZONE_RADIUS = 800;
-    private static final float ZONE_TEXTURE_RADIUS = 1000;
+    static final float ZONE_TEXTURE_RADIUS = 1000;
     /**
      * Minimum distance required between zone centers to be "non-overlapping"
      */
@@ -31,15 +30,13 @@ public final class Zone {
     public static final float ACID_ZONE_MAX_DAMAGE_PER_SECOND = 10;
     public static final float ACID_ZONE_DAMAGE_INCREMENT_SECONDS = 0.5f;
 
-    private final AssetManager assetManager;
-    private final String texturePath;
+    private final TextureRegion texture;
 
     private final float x;
     private final float y;
 
-    public Zone(AssetManager assetManager, String texturePath, float x, float y) {
-        this.assetManager = assetManager;
-        this.texturePath = texturePath;
+    public Zone(TextureRegion texture, float x, float y) {
+        this.texture = texture;
         this.x = x;
         this.y = y;
     }
@@ -56,7 +53,6 @@ public final class Zone {
      * Draw the parts of the zone drawn with a spritebatch
      */
     public void draw(SpriteBatch spriteBatch) {
-        var texture = assetManager.get(texturePath, Texture.class);
         float bottomLeftX = x - ZONE_TEXTURE_RADIUS;
         float bottomLeftY = y - ZONE_TEXTURE_RADIUS;
         float diameter = ZONE_TEXTURE_RADIUS * 2;
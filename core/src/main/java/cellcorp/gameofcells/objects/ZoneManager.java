@@ -1,9 +1,9 @@
 package cellcorp.gameofcells.objects;
 
-import cellcorp.gameofcells.AssetFileNames;
+import cellcorp.gameofcells.SpriteRegions;
 import cellcorp.gameofcells.Util;
-import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Vector2;
 
@@ -35,7 +35,7 @@ public class ZoneManager {
     private static final double ACID_ZONE_SPAWN_CHANCE = 0.4;
     private static final double BASIC_ZONE_SPAWN_CHANCE = 0.4;
 
-    private final AssetManager assetManager;
+    private final SpriteRegions spriteRegions;
     private final Cell cell;
     private final RandomFromHash random;
 
@@ -48,10 +48,10 @@ public class ZoneManager {
     private float timer = 0f;
     private float damageCounter = 0f;
 
-    public ZoneManager(AssetManager assetManager, Cell cell) {
-        this.assetManager = assetManager;
+    public ZoneManager(SpriteRegions spriteRegions, Cell cell) {
+        this.spriteRegions = spriteRegions;
         this.cell = cell;
-        this.random = new RandomFromHash(SpawnManager.RANDOM_SEED);
+        this.random = new RandomFromHash(SpawnManager.getRandomSeed());
     }
 
     /**
@@ -132,18 +132,33 @@ public class ZoneManager {
 
 
     public void draw(SpriteBatch spriteBatch, ShapeRenderer shapeRenderer) {
-        drawZoneMap(basicZones, spriteBatch, shapeRenderer);
-        drawZoneMap(acidZones, spriteBatch, shapeRenderer);
+        drawTextures(spriteBatch);
+        drawDebug(shapeRenderer);
     }
 
-    private void drawZoneMap(Map<Chunk, Zone> zoneMap, SpriteBatch spriteBatch, ShapeRenderer shapeRenderer) {
+    /**
+     * Draw every zone's texture. Only used when the {@link ZoneRenderer} shader isn't available.
+     */
+    public void drawTextures(SpriteBatch spriteBatch) {
         spriteBatch.begin();
-        for (var zone : zoneMap.values()) {
+        for (var zone : basicZones.values()) {
+            zone.draw(spriteBatch);
+        }
+        for (var zone : acidZones.values()) {
             zone.draw(spriteBatch);
         }
         spriteBatch.end();
+    }
+
+    /**
+     * Draw the parts of the zones drawn with a shape renderer
+     */
+    public void drawDebug(ShapeRenderer shapeRenderer) {
         shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
-        for (var zone : zoneMap.values()) {
+        for (var zone : basicZones.values()) {
+            zone.draw(shapeRenderer);
+        }
+        for (var zone : acidZones.values()) {
             zone.draw(shapeRenderer);
         }
         shapeRenderer.end();
@@ -164,10 +179,10 @@ public class ZoneManager {
                 }
                 var chunk = new Chunk(row, col);
                 if (cell.hasSmallSizeUpgrade()) {
-                    spawnZone(acidZones, ACID_ZONE_SPAWN_CHANCE, AssetFileNames.ACID_ZONE, 2, chunk);
+                    spawnZone(acidZones, ACID_ZONE_SPAWN_CHANCE, spriteRegions.acidZone, 2, chunk);
                 }
 
-                spawnZone(basicZones, BASIC_ZONE_SPAWN_CHANCE, AssetFileNames.BASIC_ZONE, 3, chunk);
+                spawnZone(basicZones, BASIC_ZONE_SPAWN_CHANCE, spriteRegions.basicZone, 3, chunk);
             }
         }
     }
@@ -177,7 +192,7 @@ public class ZoneManager {
      * and spawns it.
      * Zones will not spawn too close to the center of other zones.
      */
-    public void spawnZone(Map<Chunk, Zone> zoneSet, double spawnChance, String texturePath, int seed, Chunk chunk) {
+    public void spawnZone(Map<Chunk, Zone> zoneSet, double spawnChance, TextureRegion texture, int seed, Chunk chunk) {
         if (zoneSet.containsKey(chunk)) {
             return;
         }
@@ -192,7 +207,7 @@ public class ZoneManager {
             while (true) {
                 var zonePlacement = placeZone(chunk, seed + seedOffset);
                 if (!overlapInSurroundingChunks(chunk, zonePlacement)) {
-                    zoneSet.put(chunk, new Zone(assetManager, texturePath, zonePlacement.x, zonePlacement.y));
+                    zoneSet.put(chunk, new Zone(texture, zonePlacement.x, zonePlacement.y));
                     return;
                 }
                 seedOffset += 1;
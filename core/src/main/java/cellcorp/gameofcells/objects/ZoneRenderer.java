@@ -0,0 +1,237 @@
+package cellcorp.gameofcells.objects;
+
+import cellcorp.gameofcells.QualityGovernor;
+import cellcorp.gameofcells.providers.GraphicsProvider;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+
+/**
+ * ZoneRenderer Class
+ * <p>
+ * Draws acid and basic zones as radial gradients from a shader, instead of stretching
+ * `acid_zone.png` and `basic_zone.png` over 2000x2000 world-unit quads.
+ * Every visible zone goes into one vertex array, so all of them are drawn in a single call,
+ * and nothing is sampled per pixel but a white pixel.
+ * <p>
+ * Each quad's texture coordinates are its position relative to the zone center, in [-1, 1],
+ * and its vertex color's alpha picks the palette: 0 for acid, 1 for basic.
+ * <p>
+ * If the shader fails to compile, `draw` returns false, and the caller should draw the zone textures instead.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public class ZoneRenderer implements QualityGovernor.Knob {
+    // Gradient stops, taken from `acid_zone.svg` and `basic_zone.svg`.
+    public static final Color ACID_CORE_COLOR = new Color(0xe82d89ff);
+    public static final Color ACID_RIM_COLOR = new Color(0xb549a8ff);
+    public static final float ACID_RIM_START = 0.686f;
+    public static final float ACID_RIM_ALPHA = 0.506f;
+    public static final Color BASIC_CORE_COLOR = new Color(0x2dafe8ff);
+    public static final Color BASIC_RIM_COLOR = new Color(0x495fb5ff);
+    public static final float BASIC_RIM_START = 0.812f;
+    public static final float BASIC_RIM_ALPHA = 0.565f;
+    /**
+     * Fraction of the radius the edge fades out over. Stands in for the blur filter on the source art.
+     */
+    public static final float EDGE_SOFTNESS = 0.15f;
+    // Slow ripples moving out from the center
+    private static final float PATTERN_STRENGTH = 0.06f;
+    private static final float PATTERN_FREQUENCY = 18f;
+    private static final float PATTERN_SPEED = 1.5f;
+
+    private static final int VERTEX_SIZE = 5; // x, y, packed color, u, v
+    private static final int QUAD_SIZE = 4 * VERTEX_SIZE;
+
+    private static final float ACID_PALETTE = Color.toFloatBits(1f, 1f, 1f, 0f);
+    private static final float BASIC_PALETTE = Color.toFloatBits(1f, 1f, 1f, 1f);
+
+    // GLSL ES 1.0, so the same source works on desktop and WebGL.
+    private static final String VERTEX_SHADER = ""
+        + "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+        + "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+        + "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+        + "uniform mat4 u_projTrans;\n"
+        + "varying vec2 v_local;\n"
+        + "varying float v_palette;\n"
+        + "void main() {\n"
+        + "    v_local = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+        + "    v_palette = step(0.5, " + ShaderProgram.COLOR_ATTRIBUTE + ".a);\n"
+        + "    gl_Position = u_projTrans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+        + "}\n";
+
+    // Each palette uniform holds (acid, basic) pairs, picked between with `v_palette`.
+    private static final String FRAGMENT_SHADER = ""
+        + "#ifdef GL_ES\n"
+        + "precision mediump float;\n"
+        + "#endif\n"
+        + "varying vec2 v_local;\n"
+        + "varying float v_palette;\n"
+        + "uniform sampler2D u_texture;\n" // White pixel, bound by the batch
+        + "uniform vec3 u_acidCore;\n"
+        + "uniform vec3 u_acidRim;\n"
+        + "uniform vec3 u_basicCore;\n"
+        + "uniform vec3 u_basicRim;\n"
+        + "uniform vec2 u_rimStart;\n"
+        + "uniform vec2 u_rimAlpha;\n"
+        + "uniform float u_edgeSoftness;\n"
+        + "uniform vec3 u_pattern;\n" // strength, frequency, speed
+        + "uniform float u_time;\n"
+        + "void main() {\n"
+        + "    float d = length(v_local);\n"
+        + "    vec3 core = mix(u_acidCore, u_basicCore, v_palette);\n"
+        + "    vec3 rim = mix(u_acidRim, u_basicRim, v_palette);\n"
+        + "    float rimStart = mix(u_rimStart.x, u_rimStart.y, v_palette);\n"
+        + "    float rimAlpha = mix(u_rimAlpha.x, u_rimAlpha.y, v_palette);\n"
+        + "    float t = clamp(d / rimStart, 0.0, 1.0);\n"
+        + "    vec3 color = mix(core, rim, t);\n"
+        + "    float alpha = mix(1.0, rimAlpha, clamp((d - rimStart) / (1.0 - rimStart), 0.0, 1.0));\n"
+        + "    alpha *= 1.0 - smoothstep(1.0 - u_edgeSoftness, 1.0, d);\n"
+        + "    color *= 1.0 + u_pattern.x * sin(d * u_pattern.y - u_time * u_pattern.z);\n"
+        + "    gl_FragColor = vec4(color, alpha) * texture2D(u_texture, vec2(0.5));\n"
+        + "}\n";
+
+    private final GraphicsProvider graphicsProvider;
+    private final Texture whitePixel;
+
+    private ShaderProgram shader;
+    private boolean shaderFailed = false;
+    private boolean patternEnabled = true;
+    private float[] vertices = new float[QUAD_SIZE * 16];
+    private int vertexCount = 0;
+
+    /**
+     * @param whitePixel Texture the batch binds while drawing. Only sampled once per pixel, to keep the batch happy.
+     */
+    public ZoneRenderer(GraphicsProvider graphicsProvider, Texture whitePixel) {
+        this.graphicsProvider = graphicsProvider;
+        this.whitePixel = whitePixel;
+    }
+
+    /**
+     * Draw every zone overlapping the view rectangle centered at (`camX`, `camY`), in one call.
+     * Basic zones are drawn under acid zones, as before.
+     * `batch` must not have begun, and must already use the camera's projection.
+     *
+     * @param time Seconds since the screen started, for the animated pattern
+     * @return false if the shader isn't available, and nothing was drawn.
+     */
+    public boolean draw(SpriteBatch batch, Iterable<Zone> basicZones, Iterable<Zone> acidZones,
+                        float camX, float camY, float viewWidth, float viewHeight, float time) {
+        if (!ensureShader()) {
+            return false;
+        }
+
+        vertexCount = 0;
+        addVisible(basicZones, BASIC_PALETTE, camX, camY, viewWidth, viewHeight);
+        addVisible(acidZones, ACID_PALETTE, camX, camY, viewWidth, viewHeight);
+        if (vertexCount == 0) {
+            return true;
+        }
+
+        batch.setShader(shader);
+        batch.begin();
+        shader.setUniformf("u_acidCore", ACID_CORE_COLOR.r, ACID_CORE_COLOR.g, ACID_CORE_COLOR.b);
+        shader.setUniformf("u_acidRim", ACID_RIM_COLOR.r, ACID_RIM_COLOR.g, ACID_RIM_COLOR.b);
+        shader.setUniformf("u_basicCore", BASIC_CORE_COLOR.r, BASIC_CORE_COLOR.g, BASIC_CORE_COLOR.b);
+        shader.setUniformf("u_basicRim", BASIC_RIM_COLOR.r, BASIC_RIM_COLOR.g, BASIC_RIM_COLOR.b);
+        shader.setUniformf("u_rimStart", ACID_RIM_START, BASIC_RIM_START);
+        shader.setUniformf("u_rimAlpha", ACID_RIM_ALPHA, BASIC_RIM_ALPHA);
+        shader.setUniformf("u_edgeSoftness", EDGE_SOFTNESS);
+        shader.setUniformf("u_pattern", patternEnabled ? PATTERN_STRENGTH : 0f, PATTERN_FREQUENCY, PATTERN_SPEED);
+        shader.setUniformf("u_time", time);
+        batch.draw(whitePixel, vertices, 0, vertexCount);
+        batch.end();
+        batch.setShader(null);
+        return true;
+    }
+
+    /**
+     * Append a quad for each zone whose quad overlaps the view rectangle.
+     */
+    private void addVisible(Iterable<Zone> zones, float palette,
+                            float camX, float camY, float viewWidth, float viewHeight) {
+        float radius = Zone.ZONE_TEXTURE_RADIUS;
+        float reachX = viewWidth / 2 + radius;
+        float reachY = viewHeight / 2 + radius;
+        for (var zone : zones) {
+            if (Math.abs(zone.x() - camX) > reachX || Math.abs(zone.y() - camY) > reachY) {
+                continue;
+            }
+            if (vertexCount + QUAD_SIZE > vertices.length) {
+                var grown = new float[vertices.length * 2];
+                System.arraycopy(vertices, 0, grown, 0, vertexCount);
+                vertices = grown;
+            }
+            float x0 = zone.x() - radius;
+            float y0 = zone.y() - radius;
+            float x1 = zone.x() + radius;
+            float y1 = zone.y() + radius;
+            // Same corner order as SpriteBatch: bottom left, top left, top right, bottom right.
+            addVertex(x0, y0, palette, -1, -1);
+            addVertex(x0, y1, palette, -1, 1);
+            addVertex(x1, y1, palette, 1, 1);
+            addVertex(x1, y0, palette, 1, -1);
+        }
+    }
+
+    private void addVertex(float x, float y, float palette, float u, float v) {
+        vertices[vertexCount++] = x;
+        vertices[vertexCount++] = y;
+        vertices[vertexCount++] = palette;
+        vertices[vertexCount++] = u;
+        vertices[vertexCount++] = v;
+    }
+
+    /**
+     * Number of zones queued by the last `draw`.
+     */
+    public int getDrawnZoneCount() {
+        return vertexCount / QUAD_SIZE;
+    }
+
+    /**
+     * Only animate the zones at the highest quality tier.
+     */
+    @Override
+    public void setQualityTier(QualityGovernor.Tier tier) {
+        patternEnabled = tier == QualityGovernor.Tier.HIGH;
+    }
+
+    /**
+     * Compile the shader the first time it's needed.
+     *
+     * @return Whether the shader is usable.
+     */
+    private boolean ensureShader() {
+        if (shaderFailed) {
+            return false;
+        }
+        if (shader == null) {
+            shader = graphicsProvider.createShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+            if (!shader.isCompiled()) {
+                Gdx.app.error("ZoneRenderer", "Shader failed to compile, falling back to zone textures:\n" + shader.getLog());
+                shader.dispose();
+                shader = null;
+                shaderFailed = true;
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void dispose() {
+        if (shader != null) {
+            shader.dispose();
+            shader = null;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package cellcorp.gameofcells.providers;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ByteArray;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * CompiledConfig Class
+ * <p>
+ * Reads and writes a {@link ConfigSnapshot} as bytes, with every value already typed,
+ * so loading it is a straight copy with no text parsing.
+ * <p>
+ * The `compileConfig` Gradle task writes `config.bin` next to `config.txt`.
+ * The compiled file records a hash of the text it came from. If the player edits `config.txt`,
+ * the hash no longer matches, and {@link ConfigProvider} parses the text instead.
+ * <p>
+ * Doesn't use `java.io`, so it still compiles for the web build, which never reads compiled configs.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public final class CompiledConfig {
+    private static final int MAGIC = 0x474F4343; // "GOCC"
+    private static final int VERSION = 1;
+
+    private CompiledConfig() {
+    }
+
+    /**
+     * @return A hash of the config text's bytes, to tell whether a compiled config is out of date. FNV-1a.
+     */
+    public static int hash(byte[] source) {
+        int hash = 0x811C9DC5;
+        for (byte b : source) {
+            hash ^= b & 0xFF;
+            hash *= 0x01000193;
+        }
+        return hash;
+    }
+
+    /**
+     * Write a snapshot.
+     *
+     * @param snapshot   The parsed config.
+     * @param sourceHash {@link #hash} of the text it was parsed from.
+     */
+    public static byte[] encode(ConfigSnapshot snapshot, int sourceHash) {
+        var out = new ByteArray();
+        writeInt(out, MAGIC);
+        writeInt(out, VERSION);
+        writeInt(out, sourceHash);
+        writeInt(out, snapshot.size());
+        for (var entry : snapshot.entries()) {
+            var value = entry.value;
+            writeString(out, entry.key);
+            writeString(out, value.text);
+            out.add((byte) value.types);
+            writeInt(out, value.intValue);
+            writeInt(out, Float.floatToIntBits(value.floatValue));
+            writeInt(out, Float.floatToIntBits(value.vectorX));
+            writeInt(out, Float.floatToIntBits(value.vectorY));
+        }
+        return out.toArray();
+    }
+
+    /**
+     * Read a snapshot.
+     *
+     * @param compiled   The compiled config.
+     * @param sourceHash {@link #hash} of the current config text.
+     * @return The snapshot, or null if it was compiled from different text, or isn't a compiled config.
+     */
+    public static ConfigSnapshot decode(byte[] compiled, int sourceHash) {
+        var in = new Reader(compiled);
+        if (compiled.length < 16 || in.readInt() != MAGIC || in.readInt() != VERSION || in.readInt() != sourceHash) {
+            return null;
+        }
+        int size = in.readInt();
+        var values = new ObjectMap<String, ConfigValue>();
+        try {
+            for (int i = 0; i < size; i++) {
+                String key = in.readString();
+                String text = in.readString();
+                int types = in.readByte();
+                int intValue = in.readInt();
+                float floatValue = Float.intBitsToFloat(in.readInt());
+                float vectorX = Float.intBitsToFloat(in.readInt());
+                float vectorY = Float.intBitsToFloat(in.readInt());
+                values.put(key, new ConfigValue(text, types, intValue, floatValue, vectorX, vectorY));
+            }
+        } catch (ArrayIndexOutOfBoundsException | NegativeArraySizeException e) {
+            return null; // Truncated or corrupt
+        }
+        return new ConfigSnapshot(values, new Array<>());
+    }
+
+    private static void writeInt(ByteArray out, int value) {
+        out.add((byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value);
+    }
+
+    private static void writeString(ByteArray out, String value) {
+        writeInt(out, value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            out.add((byte) (c >>> 8), (byte) c);
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        private Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private int readByte() {
+            return bytes[position++] & 0xFF;
+        }
+
+        private int readInt() {
+            return readByte() << 24 | readByte() << 16 | readByte() << 8 | readByte();
+        }
+
+        private String readString() {
+            var chars = new char[readInt()];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = (char) (readByte() << 8 | readByte());
+            }
+            return new String(chars);
+        }
+    }
+}
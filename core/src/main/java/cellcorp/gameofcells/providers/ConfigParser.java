@@ -0,0 +1,199 @@
+package cellcorp.gameofcells.providers;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * ConfigParser Class
+ * <p>
+ * Parses TIML config text into a {@link ConfigSnapshot}, in one pass.
+ * See {@link ConfigProvider} for the format.
+ * <p>
+ * Walks the text by index, so each character is read once, and only keys and values are copied out.
+ * Problems, like a line without a `:`, are collected with their line numbers instead of being logged as they're found.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public final class ConfigParser {
+    private static final String DESCRIPTIONS_MARKER = "[descriptions]/";
+
+    private final String text;
+    private final int length;
+    private final ObjectMap<String, ConfigValue> values = new ObjectMap<>();
+    private final Array<String> problems = new Array<>();
+    private int position = 0;
+    private int lineNumber = 1;
+
+    private ConfigParser(String text) {
+        this.text = text;
+        this.length = text.length();
+    }
+
+    /**
+     * Parse config text.
+     *
+     * @param text The contents of a config file.
+     * @return Every value the text sets, and any problems found.
+     */
+    public static ConfigSnapshot parse(String text) {
+        var parser = new ConfigParser(text);
+        parser.parseAttributes();
+        parser.parseDescriptions();
+        return new ConfigSnapshot(parser.values, parser.problems);
+    }
+
+    /**
+     * Parses `key:value ##comment` lines, up to the `[descriptions]/` line.
+     */
+    private void parseAttributes() {
+        while (position < length) {
+            int lineEnd = text.indexOf('\n', position);
+            if (lineEnd < 0) {
+                lineEnd = length;
+            }
+            int start = skipSpaces(position, lineEnd);
+            if (text.startsWith(DESCRIPTIONS_MARKER, start)) {
+                nextLine(lineEnd);
+                return;
+            }
+
+            int end = trimEnd(start, indexOf('#', start, lineEnd));
+
+            // Blank lines, comments, and [groups] are for the user.
+            if (start < end && text.charAt(start) != '[') {
+                int colon = indexOf(':', start, end);
+                int valueStart = colon == end ? end : skipSpaces(colon + 1, end);
+                if (colon == end) {
+                    problem("expected key:value");
+                } else if (valueStart == end) {
+                    problem("missing value after ':'");
+                } else {
+                    put(start, colon, valueStart, end);
+                }
+            }
+            nextLine(lineEnd);
+        }
+    }
+
+    /**
+     * Parses `key:message/` entries. Messages end at the `/`, so they can span lines.
+     */
+    private void parseDescriptions() {
+        while (position < length) {
+            char c = text.charAt(position);
+            if (c == '\n') {
+                lineNumber++;
+                position++;
+                continue;
+            }
+            if (c == ' ' || c == '\t' || c == '\r') {
+                position++;
+                continue;
+            }
+            if (c == '#' || c == '[') {
+                // Comments and [groups] take up the rest of their line.
+                int lineEnd = text.indexOf('\n', position);
+                nextLine(lineEnd < 0 ? length : lineEnd);
+                continue;
+            }
+
+            int end = text.indexOf('/', position);
+            if (end < 0) {
+                end = length;
+                problem("message is missing its '/' line ender");
+            }
+            int colon = indexOf(':', position, end);
+            if (colon == end) {
+                problem("expected key:message/");
+            } else {
+                put(position, colon, colon + 1, end);
+            }
+            countLines(position, end);
+            position = end + 1;
+        }
+    }
+
+    private void put(int keyStart, int keyEnd, int valueStart, int valueEnd) {
+        String key = text.substring(keyStart, trimEnd(keyStart, keyEnd));
+        if (key.isEmpty()) {
+            problem("missing key before ':'");
+            return;
+        }
+        String value = unescape(text.substring(valueStart, valueEnd));
+        if (values.containsKey(key)) {
+            problem("'" + key + "' is set more than once, the last value is used");
+        }
+        values.put(key, ConfigValue.of(value));
+    }
+
+    /**
+     * Turns `\n` escapes into newlines, and drops carriage returns from Windows line endings.
+     */
+    private static String unescape(String value) {
+        if (value.indexOf('\\') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        var builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length() && value.charAt(i + 1) == 'n') {
+                builder.append('\n');
+                i++;
+            } else if (c != '\r') {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Like `String.indexOf`, but stops at `end`, so searches don't run past the current line or message.
+     *
+     * @return The index of the character, or `end` if it's not found.
+     */
+    private int indexOf(char c, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) == c) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private void nextLine(int lineEnd) {
+        position = lineEnd + 1;
+        lineNumber++;
+    }
+
+    private void countLines(int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) == '\n') {
+                lineNumber++;
+            }
+        }
+    }
+
+    private int skipSpaces(int start, int end) {
+        while (start < end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    private int trimEnd(int start, int end) {
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    private void problem(String message) {
+        problems.add("line " + lineNumber + ": " + message);
+    }
+}
@@ -6,7 +6,6 @@ import com.badlogic.gdx.Net;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.math.Vector2;
 
-import java.util.Arrays;
 import java.util.HashMap;
 
 /**
@@ -38,6 +37,10 @@ import java.util.HashMap;
  * <p>
  * variable:message/   <--- Don't forget the line ender on messages.
  * / - line ender allows for \n in our messages.
+ * <p>
+ * The file is parsed once, by {@link ConfigParser}, into a typed {@link ConfigSnapshot}.
+ * The getters below look values up, and never parse. On desktop, a `config.bin` compiled from the
+ * same text by the `compileConfig` Gradle task is loaded instead, skipping parsing entirely.
  *
  * @author Brendon Vineyard / vineyabn207
  * @author Andrew Sennoga-Kimuli / sennogat106
@@ -48,6 +51,7 @@ import java.util.HashMap;
  * @assignment GameOfCells
  */
 public class ConfigProvider {
+    private static final String LOG_TAG = "ConfigProvider";
 
     //Used for CSDEV
     private static final String CONFIG_URL = "http://cs.potsdam.edu/Classes/405/CellCorp/assets/config.txt";
@@ -62,8 +66,7 @@ public class ConfigProvider {
     // but GWT hates you and everyone else.
     // By default, this will be left pointing to csdev.
     // BE CAREFUL DO NOT BUILD WITH LOCAL HOST AND PUSH TO CSDEV!!
-    private static String descriptionString;
-    private HashMap<String, String> configData;
+    private volatile ConfigSnapshot snapshot = ConfigSnapshot.EMPTY; // Replaced whole, when the web build's config arrives
 
     /**
      * Config Provider Constructor
@@ -78,7 +81,6 @@ public class ConfigProvider {
      * never gets pushed to csdev accidentally.
      */
     public ConfigProvider() {
-        configData = new HashMap<>();
     }
 
     /**
@@ -119,14 +121,7 @@ public class ConfigProvider {
                     // accessed via your browsers developer tools.
                     Gdx.app.log("Config Debug", "RAWDATA \n" + fileString);
 
-                    //Ensures filesStrings can be parsed correctly.
-                    fileString = fileString.replace("\r\n", "\n");
-
-                    descriptionString = fileString;
-                    //For some reason this only works here, which means its also called separately in
-                    //load config local
-                    parseObjectAttributes();
-                    parseDescriptions();
+                    loadConfigText(fileString);
                 }
 
                 @Override
@@ -145,81 +140,43 @@ public class ConfigProvider {
     /**
      * Local Config Loader
      * <p>
-     * Loads user Config for parsing
+     * Loads user Config, from `config.bin` if it was compiled from the current `config.txt`,
+     * otherwise by parsing `config.txt`.
      */
     private void loadConfigLocal() {
         FileHandle file = Gdx.files.internal(AssetFileNames.USER_CONFIG);
+        FileHandle compiledFile = Gdx.files.internal(AssetFileNames.COMPILED_CONFIG);
+        if (compiledFile.exists()) {
+            var compiled = CompiledConfig.decode(compiledFile.readBytes(), CompiledConfig.hash(file.readBytes()));
+            if (compiled != null) {
+                snapshot = compiled;
+                return;
+            }
+            Gdx.app.log(LOG_TAG, AssetFileNames.COMPILED_CONFIG + " is out of date, parsing " + AssetFileNames.USER_CONFIG);
+        }
         fileString = file.readString();
-        descriptionString = fileString;
-        parseObjectAttributes();
-        parseDescriptions();
+        loadConfigText(fileString);
     }
 
     /**
-     * Object Parser
-     * <p>
-     * Parses objects above the [descriptions] logical grouping.
-     * <p>
-     * See above for more details.
+     * Parse config text, replacing any config loaded before.
+     * Problems in the text are logged together, and the lines without them still load.
+     *
+     * @param text - The contents of a config file.
      */
-    private void parseObjectAttributes() {
-        for (String line : fileString.split("\n", -1)) {
-            if (line.contains("[descriptions]/")) {
-                //Descriptions require different parsing, break loop.
-                break;
-            }
-            //This String mirrors the file string and current line is removed after each read.
-            // This avoids re-reading the line for description parsing.
-            descriptionString = descriptionString.substring(line.length() + 1);
-
-
-            //These are lines for the user - skip parsing.
-            if (line.startsWith("[") || line.startsWith("#") || line.isEmpty()) {
-                continue;
-            }
-
-            // Remove inline comments.
-            if (line.contains("#")) {
-                int trimIndex = line.indexOf("#");
-                line = line.substring(0, trimIndex);
-            }
-
-            line = line.trim();
-            String[] lineArray = line.split(":");
-            Gdx.app.log("parse1", Arrays.toString(lineArray));
-            if (lineArray.length >= 2) {
-                configData.put(lineArray[0], lineArray[1]);
-            }
-
+    public void loadConfigText(String text) {
+        snapshot = ConfigParser.parse(text);
+        var problems = snapshot.getProblems();
+        if (problems.notEmpty()) {
+            Gdx.app.error(LOG_TAG, problems.size + " problem(s) in the config file:\n" + problems.toString("\n"));
         }
     }
 
     /**
-     * Description Parser
-     * <p>
-     * Parses message descriptions after the [descriptions] logical grouper.
-     * Removing / at the end of the message descriptions.
+     * @return The values loaded from the config file.
      */
-    private void parseDescriptions() {
-        for (String line : descriptionString.split("/", -1)) {
-            //Handle windows CRLF
-            line = line.replace("\r\n", "\n");
-
-            //This should remove the \n after / was read, while leaving the others intact.
-            if (line.length() >= 2 && line.charAt(0) == '\n') {
-                line = line.substring(1);
-            }
-
-            //These are lines for the user - skip parsing.
-            if (line.startsWith("[") || line.startsWith("#") || line.startsWith(" ") || line.isEmpty()) {
-                continue;
-            }
-            String[] lineArray = line.split(":");
-            if (lineArray.length >= 2) {
-                lineArray[1] = lineArray[1].replace("/", "");
-                configData.put(lineArray[0], lineArray[1]);
-            }
-        }
+    public ConfigSnapshot getSnapshot() {
+        return snapshot;
     }
 
     /**
@@ -233,11 +190,14 @@ public class ConfigProvider {
      *                               to an Integer.
      */
     public int getIntValue(String key) throws NumberFormatException {
-        String value = configData.get(key);
+        ConfigValue value = snapshot.get(key);
         if (value == null) {
             throw new NumberFormatException("Value for key: " + key + "' is null!");
         }
-        return Integer.parseInt(value);
+        if (!value.isInt()) {
+            throw new NumberFormatException("Value for key: " + key + " is not an integer: " + value.text);
+        }
+        return value.intValue;
     }
 
     /**
@@ -251,13 +211,14 @@ public class ConfigProvider {
      *                               to a float.
      */
     public float getFloatValue(String key) throws NumberFormatException {
-        String value = configData.get(key);
-
+        ConfigValue value = snapshot.get(key);
         if (value == null) {
             throw new NumberFormatException("Value for key: " + key + "' is null!");
         }
-        int temp = Integer.parseInt(value);
-        return (float) temp;
+        if (!value.isFloat()) {
+            throw new NumberFormatException("Value for key: " + key + " is not a number: " + value.text);
+        }
+        return value.floatValue;
     }
 
     /**
@@ -270,11 +231,11 @@ public class ConfigProvider {
      * @throws NullPointerException - When the value is null.
      */
     public String getStringValue(String key) throws NullPointerException {
-        String value = configData.get(key);
+        ConfigValue value = snapshot.get(key);
         if (value == null) {
             throw new NullPointerException("Key: " + key + " null!");
         }
-        return value.replace("\\n", "\n");
+        return value.text;
     }
 
     /**
@@ -292,22 +253,21 @@ public class ConfigProvider {
      * Get a Vector corresponding to the given key, or returns the given default.
      */
     public Vector2 getVector2(String key) {
-        String possibleVector = this.getStringValue(key);
-        if (possibleVector == null) {
+        ConfigValue value = snapshot.get(key);
+        if (value == null) {
             throw new NullPointerException("Key: " + key + " null!");
         }
-        String[] valueArray = possibleVector.split(",");
-
-        try {
-            return new Vector2(Integer.parseInt(valueArray[0]), Integer.parseInt(valueArray[1]));
-        } catch (NumberFormatException e) {
+        if (!value.isVector()) {
             throw new IllegalArgumentException("Invalid vector format for key: " + key);
         }
+        return new Vector2(value.vectorX, value.vectorY);
     }
 
-
+    /**
+     * @return A copy of every loaded value, as text.
+     */
     public HashMap<String, String> getConfigData() {
-        return configData;
+        return snapshot.toMap();
     }
 
     /**
@@ -316,11 +276,8 @@ public class ConfigProvider {
      * Reads testing data.
      */
     public void loadDataForParsingTestDoNotUse() {
-        configData = new HashMap<>();
         FileHandle file = Gdx.files.internal(AssetFileNames.TEST_CONFIG);
         fileString = file.readString();
-        descriptionString = fileString;
-        parseObjectAttributes();
-        parseDescriptions();
+        loadConfigText(fileString);
     }
 }
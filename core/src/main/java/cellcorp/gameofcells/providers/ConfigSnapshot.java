@@ -0,0 +1,79 @@
+package cellcorp.gameofcells.providers;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+import java.util.HashMap;
+
+/**
+ * ConfigSnapshot Class
+ * <p>
+ * Every value from one load of the config file, already typed. Never changes once built,
+ * so it can be shared, and swapped in whole when the web build's config arrives.
+ * <p>
+ * Built by {@link ConfigParser} from the config text, or by {@link CompiledConfig} from a precompiled file.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public final class ConfigSnapshot {
+    /**
+     * Used before a config file is loaded. Every lookup misses.
+     */
+    public static final ConfigSnapshot EMPTY = new ConfigSnapshot(new ObjectMap<>(), new Array<>());
+
+    private final ObjectMap<String, ConfigValue> values;
+    private final Array<String> problems;
+
+    /**
+     * Takes ownership of both collections. Callers must not change them afterward.
+     */
+    ConfigSnapshot(ObjectMap<String, ConfigValue> values, Array<String> problems) {
+        this.values = values;
+        this.problems = problems;
+    }
+
+    /**
+     * @return The value for the key, or null if the config doesn't set it.
+     */
+    public ConfigValue get(String key) {
+        return values.get(key);
+    }
+
+    /**
+     * @return Number of keys set.
+     */
+    public int size() {
+        return values.size;
+    }
+
+    /**
+     * For {@link CompiledConfig}, which writes every entry.
+     */
+    ObjectMap.Entries<String, ConfigValue> entries() {
+        return new ObjectMap.Entries<>(values);
+    }
+
+    /**
+     * @return Problems found while parsing, each starting with its line number. Empty if the file was valid.
+     */
+    public Array<String> getProblems() {
+        return new Array<>(problems);
+    }
+
+    /**
+     * @return A copy of every value, as text.
+     */
+    public HashMap<String, String> toMap() {
+        var map = new HashMap<String, String>();
+        for (var entry : entries()) {
+            map.put(entry.key, entry.value.text);
+        }
+        return map;
+    }
+}
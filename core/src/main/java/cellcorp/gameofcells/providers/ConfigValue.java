@@ -0,0 +1,112 @@
+package cellcorp.gameofcells.providers;
+
+/**
+ * ConfigValue Class
+ * <p>
+ * One value from the config file, typed once when the file is loaded,
+ * so the getters in {@link ConfigProvider} never parse text.
+ * <p>
+ * A value is kept as text, and also as a number or a vector if it reads as one.
+ * `100` is an int and a float, `0.05` is only a float, and `20,5` is a vector.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public final class ConfigValue {
+    static final int INT = 1;
+    static final int FLOAT = 2;
+    static final int VECTOR = 4;
+
+    /**
+     * The value as written, with `\n` escapes already turned into newlines.
+     */
+    public final String text;
+    /**
+     * Which of the typed fields below are set. A combination of {@link #INT}, {@link #FLOAT}, and {@link #VECTOR}.
+     */
+    final int types;
+    public final int intValue;
+    public final float floatValue;
+    public final float vectorX;
+    public final float vectorY;
+
+    ConfigValue(String text, int types, int intValue, float floatValue, float vectorX, float vectorY) {
+        this.text = text;
+        this.types = types;
+        this.intValue = intValue;
+        this.floatValue = floatValue;
+        this.vectorX = vectorX;
+        this.vectorY = vectorY;
+    }
+
+    /**
+     * Type a value from the config file.
+     */
+    static ConfigValue of(String text) {
+        int types = 0;
+        int intValue = 0;
+        float floatValue = 0;
+        float vectorX = 0;
+        float vectorY = 0;
+
+        int length = text.length();
+        int comma = text.indexOf(',');
+        if (isNumber(text, 0, length, false)) {
+            try {
+                intValue = Integer.parseInt(text);
+                types |= INT;
+            } catch (NumberFormatException e) {
+                // Too large for an int. Still a float.
+            }
+            floatValue = Float.parseFloat(text);
+            types |= FLOAT;
+        } else if (isNumber(text, 0, length, true)) {
+            floatValue = Float.parseFloat(text);
+            types |= FLOAT;
+        } else if (comma > 0 && isNumber(text, 0, comma, false) && isNumber(text, comma + 1, length, false)) {
+            vectorX = Float.parseFloat(text.substring(0, comma));
+            vectorY = Float.parseFloat(text.substring(comma + 1));
+            types |= VECTOR;
+        }
+        return new ConfigValue(text, types, intValue, floatValue, vectorX, vectorY);
+    }
+
+    /**
+     * @return Whether `text[start, end)` is a decimal number, like `-12` or `0.05`.
+     */
+    private static boolean isNumber(String text, int start, int end, boolean allowPoint) {
+        if (start < end && (text.charAt(start) == '-' || text.charAt(start) == '+')) {
+            start++;
+        }
+        int digits = 0;
+        boolean hasPoint = false;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits++;
+            } else if (c == '.' && allowPoint && !hasPoint) {
+                hasPoint = true;
+            } else {
+                return false;
+            }
+        }
+        return digits > 0;
+    }
+
+    public boolean isInt() {
+        return (types & INT) != 0;
+    }
+
+    public boolean isFloat() {
+        return (types & FLOAT) != 0;
+    }
+
+    public boolean isVector() {
+        return (types & VECTOR) != 0;
+    }
+}
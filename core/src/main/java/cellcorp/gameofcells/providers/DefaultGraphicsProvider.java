@@ -1,10 +1,15 @@
 package cellcorp.gameofcells.providers;
 
+import cellcorp.gameofcells.hud.UiSkin;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.*;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
@@ -31,6 +36,9 @@ import com.badlogic.gdx.utils.viewport.FitViewport;
  * Mostly just calls `Gdx.graphics` methods.
  */
 public class DefaultGraphicsProvider implements GraphicsProvider {
+    private UiSkin uiSkin;
+    private RenderContext renderContext;
+
     @Override
     public int getWidth() {
         return Gdx.graphics.getWidth();
@@ -66,6 +74,11 @@ public class DefaultGraphicsProvider implements GraphicsProvider {
         return new SpriteBatch();
     }
 
+    @Override
+    public SpriteCache createSpriteCache(int size) {
+        return new SpriteCache(size, false);
+    }
+
     @Override
     public Texture createTexture(int width, int height, Pixmap.Format format) {
         return new Texture(width, height, format);
@@ -130,12 +143,12 @@ public class DefaultGraphicsProvider implements GraphicsProvider {
     }
 
     @Override
-    public Image createImage(Texture texture) {
+    public Image createImage(TextureRegion texture) {
         return new Image(texture);
     }
 
     @Override
-    public TextureRegionDrawable createTextureRegionDrawable(Texture texture) {
+    public TextureRegionDrawable createTextureRegionDrawable(TextureRegion texture) {
         return new TextureRegionDrawable(texture);
     }
 
@@ -143,4 +156,31 @@ public class DefaultGraphicsProvider implements GraphicsProvider {
     public GlyphLayout createGlyphLayout(BitmapFont font, String text) {
         return new GlyphLayout(font, text);
     }
+
+    @Override
+    public ShaderProgram createShaderProgram(String vertexShader, String fragmentShader) {
+        return new ShaderProgram(vertexShader, fragmentShader);
+    }
+
+    @Override
+    public FrameBuffer createFrameBuffer(Pixmap.Format format, int width, int height, boolean hasDepth) {
+        return new FrameBuffer(format, width, height, hasDepth);
+    }
+
+    @Override
+    public UiSkin getUiSkin() {
+        // Created lazily, since the skin's textures need a GL context.
+        if (uiSkin == null) {
+            uiSkin = new UiSkin(this);
+        }
+        return uiSkin;
+    }
+
+    @Override
+    public RenderContext getRenderContext() {
+        if (renderContext == null) {
+            renderContext = new RenderContext(this);
+        }
+        return renderContext;
+    }
 }
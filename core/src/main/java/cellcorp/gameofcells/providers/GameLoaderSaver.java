@@ -3,7 +3,8 @@ package cellcorp.gameofcells.providers;
 import cellcorp.gameofcells.objects.Cell;
 import cellcorp.gameofcells.objects.Stats;
 import cellcorp.gameofcells.screens.GamePlayScreen;
-import cellcorp.gameofcells.screens.PopupInfoScreen;
+import cellcorp.gameofcells.screens.PopupId;
+import cellcorp.gameofcells.screens.PopupRegistry;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Preferences;
 
@@ -31,12 +32,7 @@ public class GameLoaderSaver {
     private final Cell cell;
     private final Stats stats;
 
-    private final PopupInfoScreen glucoseCollisionPopup;
-    private final PopupInfoScreen acidZonePopup;
-    private final PopupInfoScreen basicZonePopup;
-    private final PopupInfoScreen healAvailablePopup;
-    private final PopupInfoScreen cellMembranePopup;
-    private final PopupInfoScreen splitCellPopup;
+    private final PopupRegistry popups;
     private boolean hasAutoSaved;
 
     /**
@@ -50,12 +46,7 @@ public class GameLoaderSaver {
     public GameLoaderSaver(GamePlayScreen gamePlayScreen) {
         this.cell = gamePlayScreen.getCell();
         this.stats = gamePlayScreen.getStats();
-        this.glucoseCollisionPopup = gamePlayScreen.getGlucoseCollisionPopup();
-        this.acidZonePopup = gamePlayScreen.getAcidZonePopup();
-        this.basicZonePopup = gamePlayScreen.getBasicZonePopup();
-        this.healAvailablePopup = gamePlayScreen.getHealAvailablePopup();
-        this.cellMembranePopup = gamePlayScreen.getCellMembranePopup();
-        this.splitCellPopup = gamePlayScreen.getSplitCellPopup();
+        this.popups = gamePlayScreen.getPopups();
 
         //auto save flag.
         hasAutoSaved = false;
@@ -102,12 +93,9 @@ public class GameLoaderSaver {
         saveGame.putFloat("time", stats.gameTimer);
 
         //Pop-up States
-        saveGame.putBoolean("glukePopup", glucoseCollisionPopup.wasShown());
-        saveGame.putBoolean("acidPopup", acidZonePopup.wasShown());
-        saveGame.putBoolean("basicPopup", basicZonePopup.wasShown());
-        saveGame.putBoolean("healPopup", healAvailablePopup.wasShown());
-        saveGame.putBoolean("membranePopup", cellMembranePopup.wasShown());
-        saveGame.putBoolean("splitPopup", splitCellPopup.wasShown());
+        for (var id : PopupId.values()) {
+            saveGame.putBoolean(id.saveKey, popups.wasShown(id));
+        }
 
         //Writes to the file.
         saveGame.flush();
@@ -156,12 +144,10 @@ public class GameLoaderSaver {
         stats.gameTimer = saveGame.getFloat("time", 0);
 
         //Pop-up States
-        glucoseCollisionPopup.setWasShown(saveGame.getBoolean("glukePopup", false));
-        acidZonePopup.setWasShown(saveGame.getBoolean("acidPopup", false));
-        basicZonePopup.setWasShown(saveGame.getBoolean("basicPopup", false));
-        healAvailablePopup.setWasShown(saveGame.getBoolean("healPopup", false));
-        cellMembranePopup.setWasShown(saveGame.getBoolean("membranePopup", false));
-        splitCellPopup.setWasShown(saveGame.getBoolean("splitPopup", false));
+        // Only flags are restored. Popups are still built when first shown.
+        for (var id : PopupId.values()) {
+            popups.setWasShown(id, saveGame.getBoolean(id.saveKey, false));
+        }
     }
 
     /**
@@ -1,9 +1,14 @@
 package cellcorp.gameofcells.providers;
 
+import cellcorp.gameofcells.hud.UiSkin;
 import com.badlogic.gdx.graphics.*;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -80,6 +85,14 @@ public interface GraphicsProvider {
      */
     SpriteBatch createSpriteBatch();
 
+    /**
+     * Create a sprite cache holding up to `size` sprites. Equivalent to calling `new SpriteCache(size, false)`,
+     * but won't crash test code.
+     *
+     * @return A newly-constructed {@link SpriteCache}
+     */
+    SpriteCache createSpriteCache(int size);
+
     /**
      * Create a texture with the given width, height, and format.
      *
@@ -146,12 +159,12 @@ public interface GraphicsProvider {
     /**
      * Create an Image
      */
-    Image createImage(Texture texture);
+    Image createImage(TextureRegion texture);
 
     /**
      * Create a drawable texture region
      */
-    TextureRegionDrawable createTextureRegionDrawable(Texture texture);
+    TextureRegionDrawable createTextureRegionDrawable(TextureRegion texture);
 
     /**
      * Create a glyph layout
@@ -159,12 +172,33 @@ public interface GraphicsProvider {
     GlyphLayout createGlyphLayout(BitmapFont font, String text);
 
     /**
-     * Create a Scene2d stage
+     * Compile a shader program from the given GLSL source.
+     * Check `isCompiled()` on the result; callers should fall back to plain drawing if it failed.
+     */
+    ShaderProgram createShaderProgram(String vertexShader, String fragmentShader);
+
+    /**
+     * Create an offscreen framebuffer. Equivalent to calling `new FrameBuffer(...)`,
+     * but won't crash test code.
+     */
+    FrameBuffer createFrameBuffer(Pixmap.Format format, int width, int height, boolean hasDepth);
+
+    /**
+     * Get the UI skin shared by every screen.
+     * Always returns the same instance, so panel textures are only generated once.
+     */
+    UiSkin getUiSkin();
+
+    /**
+     * Get the sprite batch and shape renderer shared by every screen.
+     * Always returns the same instance, so the batch's buffers and shader are only created once.
+     */
+    RenderContext getRenderContext();
+
+    /**
+     * Create a Scene2d stage, drawn with the shared batch.
      */
     default Stage createStage(int viewRectWidth, int viewRectHeight) {
-        return new Stage(
-            this.createFitViewport(viewRectWidth, viewRectHeight),
-            this.createSpriteBatch()
-        );
+        return getRenderContext().createStage(this.createFitViewport(viewRectWidth, viewRectHeight));
     }
 }
@@ -0,0 +1,132 @@
+package cellcorp.gameofcells.providers;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+/**
+ * RenderContext Class
+ * <p>
+ * The sprite batch and shape renderer shared by every screen and widget.
+ * Each batch allocates a vertex buffer and compiles a shader, and only one screen draws at a time,
+ * so one of each is enough.
+ * <p>
+ * Since the batch is shared, nothing can assume it still has the projection it last set.
+ * Screens set their projection at the start of each draw. Widgets drawn in the middle of a screen's draw,
+ * like the HUD and minimap, wrap their drawing in {@link #push()} and {@link #pop()},
+ * so the screen's projection and color are restored for it.
+ * <p>
+ * Get it from {@link GraphicsProvider#getRenderContext()}.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public class RenderContext implements Disposable {
+    private final GraphicsProvider graphicsProvider;
+    private SpriteBatch batch;
+    private ShapeRenderer shapeRenderer;
+
+    // Saved state, one entry per `push`. The matrices are reused, so pushing doesn't allocate.
+    private final Array<Matrix4> batchProjections = new Array<>();
+    private final Array<Matrix4> shapeProjections = new Array<>();
+    private final FloatArray batchColors = new FloatArray();
+    private int depth;
+
+    /**
+     * Create the context. The batch and shape renderer are created when they're first used.
+     */
+    public RenderContext(GraphicsProvider graphicsProvider) {
+        this.graphicsProvider = graphicsProvider;
+    }
+
+    /**
+     * @return The shared sprite batch. Don't dispose it.
+     */
+    public SpriteBatch getBatch() {
+        if (batch == null) {
+            batch = graphicsProvider.createSpriteBatch();
+        }
+        return batch;
+    }
+
+    /**
+     * @return The shared shape renderer. Don't dispose it.
+     */
+    public ShapeRenderer getShapeRenderer() {
+        if (shapeRenderer == null) {
+            shapeRenderer = graphicsProvider.createShapeRenderer();
+        }
+        return shapeRenderer;
+    }
+
+    /**
+     * Create a stage that draws with the shared batch.
+     * Disposing the stage leaves the batch alone.
+     */
+    public Stage createStage(Viewport viewport) {
+        return new Stage(viewport, getBatch());
+    }
+
+    /**
+     * Save the batch's and shape renderer's projections, and the batch's color.
+     * Call outside `begin`/`end`, and match with {@link #pop()}.
+     */
+    public void push() {
+        var batch = getBatch();
+        var shapeRenderer = getShapeRenderer();
+        if (depth == batchProjections.size) {
+            batchProjections.add(new Matrix4());
+            shapeProjections.add(new Matrix4());
+        }
+        batchProjections.get(depth).set(batch.getProjectionMatrix());
+        shapeProjections.get(depth).set(shapeRenderer.getProjectionMatrix());
+        batchColors.add(batch.getPackedColor());
+        depth++;
+    }
+
+    /**
+     * Restore the state saved by the matching {@link #push()}.
+     *
+     * @throws IllegalStateException If nothing was pushed.
+     */
+    public void pop() {
+        if (depth == 0) {
+            throw new IllegalStateException("RenderContext.pop called without a matching push");
+        }
+        depth--;
+        batch.setProjectionMatrix(batchProjections.get(depth));
+        shapeRenderer.setProjectionMatrix(shapeProjections.get(depth));
+        batch.setPackedColor(batchColors.pop());
+    }
+
+    /**
+     * @return Number of batches and shape renderers created, for checking that nothing makes its own.
+     */
+    public int getCreatedCount() {
+        return (batch != null ? 1 : 0) + (shapeRenderer != null ? 1 : 0);
+    }
+
+    @Override
+    public void dispose() {
+        if (batch != null) {
+            batch.dispose();
+            batch = null;
+        }
+        if (shapeRenderer != null) {
+            shapeRenderer.dispose();
+            shapeRenderer = null;
+        }
+        depth = 0;
+        batchColors.clear();
+    }
+}
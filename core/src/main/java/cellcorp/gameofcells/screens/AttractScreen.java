@@ -2,7 +2,9 @@ package cellcorp.gameofcells.screens;
 
 import cellcorp.gameofcells.Main;
 import cellcorp.gameofcells.objects.Cell;
+import cellcorp.gameofcells.objects.CellHost;
 import cellcorp.gameofcells.objects.Glucose;
+import cellcorp.gameofcells.objects.ParticleEmitter;
 import cellcorp.gameofcells.objects.Particles;
 import cellcorp.gameofcells.providers.ConfigProvider;
 import cellcorp.gameofcells.providers.GraphicsProvider;
@@ -12,7 +14,6 @@ import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
@@ -56,6 +57,7 @@ public class AttractScreen implements GameOfCellsScreen {
     private final GameOfCellsScreen previousScreen;
     private final Camera camera;
     private final Viewport viewport;
+    private final ScreenResources resources = new ScreenResources();
     private final SpriteBatch spriteBatch;
     private final ShapeRenderer shapeRenderer;
     private final MenuSystem menuSystem;
@@ -90,13 +92,14 @@ public class AttractScreen implements GameOfCellsScreen {
         this.camera = graphicsProvider.createCamera();
         this.viewport = graphicsProvider.createFitViewport(VIEW_RECT_WIDTH, VIEW_RECT_HEIGHT, camera);
 
-        this.spriteBatch = graphicsProvider.createSpriteBatch();
-        this.shapeRenderer = graphicsProvider.createShapeRenderer();
+        var renderContext = graphicsProvider.getRenderContext();
+        this.spriteBatch = renderContext.getBatch();
+        this.shapeRenderer = renderContext.getShapeRenderer();
         this.random = new Random();
 
-        this.particles = new Particles(graphicsProvider.createWhitePixelTexture());
+        this.particles = game.getParticleSystem().getLayer(ParticleEmitter.MENU_DUST);
         this.menuSystem = new MenuSystem(
-            new Stage(graphicsProvider.createFitViewport(VIEW_RECT_WIDTH, VIEW_RECT_HEIGHT), graphicsProvider.createSpriteBatch()),
+            resources.add(renderContext.createStage(graphicsProvider.createFitViewport(VIEW_RECT_WIDTH, VIEW_RECT_HEIGHT))),
             assetManager,
             graphicsProvider
         );
@@ -106,16 +109,16 @@ public class AttractScreen implements GameOfCellsScreen {
     }
 
     private void initializeGameObjects() {
-        this.cell = new Cell(
-            new GamePlayScreen(inputProvider, graphicsProvider, game, assetManager, configProvider, 2),
-            assetManager,
-            configProvider);
+        var sprites = game.getAssets().sprites;
+        // The demo cell isn't in a game, so it doesn't need a gameplay screen behind it.
+        this.cell = new Cell(CellHost.detached(), sprites, configProvider);
+        cell.setImpostors(game.getCellImpostors());
 
         this.glucoseList = new ArrayList<>();
         for (int i = 0; i < NUM_GLUCOSE; i++) {
             float x = random.nextFloat() * viewport.getWorldWidth(); // Random x position
             float y = random.nextFloat() * viewport.getWorldHeight(); // Random y position
-            glucoseList.add(new Glucose(assetManager, x, y));
+            glucoseList.add(new Glucose(sprites.glucose, x, y));
         }
 
         // Set initial target position for the cell
@@ -129,6 +132,7 @@ public class AttractScreen implements GameOfCellsScreen {
 
     @Override
     public void show() {
+        game.getQualityGovernor().register(Particles.QUALITY_KNOB, particles);
         // Initialize any resources needed for the attract screen
         isSimulationRunning = true;
         animationTime = 0f;
@@ -160,15 +164,22 @@ public class AttractScreen implements GameOfCellsScreen {
     @Override
     public void hide() {
         isSimulationRunning = false; // Stop the simulation when the screen is hidden
+        game.getQualityGovernor().unregister(Particles.QUALITY_KNOB, particles);
     }
 
     @Override
     public void dispose() {
-        spriteBatch.dispose();
-        shapeRenderer.dispose();
         cell.dispose();
-        particles.dispose();
         menuSystem.clear();
+        resources.dispose();
+    }
+
+    /**
+     * @return Number of GPU resources this screen owns that are still alive.
+     */
+    @Override
+    public int getResourceCount() {
+        return resources.size();
     }
 
     @Override
@@ -4,13 +4,12 @@ import cellcorp.gameofcells.providers.ConfigProvider;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Camera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.Viewport;
-import cellcorp.gameofcells.AssetFileNames;
 import cellcorp.gameofcells.Main;
+import cellcorp.gameofcells.objects.ParticleEmitter;
 import cellcorp.gameofcells.objects.Particles;
 import cellcorp.gameofcells.providers.GraphicsProvider;
 import cellcorp.gameofcells.providers.InputProvider;
@@ -84,12 +83,14 @@ public class GameInfoControlsScreen implements GameOfCellsScreen {
     private final AssetManager assetManager;
     private final GameOfCellsScreen previousScreen;
     private final Viewport viewport;
+    private final ScreenResources resources = new ScreenResources();
+    private final SpriteBatch batch;
     private final Particles particles;
     private final MenuSystem menuSystem;
 
     private float startX;
     private float startY;
-    private Texture cellTexture;
+    private TextureRegion cellTexture;
 
     /**
      * Constructs a new GameInfoControlsScreen.
@@ -120,16 +121,16 @@ public class GameInfoControlsScreen implements GameOfCellsScreen {
         this.previousScreen = previousScreen;
         this.viewport = graphicsProvider.createFitViewport(VIEW_RECT_WIDTH, VIEW_RECT_HEIGHT);
 
-        this.particles = new Particles(graphicsProvider.createWhitePixelTexture());
+        this.particles = game.getParticleSystem().getLayer(ParticleEmitter.MENU_DUST);
+        var renderContext = graphicsProvider.getRenderContext();
+        this.batch = renderContext.getBatch();
         this.menuSystem = new MenuSystem(
-            new Stage(
-                graphicsProvider.createFitViewport(VIEW_RECT_WIDTH, VIEW_RECT_HEIGHT),
-                graphicsProvider.createSpriteBatch()),
+            resources.add(renderContext.createStage(graphicsProvider.createFitViewport(VIEW_RECT_WIDTH, VIEW_RECT_HEIGHT))),
             assetManager,
             graphicsProvider
         );
 
-        this.cellTexture = assetManager.get(AssetFileNames.CELL, Texture.class);
+        this.cellTexture = game.getAssets().sprites.cell;
     }
 
     /**
@@ -140,6 +141,7 @@ public class GameInfoControlsScreen implements GameOfCellsScreen {
      */
     @Override
     public void show() {
+        game.getQualityGovernor().register(Particles.QUALITY_KNOB, particles);
         // Initialize simple back menu
         menuSystem.initializeSplitLayout(
             "GAME INFORMATION",
@@ -200,6 +202,7 @@ public class GameInfoControlsScreen implements GameOfCellsScreen {
      */
     @Override
     public void hide() {
+        game.getQualityGovernor().unregister(Particles.QUALITY_KNOB, particles);
     }
 
     /**
@@ -209,8 +212,16 @@ public class GameInfoControlsScreen implements GameOfCellsScreen {
      */
     @Override
     public void dispose() {
-        particles.dispose();
         menuSystem.clear();
+        resources.dispose();
+    }
+
+    /**
+     * @return Number of GPU resources this screen owns that are still alive.
+     */
+    @Override
+    public int getResourceCount() {
+        return resources.size();
     }
 
     /**
@@ -255,7 +266,6 @@ public class GameInfoControlsScreen implements GameOfCellsScreen {
         Camera camera = viewport.getCamera();
 
         // Draw background elements
-        SpriteBatch batch = graphicsProvider.createSpriteBatch();
         batch.setProjectionMatrix(camera.combined);
         batch.begin();
 
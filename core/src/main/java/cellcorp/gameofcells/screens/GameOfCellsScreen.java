@@ -29,4 +29,11 @@ public interface GameOfCellsScreen extends Screen {
      * and integration tests will become out-of-sync with actual gameplay.
      */
     void draw();
+
+    /**
+     * @return Number of GPU resources this screen owns that are still alive. Reported by {@link ScreenManager}.
+     */
+    default int getResourceCount() {
+        return 0;
+    }
 }
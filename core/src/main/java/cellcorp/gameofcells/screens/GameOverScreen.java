@@ -94,7 +94,7 @@ public class GameOverScreen implements GameOfCellsScreen {
         this.graphicsProvider = graphicsProvider;
 
         this.viewport = graphicsProvider.createFitViewport(VIEW_RECT_WIDTH, VIEW_RECT_HEIGHT);
-        this.spriteBatch = graphicsProvider.createSpriteBatch();
+        this.spriteBatch = graphicsProvider.getRenderContext().getBatch();
         this.configProvider = configProvider;
 
         layout = new GlyphLayout();
@@ -115,13 +115,13 @@ public class GameOverScreen implements GameOfCellsScreen {
         // client.
         if (inputProvider.isKeyJustPressed(Input.Keys.SPACE)
             || inputProvider.isKeyJustPressed(Input.Keys.R)) {
-            game.setScreen(new MainMenuScreen(inputProvider,
+            game.setScreen(game.getScreens().getOrCreate(null, MainMenuScreen.class, () -> new MainMenuScreen(inputProvider,
                 graphicsProvider,
                 game,
                 assetManager,
                 null,
                 viewport,
-                configProvider));
+                configProvider)));
         }
     }
 
@@ -233,8 +233,7 @@ public class GameOverScreen implements GameOfCellsScreen {
      */
     @Override
     public void dispose() {
-        if (font != null) font.dispose();
-        spriteBatch.dispose();
+        // The font belongs to the asset manager, and the batch is shared. Nothing to dispose.
     }
 
     /**
@@ -1,7 +1,7 @@
 package cellcorp.gameofcells.screens;
 
-import cellcorp.gameofcells.AssetFileNames;
 import cellcorp.gameofcells.Main;
+import cellcorp.gameofcells.QualityGovernor;
 import cellcorp.gameofcells.objects.*;
 import cellcorp.gameofcells.providers.ConfigProvider;
 import cellcorp.gameofcells.providers.GameLoaderSaver;
@@ -39,7 +39,7 @@ import com.badlogic.gdx.utils.viewport.FitViewport;
 /**
  * First screen of the application. Displayed after the application is created.
  */
-public class GamePlayScreen implements GameOfCellsScreen {
+public class GamePlayScreen implements GameOfCellsScreen, CellHost, GlucoseHost {
     /**
      * Width of the view rectangle
      * (the rectangular region of the world which the camera will display)
@@ -59,6 +59,13 @@ public class GamePlayScreen implements GameOfCellsScreen {
      */
     public static final boolean DEBUG_DRAW_ENABLED = false;
     private static final float LOW_ENERGY_COOLDOWN = 10f; // 10 seconds cooldown for low energy warning
+    private static final float AMBIENT_PARTICLE_AREA_SCALE = 1.5f; // Ambient particle area, relative to the view rectangle
+    // Names of this screen's knobs in the quality governor
+    private static final String BACKGROUND_KNOB = "gameplayBackground";
+    private static final String FLAGELLUM_KNOB = "flagellum";
+    private static final String MINIMAP_KNOB = "minimap";
+    private static final String ZONES_KNOB = "zones";
+    private static final String RENDER_SCALE_KNOB = "renderScale";
     public final Stats stats = new Stats();
     private final Stage stage;
     private final Main game;
@@ -72,12 +79,7 @@ public class GamePlayScreen implements GameOfCellsScreen {
     private final ConfigProvider configProvider;
 
     // ==== Popup info screens ====
-    private final PopupInfoScreen glucoseCollisionPopup;
-    private final PopupInfoScreen acidZonePopup;
-    private final PopupInfoScreen basicZonePopup;
-    private final PopupInfoScreen healAvailablePopup;
-    private final PopupInfoScreen cellMembranePopup;
-    private final PopupInfoScreen splitCellPopup;
+    private final PopupRegistry popups; // Built when first shown
 
     // ==== Minimap ====
     private final MinimapRenderer minimapRenderer;
@@ -136,6 +138,8 @@ public class GamePlayScreen implements GameOfCellsScreen {
     // false.
     private final OrthographicCamera camera;
     private final FitViewport viewport;
+    private final CameraController cameraController; // Owns follow, zoom, and shake; recomputes the camera only on change
+    private final ScreenResources resources = new ScreenResources();
     private final ShapeRenderer shapeRenderer;
     private final SpriteBatch batch;
     // Objects for rendering the game
@@ -155,6 +159,10 @@ public class GamePlayScreen implements GameOfCellsScreen {
     private final Texture parallaxNear;
     private final Texture floatingOverlay; // Texture for simulating fluid game movement
     private final Texture vignetteLowHealth; // Texture for low health warning
+    private final BackgroundCompositor backgroundCompositor; // Draws the background layers in one pass
+    private final ZoneRenderer zoneRenderer; // Draws every visible zone in one pass
+    private final WorldRenderScaler worldRenderScaler; // Draws the world at reduced resolution, if enabled
+    private final Particles ambientParticles; // Particulate drifting through the fluid, from the shared particle system
     private int loadSave;
     private float overlayTime = 0f; // Time for the floating overlay animation
     // Part of game state.
@@ -163,10 +171,10 @@ public class GamePlayScreen implements GameOfCellsScreen {
     private boolean wasInAcidZone = false; // Whether the cell was in an acid zone last frame
     private float lowEnergyWarningCooldown = 0; // Cooldown for low energy warning
     private boolean isPaused = false; // Whether the game is paused
-    // Shake fields
-    private float shakeTime = 0; // Time remaining for the shake effect
-    private float shakeDuration = 3.0f; // Duration of the shake effect
-    private float shakeIntensity = 15f; // Intensity of the shake effect
+    // Quality fields, set by the quality governor
+    private boolean parallaxEnabled = true; // Whether the parallax layers are drawn
+    private boolean overlayEnabled = true; // Whether the floating overlay is drawn
+    private final QualityGovernor.Knob backgroundQualityKnob = this::setBackgroundQuality; // Kept to unregister it
 
 
     /**
@@ -192,88 +200,54 @@ public class GamePlayScreen implements GameOfCellsScreen {
 
         this.camera = graphicsProvider.createCamera();
         this.viewport = graphicsProvider.createFitViewport(VIEW_RECT_WIDTH, VIEW_RECT_HEIGHT, camera);
+        this.cameraController = new CameraController(camera, viewport, VIEW_RECT_WIDTH, VIEW_RECT_HEIGHT);
 
-        this.playerCell = new Cell(this, assetManager, configProvider);
-        this.zoneManager = new ZoneManager(assetManager, playerCell);
-        this.glucoseManager = new GlucoseManager(assetManager, this, zoneManager, playerCell);
+        var assets = game.getAssets();
+        this.playerCell = new Cell(this, assets.sprites, configProvider);
+        playerCell.setImpostors(game.getCellImpostors());
+        this.zoneManager = new ZoneManager(assets.sprites, playerCell);
+        this.glucoseManager = new GlucoseManager(graphicsProvider, assets.sprites, this, zoneManager, playerCell);
         this.spawnManager = new SpawnManager(playerCell, zoneManager, glucoseManager);
 
-        this.shapeRenderer = graphicsProvider.createShapeRenderer();
-        this.batch = graphicsProvider.createSpriteBatch();
-        this.stage = new Stage(graphicsProvider.createFitViewport(VIEW_RECT_WIDTH, VIEW_RECT_HEIGHT), graphicsProvider.createSpriteBatch());
-        this.hud = new HUD(graphicsProvider, inputProvider, configProvider, assetManager, this, stats);
+        var renderContext = graphicsProvider.getRenderContext();
+        this.shapeRenderer = renderContext.getShapeRenderer();
+        this.batch = renderContext.getBatch();
+        this.stage = resources.add(renderContext.createStage(graphicsProvider.createFitViewport(VIEW_RECT_WIDTH, VIEW_RECT_HEIGHT)));
+        this.hud = new HUD(graphicsProvider, inputProvider, configProvider, assets, this, stats);
         this.minimapRenderer = new MinimapRenderer(graphicsProvider, 8000f, 8000f, 200f, 200f, camera);
         this.loadSave = loadSave;
-        parallaxFar = assetManager.get(AssetFileNames.PARALLAX_FAR, Texture.class);
-        parallaxMid = assetManager.get(AssetFileNames.PARALLAX_MID, Texture.class);
-        parallaxNear = assetManager.get(AssetFileNames.PARALLAX_NEAR, Texture.class);
-        floatingOverlay = assetManager.get(AssetFileNames.FLOATING_OVERLAY, Texture.class);
-        vignetteLowHealth = assetManager.get(AssetFileNames.VIGNETTE_LOW_HEALTH, Texture.class);
-
-        this.glucoseCollisionPopup = new PopupInfoScreen(
-            configProvider,
-            graphicsProvider,
-            assetManager,
-            "glucosePopupMessage",
-            PopupInfoScreen.DEFAULT_GLUCOSE_POPUP_MESSAGE,
-            new Color(0.8f, 0.33f, 0.0f, 1f),
-            this::resumeGame
-        );
-        this.acidZonePopup = new PopupInfoScreen(
-            configProvider,
-            graphicsProvider,
-            assetManager,
-            "dangerPopupMessage",
-            PopupInfoScreen.DEFAULT_ACID_ZONE_POPUP_MESSAGE,
-            new Color(0.8f, 0.0f, 0.4f, 1f),
-            this::resumeGame
-        );
-        this.basicZonePopup = new PopupInfoScreen(
-            configProvider,
-            graphicsProvider,
-            assetManager,
-            "basicPopupMessage",
-            PopupInfoScreen.DEFAULT_BASIC_ZONE_POPUP_MESSAGE,
-            new Color(0.0f, 0.0f, 0.25f, 1f),
-            this::resumeGame
-        );
-        this.healAvailablePopup = new PopupInfoScreen(
-            configProvider,
-            graphicsProvider,
-            assetManager,
-            "healAvailableMessage",
-            PopupInfoScreen.DEFAULT_HEAL_AVAILABLE_MESSAGE,
-            Color.BLACK,
-            this::resumeGame
-        );
-        this.cellMembranePopup = new PopupInfoScreen(
-            configProvider,
-            graphicsProvider,
-            assetManager,
-            "sizeUpgrade1Message",
-            PopupInfoScreen.DEFAULT_SIZE_UPGRADE_1_MESSAGE,
-            Color.BLACK,
-            this::resumeGame
-        );
-        this.splitCellPopup = new PopupInfoScreen(
-            configProvider,
-            graphicsProvider,
-            assetManager,
-            "splitCellMessage",
-            PopupInfoScreen.DEFAULT_SPLIT_CELL_MESSAGE,
-            Color.BLACK,
-            this::resumeGame
-        );
+        parallaxFar = assets.parallaxFar;
+        parallaxMid = assets.parallaxMid;
+        parallaxNear = assets.parallaxNear;
+        floatingOverlay = assets.floatingOverlay;
+        vignetteLowHealth = assets.vignetteLowHealth;
+        backgroundCompositor = new BackgroundCompositor(
+            graphicsProvider, parallaxFar, parallaxMid, parallaxNear, floatingOverlay, Main.PURPLE);
+        zoneRenderer = new ZoneRenderer(graphicsProvider, assets.whitePixel);
+        worldRenderScaler = new WorldRenderScaler(graphicsProvider, Main.PURPLE);
+        ambientParticles = game.getParticleSystem().getLayer(ParticleEmitter.WORLD_PARTICULATE);
+        setRenderScaleConfigOrDefault();
+
+        this.popups = new PopupRegistry(configProvider, graphicsProvider, assets, this::resumeGame);
         gameLoaderSaver = new GameLoaderSaver(this);
     }
 
     /**
      * Trigger screen shaking
      */
+    @Override
     public void triggerShake(float duration, float intensity) {
-        this.shakeTime = duration;
-        this.shakeDuration = duration;
-        this.shakeIntensity = intensity;
+        cameraController.shake(duration, intensity);
+    }
+
+    /**
+     * Turn background effects and screen shake down at lower quality tiers.
+     */
+    private void setBackgroundQuality(QualityGovernor.Tier tier) {
+        parallaxEnabled = tier != QualityGovernor.Tier.LOW;
+        overlayEnabled = tier == QualityGovernor.Tier.HIGH;
+        cameraController.setShakeScale(tier == QualityGovernor.Tier.HIGH ? 1f : 0.5f);
+        backgroundCompositor.setOverlayEnabled(overlayEnabled);
     }
 
     /**
@@ -289,6 +263,16 @@ public class GamePlayScreen implements GameOfCellsScreen {
             GameLoaderSaver.clearSaveFile();
             loadSave = -1;
         }
+        // Register cosmetic effects with the quality governor.
+        // Uses the same names every time, so returning from the shop or pause menu replaces the old knobs.
+        var qualityGovernor = game.getQualityGovernor();
+        qualityGovernor.register(BACKGROUND_KNOB, backgroundQualityKnob);
+        qualityGovernor.register(FLAGELLUM_KNOB, playerCell);
+        qualityGovernor.register(MINIMAP_KNOB, minimapRenderer);
+        qualityGovernor.register(ZONES_KNOB, zoneRenderer);
+        qualityGovernor.register(RENDER_SCALE_KNOB, worldRenderScaler);
+        qualityGovernor.register(ParticleEmitter.WORLD_PARTICULATE.name, ambientParticles);
+
         // Fade in the gameplay screen when returning from the shop
         stage.getRoot().getColor().a = 0; // Start transparent
         stage.addAction(Actions.fadeIn(2f)); // Fade in over 2 seconds
@@ -318,6 +302,7 @@ public class GamePlayScreen implements GameOfCellsScreen {
     public void resize(int screenWidth, int screenHeight) {
         // Update the viewport with the new screen size.
         viewport.update(screenWidth, screenHeight);
+        cameraController.invalidate();
     }
 
     /**
@@ -349,10 +334,33 @@ public class GamePlayScreen implements GameOfCellsScreen {
      */
     @Override
     public void dispose() {
+        // The governor would otherwise keep this screen reachable, and keep adjusting its disposed renderers.
+        var qualityGovernor = game.getQualityGovernor();
+        qualityGovernor.unregister(BACKGROUND_KNOB, backgroundQualityKnob);
+        qualityGovernor.unregister(FLAGELLUM_KNOB, playerCell);
+        qualityGovernor.unregister(MINIMAP_KNOB, minimapRenderer);
+        qualityGovernor.unregister(ZONES_KNOB, zoneRenderer);
+        qualityGovernor.unregister(RENDER_SCALE_KNOB, worldRenderScaler);
+        qualityGovernor.unregister(ParticleEmitter.WORLD_PARTICULATE.name, ambientParticles);
+
         // Destroy screen's assets here.
         playerCell.dispose(); // dispose cell
         hud.dispose();
-        batch.dispose(); // Dispose of the batch
+        minimapRenderer.dispose();
+        backgroundCompositor.dispose();
+        zoneRenderer.dispose();
+        glucoseManager.dispose();
+        worldRenderScaler.dispose();
+        popups.dispose();
+        resources.dispose(); // The stage. The batch and shape renderer are shared.
+    }
+
+    /**
+     * @return Number of GPU resources this screen owns that are still alive.
+     */
+    @Override
+    public int getResourceCount() {
+        return resources.size() + popups.getBuiltCount();
     }
 
     /**
@@ -374,14 +382,15 @@ public class GamePlayScreen implements GameOfCellsScreen {
         // Move to `ShopScreen` when 's' is pressed.
         if (inputProvider.isKeyJustPressed(Input.Keys.Q)) {
             pauseGame();
-            game.setScreen(new ShopScreen(
+            // Cached with this screen, so the shop isn't rebuilt each time it's opened.
+            game.setScreen(game.getScreens().getOrCreate(this, ShopScreen.class, () -> new ShopScreen(
                 game,
                 inputProvider,
                 graphicsProvider,
                 assetManager,
                 this, // Pass the current screen to the shop screen
                 playerCell
-            ));
+            )));
         }
         if (inputProvider.isKeyJustPressed(Input.Keys.G)) {
             endGame();
@@ -435,13 +444,17 @@ public class GamePlayScreen implements GameOfCellsScreen {
         }
         // Returns the player to the main Menu Screen
         if (inputProvider.isKeyJustPressed(Input.Keys.M)) {
-            game.setScreen(new MainMenuScreen(inputProvider, graphicsProvider, game, assetManager, camera, viewport, configProvider));
+            // The game is over, so drop it, along with its shop and pause screens.
+            game.getScreens().discard(this);
+            game.setScreen(game.getScreens().getOrCreate(null, MainMenuScreen.class,
+                () -> new MainMenuScreen(inputProvider, graphicsProvider, game, assetManager, camera, viewport, configProvider)));
+            return;
         }
 
         // Pause the game when the ESC key is pressed
         if (inputProvider.isKeyJustPressed(Input.Keys.ESCAPE) || inputProvider.isKeyJustPressed(Input.Keys.P)) {
             pauseGame();
-            game.setScreen(new PauseScreen(
+            game.setScreen(game.getScreens().getOrCreate(this, PauseScreen.class, () -> new PauseScreen(
                 this,
                 inputProvider,
                 graphicsProvider,
@@ -449,15 +462,10 @@ public class GamePlayScreen implements GameOfCellsScreen {
                 assetManager,
                 camera,
                 configProvider
-            ));
+            )));
         }
 
-        glucoseCollisionPopup.handleInput(inputProvider, deltaTimeSeconds);
-        acidZonePopup.handleInput(inputProvider, deltaTimeSeconds);
-        basicZonePopup.handleInput(inputProvider, deltaTimeSeconds);
-        healAvailablePopup.handleInput(inputProvider, deltaTimeSeconds);
-        cellMembranePopup.handleInput(inputProvider, deltaTimeSeconds);
-        splitCellPopup.handleInput(inputProvider, deltaTimeSeconds);
+        popups.handleInput(inputProvider, deltaTimeSeconds);
     }
 
     /**
@@ -475,17 +483,19 @@ public class GamePlayScreen implements GameOfCellsScreen {
             spawnManager.update();
 
             playerCell.update(deltaTimeSeconds);
-            if (playerCell.hasMitochondria() && !healAvailablePopup.wasShown()) {
+            if (playerCell.hasMitochondria() && !popups.wasShown(PopupId.HEAL_AVAILABLE)) {
                 reportHealAvailable();
             }
-            if (playerCell.hasSmallSizeUpgrade() && !cellMembranePopup.wasShown()) {
+            if (playerCell.hasSmallSizeUpgrade() && !popups.wasShown(PopupId.CELL_MEMBRANE)) {
                 reportCellMembrane();
             }
-            if (playerCell.hasSplit() && !splitCellPopup.wasShown()) {
+            if (playerCell.hasSplit() && !popups.wasShown(PopupId.SPLIT_CELL)) {
                 reportSplitCell();
             }
             stats.gameTimer += deltaTimeSeconds;
             overlayTime += deltaTimeSeconds;
+            cameraController.update(deltaTimeSeconds);
+            updateAmbientParticles(deltaTimeSeconds);
 
             boolean inBasicZone = isInBasicZone(playerCell.getX(), playerCell.getY());
             if (inBasicZone) {
@@ -509,8 +519,11 @@ public class GamePlayScreen implements GameOfCellsScreen {
     @Override
     public void draw() {
         setUpDraw();
+        // The world may be drawn at reduced resolution. The HUD and minimap are always drawn at full resolution.
+        worldRenderScaler.begin(viewport);
         drawBackground();
         playerCell.draw(batch, shapeRenderer);
+        worldRenderScaler.end(batch, camera, viewport);
         drawHUD();
         drawMinimap();
     }
@@ -522,24 +535,57 @@ public class GamePlayScreen implements GameOfCellsScreen {
         ScreenUtils.clear(Main.PURPLE);
 
         centerCameraOnCell();
-        viewport.apply();
+        cameraController.apply(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        // The batch and shape renderer are shared with every other screen, so set the projection every frame.
         shapeRenderer.setProjectionMatrix(camera.combined);
         batch.setProjectionMatrix(camera.combined);
     }
 
+    /**
+     * Sets the world render scale from the config file if it can be
+     * found/read. Otherwise the world is drawn at full resolution.
+     * Either way, the quality governor lowers it at lower tiers.
+     */
+    private void setRenderScaleConfigOrDefault() {
+        try {
+            int percent = configProvider.getIntValue("renderScalePercent");
+            worldRenderScaler.setScale(percent > 0 ? percent / 100f : WorldRenderScaler.MAX_SCALE);
+        } catch (NumberFormatException e) {
+            worldRenderScaler.setScale(WorldRenderScaler.MAX_SCALE);
+        }
+    }
+
+    /**
+     * Get the scaler the world is drawn through, to change the render scale.
+     */
+    public WorldRenderScaler getWorldRenderScaler() {
+        return worldRenderScaler;
+    }
+
     /**
      * Draw the background
      */
     public void drawBackground() {
 
-        // Draw parallax background layers
-        drawParallax();
+        // Draw parallax background layers and the floating overlay in a single pass.
+        // If the compositor's shader isn't available, draw them one layer at a time.
+        // At the lowest quality tier, only the clear color is shown behind the world.
+        if (parallaxEnabled && !drawCompositedBackground()) {
+            drawParallax();
+            if (overlayEnabled) {
+                drawFloatingOverlay();
+            }
+        }
 
-        // Draw the floating overlay
-        drawFloatingOverlay();
+        batch.begin();
+        ambientParticles.draw(batch);
+        batch.end();
 
         // Draw core game objects
-        zoneManager.draw(batch, shapeRenderer);
+        if (!drawZonesWithShader()) {
+            zoneManager.drawTextures(batch);
+        }
+        zoneManager.drawDebug(shapeRenderer);
         glucoseManager.draw(batch, shapeRenderer);
 
         if (DEBUG_DRAW_ENABLED) {
@@ -557,12 +603,7 @@ public class GamePlayScreen implements GameOfCellsScreen {
         // Draw the HUD
         hud.draw();
 
-        glucoseCollisionPopup.draw();
-        acidZonePopup.draw();
-        basicZonePopup.draw();
-        healAvailablePopup.draw();
-        cellMembranePopup.draw();
-        splitCellPopup.draw();
+        popups.draw();
     }
 
     /**
@@ -598,16 +639,6 @@ public class GamePlayScreen implements GameOfCellsScreen {
      * Center's the camera's view rectangle on the cell.
      */
     private void centerCameraOnCell() {
-        float offsetX = 0;
-        float offsetY = 0;
-
-        if (shakeTime > 0) {
-            float currentIntensity = (shakeTime / shakeDuration) * shakeIntensity;
-            offsetX = MathUtils.random(-currentIntensity, currentIntensity);
-            offsetY = MathUtils.random(-currentIntensity, currentIntensity);
-            shakeTime -= Gdx.graphics.getDeltaTime();
-        }
-
         // Here we apply the zoom effect
         // The zoom effect is based on the player's cell health
         // If the cell is dead, we zoom out to a maximum of 1.2f
@@ -618,22 +649,62 @@ public class GamePlayScreen implements GameOfCellsScreen {
         }
 
         float currentZoom = MathUtils.lerp(originalZoom, targetZoom, zoomProgress);
-        applyZoomToViewport(currentZoom); // Apply the zoom to the viewport
+        cameraController.setViewZoom(currentZoom);
+        // Shake is added by the controller.
+        cameraController.follow(playerCell.getX(), playerCell.getY());
+    }
 
+    /**
+     * Move the ambient particles, keeping them wrapped around an area centered on the cell.
+     * The area is bigger than the most zoomed-out view, so particles wrap out of sight.
+     */
+    private void updateAmbientParticles(float deltaTimeSeconds) {
+        float width = VIEW_RECT_WIDTH * AMBIENT_PARTICLE_AREA_SCALE;
+        float height = VIEW_RECT_HEIGHT * AMBIENT_PARTICLE_AREA_SCALE;
+        ambientParticles.update(
+            deltaTimeSeconds,
+            playerCell.getX() - width / 2,
+            playerCell.getY() - height / 2,
+            width,
+            height
+        );
+    }
 
-        camera.position.set(playerCell.getX() + offsetX, playerCell.getY() + offsetY, 0);
+    /**
+     * Draws the parallax layers and floating overlay with the background compositor.
+     *
+     * @return false if the compositor couldn't draw, and the layers need to be drawn separately.
+     */
+    private boolean drawCompositedBackground() {
+        // Same movement-based drift as `drawFloatingOverlay`
+        Vector2 cellVelocity = playerCell.getVelocity();
+        return backgroundCompositor.draw(
+            batch,
+            camera.position.x,
+            camera.position.y,
+            viewport.getWorldWidth(),
+            viewport.getWorldHeight(),
+            -cellVelocity.x * 2f,
+            -cellVelocity.y * 2f
+        );
     }
 
     /**
-     * Applies the zoom to the viewport.
+     * Draws the zones with the zone renderer.
      *
-     * @param zoom The zoom level to apply.
+     * @return false if the renderer couldn't draw, and the zone textures need to be drawn instead.
      */
-    private void applyZoomToViewport(float zoom) {
-        float newWidth = VIEW_RECT_WIDTH * zoom;
-        float newHeight = VIEW_RECT_HEIGHT * zoom;
-        viewport.setWorldSize(newWidth, newHeight);
-        viewport.update(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), true);
+    private boolean drawZonesWithShader() {
+        return zoneRenderer.draw(
+            batch,
+            zoneManager.getBasicZones().values(),
+            zoneManager.getAcidZones().values(),
+            camera.position.x,
+            camera.position.y,
+            viewport.getWorldWidth() * camera.zoom,
+            viewport.getWorldHeight() * camera.zoom,
+            overlayTime
+        );
     }
 
     /**
@@ -737,7 +808,7 @@ public class GamePlayScreen implements GameOfCellsScreen {
             playerCell.getY(),
             zoneManager.getAcidZones().values(),
             zoneManager.getBasicZones().values(),
-            glucoseManager.getGlucoseArray()
+            glucoseManager.getDensityGrid()
         );
     }
 
@@ -797,8 +868,10 @@ public class GamePlayScreen implements GameOfCellsScreen {
     /**
      * Ends the game.
      */
+    @Override
     public void endGame() {
         endOfGameUpdateRespawns();
+        game.getScreens().discard(this);
         game.setScreen(new GameOverScreen(
             inputProvider,
             assetManager,
@@ -841,10 +914,11 @@ public class GamePlayScreen implements GameOfCellsScreen {
      * Reports a collision to this GamePlayScreen.
      * If this is the first collision, shows an info screen.
      */
+    @Override
     public void reportGlucoseCollision() {
-        if (!glucoseCollisionPopup.wasShown()) {
+        if (!popups.wasShown(PopupId.GLUCOSE)) {
             pauseGame();
-            glucoseCollisionPopup.show();
+            popups.show(PopupId.GLUCOSE);
         }
     }
 
@@ -853,9 +927,9 @@ public class GamePlayScreen implements GameOfCellsScreen {
      * This is used for displaying the acid zone warning.
      */
     public void reportAcidZoneCollision() {
-        if (!acidZonePopup.wasShown() && playerCell.hasSmallSizeUpgrade()) {
+        if (!popups.wasShown(PopupId.ACID_ZONE) && playerCell.hasSmallSizeUpgrade()) {
             pauseGame();
-            acidZonePopup.show();
+            popups.show(PopupId.ACID_ZONE);
         }
     }
 
@@ -864,9 +938,9 @@ public class GamePlayScreen implements GameOfCellsScreen {
      * This is used for displaying the basic zone warning.
      */
     public void reportBasicZoneCollision() {
-        if (!basicZonePopup.wasShown()) {
+        if (!popups.wasShown(PopupId.BASIC_ZONE)) {
             pauseGame();
-            basicZonePopup.show();
+            popups.show(PopupId.BASIC_ZONE);
         }
     }
 
@@ -874,9 +948,9 @@ public class GamePlayScreen implements GameOfCellsScreen {
      * Call this function to indicate a heal is available.
      */
     public void reportHealAvailable() {
-        if (!healAvailablePopup.wasShown()) {
+        if (!popups.wasShown(PopupId.HEAL_AVAILABLE)) {
             pauseGame();
-            healAvailablePopup.show();
+            popups.show(PopupId.HEAL_AVAILABLE);
         }
     }
 
@@ -884,9 +958,9 @@ public class GamePlayScreen implements GameOfCellsScreen {
      * Call this to indicate that a cell membrane popup was shown.
      */
     public void reportCellMembrane() {
-        if (!cellMembranePopup.wasShown()) {
+        if (!popups.wasShown(PopupId.CELL_MEMBRANE)) {
             pauseGame();
-            cellMembranePopup.show();
+            popups.show(PopupId.CELL_MEMBRANE);
         }
     }
 
@@ -894,9 +968,9 @@ public class GamePlayScreen implements GameOfCellsScreen {
      * Report that the cell has split.
      */
     public void reportSplitCell() {
-        if (!splitCellPopup.wasShown()) {
+        if (!popups.wasShown(PopupId.SPLIT_CELL)) {
             pauseGame();
-            splitCellPopup.show();
+            popups.show(PopupId.SPLIT_CELL);
         }
     }
 
@@ -1123,50 +1197,58 @@ public class GamePlayScreen implements GameOfCellsScreen {
      *
      * @return the game stats
      */
+    @Override
     public Stats getStats() {
         return stats;
     }
 
+    /**
+     * @return This screen's info popups.
+     */
+    public PopupRegistry getPopups() {
+        return popups;
+    }
+
     /**
      * For test use only.
      */
     public PopupInfoScreen getGlucoseCollisionPopup() {
-        return glucoseCollisionPopup;
+        return popups.get(PopupId.GLUCOSE);
     }
 
     /**
      * For test use only.
      */
     public void setGlucoseCollisionPopupWasShown(boolean wasShown) {
-        glucoseCollisionPopup.setWasShown(wasShown);
+        popups.setWasShown(PopupId.GLUCOSE, wasShown);
     }
 
     /**
      * For test use only.
      */
     public PopupInfoScreen getAcidZonePopup() {
-        return acidZonePopup;
+        return popups.get(PopupId.ACID_ZONE);
     }
 
     /**
      * For test use only.
      */
     public void setAcidZonePopupWasShown(boolean wasShown) {
-        acidZonePopup.setWasShown(wasShown);
+        popups.setWasShown(PopupId.ACID_ZONE, wasShown);
     }
 
     /**
      * For test use only.
      */
     public PopupInfoScreen getBasicZonePopup() {
-        return basicZonePopup;
+        return popups.get(PopupId.BASIC_ZONE);
     }
 
     /**
      * For test use only.
      */
     public void setBasicZonePopupWasShown(boolean wasShown) {
-        basicZonePopup.setWasShown(wasShown);
+        popups.setWasShown(PopupId.BASIC_ZONE, wasShown);
     }
 
     /**
@@ -1176,6 +1258,13 @@ public class GamePlayScreen implements GameOfCellsScreen {
         return camera;
     }
 
+    /**
+     * Get the controller for this screen's camera.
+     */
+    public CameraController getCameraController() {
+        return cameraController;
+    }
+
     /**
      * For test use only.
      */
@@ -1196,7 +1285,7 @@ public class GamePlayScreen implements GameOfCellsScreen {
      * @return the heal Popup
      */
     public PopupInfoScreen getHealAvailablePopup() {
-        return healAvailablePopup;
+        return popups.get(PopupId.HEAL_AVAILABLE);
     }
 
     /**
@@ -1205,7 +1294,7 @@ public class GamePlayScreen implements GameOfCellsScreen {
      * @param wasShown
      */
     public void setHealAvailablePopupWasShown(boolean wasShown) {
-        healAvailablePopup.setWasShown(wasShown);
+        popups.setWasShown(PopupId.HEAL_AVAILABLE, wasShown);
     }
 
     /**
@@ -1214,14 +1303,14 @@ public class GamePlayScreen implements GameOfCellsScreen {
      * @return the cell membrane popup
      */
     public PopupInfoScreen getCellMembranePopup() {
-        return cellMembranePopup;
+        return popups.get(PopupId.CELL_MEMBRANE);
     }
 
     /**
      * For test use only.
      */
     public void setCellMembranePopupWasShown(boolean wasShown) {
-        cellMembranePopup.setWasShown(wasShown);
+        popups.setWasShown(PopupId.CELL_MEMBRANE, wasShown);
     }
 
 
@@ -1231,14 +1320,14 @@ public class GamePlayScreen implements GameOfCellsScreen {
      * @return The cell popup
      */
     public PopupInfoScreen getSplitCellPopup() {
-        return splitCellPopup;
+        return popups.get(PopupId.SPLIT_CELL);
     }
 
     /**
      * For test use only.
      */
     public void setSplitCellPopupWasShown(boolean wasShown) {
-        splitCellPopup.setWasShown(wasShown);
+        popups.setWasShown(PopupId.SPLIT_CELL, wasShown);
     }
 
     /**
@@ -1,21 +1,23 @@
 package cellcorp.gameofcells.screens;
 
-import cellcorp.gameofcells.AssetFileNames;
+import cellcorp.gameofcells.AssetRegistry;
 import cellcorp.gameofcells.hud.Bars;
 import cellcorp.gameofcells.hud.ControlInstructions;
+import cellcorp.gameofcells.hud.HudCache;
 import cellcorp.gameofcells.hud.HudStats;
+import cellcorp.gameofcells.hud.UiSkin;
 import cellcorp.gameofcells.notification.NotificationManager;
 import cellcorp.gameofcells.objects.Stats;
 import cellcorp.gameofcells.providers.ConfigProvider;
 import cellcorp.gameofcells.providers.GraphicsProvider;
 import cellcorp.gameofcells.providers.InputProvider;
+import cellcorp.gameofcells.providers.RenderContext;
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -56,22 +58,24 @@ public class HUD implements Disposable {
     public static final float FONT_SCALE = 0.35f;
 
     private static final float PADDING = 20f;
+    private static final int POPUP_CORNER_RADIUS = 20;
     // Padding once on each edge
     private static final float COLUMN_WIDTH = (float) VIEW_RECT_WIDTH / 3 - PADDING * 2;
 
     private final GraphicsProvider graphicsProvider;
-    private final AssetManager assetManager;
+    private final BitmapFont popupFont;
     private final Stage stage;
+    private final HudCache hudCache; // Only redraws the stage when something in it changed
     private final HudStats hudStats;
     private final Bars bars;
     private final ControlInstructions controlInstructions;
     private final NotificationManager notificationManager;
     private final GlyphLayout popupLayout = new GlyphLayout();
-    private final SpriteBatch popupSpriteBatch;
+    private final RenderContext renderContext;
     private final GamePlayScreen gamePlayScreen;
     // Popup info variables
     private final Viewport viewport;
-    private final Texture arrowTexture;
+    private final TextureRegion arrowTexture;
     private boolean shouldDrawPopup = false;
     private String popupMessage;
     private float popupX, popupY, popupWidth, popupHeight;
@@ -81,27 +85,30 @@ public class HUD implements Disposable {
     /**
      * Create a HUD
      */
-    public HUD(GraphicsProvider graphicsProvider, InputProvider inputProvider, ConfigProvider configProvider, AssetManager assetManager, GamePlayScreen gamePlayScreen, Stats stats) {
+    public HUD(GraphicsProvider graphicsProvider, InputProvider inputProvider, ConfigProvider configProvider, AssetRegistry assets, GamePlayScreen gamePlayScreen, Stats stats) {
         this.graphicsProvider = graphicsProvider;
-        this.assetManager = assetManager;
+        this.popupFont = assets.hudFont;
         this.gamePlayScreen = gamePlayScreen;
         this.viewport = graphicsProvider.createFitViewport(VIEW_RECT_WIDTH, VIEW_RECT_HEIGHT);
-        this.stage = new Stage(viewport, graphicsProvider.createSpriteBatch());
+        this.renderContext = graphicsProvider.getRenderContext();
+        this.stage = renderContext.createStage(viewport);
+        this.hudCache = new HudCache(graphicsProvider, stage);
 
         var cell = gamePlayScreen.getCell();
-        this.hudStats = new HudStats(graphicsProvider, assetManager, cell, stats);
-        this.bars = new Bars(graphicsProvider, assetManager, cell);
-        this.controlInstructions = new ControlInstructions(graphicsProvider, inputProvider, assetManager);
+        this.hudStats = new HudStats(graphicsProvider, assets, cell, stats);
+        this.bars = new Bars(graphicsProvider, assets, cell);
+        this.controlInstructions = new ControlInstructions(graphicsProvider, inputProvider, assets);
         this.notificationManager = new NotificationManager(configProvider, gamePlayScreen);
         var table = table(hudStats.getTable(), bars.getTable(), controlInstructions.getTable(), notificationManager.getTable());
         stage.addActor(table);
 
         if (GamePlayScreen.DEBUG_DRAW_ENABLED) {
             stage.setDebugAll(true);
+            // Debug outlines should show the layout as it is every frame.
+            hudCache.setEnabled(false);
         }
 
-        popupSpriteBatch = graphicsProvider.createSpriteBatch();
-        arrowTexture = assetManager.get(AssetFileNames.ARROW_TO_BASIC_ZONE, Texture.class);
+        arrowTexture = assets.sprites.arrowToBasicZone;
     }
 
     private Table table(Table statsTable, Table barsTable, Table iconsTable, Table notificationsTable) {
@@ -145,26 +152,37 @@ public class HUD implements Disposable {
      * Update the HUD for this tick
      */
     public void update(float deltaTime, boolean HasMitochondria) {
+        // Label text changes invalidate the stage's layout, which the cache notices on its own.
         hudStats.update();
         if (HasMitochondria && (!mitochondriaDisplayed)) {
             controlInstructions.update();
             mitochondriaDisplayed = true;
+            hudCache.invalidate();
+        }
+        // Bar fills and notification fades don't touch layout.
+        if (bars.update()) {
+            hudCache.invalidate();
+        }
+        if (notificationManager.update(deltaTime)) {
+            hudCache.invalidate();
         }
-        bars.update();
-        notificationManager.update(deltaTime);
     }
 
     /**
      * Draw the HUD
      */
     public void draw() {
-        stage.draw();
-        drawPopup(popupSpriteBatch);
+        // The stage and popup switch the shared batch to screen space. The arrow is drawn in the world.
+        renderContext.push();
+        hudCache.draw();
+        drawPopup(renderContext.getBatch());
+        renderContext.pop();
         drawArrow(Gdx.graphics.getDeltaTime(), gamePlayScreen.getSpriteBatch());
     }
 
     @Override
     public void dispose() {
+        hudCache.dispose();
         stage.dispose();
     }
 
@@ -195,15 +213,13 @@ public class HUD implements Disposable {
         if (!shouldDrawPopup) return;
         batch.setProjectionMatrix(viewport.getCamera().combined);
 
-        BitmapFont popupFont = assetManager.get(AssetFileNames.HUD_FONT, BitmapFont.class);
         popupFont.getData().setScale(FONT_SCALE);
         popupLayout.setText(popupFont, popupMessage);
 
-        Texture backgroudRegion = graphicsProvider.createRoundedRectangleTexture(
-            (int) popupWidth, (int) popupHeight, popupColor, 20f);
-
         batch.begin();
-        batch.draw(backgroudRegion, popupX, popupY, popupWidth, popupHeight);
+        graphicsProvider.getUiSkin().drawPanel(
+            batch, POPUP_CORNER_RADIUS, UiSkin.Style.FILLED, popupColor,
+            popupX, popupY, popupWidth, popupHeight);
 
         Color oldColor = popupFont.getColor().cpy();
         popupFont.setColor(Color.BLACK);
@@ -214,7 +230,6 @@ public class HUD implements Disposable {
         popupFont.setColor(oldColor);
         batch.end();
 
-        backgroudRegion.dispose(); // Dispose of the background texture
         shouldDrawPopup = false; // Reset the flag
     }
 
@@ -254,10 +269,7 @@ public class HUD implements Disposable {
             arrowWidth / 2, arrowHeight / 2, // origin
             arrowWidth, arrowHeight, // size
             1f, 1f, // scale
-            angle, // rotation
-            0, 0,
-            arrowTexture.getWidth(), arrowTexture.getHeight(),
-            false, false
+            angle // rotation
         );
         batch.setColor(1f, 1f, 1f, 1f);
         batch.end();
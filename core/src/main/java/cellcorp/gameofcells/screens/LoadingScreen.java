@@ -0,0 +1,178 @@
+package cellcorp.gameofcells.screens;
+
+import cellcorp.gameofcells.AssetGroup;
+import cellcorp.gameofcells.Main;
+import cellcorp.gameofcells.providers.GraphicsProvider;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.ScreenUtils;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+import java.util.function.Supplier;
+
+/**
+ * Loading Screen
+ * <p>
+ * Shown while an asset group a screen needs is still loading. Draws a progress bar, and nothing else,
+ * since it can't depend on any loaded asset. Moves on to the next screen once the group is loaded.
+ * <p>
+ * Assets are loaded by {@link Main}, a slice per frame, not by this screen.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public class LoadingScreen implements GameOfCellsScreen {
+    /**
+     * Width of the view rectangle.
+     */
+    public static final int VIEW_RECT_WIDTH = 1200;
+    /**
+     * Height of the view rectangle.
+     */
+    public static final int VIEW_RECT_HEIGHT = 800;
+
+    private static final float BAR_WIDTH = 600;
+    private static final float BAR_HEIGHT = 12;
+    private static final Color BACKGROUND_COLOR = new Color(0.08f, 0.05f, 0.10f, 1f);
+    private static final Color BAR_COLOR = new Color(0.9f, 0.6f, 0.2f, 1f);
+
+    private final Main game;
+    private final AssetGroup group;
+    private final Supplier<GameOfCellsScreen> nextScreen;
+
+    private final Viewport viewport;
+    private final ShapeRenderer shapeRenderer;
+
+    /**
+     * Constructor
+     *
+     * @param graphicsProvider - The graphics provider.
+     * @param game             - The game.
+     * @param group            - The asset group to wait for.
+     * @param nextScreen       - Creates the screen to show once the group is loaded.
+     */
+    public LoadingScreen(GraphicsProvider graphicsProvider,
+                         Main game,
+                         AssetGroup group,
+                         Supplier<GameOfCellsScreen> nextScreen) {
+        this.game = game;
+        this.group = group;
+        this.nextScreen = nextScreen;
+
+        this.viewport = graphicsProvider.createFitViewport(VIEW_RECT_WIDTH, VIEW_RECT_HEIGHT);
+        this.shapeRenderer = graphicsProvider.getRenderContext().getShapeRenderer();
+    }
+
+    /**
+     * Handle Input
+     * <p>
+     * Nothing to handle while loading.
+     */
+    @Override
+    public void handleInput(float deltaTimeSeconds) {
+    }
+
+    /**
+     * Update
+     * <p>
+     * Moves on to the next screen once the group is loaded.
+     */
+    @Override
+    public void update(float deltaTimeSeconds) {
+        if (game.getAssetLoader().isLoaded(group)) {
+            game.setScreen(nextScreen.get());
+        }
+    }
+
+    /**
+     * Draw
+     * <p>
+     * Draws the progress bar.
+     */
+    @Override
+    public void draw() {
+        ScreenUtils.clear(BACKGROUND_COLOR);
+
+        viewport.apply(true);
+        shapeRenderer.setProjectionMatrix(viewport.getCamera().combined);
+
+        float x = (VIEW_RECT_WIDTH - BAR_WIDTH) / 2;
+        float y = (VIEW_RECT_HEIGHT - BAR_HEIGHT) / 2;
+        float progress = game.getAssetLoader().getProgress();
+
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(Color.DARK_GRAY);
+        shapeRenderer.rect(x, y, BAR_WIDTH, BAR_HEIGHT);
+        shapeRenderer.setColor(BAR_COLOR);
+        shapeRenderer.rect(x, y, BAR_WIDTH * progress, BAR_HEIGHT);
+        shapeRenderer.end();
+    }
+
+    /**
+     * Render
+     */
+    @Override
+    public void render(float delta) {
+        // Draw before updating, so the frame doesn't draw a screen that's already been left.
+        draw();
+        update(delta);
+    }
+
+    /**
+     * Show
+     */
+    @Override
+    public void show() {
+    }
+
+    /**
+     * Resize
+     */
+    @Override
+    public void resize(int width, int height) {
+        viewport.update(width, height);
+    }
+
+    /**
+     * Pause
+     */
+    @Override
+    public void pause() {
+    }
+
+    /**
+     * Resume
+     */
+    @Override
+    public void resume() {
+    }
+
+    /**
+     * Hide
+     * <p>
+     * The loading screen is never returned to, so {@link ScreenManager} disposes it once it's left.
+     */
+    @Override
+    public void hide() {
+    }
+
+    /**
+     * Dispose
+     */
+    @Override
+    public void dispose() {
+        // The shape renderer is shared, so there's nothing to dispose.
+    }
+
+    /**
+     * @return The asset group this screen is waiting for.
+     */
+    public AssetGroup getGroup() {
+        return group;
+    }
+}
@@ -7,12 +7,13 @@ import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.Viewport;
-import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import cellcorp.gameofcells.providers.GameLoaderSaver;
 
-import cellcorp.gameofcells.AssetFileNames;
+import cellcorp.gameofcells.AssetGroup;
 import cellcorp.gameofcells.Main;
+import cellcorp.gameofcells.objects.ParticleEmitter;
 import cellcorp.gameofcells.objects.Particles;
 import cellcorp.gameofcells.providers.GraphicsProvider;
 import cellcorp.gameofcells.providers.ConfigProvider;
@@ -69,13 +70,15 @@ public class MainMenuScreen implements GameOfCellsScreen {
     private final AssetManager assetManager;
     private final Viewport viewport;
 
+    private final ScreenResources resources = new ScreenResources();
+    private final SpriteBatch batch;
     private final Particles particles;
     private final MenuSystem menuSystem;
 
     // Textures for the main menu
     private final Texture cellTexture;
-    private final Texture wasdArrowsIcon;
-    private final Texture spaceEnterIcon;
+    private final TextureRegion wasdArrowsIcon;
+    private final TextureRegion spaceEnterIcon;
 
     // Inactivity timer
     // This timer tracks the time since the last user input
@@ -108,18 +111,20 @@ public class MainMenuScreen implements GameOfCellsScreen {
         this.assetManager = assetManager;
         this.viewport = graphicsProvider.createFitViewport(VIEW_RECT_WIDTH, VIEW_RECT_HEIGHT);
 
-        // Load white pixel texture and initialize particles
-        this.particles = new Particles(graphicsProvider.createWhitePixelTexture());
+        // Use the menu particles shared by every menu screen
+        this.particles = game.getParticleSystem().getLayer(ParticleEmitter.MENU_DUST);
+        var renderContext = graphicsProvider.getRenderContext();
+        this.batch = renderContext.getBatch();
         this.menuSystem = new MenuSystem(
-            new Stage(graphicsProvider.createFitViewport(VIEW_RECT_WIDTH, VIEW_RECT_HEIGHT),
-                graphicsProvider.createSpriteBatch()),
+            resources.add(renderContext.createStage(graphicsProvider.createFitViewport(VIEW_RECT_WIDTH, VIEW_RECT_HEIGHT))),
             assetManager,
             graphicsProvider
         );
 
-        this.cellTexture = assetManager.get(AssetFileNames.ATTRACT_SCREEN_CELL, Texture.class);
-        this.wasdArrowsIcon = assetManager.get(AssetFileNames.WASD_ARROWS_ICON, Texture.class);
-        this.spaceEnterIcon = assetManager.get(AssetFileNames.SPACE_ENTER_ICON, Texture.class);
+        var assets = game.getAssets();
+        this.cellTexture = assets.attractScreenCell;
+        this.wasdArrowsIcon = assets.sprites.wasdArrowsIcon;
+        this.spaceEnterIcon = assets.sprites.spaceEnterIcon;
 
         //Config provider can be 'constructed' anywhere, this is useful as game objects will need access
         //to it.
@@ -135,6 +140,9 @@ public class MainMenuScreen implements GameOfCellsScreen {
      */
     @Override
     public void show() {
+        // The menu is cached, so it's shown again each time it's returned to.
+        inactivityTimer = 0f;
+        game.getQualityGovernor().register(Particles.QUALITY_KNOB, particles);
         boolean hasSave = !GameLoaderSaver.isSaveFileEmpty();
 
         menuSystem.initializeMainMenu(
@@ -197,7 +205,7 @@ public class MainMenuScreen implements GameOfCellsScreen {
      */
     @Override
     public void hide() {
-
+        game.getQualityGovernor().unregister(Particles.QUALITY_KNOB, particles);
     }
 
     /**
@@ -206,8 +214,16 @@ public class MainMenuScreen implements GameOfCellsScreen {
      */
     @Override
     public void dispose() {
-        particles.dispose();
         menuSystem.clear();
+        resources.dispose();
+    }
+
+    /**
+     * @return Number of GPU resources this screen owns that are still alive.
+     */
+    @Override
+    public int getResourceCount() {
+        return resources.size();
     }
 
     /**
@@ -218,7 +234,7 @@ public class MainMenuScreen implements GameOfCellsScreen {
      */
     @Override
     public void handleInput(float deltaTimeSeconds) {
-        if (inputProvider.isKeyJustPressed(Input.Keys.L)) {
+        if (inputProvider.isKeyJustPressed(Input.Keys.L) && game.getAssetLoader().isLoaded(AssetGroup.GAMEPLAY)) {
             // For testing purposes
             game.setScreen(new AttractScreen(inputProvider, graphicsProvider, game, assetManager, this, configProvider));
         }
@@ -241,20 +257,20 @@ public class MainMenuScreen implements GameOfCellsScreen {
 
             switch (selectedOption) {
                 case 0:
-                    // Start the game
-                    game.setScreen(new GamePlayScreen(
+                    // Start the game. It's cached, since the shop, pause, and split screens return to it.
+                    game.setScreenWhenLoaded(AssetGroup.GAMEPLAY, () -> game.getScreens().replace(null, new GamePlayScreen(
                         inputProvider,
                         graphicsProvider,
                         game,
-                        assetManager, configProvider, 0));
+                        assetManager, configProvider, 0)));
                     break;
                 case 1:
                     // Load game
-                    game.setScreen(new GamePlayScreen(
+                    game.setScreenWhenLoaded(AssetGroup.GAMEPLAY, () -> game.getScreens().replace(null, new GamePlayScreen(
                         inputProvider,
                         graphicsProvider,
                         game,
-                        assetManager, configProvider, 1));
+                        assetManager, configProvider, 1)));
                     break;
                 case 2:
                     // Show game info screen
@@ -292,8 +308,9 @@ public class MainMenuScreen implements GameOfCellsScreen {
         // Update the inactivity timer
         inactivityTimer += deltaTimeSeconds;
 
-        // Transition to the attract screen if the inactivity timer exceeds the timeout
-        if (inactivityTimer >= INACTIVITY_TIMEOUT) {
+        // Transition to the attract screen if the inactivity timer exceeds the timeout.
+        // It runs a demo game, so waits for the gameplay assets, which are loading in the background.
+        if (inactivityTimer >= INACTIVITY_TIMEOUT && game.getAssetLoader().isLoaded(AssetGroup.GAMEPLAY)) {
             game.setScreen(new AttractScreen(
                 inputProvider,
                 graphicsProvider,
@@ -322,7 +339,6 @@ public class MainMenuScreen implements GameOfCellsScreen {
         Camera camera = viewport.getCamera();
 
         // Draw background elements
-        SpriteBatch batch = graphicsProvider.createSpriteBatch();
         batch.setProjectionMatrix(camera.combined);
 
         // Draw sem-transparent cell texture
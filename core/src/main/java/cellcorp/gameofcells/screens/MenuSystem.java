@@ -2,17 +2,18 @@ package cellcorp.gameofcells.screens;
 
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.scenes.scene2d.utils.NinePatchDrawable;
 import com.badlogic.gdx.utils.Align;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 import cellcorp.gameofcells.AssetFileNames;
+import cellcorp.gameofcells.hud.UiSkin;
 import cellcorp.gameofcells.providers.GraphicsProvider;
 
 /**
@@ -138,7 +139,7 @@ public class MenuSystem {
      * @param wasdArrowsIcon The texture for the WASD/Arrows icon
      * @param spaceEnterIcon The texture for the Space/Enter icon
      */
-    public void initializeMainMenu(String title, String[] menuOptions, String instructions, Texture wasdArrowsIcon, Texture spaceEnterIcon, boolean[] optionEnabled) {
+    public void initializeMainMenu(String title, String[] menuOptions, String instructions, TextureRegion wasdArrowsIcon, TextureRegion spaceEnterIcon, boolean[] optionEnabled) {
         clear();
 
         this.menuOptions = menuOptions;
@@ -367,26 +368,20 @@ public class MenuSystem {
         column.add(header).padBottom(5).row();
 
         // Separator line
-        Image separator = new Image(createSeparatorLine(350, 2));
-        column.add(separator).padBottom(15).row();
+        Image separator = new Image(createSeparatorLine());
+        column.add(separator).width(350).height(2).padBottom(15).row();
 
         return column;
     }
 
     /**
-     * Creates a simple line texture for separators
+     * Creates a simple line drawable for separators.
+     * Sized by the table cell it's added to.
      *
-     * @param width  The width of the line
-     * @param height The height of the line
-     * @return A Texture object representing the line
+     * @return A tinted drawable from the shared UI skin
      */
-    private Texture createSeparatorLine(int width, int height) {
-        Pixmap pixmap = new Pixmap(width, height, Pixmap.Format.RGBA8888);
-        pixmap.setColor(Color.LIGHT_GRAY);
-        pixmap.fillRectangle(0, 0, width, height);
-        Texture texture = new Texture(pixmap);
-        pixmap.dispose();
-        return texture;
+    private NinePatchDrawable createSeparatorLine() {
+        return graphicsProvider.getUiSkin().panel(0, UiSkin.Style.FILLED, Color.LIGHT_GRAY);
     }
 
     /**
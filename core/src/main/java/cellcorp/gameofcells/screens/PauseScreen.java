@@ -4,9 +4,7 @@ import cellcorp.gameofcells.providers.ConfigProvider;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.graphics.Camera;
-import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
@@ -14,6 +12,7 @@ import java.util.Random;
 
 import cellcorp.gameofcells.Main;
 import cellcorp.gameofcells.objects.Cell;
+import cellcorp.gameofcells.objects.ParticleEmitter;
 import cellcorp.gameofcells.objects.Particles;
 import cellcorp.gameofcells.providers.GraphicsProvider;
 import cellcorp.gameofcells.providers.InputProvider;
@@ -64,7 +63,7 @@ public class PauseScreen implements GameOfCellsScreen {
     private final GraphicsProvider graphicsProvider;
     private final ConfigProvider configProvider;
     private final Main game;
-    private final ShapeRenderer shapeRenderer;
+    private final ScreenResources resources = new ScreenResources();
     private final AssetManager assetManager;
     private final Viewport viewport;
     private final Particles particles;
@@ -99,14 +98,14 @@ public class PauseScreen implements GameOfCellsScreen {
         this.assetManager = assetManager;
         this.viewport = graphicsProvider.createFitViewport(VIEW_RECT_WIDTH, VIEW_RECT_HEIGHT);
 
-        this.shapeRenderer = graphicsProvider.createShapeRenderer();
-        this.particles = new Particles(graphicsProvider.createWhitePixelTexture());
+        this.particles = game.getParticleSystem().getLayer(ParticleEmitter.MENU_DUST);
+        var renderContext = graphicsProvider.getRenderContext();
+        this.batch = renderContext.getBatch();
         this.menuSystem = new MenuSystem(
-            new Stage(graphicsProvider.createFitViewport(VIEW_RECT_WIDTH, VIEW_RECT_HEIGHT), graphicsProvider.createSpriteBatch()),
+            resources.add(renderContext.createStage(graphicsProvider.createFitViewport(VIEW_RECT_WIDTH, VIEW_RECT_HEIGHT))),
             assetManager,
             graphicsProvider
         );
-        this.batch = graphicsProvider.createSpriteBatch();
     }
 
     /**
@@ -115,6 +114,7 @@ public class PauseScreen implements GameOfCellsScreen {
      */
     @Override
     public void show() {
+        game.getQualityGovernor().register(Particles.QUALITY_KNOB, particles);
         menuSystem.initializePauseMenu("Paused", PAUSE_OPTIONS, INSTRUCTIONS);
     }
 
@@ -169,7 +169,7 @@ public class PauseScreen implements GameOfCellsScreen {
      */
     @Override
     public void hide() {
-        // Hide logic if needed
+        game.getQualityGovernor().unregister(Particles.QUALITY_KNOB, particles);
     }
 
     /**
@@ -179,8 +179,15 @@ public class PauseScreen implements GameOfCellsScreen {
     @Override
     public void dispose() {
         menuSystem.clear();
-        particles.dispose();
-        batch.dispose();
+        resources.dispose();
+    }
+
+    /**
+     * @return Number of GPU resources this screen owns that are still alive.
+     */
+    @Override
+    public int getResourceCount() {
+        return resources.size();
     }
 
     /**
@@ -221,7 +228,9 @@ public class PauseScreen implements GameOfCellsScreen {
                     break;
                 case 2: // Quit to Menu
                     gamePlayScreen.resumeGame();
-                    game.setScreen(new MainMenuScreen(
+                    // The game is over, so drop it, along with this screen and the shop.
+                    game.getScreens().discard(gamePlayScreen);
+                    game.setScreen(game.getScreens().getOrCreate(null, MainMenuScreen.class, () -> new MainMenuScreen(
                         inputProvider,
                         graphicsProvider,
                         game,
@@ -229,7 +238,7 @@ public class PauseScreen implements GameOfCellsScreen {
                         null,
                         viewport,
                         configProvider
-                    ));
+                    )));
                     break;
             }
         }
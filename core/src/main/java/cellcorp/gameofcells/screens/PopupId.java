@@ -0,0 +1,53 @@
+package cellcorp.gameofcells.screens;
+
+import com.badlogic.gdx.graphics.Color;
+
+/**
+ * PopupId Enum
+ * <p>
+ * The info popups the gameplay screen can show, each at most once per game.
+ * Holds everything needed to build a popup, so {@link PopupRegistry} can wait until it's first shown.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public enum PopupId {
+    GLUCOSE("glucosePopupMessage", PopupInfoScreen.DEFAULT_GLUCOSE_POPUP_MESSAGE,
+        new Color(0.8f, 0.33f, 0.0f, 1f), "glukePopup"),
+    ACID_ZONE("dangerPopupMessage", PopupInfoScreen.DEFAULT_ACID_ZONE_POPUP_MESSAGE,
+        new Color(0.8f, 0.0f, 0.4f, 1f), "acidPopup"),
+    BASIC_ZONE("basicPopupMessage", PopupInfoScreen.DEFAULT_BASIC_ZONE_POPUP_MESSAGE,
+        new Color(0.0f, 0.0f, 0.25f, 1f), "basicPopup"),
+    HEAL_AVAILABLE("healAvailableMessage", PopupInfoScreen.DEFAULT_HEAL_AVAILABLE_MESSAGE,
+        Color.BLACK, "healPopup"),
+    CELL_MEMBRANE("sizeUpgrade1Message", PopupInfoScreen.DEFAULT_SIZE_UPGRADE_1_MESSAGE,
+        Color.BLACK, "membranePopup"),
+    SPLIT_CELL("splitCellMessage", PopupInfoScreen.DEFAULT_SPLIT_CELL_MESSAGE,
+        Color.BLACK, "splitPopup");
+
+    /**
+     * Name of the key for this popup's message in the config file.
+     */
+    public final String messageConfigKey;
+    /**
+     * Message shown if the config file doesn't have one.
+     */
+    public final String defaultMessage;
+    public final Color backgroundColor;
+    /**
+     * Name of the key for whether this popup was shown, in the save file.
+     */
+    public final String saveKey;
+
+    PopupId(String messageConfigKey, String defaultMessage, Color backgroundColor, String saveKey) {
+        this.messageConfigKey = messageConfigKey;
+        this.defaultMessage = defaultMessage;
+        this.backgroundColor = backgroundColor;
+        this.saveKey = saveKey;
+    }
+}
@@ -1,20 +1,20 @@
 package cellcorp.gameofcells.screens;
 
-import cellcorp.gameofcells.AssetFileNames;
+import cellcorp.gameofcells.AssetRegistry;
+import cellcorp.gameofcells.hud.UiSkin;
 import cellcorp.gameofcells.providers.ConfigProvider;
 import cellcorp.gameofcells.providers.GraphicsProvider;
 import cellcorp.gameofcells.providers.InputProvider;
+import cellcorp.gameofcells.providers.RenderContext;
 import com.badlogic.gdx.Input;
-import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.ScrollPane;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
-import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
+import com.badlogic.gdx.utils.Disposable;
 /**
  * PopupInfo Screen
  *
@@ -29,7 +29,7 @@ import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
  * popups in the game, specifically in regards to drawing the popups to the screen
  * and the formating of said popups
  */
-public class PopupInfoScreen {
+public class PopupInfoScreen implements Disposable {
     // I feel this is not a _great_ place for these, but Idk where else to put them.
     // Maybe in `assets/defaults.timl` or something.
     public static final String DEFAULT_GLUCOSE_POPUP_MESSAGE =
@@ -56,29 +56,31 @@ public class PopupInfoScreen {
 
     private static final float SCROLL_DISTANCE_PER_SECOND = 1600;
 
-    private final AssetManager assetManager;
+    private final BitmapFont font;
     /**
      * Name of the key for this message's popup in the config file.
      */
     private final Color backgroundColor;
     private final Runnable onHide;
     private final ScrollPane scrollPane;
+    private final RenderContext renderContext;
     private final Stage stage;
     private boolean isVisible = false;
     private boolean wasShown = false;
 
     public PopupInfoScreen(ConfigProvider configProvider,
                            GraphicsProvider graphicsProvider,
-                           AssetManager assetManager,
+                           AssetRegistry assets,
                            String messageConfigKey,
                            String defaultMessage,
                            Color backgroundColor,
                            Runnable onHide) {
-        this.assetManager = assetManager;
+        this.font = assets.hudFont;
         var message = configProvider.getStringOrDefault(messageConfigKey, defaultMessage);
         this.backgroundColor = backgroundColor;
         this.onHide = onHide;
 
+        this.renderContext = graphicsProvider.getRenderContext();
         this.stage = graphicsProvider.createStage(HUD.VIEW_RECT_WIDTH, HUD.VIEW_RECT_HEIGHT);
         this.scrollPane = scrollPane(background(graphicsProvider), label(graphicsProvider, message));
         stage.addActor(table(scrollPane));
@@ -89,8 +91,6 @@ public class PopupInfoScreen {
     }
 
     private Label label(GraphicsProvider graphicsProvider, String message) {
-        var font = assetManager.get(AssetFileNames.HUD_FONT, BitmapFont.class);
-
         var style = new Label.LabelStyle(font, Color.WHITE);
         var label = graphicsProvider.createLabel(message, style);
         label.setWrap(true);
@@ -99,13 +99,12 @@ public class PopupInfoScreen {
     }
 
     private Drawable background(GraphicsProvider graphicsProvider) {
-        Texture backgroundTexture = graphicsProvider.createRoundedRectangleTexture(
-            (int) SCROLL_PANE_WIDTH,
-            (int) SCROLL_PANE_HEIGHT,
-            backgroundColor,
-            SCROLL_PANE_CORNER_RADIUS
+        // Shared nine-patch, tinted, so each popup doesn't rasterize its own full-size texture.
+        Drawable background = graphicsProvider.getUiSkin().panel(
+            (int) SCROLL_PANE_CORNER_RADIUS,
+            UiSkin.Style.FILLED,
+            backgroundColor
         );
-        Drawable background = new TextureRegionDrawable(backgroundTexture);
         background.setLeftWidth(TEXT_HORIZONTAL_PADDING);
         background.setRightWidth(TEXT_HORIZONTAL_PADDING);
         background.setTopHeight(TEXT_VERTICAL_PADDING);
@@ -175,16 +174,25 @@ public class PopupInfoScreen {
     public void draw() {
         if (!isVisible) return;
 
-        BitmapFont font = assetManager.get(AssetFileNames.HUD_FONT, BitmapFont.class);
         var callerScaleX = font.getScaleX();
         var callerScaleY = font.getScaleY();
         font.getData().setScale(FONT_SCALE);
 
+        renderContext.push();
         stage.draw();
+        renderContext.pop();
 
         font.getData().setScale(callerScaleX, callerScaleY);
     }
 
+    /**
+     * Dispose the popup's stage. Its batch is shared, so it's left alone.
+     */
+    @Override
+    public void dispose() {
+        stage.dispose();
+    }
+
     /**
      * Returns whether this info popup has ever been shown.
      */
@@ -0,0 +1,158 @@
+package cellcorp.gameofcells.screens;
+
+import cellcorp.gameofcells.AssetRegistry;
+import cellcorp.gameofcells.providers.ConfigProvider;
+import cellcorp.gameofcells.providers.GraphicsProvider;
+import cellcorp.gameofcells.providers.InputProvider;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * PopupRegistry Class
+ * <p>
+ * The gameplay screen's info popups, keyed by {@link PopupId}.
+ * Most games only ever see a few of them, so each popup's stage is built the first time it's shown, not up front.
+ * <p>
+ * Whether each popup was shown is tracked here, so saving and loading it never builds a popup.
+ * Input and drawing only go to popups that are visible.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public class PopupRegistry implements Disposable {
+    private static final PopupId[] IDS = PopupId.values();
+
+    private final ConfigProvider configProvider;
+    private final GraphicsProvider graphicsProvider;
+    private final AssetRegistry assets;
+    private final Runnable onHide;
+
+    private final PopupInfoScreen[] popups = new PopupInfoScreen[IDS.length]; // Null until first shown
+    private final boolean[] wasShown = new boolean[IDS.length]; // Only used until the popup is built
+
+    /**
+     * Constructor
+     *
+     * @param configProvider   - The config provider, for popup messages.
+     * @param graphicsProvider - The graphics provider.
+     * @param assets           - The loaded assets.
+     * @param onHide           - Run whenever a popup is dismissed.
+     */
+    public PopupRegistry(ConfigProvider configProvider,
+                         GraphicsProvider graphicsProvider,
+                         AssetRegistry assets,
+                         Runnable onHide) {
+        this.configProvider = configProvider;
+        this.graphicsProvider = graphicsProvider;
+        this.assets = assets;
+        this.onHide = onHide;
+    }
+
+    /**
+     * Show a popup, building it if this is the first time.
+     */
+    public void show(PopupId id) {
+        get(id).show();
+    }
+
+    /**
+     * @return Whether the popup has ever been shown. Doesn't build it.
+     */
+    public boolean wasShown(PopupId id) {
+        var popup = popups[id.ordinal()];
+        return popup != null ? popup.wasShown() : wasShown[id.ordinal()];
+    }
+
+    /**
+     * Set whether the popup has been shown, like when loading a save. Doesn't build it.
+     */
+    public void setWasShown(PopupId id, boolean value) {
+        var popup = popups[id.ordinal()];
+        if (popup != null) {
+            popup.setWasShown(value);
+        } else {
+            wasShown[id.ordinal()] = value;
+        }
+    }
+
+    /**
+     * Get a popup, building it if it hasn't been.
+     */
+    public PopupInfoScreen get(PopupId id) {
+        var popup = popups[id.ordinal()];
+        if (popup == null) {
+            popup = new PopupInfoScreen(
+                configProvider,
+                graphicsProvider,
+                assets,
+                id.messageConfigKey,
+                id.defaultMessage,
+                id.backgroundColor,
+                onHide
+            );
+            popup.setWasShown(wasShown[id.ordinal()]);
+            popups[id.ordinal()] = popup;
+        }
+        return popup;
+    }
+
+    /**
+     * @return Whether the popup's been built.
+     */
+    public boolean isBuilt(PopupId id) {
+        return popups[id.ordinal()] != null;
+    }
+
+    /**
+     * @return Number of popups built so far.
+     */
+    public int getBuiltCount() {
+        int count = 0;
+        for (var popup : popups) {
+            if (popup != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Handle input for every visible popup.
+     */
+    public void handleInput(InputProvider inputProvider, float deltaTimeSeconds) {
+        for (var popup : popups) {
+            if (popup != null && popup.isVisible()) {
+                popup.handleInput(inputProvider, deltaTimeSeconds);
+            }
+        }
+    }
+
+    /**
+     * Draw every visible popup.
+     */
+    public void draw() {
+        for (var popup : popups) {
+            if (popup != null && popup.isVisible()) {
+                popup.draw();
+            }
+        }
+    }
+
+    /**
+     * Dispose every popup that was built.
+     */
+    @Override
+    public void dispose() {
+        for (int i = 0; i < popups.length; i++) {
+            if (popups[i] != null) {
+                wasShown[i] = popups[i].wasShown();
+                popups[i].dispose();
+                popups[i] = null;
+            }
+        }
+    }
+}
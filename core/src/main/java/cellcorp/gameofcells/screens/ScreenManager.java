@@ -0,0 +1,234 @@
+package cellcorp.gameofcells.screens;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.function.Supplier;
+
+/**
+ * ScreenManager Class
+ * <p>
+ * Owns every screen's lifecycle, so each is disposed exactly once, at a known time.
+ * <p>
+ * Screens are either one-shot or cached:
+ * <ul>
+ *     <li>One-shot screens are disposed when they're left.</li>
+ *     <li>Cached screens survive being left, and are reused the next time they're shown.
+ *     A screen that's returned to, like the gameplay screen behind the shop, must be cached.
+ *     A cached screen can have an owner: the shop and pause menus are cached per gameplay screen,
+ *     and are disposed along with it.</li>
+ * </ul>
+ * Disposal is deferred to the end of the frame, since a screen usually changes screens from inside its own
+ * `render`, and keeps running until it returns.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public class ScreenManager {
+    private static final String LOG_TAG = "ScreenManager";
+
+    private static final class CachedScreen {
+        private final GameOfCellsScreen owner; // Null for screens owned by the game
+        private final Class<?> type;
+        private final GameOfCellsScreen screen;
+
+        private CachedScreen(GameOfCellsScreen owner, Class<?> type, GameOfCellsScreen screen) {
+            this.owner = owner;
+            this.type = type;
+            this.screen = screen;
+        }
+    }
+
+    private final Array<CachedScreen> cached = new Array<>();
+    private final Array<GameOfCellsScreen> pendingDisposal = new Array<>();
+    private GameOfCellsScreen current;
+
+    /**
+     * @return The currently-shown screen.
+     */
+    public GameOfCellsScreen getCurrent() {
+        return current;
+    }
+
+    /**
+     * Show a screen, hiding the current one. If the current screen is one-shot, it's disposed at the end of the frame.
+     */
+    public void setScreen(GameOfCellsScreen screen) {
+        if (current != null) {
+            current.hide();
+            if (!isCached(current) && current != screen) {
+                pendingDisposal.add(current);
+            }
+        }
+        current = screen;
+        pendingDisposal.removeValue(screen, true);
+        current.show();
+        log();
+    }
+
+    /**
+     * Get a cached screen, creating it the first time.
+     *
+     * @param owner  The screen that owns it, or null if the game does. Disposed along with its owner.
+     * @param type   The screen's type. Each owner caches one screen per type.
+     * @param create Creates the screen, if it isn't cached.
+     */
+    public <T extends GameOfCellsScreen> T getOrCreate(GameOfCellsScreen owner, Class<T> type, Supplier<T> create) {
+        for (var entry : cached) {
+            if (entry.owner == owner && entry.type == type) {
+                @SuppressWarnings("unchecked")
+                T screen = (T) entry.screen;
+                return screen;
+            }
+        }
+        T screen = create.get();
+        cached.add(new CachedScreen(owner, type, screen));
+        return screen;
+    }
+
+    /**
+     * Cache a screen, replacing the owner's cached screen of the same type.
+     * The replaced screen, and the screens it owns, are discarded.
+     *
+     * @param owner  The screen that owns it, or null if the game does.
+     * @param screen The screen to cache.
+     * @return The screen.
+     */
+    public <T extends GameOfCellsScreen> T replace(GameOfCellsScreen owner, T screen) {
+        for (var entry : cached) {
+            if (entry.owner == owner && entry.type == screen.getClass()) {
+                discard(entry.screen);
+                break;
+            }
+        }
+        cached.add(new CachedScreen(owner, screen.getClass(), screen));
+        return screen;
+    }
+
+    /**
+     * Stop caching a screen, and the screens it owns.
+     * Each is disposed at the end of the frame, or, if it's the current screen, when it's left.
+     */
+    public void discard(GameOfCellsScreen screen) {
+        // Collected first, since discarding them changes `cached`.
+        var owned = new Array<GameOfCellsScreen>();
+        for (var entry : cached) {
+            if (entry.owner == screen) {
+                owned.add(entry.screen);
+            }
+        }
+        for (var ownedScreen : owned) {
+            discard(ownedScreen);
+        }
+        for (int i = cached.size - 1; i >= 0; i--) {
+            if (cached.get(i).screen == screen) {
+                cached.removeIndex(i);
+            }
+        }
+        if (screen != current && !pendingDisposal.contains(screen, true)) {
+            pendingDisposal.add(screen);
+        }
+    }
+
+    /**
+     * Dispose screens that were left or discarded this frame. Call once at the end of every frame.
+     */
+    public void disposePending() {
+        if (pendingDisposal.isEmpty()) {
+            return;
+        }
+        for (var screen : pendingDisposal) {
+            screen.dispose();
+        }
+        pendingDisposal.clear();
+        log();
+    }
+
+    private boolean isCached(GameOfCellsScreen screen) {
+        for (var entry : cached) {
+            if (entry.screen == screen) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return Number of screens alive: the current screen, and every cached screen.
+     */
+    public int getLiveScreenCount() {
+        int count = current != null && !isCached(current) ? 1 : 0;
+        return count + cached.size;
+    }
+
+    /**
+     * @return Number of GPU resources alive, across every live screen.
+     */
+    public int getLiveResourceCount() {
+        int count = current != null && !isCached(current) ? current.getResourceCount() : 0;
+        for (var entry : cached) {
+            count += entry.screen.getResourceCount();
+        }
+        return count;
+    }
+
+    /**
+     * Describe every live screen, and the GPU resources it holds.
+     */
+    public String report() {
+        var report = new StringBuilder();
+        if (current != null && !isCached(current)) {
+            describe(report, current, "one-shot", null);
+        }
+        for (var entry : cached) {
+            describe(report, entry.screen, "cached", entry.owner);
+        }
+        report.append(getLiveScreenCount()).append(" screens, ")
+            .append(getLiveResourceCount()).append(" GPU resources");
+        return report.toString();
+    }
+
+    private void describe(StringBuilder report, GameOfCellsScreen screen, String kind, GameOfCellsScreen owner) {
+        report.append(screen.getClass().getSimpleName())
+            .append(" (").append(kind);
+        if (owner != null) {
+            report.append(", owned by ").append(owner.getClass().getSimpleName());
+        }
+        if (screen == current) {
+            report.append(", current");
+        }
+        report.append("): ").append(screen.getResourceCount()).append(" GPU resources\n");
+    }
+
+    private void log() {
+        if (Gdx.app != null) {
+            Gdx.app.debug(LOG_TAG, report());
+        }
+    }
+
+    /**
+     * Dispose every screen, including the current one.
+     */
+    public void dispose() {
+        if (current != null) {
+            current.hide();
+            if (!isCached(current)) {
+                pendingDisposal.add(current);
+            }
+            current = null;
+        }
+        for (var entry : cached) {
+            pendingDisposal.add(entry.screen);
+        }
+        cached.clear();
+        for (var screen : pendingDisposal) {
+            screen.dispose();
+        }
+        pendingDisposal.clear();
+    }
+}
@@ -0,0 +1,53 @@
+package cellcorp.gameofcells.screens;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * ScreenResources Class
+ * <p>
+ * The GPU resources a screen owns -- stages, popups, framebuffers -- disposed together when the screen is.
+ * Screens wrap each resource as they create it, so none can be forgotten in `dispose`.
+ * <p>
+ * The sprite batch and shape renderer come from the shared
+ * {@link cellcorp.gameofcells.providers.RenderContext}, so don't add them.
+ *
+ * @author Brendon Vineyard / vineyabn207
+ * @author Andrew Sennoga-Kimuli / sennogat106
+ * @author Mark Murphy / murphyml207
+ * @author Tim Davey / daveytj206
+ * @date 03/05/2025
+ * @course CIS 405
+ * @assignment GameOfCells
+ */
+public class ScreenResources implements Disposable {
+    private final Array<Disposable> resources = new Array<>();
+
+    /**
+     * Take ownership of a resource.
+     *
+     * @return The resource, for assigning to a field.
+     */
+    public <T extends Disposable> T add(T resource) {
+        resources.add(resource);
+        return resource;
+    }
+
+    /**
+     * @return Number of resources still alive.
+     */
+    public int size() {
+        return resources.size;
+    }
+
+    /**
+     * Dispose every resource, newest first, so a stage goes before the batch it was built on.
+     */
+    @Override
+    public void dispose() {
+        for (int i = resources.size - 1; i >= 0; i--) {
+            resources.get(i).dispose();
+        }
+        resources.clear();
+    }
+}
@@ -2,7 +2,10 @@ package cellcorp.gameofcells.screens;
 
 import cellcorp.gameofcells.AssetFileNames;
 import cellcorp.gameofcells.Main;
+import cellcorp.gameofcells.hud.TextBinding;
+import cellcorp.gameofcells.hud.UiSkin;
 import cellcorp.gameofcells.objects.Cell;
+import cellcorp.gameofcells.objects.ParticleEmitter;
 import cellcorp.gameofcells.objects.Particles;
 import cellcorp.gameofcells.objects.organelle.*;
 import cellcorp.gameofcells.objects.size.*;
@@ -11,7 +14,6 @@ import cellcorp.gameofcells.providers.InputProvider;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
@@ -24,7 +26,6 @@ import com.badlogic.gdx.scenes.scene2d.actions.RunnableAction;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
-import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.Viewport;
@@ -62,6 +63,8 @@ public class ShopScreen implements GameOfCellsScreen {
     private static final float UPGRADE_CARD_WIDTH = 350;
     private static final float UPGRADE_CARD_HEIGHT = 250;
     private final static float SELECTED_CARD_SCALE = 1.1F;
+    private static final int GLOW_BORDER_WIDTH = 10;
+    private static final Color OPTION_BACKGROUND_COLOR = new Color(0.2f, 0.2f, 0.2f, 0.8f); // Dark gray with transparency
 
     // Mark set these to be the previous `WORLD_WIDTH` and `WORLD_HEIGHT`.
     // Change as is most convenient.
@@ -75,6 +78,7 @@ public class ShopScreen implements GameOfCellsScreen {
     private final GraphicsProvider graphicsProvider;
     private final AssetManager assetManager;
     private final Viewport viewport;
+    private final ScreenResources resources = new ScreenResources();
     private final SpriteBatch batch;
     private final ShapeRenderer shapeRenderer;
     private final Particles particles;
@@ -88,6 +92,10 @@ public class ShopScreen implements GameOfCellsScreen {
     private Table organelleTable;
     private Table currentSizeCard;
     private Table currentOrganelleCard;
+    private TextBinding atpText;
+    private TextBinding sizeText;
+    // The upgrades the cell had when the UI was built. See `getUpgradeState`.
+    private int builtUpgradeState;
 
     /**
      * Constructor for the ShopScreen class.
@@ -115,11 +123,12 @@ public class ShopScreen implements GameOfCellsScreen {
         this.playerCell = cell;
 
         this.viewport = graphicsProvider.createFitViewport(VIEW_RECT_WIDTH, VIEW_RECT_HEIGHT);
-        this.batch = graphicsProvider.createSpriteBatch();
-        this.shapeRenderer = graphicsProvider.createShapeRenderer();
-        this.particles = new Particles(graphicsProvider.createWhitePixelTexture());
+        var renderContext = graphicsProvider.getRenderContext();
+        this.batch = renderContext.getBatch();
+        this.shapeRenderer = renderContext.getShapeRenderer();
+        this.particles = game.getParticleSystem().getLayer(ParticleEmitter.MENU_DUST);
 
-        this.stage = new Stage(viewport, batch);
+        this.stage = resources.add(renderContext.createStage(viewport));
 
         this.menuSystem = new MenuSystem(stage, assetManager, graphicsProvider);
 
@@ -134,6 +143,8 @@ public class ShopScreen implements GameOfCellsScreen {
     // This method checks if the player cell has already purchased certain upgrades
     // and only adds the available ones to the respective lists.
     private void initializeUpgrades() {
+        builtUpgradeState = getUpgradeState();
+
         // Initialize size upgrades
         sizeUpgrades = new ArrayList<>();
         if (!playerCell.hasSmallSizeUpgrade()) {
@@ -165,6 +176,28 @@ public class ShopScreen implements GameOfCellsScreen {
         }
     }
 
+    // Each upgrade the cell has, as one bit.
+    // The shop is cached with its gameplay screen, so this tells `show` whether the UI is out of date.
+    private int getUpgradeState() {
+        boolean[] upgrades = {
+            playerCell.hasSmallSizeUpgrade(),
+            playerCell.hasMediumSizeUpgrade(),
+            playerCell.hasLargeSizeUpgrade(),
+            playerCell.hasMassiveSizeUpgrade(),
+            playerCell.hasMitochondria(),
+            playerCell.hasRibosomes(),
+            playerCell.hasFlagellum(),
+            playerCell.hasNucleus()
+        };
+        int state = 0;
+        for (int i = 0; i < upgrades.length; i++) {
+            if (upgrades[i]) {
+                state |= 1 << i;
+            }
+        }
+        return state;
+    }
+
     // Here we create the UI for the shop screen.
     // This method sets up the layout of the shop, including the size and organelle
     // upgrade columns, the ATP and size information, and the upgrade cards.
@@ -183,8 +216,11 @@ public class ShopScreen implements GameOfCellsScreen {
         Table rightTable = shopTables[2];   // Organelle upgrades column
 
         // Add ATP/Size info to center column
-        Label atpLabel = createLabel("ATP: " + playerCell.getCellATP(), UPGRADE_NAME_TEXT_SIZE);
-        Label sizeLabel = createLabel("Size: " + playerCell.getSizeUpgradeLevel(), UPGRADE_NAME_TEXT_SIZE);
+        Label atpLabel = createLabel("", UPGRADE_NAME_TEXT_SIZE);
+        Label sizeLabel = createLabel("", UPGRADE_NAME_TEXT_SIZE);
+        atpText = new TextBinding(atpLabel, "ATP: ");
+        sizeText = new TextBinding(sizeLabel, "Size: ");
+        updateStatsText();
 
         centerTable.add(atpLabel).row();
         centerTable.add(sizeLabel).padTop(10).row();
@@ -222,12 +258,9 @@ public class ShopScreen implements GameOfCellsScreen {
         Table card = new Table();
         card.setSize(UPGRADE_CARD_WIDTH, UPGRADE_CARD_HEIGHT);
 
-        Pixmap debugPixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
-        debugPixmap.setColor(Color.RED);
-        debugPixmap.fill();
-        card.setBackground(new TextureRegionDrawable(new Texture(debugPixmap)));
         // Glowing border
-        Image glowingBorder = new Image(createGlowingBorderTexture());
+        Image glowingBorder = new Image(
+            graphicsProvider.getUiSkin().panel(GLOW_BORDER_WIDTH, UiSkin.Style.GLOW_BORDER, Color.YELLOW));
         glowingBorder.setSize(UPGRADE_CARD_WIDTH, UPGRADE_CARD_HEIGHT);
         glowingBorder.setPosition(0, 0);
         glowingBorder.setVisible(false); // Hide the border by default
@@ -235,7 +268,8 @@ public class ShopScreen implements GameOfCellsScreen {
         card.addActor(glowingBorder); // Add the border as an actor (not part of the table layout)
 
         // Background
-        card.setBackground(new TextureRegionDrawable(createOptionBackgroundTexture()));
+        card.setBackground(
+            graphicsProvider.getUiSkin().panel(0, UiSkin.Style.FILLED, OPTION_BACKGROUND_COLOR));
 
         if (isSizeUpgrade) {
             SizeUpgrade sizeUpgrade = (SizeUpgrade) upgrade;
@@ -491,59 +525,6 @@ public class ShopScreen implements GameOfCellsScreen {
         return label;
     }
 
-    /**
-     * Create a custom background texture for the option cards.
-     *
-     * @return The background texture.
-     */
-    private Texture createOptionBackgroundTexture() {
-        int width = (int) UPGRADE_CARD_WIDTH;
-        int height = (int) UPGRADE_CARD_HEIGHT;
-        Texture texture = graphicsProvider.createTexture(width, height, Pixmap.Format.RGBA8888);
-        Pixmap pixmap = graphicsProvider.createPixmap(width, height, Pixmap.Format.RGBA8888);
-
-        // Draw the background using a gradient effect
-        pixmap.setColor(0.2f, 0.2f, 0.2f, 0.8f); // Dark gray with transparency
-        pixmap.fillRectangle(0, 0, width, height); // Fill the pixmap with the color
-
-        // Draw the pixmap to the texture
-        texture.draw(pixmap, 0, 0);
-        pixmap.dispose(); // Clean up the pixmap
-
-        return texture;
-    }
-
-    /**
-     * Draw a glowing border around the selected upgrade card.
-     */
-    public Texture createGlowingBorderTexture() {
-        int width = (int) UPGRADE_CARD_WIDTH;
-        int height = (int) UPGRADE_CARD_HEIGHT;
-        Texture texture = graphicsProvider.createTexture(width, height, Pixmap.Format.RGBA8888);
-        Pixmap pixmap = graphicsProvider.createPixmap(width, height, Pixmap.Format.RGBA8888);
-
-        // Draw the glowing border
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                if (x < 10 || x >= width - 10 || y < 10 || y >= height - 10) {
-                    // Create a gradient effect for the border
-                    float alpha = Math.max(
-                        Math.max(10 - x, x - (width - 10)),
-                        Math.max(10 - y, y - (height - 10))
-                    ) / 10f; // Normalize to 0..1
-                    pixmap.setColor(1, 1, 0, alpha); // Yellow with transparency
-                    pixmap.drawPixel(x, y);
-                }
-            }
-        }
-
-        // Draw the pixmap to the texture
-        texture.draw(pixmap, 0, 0);
-        pixmap.dispose(); // Clean up the pixmap
-
-        return texture;
-    }
-
     /**
      * Render the screen.
      *
@@ -607,9 +588,18 @@ public class ShopScreen implements GameOfCellsScreen {
      */
     @Override
     public void update(float deltaTimeSeconds) {
+        updateStatsText();
         stage.act(deltaTimeSeconds);
     }
 
+    /**
+     * Refresh the ATP and size labels. Only re-lays them out if the values changed.
+     */
+    private void updateStatsText() {
+        atpText.set(playerCell.getCellATP());
+        sizeText.set(playerCell.getSizeUpgradeLevel());
+    }
+
     /**
      * Draw the screen.
      */
@@ -625,6 +615,15 @@ public class ShopScreen implements GameOfCellsScreen {
     public void show() {
 
         // This method is called when the screen becomes the current screen for the game.
+        game.getQualityGovernor().register(Particles.QUALITY_KNOB, particles);
+
+        // The shop is reused each time it's opened. Rebuild the cards only if the cell's upgrades changed,
+        // and drop the fade-out left over from the last time it closed.
+        if (getUpgradeState() != builtUpgradeState) {
+            initializeUpgrades();
+            createUI();
+        }
+        stage.getRoot().clearActions();
 
         // Set the stage's root actor to be transparent initially
         stage.getRoot().getColor().a = 0; // Full transparent
@@ -671,7 +670,7 @@ public class ShopScreen implements GameOfCellsScreen {
      */
     @Override
     public void hide() {
-        // No action needed
+        game.getQualityGovernor().unregister(Particles.QUALITY_KNOB, particles);
     }
 
     /**
@@ -680,10 +679,15 @@ public class ShopScreen implements GameOfCellsScreen {
     @Override
     public void dispose() {
         // Destroy screen's assets here.
-        batch.dispose();  // Dispose of the batch
-        stage.dispose(); // Dispose of the stage
-        shapeRenderer.dispose(); // Dispose of the shape renderer
-        particles.dispose(); // Dispose of the particles
+        resources.dispose();
+    }
+
+    /**
+     * @return Number of GPU resources this screen owns that are still alive.
+     */
+    @Override
+    public int getResourceCount() {
+        return resources.size();
     }
 
     public GamePlayScreen getPreviousScreen() {
@@ -770,23 +774,23 @@ public class ShopScreen implements GameOfCellsScreen {
     /**
      * Get the option background texture.
      * This is used to get the background texture for the option cards.
-     * This is useful for creating a custom background for the option cards.
+     * It's the (white) texture shared through the UI skin, tinted at draw time, so don't dispose it.
      *
      * @return
      */
     public Texture getOptionBackgroundTexture() {
-        return createOptionBackgroundTexture();
+        return graphicsProvider.getUiSkin().getTexture(0, UiSkin.Style.FILLED);
     }
 
     /**
      * Get the glowing border texture.
      * This is used to get the glowing border texture for the option cards.
-     * This is useful for creating a glowing effect around the selected option card.
+     * It's the (white) texture shared through the UI skin, tinted at draw time, so don't dispose it.
      *
      * @return
      */
     public Texture getGlowingBorderTexture() {
-        return createGlowingBorderTexture();
+        return graphicsProvider.getUiSkin().getTexture(GLOW_BORDER_WIDTH, UiSkin.Style.GLOW_BORDER);
     }
 
     /**
@@ -234,7 +234,7 @@ public class SplitCellScreen implements GameOfCellsScreen {
             zoom = MathUtils.clamp(zoom, MINIMUM_ZOOM, MAXIMUM_ZOOM); // lerp doesn't clamp
         }
 
-        camera.zoom = 1 / zoom;
+        gamePlayScreen.getCameraController().setCameraZoom(1 / zoom);
     }
 
     private void drawCells() {
@@ -247,7 +247,7 @@ public class SplitCellScreen implements GameOfCellsScreen {
 
     @Override
     public void resize(int screenWidth, int screenHeight) {
-        viewport.update(screenWidth, screenHeight);
+        gamePlayScreen.resize(screenWidth, screenHeight);
     }
 
     @Override
@@ -0,0 +1,74 @@
+package cellcorp.gameofcells;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Asset Loader Testing
+ * <p>
+ * Makes sure groups load one at a time, in order, and are resolved once loaded.
+ */
+public class TestAssetLoader {
+    private AssetManager assetManager;
+    private AssetLoader assetLoader;
+
+    @BeforeEach
+    public void setUp() {
+        assetManager = mock(AssetManager.class);
+        assetLoader = new AssetLoader(assetManager);
+    }
+
+    @Test
+    public void onlyFirstGroupIsQueuedAtFirst() {
+        assetLoader.request(AssetGroup.MENU);
+        assetLoader.request(AssetGroup.GAMEPLAY);
+
+        verify(assetManager).load(AssetFileNames.HUD_FONT, BitmapFont.class);
+        verify(assetManager, never()).load(AssetFileNames.PARALLAX_FAR, Texture.class);
+    }
+
+    @Test
+    public void groupIsNotLoadedUntilAssetManagerFinishes() {
+        assetLoader.request(AssetGroup.MENU);
+        when(assetManager.update(anyInt())).thenReturn(false);
+
+        assertFalse(assetLoader.update(10));
+        assertFalse(assetLoader.isLoaded(AssetGroup.MENU));
+        assertNull(assetLoader.getAssets().sprites);
+    }
+
+    @Test
+    public void groupsLoadOneSliceAtATime() {
+        var parallaxFar = mock(Texture.class);
+        when(assetManager.get(AssetFileNames.PARALLAX_FAR, Texture.class)).thenReturn(parallaxFar);
+        when(assetManager.update(anyInt())).thenReturn(true);
+        assetLoader.request(AssetGroup.MENU);
+        assetLoader.request(AssetGroup.GAMEPLAY);
+
+        assertFalse(assetLoader.update(10));
+        assertTrue(assetLoader.isLoaded(AssetGroup.MENU));
+        assertFalse(assetLoader.isLoaded(AssetGroup.GAMEPLAY));
+        assertNotNull(assetLoader.getAssets().sprites);
+        assertNull(assetLoader.getAssets().parallaxFar);
+        verify(assetManager).load(AssetFileNames.PARALLAX_FAR, Texture.class);
+
+        assertTrue(assetLoader.update(10));
+        assertTrue(assetLoader.isLoaded(AssetGroup.GAMEPLAY));
+        assertSame(parallaxFar, assetLoader.getAssets().parallaxFar);
+    }
+
+    @Test
+    public void requestingTwiceQueuesOnce() {
+        assetLoader.request(AssetGroup.MENU);
+        assetLoader.request(AssetGroup.MENU);
+
+        verify(assetManager, times(1)).load(AssetFileNames.HUD_FONT, BitmapFont.class);
+    }
+}
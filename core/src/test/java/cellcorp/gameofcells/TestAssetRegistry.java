@@ -0,0 +1,61 @@
+package cellcorp.gameofcells;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Asset Registry Testing
+ * <p>
+ * Makes sure handles are resolved from the asset manager once, when the registry is built.
+ */
+public class TestAssetRegistry {
+    private AssetManager assetManager;
+
+    @BeforeEach
+    public void setUp() {
+        assetManager = mock(AssetManager.class);
+    }
+
+    @Test
+    public void handlesComeFromAssetManager() {
+        var hudFont = mock(BitmapFont.class);
+        var parallaxFar = mock(Texture.class);
+        when(assetManager.get(AssetFileNames.HUD_FONT, BitmapFont.class)).thenReturn(hudFont);
+        when(assetManager.get(AssetFileNames.PARALLAX_FAR, Texture.class)).thenReturn(parallaxFar);
+
+        var assets = new AssetRegistry(assetManager);
+
+        assertSame(hudFont, assets.hudFont);
+        assertSame(parallaxFar, assets.parallaxFar);
+        assertNotNull(assets.sprites);
+    }
+
+    @Test
+    public void readingHandlesDoesNotTouchAssetManager() {
+        var assets = new AssetRegistry(assetManager);
+        clearInvocations(assetManager);
+
+        for (int i = 0; i < 10; i++) {
+            assertNull(assets.hudFont);
+            assertNotNull(assets.sprites.glucose);
+        }
+
+        verifyNoInteractions(assetManager);
+    }
+
+    @Test
+    public void loadQueuesFontsAndSprites() {
+        AssetRegistry.load(assetManager);
+
+        verify(assetManager).load(AssetFileNames.HUD_FONT, BitmapFont.class);
+        verify(assetManager).load(AssetFileNames.VIGNETTE_LOW_HEALTH, Texture.class);
+        // No atlases are packed in tests, so the sprites load on their own
+        verify(assetManager).load(AssetFileNames.GLUCOSE, Texture.class);
+    }
+}
@@ -23,6 +23,7 @@ import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 
 import org.junit.jupiter.api.AfterAll;
@@ -298,7 +299,7 @@ public class TestMain {
         Mockito.when(fakeConfigProvider.getIntValue("maxATP")).thenReturn(100);
 
 
-        var testCell = new Cell(currentGamePlayScreen, fakeAssetManager, fakeConfigProvider);
+        var testCell = new Cell(currentGamePlayScreen, new SpriteRegions(fakeAssetManager), fakeConfigProvider);
         System.out.println("TESTCELLSTART" + testCell.getCellATP());
         var startATP = cell.getCellATP();
         System.out.println("START ATP:" + startATP);
@@ -307,7 +308,7 @@ public class TestMain {
         var addedGlucose = new ArrayList<Glucose>();
         for (int i = 0; i < 10; i++) {
             addedGlucose.add(new Glucose(
-                Mockito.mock(AssetManager.class),
+                new TextureRegion(),
                 cell.getX(),
                 cell.getY()
             ));
@@ -627,7 +628,7 @@ public class TestMain {
 
         // add a singular glucose to current chuck at a known location
         // adds a little padding so as not to trigger immediately.
-        Glucose testGlucose = new Glucose(fakeAssetManager, (gameCell.getX() + gameCell.getForceCircle().radius + 50), gameCell.getY());
+        Glucose testGlucose = new Glucose(new TextureRegion(), (gameCell.getX() + gameCell.getForceCircle().radius + 50), gameCell.getY());
         currList.add(testGlucose);
 
 
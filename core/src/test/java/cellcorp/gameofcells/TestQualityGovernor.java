@@ -0,0 +1,100 @@
+package cellcorp.gameofcells;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Quality Governor Testing
+ * <p>
+ * Checks tier changes, hysteresis, and knob registration.
+ */
+public class TestQualityGovernor {
+    private static final float SLOW_FRAME = 1 / 30f;
+    private static final float FAST_FRAME = QualityGovernor.TARGET_FRAME_TIME;
+
+    private void recordFrames(QualityGovernor governor, float frameTime, int count) {
+        for (int i = 0; i < count; i++) {
+            governor.recordFrameTime(frameTime);
+        }
+    }
+
+    @Test
+    public void slowFramesDropOneTierPerWindow() {
+        var governor = new QualityGovernor();
+        recordFrames(governor, SLOW_FRAME, QualityGovernor.WINDOW_FRAMES - 1);
+        assertEquals(QualityGovernor.Tier.HIGH, governor.getTier());
+
+        recordFrames(governor, SLOW_FRAME, 1);
+        assertEquals(QualityGovernor.Tier.MEDIUM, governor.getTier());
+
+        recordFrames(governor, SLOW_FRAME, QualityGovernor.WINDOW_FRAMES);
+        assertEquals(QualityGovernor.Tier.LOW, governor.getTier());
+
+        // Already at the lowest tier.
+        recordFrames(governor, SLOW_FRAME, QualityGovernor.WINDOW_FRAMES);
+        assertEquals(QualityGovernor.Tier.LOW, governor.getTier());
+        assertEquals(2, governor.getTierChanges().size);
+    }
+
+    @Test
+    public void tierOnlyRisesAfterSustainedFastFrames() {
+        var governor = new QualityGovernor();
+        governor.setTier(QualityGovernor.Tier.LOW);
+
+        int framesToRaise = (int) (QualityGovernor.RAISE_DELAY / FAST_FRAME);
+        recordFrames(governor, FAST_FRAME, framesToRaise / 2);
+        assertEquals(QualityGovernor.Tier.LOW, governor.getTier());
+
+        recordFrames(governor, FAST_FRAME, framesToRaise + QualityGovernor.WINDOW_FRAMES);
+        assertEquals(QualityGovernor.Tier.MEDIUM, governor.getTier());
+
+        var change = governor.getTierChanges().peek();
+        assertEquals(QualityGovernor.Tier.LOW, change.from);
+        assertEquals(QualityGovernor.Tier.MEDIUM, change.to);
+    }
+
+    @Test
+    public void knobIsToldTierOnRegistrationAndChange() {
+        var governor = new QualityGovernor();
+        var lastTier = new QualityGovernor.Tier[1];
+        governor.register("test", tier -> lastTier[0] = tier);
+        assertEquals(QualityGovernor.Tier.HIGH, lastTier[0]);
+
+        governor.setTier(QualityGovernor.Tier.LOW);
+        assertEquals(QualityGovernor.Tier.LOW, lastTier[0]);
+    }
+
+    @Test
+    public void registeringSameNameReplacesKnob() {
+        var governor = new QualityGovernor();
+        var oldKnobCalls = new int[1];
+        governor.register("test", tier -> oldKnobCalls[0]++);
+        governor.register("test", tier -> { });
+
+        governor.setTier(QualityGovernor.Tier.MEDIUM);
+        assertEquals(1, oldKnobCalls[0]);
+    }
+
+    @Test
+    public void unregisterLeavesAReplacementKnob() {
+        var governor = new QualityGovernor();
+        QualityGovernor.Knob oldKnob = tier -> { };
+        QualityGovernor.Knob newKnob = tier -> { };
+        governor.register("test", oldKnob);
+        governor.register("test", newKnob);
+
+        governor.unregister("test", oldKnob);
+        assertTrue(governor.isRegistered("test"));
+        governor.unregister("test", newKnob);
+        assertFalse(governor.isRegistered("test"));
+    }
+
+    @Test
+    public void disabledGovernorKeepsTier() {
+        var governor = new QualityGovernor();
+        governor.setEnabled(false);
+        recordFrames(governor, SLOW_FRAME, 10 * QualityGovernor.WINDOW_FRAMES);
+        assertEquals(QualityGovernor.Tier.HIGH, governor.getTier());
+    }
+}
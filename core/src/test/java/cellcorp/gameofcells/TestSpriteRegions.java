@@ -0,0 +1,72 @@
+package cellcorp.gameofcells;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Sprite Regions Testing
+ * <p>
+ * Makes sure sprites resolve from the packed atlases, or from standalone textures when there are none.
+ */
+public class TestSpriteRegions {
+    private AssetManager assetManager;
+
+    @BeforeEach
+    public void setUp() {
+        assetManager = mock(AssetManager.class);
+    }
+
+    @Test
+    public void unpackedSpritesWrapStandaloneTextures() {
+        var glucoseTexture = mock(Texture.class);
+        when(assetManager.get(AssetFileNames.GLUCOSE, Texture.class)).thenReturn(glucoseTexture);
+
+        var regions = new SpriteRegions(assetManager);
+
+        assertSame(glucoseTexture, regions.glucose.getTexture());
+        assertSame(regions.glucose, regions.get(AssetFileNames.GLUCOSE));
+    }
+
+    @Test
+    public void packedSpritesComeFromAtlas() {
+        var atlas = mock(TextureAtlas.class);
+        var region = mock(TextureAtlas.AtlasRegion.class);
+        when(atlas.findRegion(anyString())).thenReturn(region);
+        when(assetManager.isLoaded(AssetFileNames.WORLD_ATLAS, TextureAtlas.class)).thenReturn(true);
+        when(assetManager.get(AssetFileNames.WORLD_ATLAS, TextureAtlas.class)).thenReturn(atlas);
+
+        var regions = new SpriteRegions(assetManager);
+
+        assertSame(region, regions.cell);
+        verify(atlas).findRegion("glucose_orange");
+        verify(assetManager, never()).get(AssetFileNames.GLUCOSE, Texture.class);
+    }
+
+    @Test
+    public void missingAtlasRegionThrows() {
+        var atlas = mock(TextureAtlas.class);
+        when(assetManager.isLoaded(AssetFileNames.UI_ATLAS, TextureAtlas.class)).thenReturn(true);
+        when(assetManager.get(AssetFileNames.UI_ATLAS, TextureAtlas.class)).thenReturn(atlas);
+
+        assertThrows(IllegalStateException.class, () -> new SpriteRegions(assetManager));
+    }
+
+    @Test
+    public void unknownSpriteThrows() {
+        var regions = new SpriteRegions(assetManager);
+        assertThrows(IllegalArgumentException.class, () -> regions.get(AssetFileNames.PARALLAX_FAR));
+    }
+
+    @Test
+    public void regionNameDropsExtension() {
+        assertEquals("glucose_orange", SpriteRegions.regionName("glucose_orange.png"));
+        assertEquals("no_extension", SpriteRegions.regionName("no_extension"));
+    }
+}
@@ -0,0 +1,141 @@
+package cellcorp.gameofcells.benchmark;
+
+import cellcorp.gameofcells.Main;
+import cellcorp.gameofcells.runner.GameRunner;
+import cellcorp.gameofcells.screens.GamePlayScreen;
+import com.badlogic.gdx.ApplicationListener;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark Script Testing
+ * <p>
+ * Plays scenarios through a headless game, checking they reach the end, and only measure after warm-up.
+ */
+public class TestBenchmarkScript {
+    /**
+     * Longer than any scenario, so a stuck script fails instead of hanging.
+     */
+    private static final int MAX_TICKS = 200 * GameRunner.TICKS_PER_SECOND;
+
+    @BeforeAll
+    public static void setUpLibGDX() {
+        System.setProperty("com.badlogic.gdx.backends.headless.disableNativesLoading", "true");
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        new HeadlessApplication(
+            new ApplicationListener() {
+                @Override
+                public void create() {
+                }
+
+                @Override
+                public void resize(int width, int height) {
+                }
+
+                @Override
+                public void render() {
+                }
+
+                @Override
+                public void pause() {
+                }
+
+                @Override
+                public void resume() {
+                }
+
+                @Override
+                public void dispose() {
+                }
+            }, config
+        );
+
+        Gdx.graphics = Mockito.mock(Graphics.class);
+        Mockito.when(Gdx.graphics.getWidth()).thenReturn(Main.DEFAULT_SCREEN_WIDTH);
+        Mockito.when(Gdx.graphics.getHeight()).thenReturn(Main.DEFAULT_SCREEN_HEIGHT);
+
+        GL20 gl20 = Mockito.mock(GL20.class);
+        Gdx.gl = gl20;
+        Gdx.gl20 = gl20;
+    }
+
+    /**
+     * Play the script to the end, counting the ticks it measured.
+     */
+    private int play(BenchmarkScript script, Main game) {
+        int measuredTicks = 0;
+        for (int tick = 0; tick < MAX_TICKS && !script.isFinished(); tick++) {
+            script.beforeFrame(GameRunner.DELTA_TIME);
+            if (script.isFinished()) {
+                break;
+            }
+            game.handleInput(GameRunner.DELTA_TIME);
+            game.update(GameRunner.DELTA_TIME);
+            if (script.isMeasuring()) {
+                measuredTicks++;
+            }
+        }
+        assertTrue(script.isFinished(), "Script didn't finish");
+        return measuredTicks;
+    }
+
+    @Test
+    public void tapsOnlyLastOneFrame() {
+        var input = new ScriptedInputProvider();
+        input.tap(Input.Keys.Q);
+        input.hold(Input.Keys.UP);
+        assertTrue(input.isKeyJustPressed(Input.Keys.Q));
+        assertTrue(input.isKeyPressed(Input.Keys.Q));
+        assertFalse(input.isKeyJustPressed(Input.Keys.UP));
+
+        input.endFrame();
+        assertFalse(input.isKeyPressed(Input.Keys.Q));
+        assertTrue(input.isKeyPressed(Input.Keys.UP));
+        assertTrue(input.isKeyPressed(Input.Keys.ANY_KEY));
+
+        input.releaseAll();
+        assertFalse(input.isKeyPressed(Input.Keys.ANY_KEY));
+    }
+
+    @Test
+    public void routeMovesTheCellAwayFromSpawn() {
+        var input = new ScriptedInputProvider();
+        var game = GameRunner.createGame(input);
+        var script = new BenchmarkScript(BenchmarkScenario.ROUTE, game, input);
+
+        int measuredTicks = play(script, game);
+
+        assertInstanceOf(GamePlayScreen.class, game.getScreen());
+        var cell = ((GamePlayScreen) game.getScreen()).getCell();
+        assertNotEquals(0, cell.getX());
+        assertFalse(script.isMeasuring());
+        assertTrue(measuredTicks > 0);
+    }
+
+    @Test
+    public void splitScenarioSplitsTheCell() {
+        var input = new ScriptedInputProvider();
+        var game = GameRunner.createGame(input);
+        var script = new BenchmarkScript(BenchmarkScenario.SPLIT, game, input);
+
+        play(script, game);
+
+        assertInstanceOf(GamePlayScreen.class, game.getScreen());
+        assertTrue(((GamePlayScreen) game.getScreen()).getCell().hasSplit());
+    }
+
+    @Test
+    public void unknownScenarioNamesAreRejected() {
+        assertEquals(BenchmarkScenario.FULL, BenchmarkScenario.fromName("full"));
+        assertThrows(IllegalArgumentException.class, () -> BenchmarkScenario.fromName("nope"));
+    }
+}
@@ -0,0 +1,52 @@
+package cellcorp.gameofcells.benchmark;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Frame Stats Testing
+ * <p>
+ * Checks nearest-rank percentiles, and the summaries of an empty set.
+ */
+public class TestFrameStats {
+
+    @Test
+    public void percentilesUseNearestRank() {
+        var stats = new FrameStats();
+        // Added out of order, to check they're sorted.
+        for (int i = 100; i >= 1; i--) {
+            stats.add(i);
+        }
+        assertEquals(100, stats.getCount());
+        assertEquals(1, stats.percentile(0));
+        assertEquals(50, stats.percentile(50));
+        assertEquals(99, stats.percentile(99));
+        assertEquals(100, stats.getMax());
+        assertEquals(50.5f, stats.getMean(), 1e-4f);
+    }
+
+    @Test
+    public void addingAfterAPercentileResorts() {
+        var stats = new FrameStats();
+        stats.add(2);
+        stats.add(1);
+        assertEquals(2, stats.getMax());
+
+        stats.add(10);
+        assertEquals(10, stats.getMax());
+        assertEquals(2, stats.percentile(50));
+    }
+
+    @Test
+    public void emptyStatsAreZero() {
+        var stats = new FrameStats();
+        assertEquals(0, stats.getCount());
+        assertEquals(0, stats.getMean());
+        assertEquals(0, stats.percentile(99));
+
+        stats.add(5);
+        stats.clear();
+        assertEquals(0, stats.getMax());
+    }
+}
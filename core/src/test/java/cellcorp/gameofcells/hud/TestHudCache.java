@@ -0,0 +1,111 @@
+package cellcorp.gameofcells.hud;
+
+import cellcorp.gameofcells.providers.FakeGraphicsProvider;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.utils.viewport.Viewport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * HUD Cache Testing
+ * <p>
+ * Makes sure the stage is only redrawn when something in it changed.
+ */
+public class TestHudCache {
+    private Stage stage;
+    private Viewport viewport;
+    private Batch batch;
+    private Table table;
+    private HudCache hudCache;
+
+    @BeforeEach
+    public void setUp() {
+        Gdx.gl = mock(GL20.class);
+        Gdx.graphics = mock(Graphics.class);
+
+        stage = mock(Stage.class);
+        viewport = mock(Viewport.class);
+        batch = mock(Batch.class);
+        table = mock(Table.class);
+        var root = new Group();
+        root.addActor(table);
+        when(viewport.getScreenWidth()).thenReturn(1200);
+        when(viewport.getScreenHeight()).thenReturn(800);
+        when(viewport.getCamera()).thenReturn(new OrthographicCamera());
+        when(stage.getViewport()).thenReturn(viewport);
+        when(stage.getBatch()).thenReturn(batch);
+        when(stage.getRoot()).thenReturn(root);
+
+        hudCache = new HudCache(new FakeGraphicsProvider(), stage);
+    }
+
+    @Test
+    public void unchangedStageIsDrawnOnce() {
+        hudCache.draw();
+        hudCache.draw();
+        hudCache.draw();
+
+        verify(stage, times(1)).draw();
+        assertEquals(1, hudCache.getRedrawCount());
+        // Every frame still draws the cached quad
+        verify(batch, times(3)).draw(any(TextureRegion.class), anyFloat(), anyFloat(), anyFloat(), anyFloat());
+    }
+
+    @Test
+    public void invalidateRedraws() {
+        hudCache.draw();
+        hudCache.invalidate();
+        hudCache.draw();
+
+        verify(stage, times(2)).draw();
+    }
+
+    @Test
+    public void invalidLayoutRedraws() {
+        hudCache.draw();
+        when(table.needsLayout()).thenReturn(true);
+        hudCache.draw();
+
+        verify(stage, times(2)).draw();
+    }
+
+    @Test
+    public void runningActionsRedraw() {
+        hudCache.draw();
+        when(table.hasActions()).thenReturn(true);
+        hudCache.draw();
+
+        verify(stage, times(2)).draw();
+    }
+
+    @Test
+    public void resizeRedraws() {
+        hudCache.draw();
+        when(viewport.getScreenWidth()).thenReturn(1600);
+        hudCache.draw();
+
+        verify(stage, times(2)).draw();
+    }
+
+    @Test
+    public void disabledCacheDrawsStageDirectly() {
+        hudCache.setEnabled(false);
+        hudCache.draw();
+        hudCache.draw();
+
+        verify(stage, times(2)).draw();
+        verify(batch, never()).draw(any(TextureRegion.class), anyFloat(), anyFloat(), anyFloat(), anyFloat());
+    }
+}
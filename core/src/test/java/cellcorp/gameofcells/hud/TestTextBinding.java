@@ -0,0 +1,50 @@
+package cellcorp.gameofcells.hud;
+
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Text Binding Testing
+ * <p>
+ * Makes sure labels are only touched when their displayed value changes.
+ */
+public class TestTextBinding {
+
+    @Test
+    public void firstValueAlwaysWritesLabel() {
+        var label = Mockito.mock(Label.class);
+        var binding = new TextBinding(label, "ATP: ");
+
+        assertTrue(binding.set(0));
+        assertEquals("ATP: 0", binding.getText().toString());
+        verify(label, times(1)).setText(any(CharSequence.class));
+    }
+
+    @Test
+    public void unchangedValueDoesNotWriteLabel() {
+        var label = Mockito.mock(Label.class);
+        var binding = new TextBinding(label, "HEALTH: ");
+
+        binding.set(100);
+        assertFalse(binding.set(100));
+        assertFalse(binding.set(100));
+        verify(label, times(1)).setText(any(CharSequence.class));
+    }
+
+    @Test
+    public void changedValueRewritesLabel() {
+        var label = Mockito.mock(Label.class);
+        var binding = new TextBinding(label, "TIME: ");
+
+        binding.set(1);
+        assertTrue(binding.set(2));
+        assertEquals("TIME: 2", binding.getText().toString());
+        verify(label, times(2)).setText(any(CharSequence.class));
+    }
+}
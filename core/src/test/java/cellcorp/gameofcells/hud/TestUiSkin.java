@@ -0,0 +1,72 @@
+package cellcorp.gameofcells.hud;
+
+import cellcorp.gameofcells.providers.GraphicsProvider;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * UI Skin Testing
+ * <p>
+ * Makes sure panel textures are generated once per (corner radius, style), not once per panel.
+ */
+public class TestUiSkin {
+
+    private GraphicsProvider mockGraphicsProvider() {
+        var graphicsProvider = Mockito.mock(GraphicsProvider.class);
+        when(graphicsProvider.createRoundedRectangleTexture(anyInt(), anyInt(), any(), anyFloat()))
+            .thenAnswer(invocation -> Mockito.mock(Texture.class));
+        when(graphicsProvider.createWhitePixelTexture())
+            .thenAnswer(invocation -> Mockito.mock(Texture.class));
+        when(graphicsProvider.createTexture(anyInt(), anyInt(), any()))
+            .thenAnswer(invocation -> Mockito.mock(Texture.class));
+        when(graphicsProvider.createPixmap(anyInt(), anyInt(), any()))
+            .thenAnswer(invocation -> Mockito.mock(Pixmap.class));
+        return graphicsProvider;
+    }
+
+    @Test
+    public void panelsWithSameRadiusAndStyleShareTexture() {
+        var graphicsProvider = mockGraphicsProvider();
+        var skin = new UiSkin(graphicsProvider);
+
+        skin.panel(20, UiSkin.Style.FILLED, Color.RED);
+        skin.panel(20, UiSkin.Style.FILLED, Color.BLUE);
+
+        assertSame(skin.getTexture(20, UiSkin.Style.FILLED), skin.getTexture(20, UiSkin.Style.FILLED));
+        verify(graphicsProvider, times(1))
+            .createRoundedRectangleTexture(anyInt(), anyInt(), any(), anyFloat());
+    }
+
+    @Test
+    public void differentRadiusOrStyleGetDifferentTextures() {
+        var skin = new UiSkin(mockGraphicsProvider());
+
+        var small = skin.getTexture(10, UiSkin.Style.FILLED);
+        var large = skin.getTexture(20, UiSkin.Style.FILLED);
+        var glow = skin.getTexture(10, UiSkin.Style.GLOW_BORDER);
+        var square = skin.getTexture(0, UiSkin.Style.FILLED);
+
+        assertNotSame(small, large);
+        assertNotSame(small, glow);
+        assertNotSame(small, square);
+    }
+
+    @Test
+    public void disposeDisposesGeneratedTextures() {
+        var skin = new UiSkin(mockGraphicsProvider());
+        var texture = skin.getTexture(20, UiSkin.Style.FILLED);
+
+        skin.dispose();
+
+        verify(texture).dispose();
+        // A fresh texture is generated if the skin is used again.
+        assertNotSame(texture, skin.getTexture(20, UiSkin.Style.FILLED));
+    }
+}
@@ -0,0 +1,69 @@
+package cellcorp.gameofcells.objects;
+
+import cellcorp.gameofcells.Main;
+import cellcorp.gameofcells.providers.GraphicsProvider;
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Background Compositor Testing
+ * <p>
+ * The shader can't run in tests, so only check the fallback behavior.
+ */
+public class TestBackgroundCompositor {
+
+    @Test
+    public void failedShaderFallsBackAndIsOnlyCompiledOnce() {
+        Gdx.app = mock(Application.class);
+        var graphicsProvider = mock(GraphicsProvider.class);
+        var shader = mock(ShaderProgram.class);
+        when(shader.isCompiled()).thenReturn(false);
+        when(shader.getLog()).thenReturn("");
+        when(graphicsProvider.createShaderProgram(anyString(), anyString())).thenReturn(shader);
+
+        var compositor = new BackgroundCompositor(
+            graphicsProvider,
+            mock(Texture.class), mock(Texture.class), mock(Texture.class), mock(Texture.class),
+            Main.PURPLE
+        );
+        var batch = mock(SpriteBatch.class);
+
+        assertFalse(compositor.draw(batch, 0, 0, 1200, 800, 0, 0));
+        assertFalse(compositor.draw(batch, 0, 0, 1200, 800, 0, 0));
+
+        verify(graphicsProvider, times(1)).createShaderProgram(anyString(), anyString());
+        verify(batch, never()).begin();
+    }
+
+    @Test
+    public void compiledShaderDrawsOneQuad() {
+        Gdx.gl = mock(GL20.class);
+        var graphicsProvider = mock(GraphicsProvider.class);
+        var shader = mock(ShaderProgram.class);
+        when(shader.isCompiled()).thenReturn(true);
+        when(graphicsProvider.createShaderProgram(anyString(), anyString())).thenReturn(shader);
+
+        var far = mock(Texture.class);
+        var compositor = new BackgroundCompositor(
+            graphicsProvider,
+            far, mock(Texture.class), mock(Texture.class), mock(Texture.class),
+            Main.PURPLE
+        );
+        var batch = mock(SpriteBatch.class);
+
+        assertTrue(compositor.draw(batch, 0, 0, 1200, 800, 0, 0));
+        verify(batch, times(1)).draw(eq(far), anyFloat(), anyFloat(), anyFloat(), anyFloat());
+        verify(batch).setShader(shader);
+        verify(batch).setShader(null);
+    }
+}
@@ -0,0 +1,96 @@
+package cellcorp.gameofcells.objects;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.utils.viewport.FitViewport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Camera Controller Testing
+ * <p>
+ * Makes sure the camera and viewport are only recomputed when something changes.
+ */
+public class TestCameraController {
+    private OrthographicCamera camera;
+    private FitViewport viewport;
+    private CameraController controller;
+
+    @BeforeEach
+    public void setUp() {
+        Gdx.graphics = Mockito.mock(Graphics.class);
+        Gdx.gl = Mockito.mock(GL20.class);
+        camera = spy(new OrthographicCamera());
+        viewport = Mockito.mock(FitViewport.class);
+        controller = new CameraController(camera, viewport, 1200, 800);
+    }
+
+    @Test
+    public void firstApplyComputesViewport() {
+        assertTrue(controller.apply(1280, 800));
+        verify(viewport).setWorldSize(1200, 800);
+        verify(viewport).update(1280, 800, false);
+    }
+
+    @Test
+    public void unchangedApplyDoesNotRecompute() {
+        controller.follow(10, 20);
+        controller.apply(1280, 800);
+        clearInvocations(camera, viewport);
+
+        assertFalse(controller.apply(1280, 800));
+        verify(camera, never()).update();
+        verify(viewport, never()).update(anyInt(), anyInt(), anyBoolean());
+        verify(viewport, never()).setWorldSize(anyFloat(), anyFloat());
+    }
+
+    @Test
+    public void movingOnlyUpdatesCamera() {
+        controller.apply(1280, 800);
+        clearInvocations(camera, viewport);
+
+        controller.follow(50, 60);
+        assertTrue(controller.apply(1280, 800));
+        verify(camera).update();
+        verify(viewport, never()).update(anyInt(), anyInt(), anyBoolean());
+        assertEquals(50, camera.position.x);
+        assertEquals(60, camera.position.y);
+    }
+
+    @Test
+    public void zoomAndResizeUpdateViewport() {
+        controller.apply(1280, 800);
+        clearInvocations(viewport);
+
+        controller.setViewZoom(0.5f);
+        assertTrue(controller.apply(1280, 800));
+        verify(viewport).setWorldSize(600, 400);
+
+        clearInvocations(viewport);
+        assertTrue(controller.apply(1920, 1080));
+        verify(viewport).update(1920, 1080, false);
+    }
+
+    @Test
+    public void shakeAdvancesWithSimulationTimeAndSettles() {
+        controller.follow(100, 100);
+        controller.shake(1f, 10f);
+
+        controller.update(0.5f);
+        assertEquals(0.5f, controller.getShakeTime(), 0.0001f);
+
+        controller.update(0.5f);
+        controller.update(0.1f);
+        controller.apply(1280, 800);
+        // Shake has ended, so the camera is back on the follow target.
+        assertEquals(100, camera.position.x);
+        assertEquals(100, camera.position.y);
+    }
+}
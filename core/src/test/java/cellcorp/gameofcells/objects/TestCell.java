@@ -1,5 +1,6 @@
 package cellcorp.gameofcells.objects;
 
+import cellcorp.gameofcells.SpriteRegions;
 import cellcorp.gameofcells.TestMain;
 import cellcorp.gameofcells.providers.ConfigProvider;
 import cellcorp.gameofcells.runner.GameRunner;
@@ -38,7 +39,7 @@ public class TestCell {
         var fakeAssetManager = Mockito.mock(AssetManager.class);
         var fakeConfigProvider = Mockito.mock(ConfigProvider.class);
         var fakeGamePlayScreen = Mockito.mock(GamePlayScreen.class);
-        new Cell(fakeGamePlayScreen, fakeAssetManager, fakeConfigProvider);
+        new Cell(fakeGamePlayScreen, new SpriteRegions(fakeAssetManager), fakeConfigProvider);
     }
 
     @Test
@@ -50,7 +51,7 @@ public class TestCell {
         Mockito.when(fakeConfigProvider.getIntValue("cellATP")).thenReturn(30);
         Mockito.when(fakeConfigProvider.getIntValue("maxHealth")).thenReturn(100);
         Mockito.when(fakeConfigProvider.getIntValue("maxATP")).thenReturn(100);
-        var cell = new Cell(gamePlayScreen, fakeAssetManager, fakeConfigProvider);
+        var cell = new Cell(gamePlayScreen, new SpriteRegions(fakeAssetManager), fakeConfigProvider);
         cell.applyDamage(Cell.MAX_HEALTH + 1);
         assertEquals(0, cell.getCellHealth());
         Mockito.verify(gamePlayScreen, Mockito.never()).endGame();
@@ -92,11 +93,7 @@ public class TestCell {
         runner.step();
 
         // shakeTime should be greater than 0
-        var shakeTimeField = GamePlayScreen.class.getDeclaredField("shakeTime");
-        shakeTimeField.setAccessible(true);
-        float shakeTime = (float) shakeTimeField.get(gamePlay);
-
-        assertTrue(shakeTime > 0f);
+        assertTrue(gamePlay.getCameraController().getShakeTime() > 0f);
     }
 
     @Test
@@ -151,6 +148,40 @@ public class TestCell {
         assertEquals(0, cell.getCellHealth());
     }
 
+    @Test
+    public void dyingCellNotifiesHost() {
+        var fakeAssetManager = Mockito.mock(AssetManager.class);
+        var fakeConfigProvider = Mockito.mock(ConfigProvider.class);
+        var host = Mockito.mock(CellHost.class);
+        Mockito.when(host.getStats()).thenReturn(new Stats());
+        var cell = new Cell(host, new SpriteRegions(fakeAssetManager), fakeConfigProvider);
+
+        cell.setCellHealth(5);
+        cell.applyDamage(10);
+        Mockito.verify(host).triggerShake(Mockito.anyFloat(), Mockito.anyFloat());
+        Mockito.verify(host, Mockito.never()).endGame();
+
+        cell.update(10f); // Past the end of the death animation
+        Mockito.verify(host).endGame();
+    }
+
+    @Test
+    public void detachedCellRecordsStatsWithoutAGame() {
+        var fakeAssetManager = Mockito.mock(AssetManager.class);
+        var fakeConfigProvider = Mockito.mock(ConfigProvider.class);
+        // Unstubbed, the speed would read as 0, and the cell wouldn't move.
+        Mockito.when(fakeConfigProvider.getFloatValue("cellMovementSpeed")).thenReturn(200f);
+        var host = CellHost.detached();
+        var cell = new Cell(host, new SpriteRegions(fakeAssetManager), fakeConfigProvider);
+
+        cell.move(1f, false, true, false, false);
+        assertTrue(host.getStats().distanceMoved > 0);
+
+        // Dying outside of a game is harmless.
+        cell.applyDamage(Cell.MAX_HEALTH + 1);
+        cell.update(10f);
+    }
+
     @Test
     public void applyingDamageDuringDeathDoesNothing() {
         var runner = GameRunner.create();
@@ -189,7 +220,7 @@ public class TestCell {
         var fakeAssetManager = Mockito.mock(AssetManager.class);
         var gamePlayScreen = Mockito.mock(GamePlayScreen.class);
         var fakeConfigProvider = Mockito.mock(ConfigProvider.class);
-        var cell = new Cell(gamePlayScreen, fakeAssetManager, fakeConfigProvider);
+        var cell = new Cell(gamePlayScreen, new SpriteRegions(fakeAssetManager), fakeConfigProvider);
 
         assertEquals(0, cell.getSizeUpgradeLevel());
         assertEquals(0, cell.getOrganelleUpgradeLevel());
@@ -229,7 +260,7 @@ public class TestCell {
         var gamePlayScreen = Mockito.mock(GamePlayScreen.class);
         ConfigProvider configProvider = new ConfigProvider();
 
-        var cell = new Cell(gamePlayScreen, fakeAssetManager, configProvider);
+        var cell = new Cell(gamePlayScreen, new SpriteRegions(fakeAssetManager), configProvider);
         float startSpeed = cell.getCellSpeed();
 
         cell.setHasSmallSizeUpgrade(true);
@@ -255,7 +286,7 @@ public class TestCell {
         var gamePlayScreen = Mockito.mock(GamePlayScreen.class);
         ConfigProvider configProvider = new ConfigProvider();
 
-        var cell = new Cell(gamePlayScreen, fakeAssetManager, configProvider);
+        var cell = new Cell(gamePlayScreen, new SpriteRegions(fakeAssetManager), configProvider);
 
         cell.setHasSmallSizeUpgrade(true);
         cell.setHasMitochondria(true);
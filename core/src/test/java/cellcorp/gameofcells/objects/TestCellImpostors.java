@@ -0,0 +1,106 @@
+package cellcorp.gameofcells.objects;
+
+import cellcorp.gameofcells.providers.FakeGraphicsProvider;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.IntBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Cell Impostors Testing
+ * <p>
+ * Makes sure interiors are only rendered when a cell's look changes, or it grows past a size step.
+ */
+public class TestCellImpostors {
+    private final TextureRegion membrane = new TextureRegion();
+    private final TextureRegion damagedMembrane = new TextureRegion();
+    private CellImpostors impostors;
+    private int paintCount;
+    private final CellImpostors.Painter painter = (batch, x, y, rotation) -> paintCount++;
+
+    @BeforeEach
+    public void setUp() {
+        Gdx.gl = mock(GL20.class);
+        impostors = new CellImpostors(new FakeGraphicsProvider());
+        paintCount = 0;
+    }
+
+    @Test
+    public void sameLookIsRenderedOnce() {
+        var first = impostors.get(membrane, true, false, 100, painter);
+        var second = impostors.get(membrane, true, false, 100, painter);
+
+        assertSame(first, second);
+        assertEquals(1, impostors.getRenderCount());
+        assertEquals(1, paintCount);
+    }
+
+    @Test
+    public void changedLookIsRenderedAgain() {
+        impostors.get(membrane, false, false, 100, painter);
+        impostors.get(membrane, true, false, 100, painter);
+        impostors.get(membrane, true, true, 100, painter);
+        impostors.get(damagedMembrane, true, true, 100, painter);
+        impostors.get(damagedMembrane, true, true, 150, painter);
+
+        assertEquals(5, impostors.getRenderCount());
+        assertEquals(5, impostors.getCachedCount());
+    }
+
+    @Test
+    public void sizesWithinAStepShareAnInterior() {
+        var first = impostors.get(membrane, false, false, 100, painter);
+        var grown = impostors.get(membrane, false, false, 100 + CellImpostors.SIZE_STEP / 4f, painter);
+        assertSame(first, grown);
+        assertEquals(1, impostors.getRenderCount());
+
+        impostors.get(membrane, false, false, 100 + CellImpostors.SIZE_STEP, painter);
+        assertEquals(2, impostors.getRenderCount());
+    }
+
+    @Test
+    public void renderingRebindsTheCallersFrameBuffer() {
+        // Rendering mid-frame, say into the world render scaler's framebuffer.
+        doAnswer(invocation -> {
+            invocation.<IntBuffer>getArgument(1).put(0, 42);
+            return null;
+        }).when(Gdx.gl).glGetIntegerv(eq(GL20.GL_FRAMEBUFFER_BINDING), any(IntBuffer.class));
+
+        impostors.get(membrane, false, false, 100, painter);
+
+        verify(Gdx.gl).glBindFramebuffer(GL20.GL_FRAMEBUFFER, 42);
+    }
+
+    @Test
+    public void leastRecentlyUsedLookIsEvicted() {
+        for (int i = 0; i <= CellImpostors.MAX_ENTRIES; i++) {
+            impostors.get(membrane, false, false, 100 + i * CellImpostors.SIZE_STEP, painter);
+            // Keep the first look in use.
+            impostors.get(membrane, false, false, 100, painter);
+        }
+
+        assertEquals(CellImpostors.MAX_ENTRIES, impostors.getCachedCount());
+        impostors.get(membrane, false, false, 100, painter);
+        assertEquals(CellImpostors.MAX_ENTRIES + 1, impostors.getRenderCount());
+        // The newest look was just rendered, so it's still cached.
+        impostors.get(membrane, false, false, 100 + CellImpostors.MAX_ENTRIES * CellImpostors.SIZE_STEP, painter);
+        assertEquals(CellImpostors.MAX_ENTRIES + 1, impostors.getRenderCount());
+        // The second look was the least recently used, so it has to be rendered again.
+        impostors.get(membrane, false, false, 100 + CellImpostors.SIZE_STEP, painter);
+        assertEquals(CellImpostors.MAX_ENTRIES + 2, impostors.getRenderCount());
+    }
+
+    @Test
+    public void textureSizeIsRoundedAndCapped() {
+        assertEquals(CellImpostors.SIZE_STEP, CellImpostors.textureSize(1));
+        assertEquals(128, CellImpostors.textureSize(100));
+        assertEquals(CellImpostors.MAX_TEXTURE_SIZE, CellImpostors.textureSize(5000));
+    }
+}
@@ -1,8 +1,7 @@
 package cellcorp.gameofcells.objects;
 
-import com.badlogic.gdx.assets.AssetManager;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Circle;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,15 +14,15 @@ import static org.mockito.Mockito.*;
 
 public class TestGlucose {
 
-    private AssetManager mockAssetManager;
+    private TextureRegion mockTexture;
     private Glucose glucose;
 
     @BeforeEach
     public void setup() {
-        mockAssetManager = mock(AssetManager.class);
+        mockTexture = mock(TextureRegion.class);
 
         // Position: (100, 200)
-        glucose = new Glucose(mockAssetManager, 100f, 200f);
+        glucose = new Glucose(mockTexture, 100f, 200f);
     }
 
     @Test
@@ -52,9 +51,6 @@ public class TestGlucose {
 
     @Test
     public void testDrawWithSpriteBatch() {
-        Texture mockTexture = mock(Texture.class);
-        when(mockAssetManager.get("glucose_orange.png", Texture.class)).thenReturn(mockTexture);
-
         SpriteBatch mockBatch = mock(SpriteBatch.class);
         assertDoesNotThrow(() -> glucose.draw(mockBatch));
 
@@ -0,0 +1,83 @@
+package cellcorp.gameofcells.objects;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Density Grid Testing
+ * <p>
+ * Manages testing for the glucose density grid fed to the minimap.
+ */
+public class TestGlucoseDensityGrid {
+
+    @Test
+    public void addingBeforeRecenterIsIgnored() {
+        var grid = new GlucoseDensityGrid();
+        grid.add(0, 0);
+        assertNull(grid.getAnchor());
+    }
+
+    @Test
+    public void addAndRemoveUpdateCount() {
+        var grid = new GlucoseDensityGrid();
+        grid.recenter(new Chunk(0, 0));
+        grid.clearDirty();
+
+        // Origin of chunk (0, 0) is one chunk in from the grid's bottom-left corner.
+        int row = (int) (Chunk.CHUNK_LENGTH / GlucoseDensityGrid.CELL_LENGTH);
+        grid.add(1, 1);
+        grid.add(2, 2);
+        assertEquals(2, grid.getCount(row, row));
+        assertTrue(grid.isDirty());
+
+        grid.remove(1, 1);
+        assertEquals(1, grid.getCount(row, row));
+    }
+
+    @Test
+    public void removingFromEmptyCellDoesNotUnderflow() {
+        var grid = new GlucoseDensityGrid();
+        grid.recenter(new Chunk(0, 0));
+        grid.remove(1, 1);
+        int row = (int) (Chunk.CHUNK_LENGTH / GlucoseDensityGrid.CELL_LENGTH);
+        assertEquals(0, grid.getCount(row, row));
+    }
+
+    @Test
+    public void glucoseOutsideAreaIsIgnored() {
+        var grid = new GlucoseDensityGrid();
+        grid.recenter(new Chunk(0, 0));
+        grid.clearDirty();
+        grid.add(10 * Chunk.CHUNK_LENGTH, 0);
+        assertFalse(grid.isDirty());
+    }
+
+    @Test
+    public void moveWithinCellDoesNotDirtyGrid() {
+        var grid = new GlucoseDensityGrid();
+        grid.recenter(new Chunk(0, 0));
+        grid.add(1, 1);
+        grid.clearDirty();
+        grid.move(1, 1, 2, 2);
+        assertFalse(grid.isDirty());
+
+        grid.move(2, 2, 1000, 1000);
+        assertTrue(grid.isDirty());
+        int row = (int) (Chunk.CHUNK_LENGTH / GlucoseDensityGrid.CELL_LENGTH);
+        assertEquals(0, grid.getCount(row, row));
+    }
+
+    @Test
+    public void recenterClearsCounts() {
+        var grid = new GlucoseDensityGrid();
+        grid.recenter(new Chunk(0, 0));
+        grid.add(1, 1);
+        grid.recenter(new Chunk(1, 0));
+        for (int row = 0; row < GlucoseDensityGrid.GRID_SIZE; row++) {
+            for (int col = 0; col < GlucoseDensityGrid.GRID_SIZE; col++) {
+                assertEquals(0, grid.getCount(row, col));
+            }
+        }
+    }
+}
@@ -6,8 +6,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
+import cellcorp.gameofcells.SpriteRegions;
 import cellcorp.gameofcells.providers.ConfigProvider;
+import cellcorp.gameofcells.providers.FakeGraphicsProvider;
 import cellcorp.gameofcells.screens.GamePlayScreen;
 
 /**
@@ -20,12 +23,8 @@ public class TestGlucoseManager {
     @Test
     public void constructingGlucoseDoesNotCrash() {
         // Make sure we can construct a Glucose object without crashing.
-        // We have to mock the AssetManager, so that it doesn't try to load a file and
-        // crash.
-        // Unlike the InputProvider, we don't need any additional behavior,
-        // so we can just use `Mockito.mock`
-        var fakeAssetManager = Mockito.mock(AssetManager.class);
-        new Glucose(fakeAssetManager, 10, 10);
+        // Glucose only needs its sprite, which doesn't need to be backed by a texture.
+        new Glucose(new TextureRegion(), 10, 10);
     }
 
     @Test
@@ -33,17 +32,15 @@ public class TestGlucoseManager {
         var fakeAssetManager = Mockito.mock(AssetManager.class);
         var fakeGamePlayScreen = Mockito.mock(GamePlayScreen.class);
         var fakeConfigProvider = Mockito.mock(ConfigProvider.class);
-        var cell = new Cell(fakeGamePlayScreen, fakeAssetManager, fakeConfigProvider);
-        var zoneManager = new ZoneManager(fakeAssetManager, cell);
+        var cell = new Cell(fakeGamePlayScreen, new SpriteRegions(fakeAssetManager), fakeConfigProvider);
+        var zoneManager = new ZoneManager(new SpriteRegions(fakeAssetManager), cell);
         // Pass arbitrary values for cellX and cellY
-        new GlucoseManager(fakeAssetManager, fakeGamePlayScreen, zoneManager, cell);
+        new GlucoseManager(new FakeGraphicsProvider(), new SpriteRegions(fakeAssetManager), fakeGamePlayScreen, zoneManager, cell);
     }
 
     @Test
     public void glucoseStoresCoordinatesAndRadiusCorrectly() {
-        var fakeAssetManager = Mockito.mock(AssetManager.class);
-
-        Glucose glucose = new Glucose(fakeAssetManager, 100, 200);
+        Glucose glucose = new Glucose(new TextureRegion(), 100, 200);
 
         assertEquals(100, glucose.getX());
         assertEquals(200, glucose.getY());
@@ -0,0 +1,115 @@
+package cellcorp.gameofcells.objects;
+
+import cellcorp.gameofcells.providers.GraphicsProvider;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Matrix4;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Glucose Sprite Cache Testing
+ * <p>
+ * Makes sure chunk caches are only rebuilt when their glucose changes, and draw blended.
+ */
+public class TestGlucoseSpriteCache {
+    private SpriteCache spriteCache;
+    private GlucoseSpriteCache glucoseCache;
+    private final Chunk chunk = new Chunk(0, 0);
+    private final Map<Chunk, List<Glucose>> glucoses = new HashMap<>();
+
+    @BeforeEach
+    public void setUp() {
+        Gdx.gl = mock(GL20.class);
+        spriteCache = mock(SpriteCache.class);
+        when(spriteCache.endCache()).thenReturn(7);
+        var graphicsProvider = mock(GraphicsProvider.class);
+        when(graphicsProvider.createSpriteCache(anyInt())).thenReturn(spriteCache);
+        glucoseCache = new GlucoseSpriteCache(graphicsProvider);
+
+        var glucoseList = new ArrayList<Glucose>();
+        glucoseList.add(new Glucose(new TextureRegion(), 0, 0));
+        glucoseList.add(new Glucose(new TextureRegion(), 100, 100));
+        glucoses.put(chunk, glucoseList);
+    }
+
+    private void draw() {
+        glucoseCache.draw(new Matrix4(), List.of(chunk), glucoses);
+    }
+
+    @Test
+    public void chunkIsBuiltOnceAndDrawnEveryFrame() {
+        draw();
+        draw();
+        draw();
+
+        assertEquals(1, glucoseCache.getRebuildCount());
+        verify(spriteCache, times(1)).beginCache();
+        verify(spriteCache, times(3)).draw(7);
+    }
+
+    @Test
+    public void drawsWithAlphaBlending() {
+        draw();
+
+        var order = inOrder(Gdx.gl, spriteCache);
+        order.verify(Gdx.gl).glEnable(GL20.GL_BLEND);
+        order.verify(Gdx.gl).glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        order.verify(spriteCache).begin();
+        order.verify(spriteCache).draw(7);
+        order.verify(spriteCache).end();
+        order.verify(Gdx.gl).glDisable(GL20.GL_BLEND);
+    }
+
+    @Test
+    public void invalidatedChunkIsRebuiltInPlace() {
+        draw();
+        glucoses.get(chunk).remove(0);
+        glucoseCache.invalidate(chunk);
+        draw();
+
+        assertEquals(2, glucoseCache.getRebuildCount());
+        verify(spriteCache).beginCache(7);
+    }
+
+    @Test
+    public void pushedGlucoseIsAddedWithZeroSize() {
+        var pushed = glucoses.get(chunk).get(1);
+        pushed.setPushed(true);
+
+        draw();
+
+        verify(spriteCache).add(any(TextureRegion.class), anyFloat(), anyFloat(), eq(30f), eq(30f));
+        verify(spriteCache).add(any(TextureRegion.class), anyFloat(), anyFloat(), eq(0f), eq(0f));
+    }
+
+    @Test
+    public void emptiedChunkIsNotDrawn() {
+        draw();
+        glucoses.get(chunk).clear();
+        glucoseCache.invalidate(chunk);
+        draw();
+
+        verify(spriteCache, times(1)).draw(7);
+    }
+
+    @Test
+    public void removedChunkIsRebuiltWhenSeenAgain() {
+        draw();
+        glucoseCache.remove(chunk);
+        draw();
+
+        verify(spriteCache, times(2)).beginCache();
+    }
+}
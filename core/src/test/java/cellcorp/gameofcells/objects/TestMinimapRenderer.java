@@ -0,0 +1,97 @@
+package cellcorp.gameofcells.objects;
+
+import cellcorp.gameofcells.providers.FakeGraphicsProvider;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.badlogic.gdx.utils.viewport.FitViewport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Minimap Renderer Testing
+ * <p>
+ * Checks the glucose density texture dims when glucose leaves a grid cell, rather than only ever brightening.
+ */
+public class TestMinimapRenderer {
+    /**
+     * Grid row and column of the world origin.
+     */
+    private static final int ORIGIN_CELL = (int) (Chunk.CHUNK_LENGTH / GlucoseDensityGrid.CELL_LENGTH);
+
+    private MinimapRenderer minimap;
+    private GlucoseDensityGrid grid;
+    private Pixmap densityPixmap;
+
+    @BeforeAll
+    public static void setUpLibGDX() {
+        // The density pixmap is real, so its blending is too.
+        GdxNativesLoader.load();
+        GL20 gl20 = Mockito.mock(GL20.class);
+        Gdx.gl = gl20;
+        Gdx.gl20 = gl20;
+    }
+
+    @BeforeEach
+    public void setUp() {
+        var graphicsProvider = new FakeGraphicsProvider() {
+            @Override
+            public FitViewport createFitViewport(float viewRectWidth, float viewRectHeight) {
+                var viewport = Mockito.mock(FitViewport.class);
+                Mockito.when(viewport.getCamera()).thenReturn(new OrthographicCamera());
+                return viewport;
+            }
+
+            @Override
+            public Pixmap createPixmap(int width, int height, Pixmap.Format format) {
+                densityPixmap = new Pixmap(width, height, format);
+                return densityPixmap;
+            }
+        };
+        minimap = new MinimapRenderer(graphicsProvider, 0, 0, 200, 200, new OrthographicCamera());
+        grid = new GlucoseDensityGrid();
+        grid.recenter(new Chunk(0, 0));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        minimap.dispose();
+    }
+
+    private void render() {
+        minimap.render(800, 600, 0, 0, List.of(), List.of(), grid);
+    }
+
+    private int originAlpha() {
+        int y = GlucoseDensityGrid.GRID_SIZE - 1 - ORIGIN_CELL;
+        return densityPixmap.getPixel(ORIGIN_CELL, y) & 0xff;
+    }
+
+    @Test
+    public void removedGlucoseDimsItsCell() {
+        grid.add(1, 1);
+        grid.add(2, 2);
+        render();
+        int full = originAlpha();
+        assertTrue(full > 0);
+
+        grid.remove(1, 1);
+        render();
+        int half = originAlpha();
+        assertTrue(half > 0);
+        assertTrue(half < full, "Alpha didn't go down: " + full + " then " + half);
+
+        grid.remove(2, 2);
+        render();
+        assertEquals(0, originAlpha());
+    }
+}
@@ -1,5 +1,7 @@
 package cellcorp.gameofcells.objects;
 
+import cellcorp.gameofcells.QualityGovernor;
+import cellcorp.gameofcells.providers.FakeGraphicsProvider;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 
@@ -10,86 +12,106 @@ import static org.junit.jupiter.api.Assertions.*;
 
 public class TestParticles {
     private Particles particles;
-    private Texture mockTexture;
+
+    private ParticleSystem createSystem() {
+        return new ParticleSystem(new FakeGraphicsProvider());
+    }
 
     /**
-     * Test that the constructor initializes the Particles object
+     * Test that getting a layer allocates its particles from the pool
      */
     @Test
-    public void testConstructorInitializesParticles() {
-        // Mock the Texture object
-        mockTexture = Mockito.mock(Texture.class);
+    public void testGetLayerAllocatesParticles() {
+        var system = createSystem();
 
-        // Create a Particles object with the mocked Texture
-        particles = new Particles(mockTexture);
+        particles = system.getLayer(ParticleEmitter.MENU_DUST);
 
-        // Verify that the Particles object was created
         assertNotNull(particles);
+        assertTrue(particles.isActive());
+        assertEquals(ParticleEmitter.MENU_DUST.count, system.getAllocatedCount());
     }
 
     /**
-     * Test that the update method moves particles downward and resets
-     * them when they go off the screen
+     * Test that every screen asking for the same emitter shares one layer,
+     * so particles survive screen changes
      */
     @Test
-    public void testUpdateMovesParticles() {
-        // Mock the Texture object
-        mockTexture = Mockito.mock(Texture.class);
-
-        // Create a Particles object with the mocked Texture
-        particles = new Particles(mockTexture);
+    public void testSameEmitterSharesLayer() {
+        var system = createSystem();
 
-        // Call the update method
-        particles.update(1.0f, 1200, 800);
-
-        // Since we can't directly access the particles array,
-        // we assume the update logic works as long as the method
-        // doesn't throw an exception
-        assertTrue(true); // If no exception is thrown, the test passes
+        assertSame(system.getLayer(ParticleEmitter.MENU_DUST), system.getLayer(ParticleEmitter.MENU_DUST));
+        assertEquals(ParticleEmitter.MENU_DUST.count, system.getAllocatedCount());
     }
 
     /**
-     * Test that the draw method calls SpiteBatch.draw for each particle
+     * Test that a full pool refuses new layers
      */
     @Test
-    public void testDrawCallsSpriteBatchDraw() {
-        // Mock the Texture object
-        mockTexture = Mockito.mock(Texture.class);
+    public void testFullPoolThrows() {
+        var system = new ParticleSystem(new FakeGraphicsProvider(), 10);
+        assertThrows(IllegalStateException.class, () -> system.getLayer(ParticleEmitter.MENU_DUST));
+    }
 
-        // Create a Particles object with the mocked Texture
-        particles = new Particles(mockTexture);
+    /**
+     * Test that updating keeps particles inside the wrapping area
+     */
+    @Test
+    public void testUpdateKeepsParticlesInArea() {
+        var system = createSystem();
+        particles = system.getLayer(ParticleEmitter.MENU_DUST);
+
+        for (int i = 0; i < 100; i++) {
+            particles.update(1.0f, 1200, 800);
+        }
+
+        for (int i = 0; i < particles.getParticleCount(); i++) {
+            assertTrue(system.positionX[i] >= 0 && system.positionX[i] <= 1200);
+            assertTrue(system.positionY[i] >= 0 && system.positionY[i] <= 800);
+        }
+    }
 
-        // Mock the SpriteBatch object
+    /**
+     * Test that the whole layer is drawn in a single call, without per-particle color changes
+     */
+    @Test
+    public void testDrawIsSingleCall() {
+        var system = createSystem();
+        particles = system.getLayer(ParticleEmitter.MENU_DUST);
+        particles.update(0, 1200, 800);
         SpriteBatch mockBatch = Mockito.mock(SpriteBatch.class);
 
-        // Call the draw method
         particles.draw(mockBatch);
 
-        // Verify that the draw method called SpriteBatch.draw for each particle
-        Mockito.verify(mockBatch, Mockito.atLeastOnce()).draw(
+        Mockito.verify(mockBatch, Mockito.times(1)).draw(
             Mockito.any(Texture.class),
-            Mockito.anyFloat(),
-            Mockito.anyFloat(),
-            Mockito.anyFloat(),
-            Mockito.anyFloat()
+            Mockito.any(float[].class),
+            Mockito.eq(0),
+            Mockito.eq(particles.getActiveParticleCount() * 20)
         );
+        Mockito.verify(mockBatch, Mockito.never()).setColor(
+            Mockito.anyFloat(), Mockito.anyFloat(), Mockito.anyFloat(), Mockito.anyFloat());
     }
 
     /**
-     * Test that the dispose method disposes the Texture object
+     * Test that lower quality tiers draw fewer particles
      */
     @Test
-    public void testDisposeDisposesTexture() {
-        // Mock the Texture object
-        mockTexture = Mockito.mock(Texture.class);
-
-        // Create a Particles object with the mocked Texture
-        particles = new Particles(mockTexture);
+    public void testLowerQualityDrawsFewerParticles() {
+        var system = createSystem();
+        particles = system.getLayer(ParticleEmitter.MENU_DUST);
+        particles.update(0, 1200, 800);
+        SpriteBatch mockBatch = Mockito.mock(SpriteBatch.class);
 
-        // Call the dispose method
-        particles.dispose();
+        particles.setQualityTier(QualityGovernor.Tier.LOW);
+        particles.draw(mockBatch);
 
-        // Verify that the dispose method called Texture.dispose
-        Mockito.verify(mockTexture, Mockito.times(1)).dispose();
+        int activeCount = particles.getActiveParticleCount();
+        assertTrue(activeCount < particles.getParticleCount());
+        Mockito.verify(mockBatch, Mockito.times(1)).draw(
+            Mockito.any(Texture.class),
+            Mockito.any(float[].class),
+            Mockito.eq(0),
+            Mockito.eq(activeCount * 20)
+        );
     }
 }
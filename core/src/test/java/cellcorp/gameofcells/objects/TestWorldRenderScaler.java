@@ -0,0 +1,93 @@
+package cellcorp.gameofcells.objects;
+
+import cellcorp.gameofcells.Main;
+import cellcorp.gameofcells.QualityGovernor;
+import cellcorp.gameofcells.providers.GraphicsProvider;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.utils.viewport.Viewport;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * World Render Scaler Testing
+ * <p>
+ * Checks scale clamping and lowering it by quality tier. Framebuffers are mocked, since tests have no GL context.
+ */
+public class TestWorldRenderScaler {
+
+    @Test
+    public void scaleIsClamped() {
+        var scaler = new WorldRenderScaler(mock(GraphicsProvider.class), Main.PURPLE);
+        scaler.setScale(0.1f);
+        assertEquals(WorldRenderScaler.MIN_SCALE, scaler.getScale());
+        scaler.setScale(2f);
+        assertEquals(WorldRenderScaler.MAX_SCALE, scaler.getScale());
+    }
+
+    @Test
+    public void lowerTiersLowerTheScale() {
+        var scaler = new WorldRenderScaler(mock(GraphicsProvider.class), Main.PURPLE);
+        scaler.setQualityTier(QualityGovernor.Tier.MEDIUM);
+        assertEquals(WorldRenderScaler.MAX_SCALE - WorldRenderScaler.TIER_SCALE_DROP, scaler.getScale(), 0.001f);
+
+        scaler.setQualityTier(QualityGovernor.Tier.HIGH);
+        assertEquals(WorldRenderScaler.MAX_SCALE, scaler.getScale());
+    }
+
+    @Test
+    public void tierDropIsFromTheConfiguredScaleAndClamped() {
+        var scaler = new WorldRenderScaler(mock(GraphicsProvider.class), Main.PURPLE);
+        scaler.setQualityTier(QualityGovernor.Tier.LOW);
+        scaler.setScale(0.6f);
+        assertEquals(WorldRenderScaler.MIN_SCALE, scaler.getScale());
+        assertEquals(0.6f, scaler.getBaseScale());
+
+        // Back at the top tier, the configured scale is restored.
+        scaler.setQualityTier(QualityGovernor.Tier.HIGH);
+        assertEquals(0.6f, scaler.getScale(), 0.001f);
+    }
+
+    @Test
+    public void governorTierChangesReachTheScaler() {
+        var governor = new QualityGovernor();
+        var scaler = new WorldRenderScaler(mock(GraphicsProvider.class), Main.PURPLE);
+        governor.register("renderScale", scaler);
+        governor.setTier(QualityGovernor.Tier.MEDIUM);
+        assertTrue(scaler.getScale() < WorldRenderScaler.MAX_SCALE);
+    }
+
+    @Test
+    public void fullScaleDoesNotCreateFrameBuffer() {
+        var graphicsProvider = mock(GraphicsProvider.class);
+        var scaler = new WorldRenderScaler(graphicsProvider, Main.PURPLE);
+        scaler.begin(mock(Viewport.class));
+        verify(graphicsProvider, never()).createFrameBuffer(any(), anyInt(), anyInt(), anyBoolean());
+    }
+
+    @Test
+    public void disposeDisposesFrameBuffer() {
+        var graphicsProvider = mock(GraphicsProvider.class);
+        Gdx.gl = mock(GL20.class);
+        var frameBuffer = Mockito.mock(FrameBuffer.class);
+        when(frameBuffer.getColorBufferTexture()).thenReturn(mock(Texture.class));
+        when(graphicsProvider.createFrameBuffer(any(), anyInt(), anyInt(), anyBoolean())).thenReturn(frameBuffer);
+        var viewport = mock(Viewport.class);
+        when(viewport.getScreenWidth()).thenReturn(1200);
+        when(viewport.getScreenHeight()).thenReturn(800);
+
+        var scaler = new WorldRenderScaler(graphicsProvider, Main.PURPLE);
+        scaler.setScale(0.5f);
+        scaler.begin(viewport);
+        verify(graphicsProvider).createFrameBuffer(any(), eq(600), eq(400), eq(false));
+
+        scaler.dispose();
+        verify(frameBuffer).dispose();
+    }
+}
@@ -1,8 +1,7 @@
 package cellcorp.gameofcells.objects;
 
-import com.badlogic.gdx.assets.AssetManager;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -11,17 +10,14 @@ import static org.mockito.Mockito.*;
 
 public class TestZone {
 
-    private AssetManager mockAssetManager;
-    private Texture mockTexture;
+    private TextureRegion mockTexture;
     private Zone zone;
 
     @BeforeEach
     public void setup() {
-        mockAssetManager = mock(AssetManager.class);
-        mockTexture = mock(Texture.class);
-        when(mockAssetManager.get("zone.png", Texture.class)).thenReturn(mockTexture);
+        mockTexture = mock(TextureRegion.class);
 
-        zone = new Zone(mockAssetManager, "zone.png", 100f, 200f);
+        zone = new Zone(mockTexture, 100f, 200f);
     }
 
     @Test
@@ -35,7 +31,6 @@ public class TestZone {
         SpriteBatch mockBatch = mock(SpriteBatch.class);
 
         assertDoesNotThrow(() -> zone.draw(mockBatch));
-        verify(mockAssetManager).get("zone.png", Texture.class);
         verify(mockBatch).draw(eq(mockTexture), anyFloat(), anyFloat(), anyFloat(), anyFloat());
     }
 
@@ -47,8 +42,8 @@ public class TestZone {
 
     @Test
     public void testEqualsAndHashCode() {
-        Zone same = new Zone(mockAssetManager, "zone.png", 100f, 200f);
-        Zone different = new Zone(mockAssetManager, "zone.png", 100f, 201f);
+        Zone same = new Zone(mockTexture, 100f, 200f);
+        Zone different = new Zone(mockTexture, 100f, 201f);
 
         assertEquals(zone, same);
         assertNotEquals(zone, different);
@@ -1,6 +1,7 @@
 package cellcorp.gameofcells.objects;
 
 import cellcorp.gameofcells.Main;
+import cellcorp.gameofcells.SpriteRegions;
 import cellcorp.gameofcells.providers.ConfigProvider;
 import cellcorp.gameofcells.runner.GameRunner;
 import cellcorp.gameofcells.screens.GamePlayScreen;
@@ -85,10 +86,10 @@ public class TestZoneManager {
         var fakeGamePlayScreen = Mockito.mock(GamePlayScreen.class);
 
         var fakeConfigProvider = Mockito.mock(ConfigProvider.class);
-        var cell = new Cell(fakeGamePlayScreen, fakeAssetManager, fakeConfigProvider);
+        var cell = new Cell(fakeGamePlayScreen, new SpriteRegions(fakeAssetManager), fakeConfigProvider);
         // Acid zones only spawn after small size upgrade.
         cell.setHasSmallSizeUpgrade(true);
-        var zoneManager = new ZoneManager(fakeAssetManager, cell);
+        var zoneManager = new ZoneManager(new SpriteRegions(fakeAssetManager), cell);
         zoneManager.spawnInRange(-50, -50, 50, 50);
         // Non-deterministic, but the probability of < 1000 spawns at 33% chance is super low
         assertTrue(zoneManager.getAcidZones().size() > 1000);
@@ -102,10 +103,10 @@ public class TestZoneManager {
         var fakeAssetManager = Mockito.mock(AssetManager.class);
         var fakeGamePlayScreen = Mockito.mock(GamePlayScreen.class);
         var fakeConfigProvider = Mockito.mock(ConfigProvider.class);
-        var cell = new Cell(fakeGamePlayScreen, fakeAssetManager, fakeConfigProvider);
+        var cell = new Cell(fakeGamePlayScreen, new SpriteRegions(fakeAssetManager), fakeConfigProvider);
         // Acid zones only spawn after small size upgrade.
         cell.setHasSmallSizeUpgrade(true);
-        var zoneManager = new ZoneManager(fakeAssetManager, cell);
+        var zoneManager = new ZoneManager(new SpriteRegions(fakeAssetManager), cell);
 
         zoneManager.spawnInRange(0, 0, 25, 25);
         var acidZones1 = new HashMap<>(zoneManager.getAcidZones());
@@ -0,0 +1,108 @@
+package cellcorp.gameofcells.objects;
+
+import cellcorp.gameofcells.QualityGovernor;
+import cellcorp.gameofcells.providers.GraphicsProvider;
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Zone Renderer Testing
+ * <p>
+ * The shader can't run in tests, so check the fallback, batching, and culling.
+ */
+public class TestZoneRenderer {
+
+    private static ZoneRenderer createRenderer(ShaderProgram shader, Texture whitePixel) {
+        var graphicsProvider = mock(GraphicsProvider.class);
+        when(graphicsProvider.createShaderProgram(anyString(), anyString())).thenReturn(shader);
+        return new ZoneRenderer(graphicsProvider, whitePixel);
+    }
+
+    private static ShaderProgram compiledShader() {
+        var shader = mock(ShaderProgram.class);
+        when(shader.isCompiled()).thenReturn(true);
+        return shader;
+    }
+
+    @Test
+    public void failedShaderFallsBack() {
+        Gdx.app = mock(Application.class);
+        var shader = mock(ShaderProgram.class);
+        when(shader.isCompiled()).thenReturn(false);
+        when(shader.getLog()).thenReturn("");
+        var renderer = createRenderer(shader, mock(Texture.class));
+        var batch = mock(SpriteBatch.class);
+        var zones = List.of(new Zone(new TextureRegion(), 0, 0));
+
+        assertFalse(renderer.draw(batch, zones, zones, 0, 0, 1200, 800, 0));
+        verify(batch, never()).begin();
+    }
+
+    @Test
+    public void allZonesDrawnInOneCall() {
+        var whitePixel = mock(Texture.class);
+        var shader = compiledShader();
+        var renderer = createRenderer(shader, whitePixel);
+        var batch = mock(SpriteBatch.class);
+        var basicZones = new ArrayList<Zone>();
+        var acidZones = new ArrayList<Zone>();
+        // More than the initial vertex array holds
+        for (int i = 0; i < 20; i++) {
+            basicZones.add(new Zone(new TextureRegion(), i * 10, 0));
+            acidZones.add(new Zone(new TextureRegion(), 0, i * 10));
+        }
+
+        assertTrue(renderer.draw(batch, basicZones, acidZones, 0, 0, 1200, 800, 0));
+
+        assertEquals(40, renderer.getDrawnZoneCount());
+        verify(batch, times(1)).draw(eq(whitePixel), any(float[].class), eq(0), eq(40 * 20));
+        verify(batch).setShader(shader);
+        verify(batch).setShader(null);
+    }
+
+    @Test
+    public void zonesOutsideViewAreCulled() {
+        var renderer = createRenderer(compiledShader(), mock(Texture.class));
+        var batch = mock(SpriteBatch.class);
+        var near = new Zone(new TextureRegion(), 1500, 0);
+        var far = new Zone(new TextureRegion(), 5000, 0);
+
+        assertTrue(renderer.draw(batch, List.of(near, far), List.of(), 0, 0, 1200, 800, 0));
+
+        assertEquals(1, renderer.getDrawnZoneCount());
+    }
+
+    @Test
+    public void nothingVisibleSkipsBatch() {
+        var renderer = createRenderer(compiledShader(), mock(Texture.class));
+        var batch = mock(SpriteBatch.class);
+
+        assertTrue(renderer.draw(batch, List.of(), List.of(), 0, 0, 1200, 800, 0));
+        verify(batch, never()).begin();
+    }
+
+    @Test
+    public void patternOnlyAnimatesAtHighQuality() {
+        var shader = compiledShader();
+        var renderer = createRenderer(shader, mock(Texture.class));
+        var batch = mock(SpriteBatch.class);
+        var zones = List.of(new Zone(new TextureRegion(), 0, 0));
+
+        renderer.setQualityTier(QualityGovernor.Tier.MEDIUM);
+        renderer.draw(batch, zones, List.of(), 0, 0, 1200, 800, 0);
+
+        verify(shader).setUniformf(eq("u_pattern"), eq(0f), anyFloat(), anyFloat());
+    }
+}
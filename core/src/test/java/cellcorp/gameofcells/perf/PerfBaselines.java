@@ -0,0 +1,84 @@
+package cellcorp.gameofcells.perf;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * The committed performance baselines, one per scenario and metric, in a properties file.
+ * Keys look like {@code idle.p99TickMicros}.
+ */
+class PerfBaselines {
+    static final String P99_TICK_MICROS = "p99TickMicros";
+    static final String ALLOCATED_BYTES_PER_TICK = "allocatedBytesPerTick";
+
+    private static final String HEADER = String.join("\n",
+        "# Performance baselines for TestPerformanceGate.",
+        "# Allocations per tick barely depend on the machine. Re-record them with:",
+        "#   ./gradlew :core:perfTest -PupdatePerfBaselines=true",
+        "# Tick times do, so record them only on the machine that runs the gate, by adding:",
+        "#   -PrecordPerfTickTimes=true",
+        "# The gate fails for any scenario without a p99TickMicros baseline.",
+        "");
+
+    private final Path path;
+    private final TreeMap<String, String> values = new TreeMap<>();
+
+    private PerfBaselines(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Read the baselines. A missing file has no baselines.
+     */
+    static PerfBaselines load(Path path) throws IOException {
+        var baselines = new PerfBaselines(path);
+        if (Files.exists(path)) {
+            var properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+            for (var name : properties.stringPropertyNames()) {
+                baselines.values.put(name, properties.getProperty(name));
+            }
+        }
+        return baselines;
+    }
+
+    /**
+     * @return The baseline, or null if none has been recorded.
+     * @throws NumberFormatException If the recorded baseline isn't a number.
+     */
+    Double get(PerfScenario scenario, String metric) {
+        var value = values.get(key(scenario, metric));
+        return value == null ? null : Double.valueOf(value);
+    }
+
+    void put(PerfScenario scenario, String metric, double value) {
+        values.put(key(scenario, metric), String.format(Locale.ROOT, "%.1f", value));
+    }
+
+    /**
+     * Write the baselines back, sorted by key, so re-recording makes a small diff.
+     */
+    synchronized void save() throws IOException {
+        var text = new StringBuilder(HEADER);
+        for (var entry : values.entrySet()) {
+            text.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+        }
+        Files.writeString(path, text, StandardCharsets.UTF_8);
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    private static String key(PerfScenario scenario, String metric) {
+        return scenario.getKey() + "." + metric;
+    }
+}
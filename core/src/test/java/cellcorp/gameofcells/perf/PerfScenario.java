@@ -0,0 +1,124 @@
+package cellcorp.gameofcells.perf;
+
+import cellcorp.gameofcells.objects.Chunk;
+import cellcorp.gameofcells.objects.Zone;
+import cellcorp.gameofcells.runner.GameRunner;
+import cellcorp.gameofcells.screens.GamePlayScreen;
+import com.badlogic.gdx.Input;
+
+import java.util.Set;
+
+/**
+ * A scripted stretch of gameplay, for measuring tick time and allocations.
+ * Each scenario places the cell, then picks the held-down keys for every tick.
+ */
+public enum PerfScenario {
+    /**
+     * The cell sits still at spawn.
+     */
+    IDLE {
+        @Override
+        void setUp(GamePlayScreen screen) {
+        }
+
+        @Override
+        Set<Integer> keys(int tick) {
+            return NO_KEYS;
+        }
+    },
+    /**
+     * The cell swims right the whole time, spawning and despawning chunks as it goes.
+     */
+    STRAIGHT_SWIM {
+        @Override
+        void setUp(GamePlayScreen screen) {
+        }
+
+        @Override
+        Set<Integer> keys(int tick) {
+            return RIGHT;
+        }
+    },
+    /**
+     * The cell swims in a small square in the basic zone nearest spawn, where glucose is densest.
+     */
+    DENSE_FORAGING {
+        @Override
+        void setUp(GamePlayScreen screen) {
+            var cell = screen.getCell();
+            Zone nearest = null;
+            for (var zone : screen.getZoneManager().getBasicZones().values()) {
+                if (nearest == null || zone.distanceFrom(cell.getX(), cell.getY())
+                    < nearest.distanceFrom(cell.getX(), cell.getY())) {
+                    nearest = zone;
+                }
+            }
+            if (nearest != null) {
+                cell.moveTo(nearest.x(), nearest.y());
+            }
+        }
+
+        @Override
+        Set<Integer> keys(int tick) {
+            return SQUARE[(tick / FORAGING_SIDE_TICKS) % SQUARE.length];
+        }
+    },
+    /**
+     * The cell swims back and forth over a chunk corner, crossing two chunk boundaries every few ticks.
+     */
+    CHUNK_BOUNDARY_ZIGZAG {
+        @Override
+        void setUp(GamePlayScreen screen) {
+            screen.getCell().moveTo(Chunk.CHUNK_LENGTH, Chunk.CHUNK_LENGTH);
+        }
+
+        @Override
+        Set<Integer> keys(int tick) {
+            // The first leg is half as long, so the cell swings evenly either side of the corner.
+            return ((tick + ZIGZAG_TICKS / 2) / ZIGZAG_TICKS) % 2 == 1 ? UP_RIGHT : DOWN_LEFT;
+        }
+    };
+
+    /**
+     * Ticks spent on each side of the foraging square.
+     */
+    private static final int FORAGING_SIDE_TICKS = GameRunner.TICKS_PER_SECOND;
+    /**
+     * Ticks spent going each way over the chunk corner.
+     */
+    private static final int ZIGZAG_TICKS = GameRunner.TICKS_PER_SECOND / 3;
+
+    // Shared, so picking the keys doesn't allocate.
+    private static final Set<Integer> NO_KEYS = Set.of();
+    private static final Set<Integer> RIGHT = Set.of(Input.Keys.RIGHT);
+    private static final Set<Integer> UP_RIGHT = Set.of(Input.Keys.UP, Input.Keys.RIGHT);
+    private static final Set<Integer> DOWN_LEFT = Set.of(Input.Keys.DOWN, Input.Keys.LEFT);
+    private static final Set<Integer>[] SQUARE = squareKeys();
+
+    @SuppressWarnings("unchecked")
+    private static Set<Integer>[] squareKeys() {
+        return new Set[]{
+            Set.of(Input.Keys.UP),
+            Set.of(Input.Keys.RIGHT),
+            Set.of(Input.Keys.DOWN),
+            Set.of(Input.Keys.LEFT)
+        };
+    }
+
+    /**
+     * Place the cell, once the gameplay screen is up.
+     */
+    abstract void setUp(GamePlayScreen screen);
+
+    /**
+     * @return The keys to hold down on the given tick, counting from the first warm-up tick.
+     */
+    abstract Set<Integer> keys(int tick);
+
+    /**
+     * @return The key used for this scenario in the baselines file.
+     */
+    String getKey() {
+        return name().toLowerCase();
+    }
+}
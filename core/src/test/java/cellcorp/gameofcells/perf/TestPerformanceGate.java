@@ -0,0 +1,236 @@
+package cellcorp.gameofcells.perf;
+
+import cellcorp.gameofcells.Main;
+import cellcorp.gameofcells.benchmark.BenchmarkScript;
+import cellcorp.gameofcells.benchmark.FrameStats;
+import cellcorp.gameofcells.objects.SpawnManager;
+import cellcorp.gameofcells.runner.GameRunner;
+import cellcorp.gameofcells.screens.GamePlayScreen;
+import cellcorp.gameofcells.screens.PopupId;
+import com.badlogic.gdx.ApplicationListener;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Performance Gate Testing
+ * <p>
+ * Runs each {@link PerfScenario} headlessly for a few thousand ticks, and fails if p99 tick time
+ * or bytes allocated per tick grew past the committed baselines.
+ * <p>
+ * Tagged "perf", so it's left out of `test`. Run it with `./gradlew :core:perfTest`,
+ * and re-record the baselines with `-PupdatePerfBaselines=true`.
+ * That only records allocations, which hold across machines. Tick times only mean something on the
+ * machine that runs the gate, so they're recorded there, by adding `-PrecordPerfTickTimes=true`.
+ * Until they are, every scenario with an allocation baseline fails, so the gate can't quietly skip tick times.
+ */
+@Tag("perf")
+public class TestPerformanceGate {
+    private static final int WARM_UP_TICKS = 10 * GameRunner.TICKS_PER_SECOND;
+    private static final int MEASURED_TICKS = 5000;
+    /**
+     * Tick times are noisy, even at p99, so only a large regression fails.
+     */
+    private static final double TICK_TIME_TOLERANCE = 1.5;
+    /**
+     * Allocations are nearly deterministic, so the margin is tighter.
+     * The slack keeps scenarios that barely allocate from failing over a few stray objects.
+     */
+    private static final double ALLOCATION_TOLERANCE = 1.2;
+    private static final double ALLOCATION_SLACK_BYTES = 256;
+
+    private static PerfBaselines baselines;
+    private static boolean updateBaselines;
+    private static boolean recordTickTimes;
+    private static com.sun.management.ThreadMXBean threads;
+
+    @BeforeAll
+    public static void setUpLibGDX() {
+        System.setProperty("com.badlogic.gdx.backends.headless.disableNativesLoading", "true");
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        new HeadlessApplication(
+            new ApplicationListener() {
+                @Override
+                public void create() {
+                }
+
+                @Override
+                public void resize(int width, int height) {
+                }
+
+                @Override
+                public void render() {
+                }
+
+                @Override
+                public void pause() {
+                }
+
+                @Override
+                public void resume() {
+                }
+
+                @Override
+                public void dispose() {
+                }
+            }, config
+        );
+
+        Gdx.graphics = Mockito.mock(Graphics.class);
+        Mockito.when(Gdx.graphics.getWidth()).thenReturn(Main.DEFAULT_SCREEN_WIDTH);
+        Mockito.when(Gdx.graphics.getHeight()).thenReturn(Main.DEFAULT_SCREEN_HEIGHT);
+
+        GL20 gl20 = Mockito.mock(GL20.class);
+        Gdx.gl = gl20;
+        Gdx.gl20 = gl20;
+    }
+
+    @BeforeAll
+    public static void loadBaselines() throws IOException {
+        baselines = PerfBaselines.load(Path.of(
+            System.getProperty("perf.baselines", "src/test/resources/perf-baselines.properties")));
+        updateBaselines = Boolean.getBoolean("perf.updateBaselines");
+        recordTickTimes = Boolean.getBoolean("perf.recordTickTimes");
+
+        var bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean
+            && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            threads = (com.sun.management.ThreadMXBean) bean;
+            threads.setThreadAllocatedMemoryEnabled(true);
+        }
+    }
+
+    @Test
+    public void idle() throws IOException {
+        check(PerfScenario.IDLE);
+    }
+
+    @Test
+    public void straightSwim() throws IOException {
+        check(PerfScenario.STRAIGHT_SWIM);
+    }
+
+    @Test
+    public void denseForaging() throws IOException {
+        check(PerfScenario.DENSE_FORAGING);
+    }
+
+    @Test
+    public void chunkBoundaryZigzag() throws IOException {
+        check(PerfScenario.CHUNK_BOUNDARY_ZIGZAG);
+    }
+
+    /**
+     * Measure the scenario, then either record it as the baseline, or compare it against the baseline.
+     */
+    private void check(PerfScenario scenario) throws IOException {
+        var tickMicros = new FrameStats();
+        double bytesPerTick = run(scenario, tickMicros);
+        double p99 = tickMicros.percentile(99);
+
+        System.out.println("[Perf] " + scenario.getKey() + ": " + tickMicros.getCount() + " ticks"
+            + ", mean " + micros(tickMicros.getMean())
+            + ", p50 " + micros(tickMicros.percentile(50))
+            + ", p90 " + micros(tickMicros.percentile(90))
+            + ", p99 " + micros(p99)
+            + ", max " + micros(tickMicros.getMax())
+            + (bytesPerTick < 0 ? "" : ", " + String.format(Locale.ROOT, "%.0f", bytesPerTick) + " B/tick"));
+
+        if (updateBaselines) {
+            if (recordTickTimes) {
+                baselines.put(scenario, PerfBaselines.P99_TICK_MICROS, p99);
+            }
+            if (bytesPerTick >= 0) {
+                baselines.put(scenario, PerfBaselines.ALLOCATED_BYTES_PER_TICK, bytesPerTick);
+            }
+            baselines.save();
+            return;
+        }
+
+        var p99Baseline = baselines.get(scenario, PerfBaselines.P99_TICK_MICROS);
+        var bytesBaseline = baselines.get(scenario, PerfBaselines.ALLOCATED_BYTES_PER_TICK);
+        assumeTrue(p99Baseline != null || bytesBaseline != null, "No baseline for " + scenario.getKey()
+            + " in " + baselines.getPath() + ". Record one with -PupdatePerfBaselines=true");
+
+        if (bytesBaseline != null && bytesPerTick >= 0) {
+            assertTrue(bytesPerTick <= bytesBaseline * ALLOCATION_TOLERANCE + ALLOCATION_SLACK_BYTES,
+                scenario.getKey() + ": allocated " + Math.round(bytesPerTick)
+                    + " B/tick, over the baseline of " + Math.round(bytesBaseline));
+        }
+        // Checked after allocations, so an allocation regression is still reported.
+        assertNotNull(p99Baseline, scenario.getKey() + " has no p99 tick time baseline in " + baselines.getPath()
+            + ", so tick time regressions can't be caught. Record one on the machine that runs the gate with"
+            + " -PupdatePerfBaselines=true -PrecordPerfTickTimes=true");
+        assertTrue(p99 <= p99Baseline * TICK_TIME_TOLERANCE, scenario.getKey() + ": p99 tick time "
+            + micros(p99) + " is over the baseline of " + micros(p99Baseline));
+    }
+
+    /**
+     * Play the scenario in a fresh game, timing each measured tick.
+     *
+     * @param tickMicros Gets the time of each measured tick, in microseconds.
+     * @return Mean bytes allocated per measured tick, or -1 if this JVM can't count them.
+     */
+    private static double run(PerfScenario scenario, FrameStats tickMicros) {
+        // Seeded before the game exists, so every run spawns the same world.
+        SpawnManager.setRandomSeed(BenchmarkScript.SEED);
+        var runner = GameRunner.create();
+        var screen = runner.moveToGameplayScreen();
+        for (var id : PopupId.values()) {
+            screen.getPopups().setWasShown(id, true);
+        }
+        scenario.setUp(screen);
+
+        for (int tick = 0; tick < WARM_UP_TICKS; tick++) {
+            prepare(scenario, tick, runner, screen);
+            runner.step();
+        }
+
+        long allocatedBytes = 0;
+        long threadId = Thread.currentThread().getId();
+        for (int tick = WARM_UP_TICKS; tick < WARM_UP_TICKS + MEASURED_TICKS; tick++) {
+            prepare(scenario, tick, runner, screen);
+            long bytesBefore = threads == null ? 0 : threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            runner.step();
+            long end = System.nanoTime();
+            if (threads != null) {
+                allocatedBytes += threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+            }
+            tickMicros.add((end - start) / 1000f);
+        }
+
+        // A scenario that left gameplay, say by dying, measured the wrong thing.
+        assertSame(screen, runner.game.getScreen(), scenario.getKey() + " left the gameplay screen");
+        return threads == null ? -1 : allocatedBytes / (double) MEASURED_TICKS;
+    }
+
+    /**
+     * Set up the next tick's input, outside of what's measured.
+     * Keeps the cell alive, since scenarios run far longer than its ATP lasts.
+     */
+    private static void prepare(PerfScenario scenario, int tick, GameRunner runner, GamePlayScreen screen) {
+        runner.setHeldDownKeys(scenario.keys(tick));
+        var cell = screen.getCell();
+        cell.setCellATP(cell.getMaxATP());
+        cell.setCellHealth(cell.getMaxHealth());
+    }
+
+    private static String micros(double value) {
+        return String.format(Locale.ROOT, "%.1f us", value);
+    }
+}
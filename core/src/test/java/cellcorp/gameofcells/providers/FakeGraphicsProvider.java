@@ -1,10 +1,15 @@
 package cellcorp.gameofcells.providers;
 
 import cellcorp.gameofcells.Main;
+import cellcorp.gameofcells.hud.UiSkin;
 import com.badlogic.gdx.graphics.*;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
@@ -18,6 +23,9 @@ import org.mockito.Mockito;
  * Mostly just mocks things.
  */
 public class FakeGraphicsProvider implements GraphicsProvider {
+    private final UiSkin uiSkin = new UiSkin(this);
+    private final RenderContext renderContext = new RenderContext(this);
+
     @Override
     public int getWidth() {
         return Main.DEFAULT_SCREEN_WIDTH;
@@ -45,14 +53,25 @@ public class FakeGraphicsProvider implements GraphicsProvider {
 
     @Override
     public ShapeRenderer createShapeRenderer() {
-        return Mockito.mock(ShapeRenderer.class);
+        var shapeRenderer = Mockito.mock(ShapeRenderer.class);
+        // So the shared render context can save and restore it.
+        Mockito.when(shapeRenderer.getProjectionMatrix()).thenReturn(new Matrix4());
+        return shapeRenderer;
     }
 
     @Override
     public SpriteBatch createSpriteBatch() {
         // Non-graphics code should never reference the sprite batch,
         // so this might even be safe.
-        return Mockito.mock(SpriteBatch.class);
+        var batch = Mockito.mock(SpriteBatch.class);
+        // So the shared render context can save and restore it.
+        Mockito.when(batch.getProjectionMatrix()).thenReturn(new Matrix4());
+        return batch;
+    }
+
+    @Override
+    public SpriteCache createSpriteCache(int size) {
+        return Mockito.mock(SpriteCache.class);
     }
 
     @Override
@@ -96,12 +115,12 @@ public class FakeGraphicsProvider implements GraphicsProvider {
     }
 
     @Override
-    public Image createImage(Texture texture) {
+    public Image createImage(TextureRegion texture) {
         return Mockito.mock(Image.class);
     }
 
     @Override
-    public TextureRegionDrawable createTextureRegionDrawable(Texture texture) {
+    public TextureRegionDrawable createTextureRegionDrawable(TextureRegion texture) {
         return Mockito.mock(TextureRegionDrawable.class);
     }
 
@@ -109,4 +128,28 @@ public class FakeGraphicsProvider implements GraphicsProvider {
     public GlyphLayout createGlyphLayout(BitmapFont font, String text) {
         return Mockito.mock(GlyphLayout.class);
     }
+
+    @Override
+    public ShaderProgram createShaderProgram(String vertexShader, String fragmentShader) {
+        return Mockito.mock(ShaderProgram.class);
+    }
+
+    @Override
+    public FrameBuffer createFrameBuffer(Pixmap.Format format, int width, int height, boolean hasDepth) {
+        var frameBuffer = Mockito.mock(FrameBuffer.class);
+        Mockito.when(frameBuffer.getWidth()).thenReturn(width);
+        Mockito.when(frameBuffer.getHeight()).thenReturn(height);
+        Mockito.when(frameBuffer.getColorBufferTexture()).thenReturn(Mockito.mock(Texture.class));
+        return frameBuffer;
+    }
+
+    @Override
+    public UiSkin getUiSkin() {
+        return uiSkin;
+    }
+
+    @Override
+    public RenderContext getRenderContext() {
+        return renderContext;
+    }
 }
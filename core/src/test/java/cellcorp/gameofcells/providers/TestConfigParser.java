@@ -0,0 +1,90 @@
+package cellcorp.gameofcells.providers;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestConfigParser {
+
+    @Test
+    public void testTypesValuesOnce() {
+        var snapshot = ConfigParser.parse("count:100\nrate:0.05\nrates:20,5\nname:cell\n");
+
+        var count = snapshot.get("count");
+        assertTrue(count.isInt());
+        assertTrue(count.isFloat());
+        assertEquals(100, count.intValue);
+        assertEquals(100f, count.floatValue);
+
+        var rate = snapshot.get("rate");
+        assertFalse(rate.isInt());
+        assertEquals(0.05f, rate.floatValue);
+
+        var rates = snapshot.get("rates");
+        assertTrue(rates.isVector());
+        assertEquals(20f, rates.vectorX);
+        assertEquals(5f, rates.vectorY);
+
+        var name = snapshot.get("name");
+        assertFalse(name.isInt() || name.isFloat() || name.isVector());
+        assertEquals("cell", name.text);
+    }
+
+    @Test
+    public void testSkipsCommentsAndGroups() {
+        var snapshot = ConfigParser.parse("## comment\n\n[cell]\n  health:100   ##inline comment\r\n[descriptions]/\n");
+
+        assertEquals(1, snapshot.size());
+        assertEquals(100, snapshot.get("health").intValue);
+        assertTrue(snapshot.getProblems().isEmpty());
+    }
+
+    @Test
+    public void testDescriptions() {
+        var snapshot = ConfigParser.parse("[descriptions]/\n" +
+            "[notifications]/\n" +
+            "## A comment between messages\n" +
+            "warning:DANGER! Time: now\\nMove!/ ##Trailing comment\n" +
+            "long:First line\r\nsecond line/\n");
+
+        assertEquals("DANGER! Time: now\nMove!", snapshot.get("warning").text);
+        assertEquals("First line\nsecond line", snapshot.get("long").text);
+        assertTrue(snapshot.getProblems().isEmpty());
+    }
+
+    @Test
+    public void testReportsProblemsWithLineNumbers() {
+        var snapshot = ConfigParser.parse("health:100\nbroken line\nhealth:50\n[descriptions]/\nmessage:No line ender");
+
+        assertEquals(50, snapshot.get("health").intValue);
+        assertEquals("No line ender", snapshot.get("message").text);
+        var problems = snapshot.getProblems();
+        assertEquals(3, problems.size);
+        assertTrue(problems.get(0).startsWith("line 2:"));
+        assertTrue(problems.get(1).startsWith("line 3:"));
+        assertTrue(problems.get(2).startsWith("line 5:"));
+    }
+
+    @Test
+    public void testCompiledConfigRoundTrip() {
+        var source = "count:100\nrate:0.05\nrates:20,5\n[descriptions]/\nmessage:Hello\\nthere/\n".getBytes();
+        var parsed = ConfigParser.parse(new String(source));
+        int hash = CompiledConfig.hash(source);
+
+        var compiled = CompiledConfig.decode(CompiledConfig.encode(parsed, hash), hash);
+
+        assertNotNull(compiled);
+        assertEquals(parsed.toMap(), compiled.toMap());
+        assertEquals(100, compiled.get("count").intValue);
+        assertEquals(0.05f, compiled.get("rate").floatValue);
+        assertTrue(compiled.get("rates").isVector());
+    }
+
+    @Test
+    public void testCompiledConfigFromOtherTextIsIgnored() {
+        var compiled = CompiledConfig.encode(ConfigParser.parse("count:100\n"), CompiledConfig.hash("count:100\n".getBytes()));
+
+        assertNull(CompiledConfig.decode(compiled, CompiledConfig.hash("count:200\n".getBytes())));
+        assertNull(CompiledConfig.decode(new byte[]{1, 2, 3}, 0));
+    }
+}
@@ -16,23 +16,19 @@ import static org.mockito.Mockito.*;
 public class TestConfigProvider {
 
     ConfigProvider configProvider = new ConfigProvider();
-    HashMap<String, String> testConfigData = configProvider.getConfigData();
 
     public TestConfigProvider() {
         //While I would like to test this with the config file,
         //the config file can change, so I've hardcode the values,
         //and just tested the getters.
-
-        testConfigData.put("cellHealth", "50");
-        testConfigData.put("glucosePopupMessage", "glucoseFound");
-        testConfigData.put("cellMovementSpeed", "200");
-        testConfigData.put("mitoHeal-Cost", "20,5");
-        testConfigData.put("badVector", null);
-        testConfigData.put("badint", null);
-        testConfigData.put("badPopupMessage", null);
-        testConfigData.put("badFloat", null);
-
-
+        //The bad keys are left out, so looking them up misses.
+
+        configProvider.loadConfigText("cellHealth:50\n" +
+            "cellMovementSpeed:200\n" +
+            "frequency:0.05\n" +
+            "mitoHeal-Cost:20,5\n" +
+            "[descriptions]/\n" +
+            "glucosePopupMessage:glucoseFound/\n");
     }
 
     @Test
@@ -68,6 +64,17 @@ public class TestConfigProvider {
         assertEquals(new Vector2(20, 5), configProvider.getVector2("mitoHeal-Cost"));
     }
 
+    @Test
+    public void testFloatValueWithDecimalPoint() {
+        assertEquals(0.05f, configProvider.getFloatValue("frequency"));
+        assertThrowsExactly(NumberFormatException.class, () -> configProvider.getIntValue("frequency"));
+    }
+
+    @Test
+    public void testNonVectorValueThrows() {
+        assertThrowsExactly(IllegalArgumentException.class, () -> configProvider.getVector2("cellHealth"));
+    }
+
     @Test
     public void testValueExceptions() {
         assertThrowsExactly(NumberFormatException.class, () -> configProvider.getIntValue("badint"));
@@ -0,0 +1,98 @@
+package cellcorp.gameofcells.providers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Matrix4;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class TestRenderContext {
+
+    @BeforeAll
+    public static void setUpLibGDX() {
+        // Stages read the window size when they're created.
+        Gdx.graphics = mock(Graphics.class);
+    }
+
+    @Test
+    public void batchAndShapeRendererAreCreatedOnce() {
+        var graphicsProvider = spy(new FakeGraphicsProvider());
+        var context = new RenderContext(graphicsProvider);
+        assertEquals(0, context.getCreatedCount());
+
+        assertSame(context.getBatch(), context.getBatch());
+        assertSame(context.getShapeRenderer(), context.getShapeRenderer());
+
+        verify(graphicsProvider, times(1)).createSpriteBatch();
+        verify(graphicsProvider, times(1)).createShapeRenderer();
+        assertEquals(2, context.getCreatedCount());
+    }
+
+    @Test
+    public void popRestoresPushedState() {
+        var batch = mock(SpriteBatch.class);
+        var shapeRenderer = mock(ShapeRenderer.class);
+        var batchProjection = new Matrix4().setToOrtho2D(0, 0, 100, 100);
+        var shapeProjection = new Matrix4().setToOrtho2D(0, 0, 200, 200);
+        when(batch.getProjectionMatrix()).thenReturn(batchProjection);
+        when(shapeRenderer.getProjectionMatrix()).thenReturn(shapeProjection);
+        when(batch.getPackedColor()).thenReturn(Color.RED.toFloatBits());
+        var graphicsProvider = mock(GraphicsProvider.class);
+        when(graphicsProvider.createSpriteBatch()).thenReturn(batch);
+        when(graphicsProvider.createShapeRenderer()).thenReturn(shapeRenderer);
+        var context = new RenderContext(graphicsProvider);
+
+        context.push();
+        // A widget changes the shared matrices in place.
+        batchProjection.idt();
+        shapeProjection.idt();
+        context.pop();
+
+        var expectedBatchProjection = new Matrix4().setToOrtho2D(0, 0, 100, 100);
+        var expectedShapeProjection = new Matrix4().setToOrtho2D(0, 0, 200, 200);
+        verify(batch).setProjectionMatrix(argThat(m -> Arrays.equals(m.val, expectedBatchProjection.val)));
+        verify(shapeRenderer).setProjectionMatrix(argThat(m -> Arrays.equals(m.val, expectedShapeProjection.val)));
+        verify(batch).setPackedColor(Color.RED.toFloatBits());
+    }
+
+    @Test
+    public void popWithoutPushThrows() {
+        var context = new RenderContext(new FakeGraphicsProvider());
+        assertThrows(IllegalStateException.class, context::pop);
+    }
+
+    @Test
+    public void stagesShareTheBatch() {
+        var graphicsProvider = new FakeGraphicsProvider();
+        var context = graphicsProvider.getRenderContext();
+        var first = context.createStage(graphicsProvider.createFitViewport(100, 100));
+        var second = graphicsProvider.createStage(100, 100);
+
+        assertSame(context.getBatch(), first.getBatch());
+        assertSame(context.getBatch(), second.getBatch());
+
+        first.dispose();
+        verify(context.getBatch(), never()).dispose();
+    }
+
+    @Test
+    public void disposeDisposesBatchAndShapeRenderer() {
+        var context = new RenderContext(new FakeGraphicsProvider());
+        var batch = context.getBatch();
+        var shapeRenderer = context.getShapeRenderer();
+
+        context.dispose();
+
+        verify(batch).dispose();
+        verify(shapeRenderer).dispose();
+        assertEquals(0, context.getCreatedCount());
+    }
+}
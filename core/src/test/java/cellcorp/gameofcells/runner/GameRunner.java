@@ -5,6 +5,7 @@ import cellcorp.gameofcells.Main;
 import cellcorp.gameofcells.providers.ConfigProvider;
 import cellcorp.gameofcells.providers.FakeGraphicsProvider;
 import cellcorp.gameofcells.providers.FakeInputProvider;
+import cellcorp.gameofcells.providers.InputProvider;
 import cellcorp.gameofcells.screens.GamePlayScreen;
 import cellcorp.gameofcells.screens.MainMenuScreen;
 import com.badlogic.gdx.Input;
@@ -53,8 +54,18 @@ public class GameRunner {
      */
     public static GameRunner create() {
         var inputProvider = new FakeInputProvider();
+        return new GameRunner(createGame(inputProvider), inputProvider);
+    }
+
+    /**
+     * Constructs and creates a `Main` with fake graphics and assets, reading input from the given provider.
+     * For driving the game with something other than a {@link FakeInputProvider}.
+     */
+    public static Main createGame(InputProvider inputProvider) {
         var graphicsProvider = new FakeGraphicsProvider();
         var assetManager = Mockito.mock(AssetManager.class);
+        // Every asset group finishes loading on its first time slice.
+        Mockito.when(assetManager.update(Mockito.anyInt())).thenReturn(true);
 
         var font = Mockito.mock(BitmapFont.class);
         var fontData = Mockito.mock(BitmapFont.BitmapFontData.class);
@@ -72,7 +83,7 @@ public class GameRunner {
         var configProvider = new ConfigProvider();
         var game = new Main(inputProvider, graphicsProvider, assetManager, camera, viewport, configProvider);
         game.create();
-        return new GameRunner(game, inputProvider);
+        return game;
     }
 
     /**
@@ -1,10 +1,10 @@
 package cellcorp.gameofcells.screens;
 
-import cellcorp.gameofcells.AssetFileNames;
 import cellcorp.gameofcells.Main;
 import cellcorp.gameofcells.objects.Chunk;
 import cellcorp.gameofcells.objects.Glucose;
 import cellcorp.gameofcells.objects.GlucoseManager;
+import cellcorp.gameofcells.objects.ParticleEmitter;
 import cellcorp.gameofcells.objects.Zone;
 import cellcorp.gameofcells.runner.GameRunner;
 
@@ -15,6 +15,7 @@ import com.badlogic.gdx.Input;
 import com.badlogic.gdx.backends.headless.HeadlessApplication;
 import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 
 import org.junit.jupiter.api.AfterAll;
@@ -169,7 +170,7 @@ public class TestGamePlayScreen {
         var cellX = cell.getX();
         var cellY = cell.getY();
 
-        var glucose = new Glucose(gamePlay.getAssetManager(), cellX, cellY);
+        var glucose = new Glucose(new TextureRegion(), cellX, cellY);
         var cellChunk = Chunk.fromWorldCoords(cellX, cellY);
 
         // Inject it directly into the glucose manager
@@ -218,8 +219,7 @@ public class TestGamePlayScreen {
         zoneManager.getAcidZones().put(
             testChunk,
             new Zone(
-                gamePlayScreen.getAssetManager(),
-                AssetFileNames.ACID_ZONE,
+                new TextureRegion(),
                 zonePos.x,
                 zonePos.y
             )
@@ -262,8 +262,7 @@ public class TestGamePlayScreen {
         zoneManager.getBasicZones().put(
             testChunk,
             new Zone(
-                gamePlayScreen.getAssetManager(),
-                AssetFileNames.BASIC_ZONE,
+                new TextureRegion(),
                 zonePos.x,
                 zonePos.y
             )
@@ -289,14 +288,9 @@ public class TestGamePlayScreen {
         var screen = (GamePlayScreen) gameRunner.game.getScreen();
         screen.triggerShake(1.5f, 12f);
 
-        // Use reflection to access shakeTime (private field)
-        var shakeTimeField = GamePlayScreen.class.getDeclaredField("shakeTime");
-        shakeTimeField.setAccessible(true);
-        float shakeTime = (float) shakeTimeField.get(screen);
-
-        var shakeIntensityField = GamePlayScreen.class.getDeclaredField("shakeIntensity");
-        shakeIntensityField.setAccessible(true);
-        float shakeIntensity = (float) shakeIntensityField.get(screen);
+        // The camera controller owns the shake
+        float shakeTime = screen.getCameraController().getShakeTime();
+        float shakeIntensity = screen.getCameraController().getShakeIntensity();
 
         assertEquals(1.5f, shakeTime, 0.01f);
         assertEquals(12f, shakeIntensity, 0.01f);
@@ -341,6 +335,22 @@ public class TestGamePlayScreen {
         assertDoesNotThrow(() -> gamePlayScreen.dispose());
     }
 
+    @Test
+    public void disposedGamePlayScreenLeavesTheQualityGovernor() {
+        var gameRunner = GameRunner.create();
+        gameRunner.setHeldDownKeys(Set.of(Input.Keys.ENTER));
+        gameRunner.step(); // Move to gameplay
+
+        var gamePlayScreen = (GamePlayScreen) gameRunner.game.getScreen();
+        var qualityGovernor = gameRunner.game.getQualityGovernor();
+        assertTrue(qualityGovernor.isRegistered("renderScale"));
+
+        gamePlayScreen.dispose();
+        assertFalse(qualityGovernor.isRegistered("gameplayBackground"));
+        assertFalse(qualityGovernor.isRegistered("renderScale"));
+        assertFalse(qualityGovernor.isRegistered(ParticleEmitter.WORLD_PARTICULATE.name));
+    }
+
     @Test
     public void gamePlayScreenPauseDoesNotThrow() {
         var gameRunner = GameRunner.create();
@@ -410,8 +420,7 @@ public class TestGamePlayScreen {
         gamePlayScreen.getSpawnManager().getZoneManager().getBasicZones().put(
             testChunk,
             new Zone(
-                gamePlayScreen.getAssetManager(),
-                AssetFileNames.BASIC_ZONE,
+                new TextureRegion(),
                 zonePos.x,
                 zonePos.y
             )
@@ -461,8 +470,7 @@ public class TestGamePlayScreen {
         gamePlayScreen.getSpawnManager().getZoneManager().getBasicZones().put(
             testChunk,
             new Zone(
-                gamePlayScreen.getAssetManager(),
-                AssetFileNames.BASIC_ZONE,
+                new TextureRegion(),
                 zonePos.x,
                 zonePos.y
             )
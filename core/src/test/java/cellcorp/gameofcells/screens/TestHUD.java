@@ -1,10 +1,13 @@
 package cellcorp.gameofcells.screens;
 
 import cellcorp.gameofcells.AssetFileNames;
+import cellcorp.gameofcells.AssetRegistry;
+import cellcorp.gameofcells.hud.UiSkin;
 import cellcorp.gameofcells.objects.Stats;
 import cellcorp.gameofcells.providers.ConfigProvider;
 import cellcorp.gameofcells.providers.FakeInputProvider;
 import cellcorp.gameofcells.providers.GraphicsProvider;
+import cellcorp.gameofcells.providers.RenderContext;
 import cellcorp.gameofcells.runner.GameRunner;
 import com.badlogic.gdx.ApplicationListener;
 import com.badlogic.gdx.Gdx;
@@ -110,6 +113,8 @@ public class TestHUD {
         when(mockGraphicsProvider.createSpriteBatch()).thenReturn(fakeBatch);
         when(mockGraphicsProvider.createRoundedRectangleTexture(anyInt(), anyInt(), any(), anyFloat()))
             .thenReturn(fakeTexture);
+        when(mockGraphicsProvider.getUiSkin()).thenReturn(new UiSkin(mockGraphicsProvider));
+        when(mockGraphicsProvider.getRenderContext()).thenReturn(new RenderContext(mockGraphicsProvider));
 
         OrthographicCamera camera = new OrthographicCamera();
         camera.update();
@@ -119,7 +124,7 @@ public class TestHUD {
         when(mockGamePlayScreen.getCell()).thenReturn(mock(cellcorp.gameofcells.objects.Cell.class));
         when(mockGamePlayScreen.getZoneManager()).thenReturn(mock(cellcorp.gameofcells.objects.ZoneManager.class));
 
-        hud = new HUD(mockGraphicsProvider, inputProvider, mockConfigProvider, mockAssetManager, mockGamePlayScreen, mockStats);
+        hud = new HUD(mockGraphicsProvider, inputProvider, mockConfigProvider, new AssetRegistry(mockAssetManager), mockGamePlayScreen, mockStats);
     }
 
 
@@ -136,6 +141,8 @@ public class TestHUD {
     @Test
     public void testHUDQueuePopupStoresCorrectData() {
         SpriteBatch batch = mock(SpriteBatch.class);
+        // The popup panel is a nine-patch, and NinePatch.draw multiplies its color by the batch's.
+        when(batch.getColor()).thenReturn(new Color(Color.WHITE));
         hud.queuePopup("Test Popup", 100, 200, 300, 150, Color.ORANGE);
         assertDoesNotThrow(() -> hud.drawPopup(batch));
     }
@@ -1,6 +1,8 @@
 package cellcorp.gameofcells.screens;
 
 import cellcorp.gameofcells.AssetFileNames;
+import cellcorp.gameofcells.hud.UiSkin;
+import cellcorp.gameofcells.providers.FakeGraphicsProvider;
 import cellcorp.gameofcells.providers.GraphicsProvider;
 
 import com.badlogic.gdx.ApplicationListener;
@@ -11,8 +13,8 @@ import com.badlogic.gdx.backends.headless.HeadlessApplication;
 import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.GL30;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
@@ -110,9 +112,10 @@ public class TestMenuSystem {
         when(mockStage.getActors()).thenReturn(fakeActors);
 
         Image mockImage = mock(Image.class);
-        when(mockGraphicsProvider.createImage(any(Texture.class))).thenReturn(mockImage);
+        when(mockGraphicsProvider.createImage(any(TextureRegion.class))).thenReturn(mockImage);
 
         when(mockAssetManager.get(AssetFileNames.HUD_FONT, BitmapFont.class)).thenReturn(mockFont);
+        when(mockGraphicsProvider.getUiSkin()).thenReturn(new UiSkin(new FakeGraphicsProvider()));
 
         menuSystem = new MenuSystem(mockStage, mockAssetManager, mockGraphicsProvider);
     }
@@ -143,8 +146,8 @@ public class TestMenuSystem {
 
     @Test
     public void testInitializeMainMenuDoesNotThrow() {
-        Texture mockTex1 = mock(Texture.class);
-        Texture mockTex2 = mock(Texture.class);
+        TextureRegion mockTex1 = mock(TextureRegion.class);
+        TextureRegion mockTex2 = mock(TextureRegion.class);
         boolean[] enabled = new boolean[]{true, true}; // enable both menu items
 
         assertDoesNotThrow(() ->
@@ -12,6 +12,7 @@ import com.badlogic.gdx.Input;
 import com.badlogic.gdx.backends.headless.HeadlessApplication;
 import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -82,7 +83,7 @@ public class TestPopupInfoScreen {
         var screen = (GamePlayScreen) runner.game.getScreen();
 
         // Spawn glucose, collide with it
-        screen.getGlucoseManager().getGlucoses().get(new Chunk(0, 0)).add(new Glucose(screen.getAssetManager(), 0, 0));
+        screen.getGlucoseManager().getGlucoses().get(new Chunk(0, 0)).add(new Glucose(new TextureRegion(), 0, 0));
         runner.step();
 
         assertTrue(screen.getGlucoseCollisionPopup().wasShown());
@@ -99,7 +100,7 @@ public class TestPopupInfoScreen {
 
         // Spawn glucose, collide with it
         screen.getCell().setHasSmallSizeUpgrade(true);
-        screen.getZoneManager().getAcidZones().put(new Chunk(0, 0), new Zone(screen.getAssetManager(), "", 0, 0));
+        screen.getZoneManager().getAcidZones().put(new Chunk(0, 0), new Zone(new TextureRegion(), 0, 0));
         runner.step();
 
         assertTrue(screen.getAcidZonePopup().wasShown());
@@ -115,7 +116,7 @@ public class TestPopupInfoScreen {
         var screen = (GamePlayScreen) runner.game.getScreen();
 
         // Spawn glucose, collide with it
-        screen.getZoneManager().getBasicZones().put(new Chunk(0, 0), new Zone(screen.getAssetManager(), "", 0, 0));
+        screen.getZoneManager().getBasicZones().put(new Chunk(0, 0), new Zone(new TextureRegion(), 0, 0));
         runner.step();
 
         assertTrue(screen.getBasicZonePopup().wasShown());
@@ -131,7 +132,7 @@ public class TestPopupInfoScreen {
         var screen = (GamePlayScreen) runner.game.getScreen();
 
         // Spawn glucose, collide with it
-        screen.getZoneManager().getBasicZones().put(new Chunk(0, 0), new Zone(screen.getAssetManager(), "", 0, 0));
+        screen.getZoneManager().getBasicZones().put(new Chunk(0, 0), new Zone(new TextureRegion(), 0, 0));
         runner.step();
 
         var glucosePopup = screen.getGlucoseCollisionPopup();
@@ -0,0 +1,139 @@
+package cellcorp.gameofcells.screens;
+
+import cellcorp.gameofcells.Main;
+import cellcorp.gameofcells.runner.GameRunner;
+import com.badlogic.gdx.ApplicationListener;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestPopupRegistry {
+    @BeforeAll
+    public static void setUpLibGDX() {
+        System.setProperty("com.badlogic.gdx.backends.headless.disableNativesLoading", "true");
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        new HeadlessApplication(
+            new ApplicationListener() {
+                @Override
+                public void create() {
+                }
+
+                @Override
+                public void resize(int width, int height) {
+                }
+
+                @Override
+                public void render() {
+                }
+
+                @Override
+                public void pause() {
+                }
+
+                @Override
+                public void resume() {
+                }
+
+                @Override
+                public void dispose() {
+                }
+            }, config
+        );
+
+        Gdx.graphics = Mockito.mock(Graphics.class);
+        Mockito.when(Gdx.graphics.getWidth()).thenReturn(Main.DEFAULT_SCREEN_WIDTH);
+        Mockito.when(Gdx.graphics.getHeight()).thenReturn(Main.DEFAULT_SCREEN_HEIGHT);
+
+        GL20 gl20 = Mockito.mock(GL20.class);
+        Gdx.gl = gl20;
+        Gdx.gl20 = gl20;
+    }
+
+    @AfterAll
+    public static void cleanUp() {
+        if (Gdx.app != null) {
+            Gdx.app.exit();
+        }
+    }
+
+    private static GamePlayScreen startGame(GameRunner runner) {
+        runner.setHeldDownKeys(Set.of(Input.Keys.ENTER));
+        runner.step();
+        runner.setHeldDownKeys(Set.of());
+        return (GamePlayScreen) runner.game.getScreen();
+    }
+
+    @Test
+    public void newGameBuildsNoPopups() {
+        var gamePlayScreen = startGame(GameRunner.create());
+
+        assertEquals(0, gamePlayScreen.getPopups().getBuiltCount());
+    }
+
+    @Test
+    public void reportingBuildsOnlyThatPopup() {
+        var gamePlayScreen = startGame(GameRunner.create());
+        var popups = gamePlayScreen.getPopups();
+
+        gamePlayScreen.reportGlucoseCollision();
+
+        assertTrue(popups.isBuilt(PopupId.GLUCOSE));
+        assertTrue(popups.get(PopupId.GLUCOSE).isVisible());
+        assertEquals(1, popups.getBuiltCount());
+    }
+
+    @Test
+    public void dismissingVisiblePopupResumesGame() {
+        var runner = GameRunner.create();
+        var gamePlayScreen = startGame(runner);
+        var popups = gamePlayScreen.getPopups();
+
+        gamePlayScreen.reportBasicZoneCollision();
+        assertTrue(gamePlayScreen.isPaused());
+
+        runner.setHeldDownKeys(Set.of(Input.Keys.SPACE));
+        runner.step();
+
+        assertFalse(popups.get(PopupId.BASIC_ZONE).isVisible());
+        assertTrue(popups.wasShown(PopupId.BASIC_ZONE));
+        assertFalse(gamePlayScreen.isPaused());
+    }
+
+    @Test
+    public void wasShownIsRestoredWithoutBuilding() {
+        var gamePlayScreen = startGame(GameRunner.create());
+        var popups = gamePlayScreen.getPopups();
+
+        popups.setWasShown(PopupId.SPLIT_CELL, true);
+
+        assertTrue(popups.wasShown(PopupId.SPLIT_CELL));
+        assertFalse(popups.isBuilt(PopupId.SPLIT_CELL));
+        // Once built, the popup carries the restored flag
+        assertTrue(popups.get(PopupId.SPLIT_CELL).wasShown());
+    }
+
+    @Test
+    public void disposeKeepsWasShown() {
+        var gamePlayScreen = startGame(GameRunner.create());
+        var popups = gamePlayScreen.getPopups();
+
+        popups.show(PopupId.HEAL_AVAILABLE);
+        popups.dispose();
+
+        assertEquals(0, popups.getBuiltCount());
+        assertTrue(popups.wasShown(PopupId.HEAL_AVAILABLE));
+    }
+}
@@ -0,0 +1,128 @@
+package cellcorp.gameofcells.screens;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class TestScreenManager {
+
+    @Test
+    public void leftOneShotScreenIsDisposedAtEndOfFrame() {
+        var screens = new ScreenManager();
+        var first = mock(GameOverScreen.class);
+        var second = mock(MainMenuScreen.class);
+
+        screens.setScreen(first);
+        screens.setScreen(second);
+        verify(first).hide();
+        verify(first, never()).dispose();
+
+        screens.disposePending();
+        verify(first).dispose();
+        verify(second, never()).dispose();
+        assertSame(second, screens.getCurrent());
+    }
+
+    @Test
+    public void leftCachedScreenIsNotDisposed() {
+        var screens = new ScreenManager();
+        var menu = screens.getOrCreate(null, MainMenuScreen.class, () -> mock(MainMenuScreen.class));
+        screens.setScreen(menu);
+        screens.setScreen(mock(GameOverScreen.class));
+        screens.disposePending();
+
+        verify(menu, never()).dispose();
+        assertSame(menu, screens.getOrCreate(null, MainMenuScreen.class, () -> mock(MainMenuScreen.class)));
+    }
+
+    @Test
+    public void cachedScreensAreKeyedByOwner() {
+        var screens = new ScreenManager();
+        var firstGame = mock(GamePlayScreen.class);
+        var secondGame = mock(GamePlayScreen.class);
+
+        var firstShop = screens.getOrCreate(firstGame, ShopScreen.class, () -> mock(ShopScreen.class));
+        var secondShop = screens.getOrCreate(secondGame, ShopScreen.class, () -> mock(ShopScreen.class));
+
+        assertNotSame(firstShop, secondShop);
+        assertSame(firstShop, screens.getOrCreate(firstGame, ShopScreen.class, () -> mock(ShopScreen.class)));
+    }
+
+    @Test
+    public void discardDisposesOwnedScreens() {
+        var screens = new ScreenManager();
+        var game = screens.replace(null, mock(GamePlayScreen.class));
+        var shop = screens.getOrCreate(game, ShopScreen.class, () -> mock(ShopScreen.class));
+        var pause = screens.getOrCreate(game, PauseScreen.class, () -> mock(PauseScreen.class));
+
+        screens.discard(game);
+        screens.disposePending();
+
+        verify(game).dispose();
+        verify(shop).dispose();
+        verify(pause).dispose();
+        assertEquals(0, screens.getLiveScreenCount());
+    }
+
+    @Test
+    public void discardedCurrentScreenIsDisposedWhenLeft() {
+        var screens = new ScreenManager();
+        var game = screens.replace(null, mock(GamePlayScreen.class));
+        screens.setScreen(game);
+
+        screens.discard(game);
+        screens.disposePending();
+        verify(game, never()).dispose();
+
+        screens.setScreen(mock(GameOverScreen.class));
+        screens.disposePending();
+        verify(game, times(1)).dispose();
+    }
+
+    @Test
+    public void replaceDisposesReplacedScreen() {
+        var screens = new ScreenManager();
+        var oldGame = screens.replace(null, mock(GamePlayScreen.class));
+        var oldShop = screens.getOrCreate(oldGame, ShopScreen.class, () -> mock(ShopScreen.class));
+
+        var newGame = screens.replace(null, mock(GamePlayScreen.class));
+        screens.disposePending();
+
+        verify(oldGame).dispose();
+        verify(oldShop).dispose();
+        verify(newGame, never()).dispose();
+        assertEquals(1, screens.getLiveScreenCount());
+    }
+
+    @Test
+    public void disposeDisposesEveryScreenOnce() {
+        var screens = new ScreenManager();
+        var menu = screens.getOrCreate(null, MainMenuScreen.class, () -> mock(MainMenuScreen.class));
+        var game = screens.replace(null, mock(GamePlayScreen.class));
+        var current = mock(GameOverScreen.class);
+        screens.setScreen(menu);
+        screens.setScreen(current);
+
+        screens.dispose();
+
+        verify(menu, times(1)).dispose();
+        verify(game, times(1)).dispose();
+        verify(current, times(1)).dispose();
+        assertNull(screens.getCurrent());
+    }
+
+    @Test
+    public void liveResourcesAreCounted() {
+        var screens = new ScreenManager();
+        var menu = screens.getOrCreate(null, MainMenuScreen.class, () -> mock(MainMenuScreen.class));
+        var current = mock(GameOverScreen.class);
+        when(menu.getResourceCount()).thenReturn(2);
+        when(current.getResourceCount()).thenReturn(1);
+        screens.setScreen(current);
+
+        assertEquals(2, screens.getLiveScreenCount());
+        assertEquals(3, screens.getLiveResourceCount());
+        assertTrue(screens.report().contains("2 screens, 3 GPU resources"));
+    }
+}
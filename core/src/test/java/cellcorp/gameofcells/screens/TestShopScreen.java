@@ -104,6 +104,24 @@ public class TestShopScreen {
         assertNotEquals(shopScreen, previousScreen);
     }
 
+    @Test
+    public void reopeningShopReusesScreen() {
+        var gameRunner = GameRunner.create();
+        gameRunner.setHeldDownKeys(Set.of(Input.Keys.ENTER));
+        gameRunner.step();
+        gameRunner.setHeldDownKeys(Set.of(Input.Keys.Q));
+        gameRunner.step();
+        var shopScreen = (ShopScreen) gameRunner.game.getScreen();
+
+        gameRunner.setHeldDownKeys(Set.of(Input.Keys.ESCAPE));
+        gameRunner.runForSeconds(2f);
+        assertInstanceOf(GamePlayScreen.class, gameRunner.game.getScreen());
+
+        gameRunner.setHeldDownKeys(Set.of(Input.Keys.Q));
+        gameRunner.step();
+        assertSame(shopScreen, gameRunner.game.getScreen());
+    }
+
     /**
      * * Test that the screen transition animation works when moving to the shop screen.
      * This test checks that the screen transition animation is triggered when moving to the shop screen.
@@ -0,0 +1,300 @@
+package cellcorp.gameofcells.lwjgl3;
+
+import cellcorp.gameofcells.Main;
+import cellcorp.gameofcells.QualityGovernor;
+import cellcorp.gameofcells.benchmark.BenchmarkScenario;
+import cellcorp.gameofcells.benchmark.BenchmarkScript;
+import cellcorp.gameofcells.benchmark.FrameStats;
+import cellcorp.gameofcells.benchmark.ScriptedInputProvider;
+import cellcorp.gameofcells.objects.SpawnManager;
+import cellcorp.gameofcells.objects.WorldRenderScaler;
+import cellcorp.gameofcells.screens.GamePlayScreen;
+import com.badlogic.gdx.ApplicationListener;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Runs the game through a scripted {@link BenchmarkScenario}, then writes a JSON report and exits.
+ * <p>
+ * With {@code --benchmark <scenario>}, the launcher turns off vsync and the frame cap, and hands the window to this
+ * instead of the game. The world is seeded with {@link BenchmarkScript#SEED}, so every run plays the same route.
+ * Only frames between warm-up and the end of the script are measured. The quality tier and world render scale
+ * are pinned for the whole run, so frame times from different runs and configs are comparable.
+ * <p>
+ * The report has frame time percentiles, draw calls per frame, and every GC pause during measurement.
+ * It goes to {@code --benchmark-out <path>}, or {@code benchmark-<scenario>.json} in the working directory.
+ */
+public class BenchmarkRunner implements ApplicationListener {
+    private static final String ARG = "--benchmark";
+    private static final String OUT_ARG = "--benchmark-out";
+    private static final QualityGovernor.Tier QUALITY_TIER = QualityGovernor.Tier.HIGH;
+    /**
+     * Full resolution, whatever renderScalePercent is in the config.
+     */
+    private static final float RENDER_SCALE = WorldRenderScaler.MAX_SCALE;
+
+    private final BenchmarkScript script;
+    private final Main game;
+    private final Path reportPath;
+
+    private final FrameStats frameTimesMillis = new FrameStats();
+    private final FrameStats drawCalls = new FrameStats();
+    private final FrameStats gcPausesMillis = new FrameStats();
+    private final Map<String, long[]> gcByCollector = new LinkedHashMap<>(); // Name -> {pauses, total millis}
+    private final List<Runnable> gcUnsubscribes = new ArrayList<>();
+
+    private GLProfiler profiler;
+    private long lastFrameNanos = -1;
+    private long measureStartNanos;
+    private long measureEndNanos;
+    private boolean finished = false;
+
+    private BenchmarkRunner(BenchmarkScenario scenario, Path reportPath) {
+        this.reportPath = reportPath;
+        // Seeded before the game exists, since it creates random generators as it's constructed.
+        SpawnManager.setRandomSeed(BenchmarkScript.SEED);
+        var input = new ScriptedInputProvider();
+        this.game = Main.createMain(input);
+        this.script = new BenchmarkScript(scenario, game, input);
+    }
+
+    /**
+     * Create a runner if the arguments ask for a benchmark.
+     *
+     * @return The runner, or null if the arguments don't ask for one.
+     * @throws IllegalArgumentException If the scenario is missing or unknown.
+     */
+    public static BenchmarkRunner fromArgs(String[] args) {
+        String scenarioName = null;
+        Path reportPath = null;
+        boolean requested = false;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals(ARG)) {
+                requested = true;
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException(ARG + " needs a scenario");
+                }
+                scenarioName = args[++i];
+            } else if (args[i].equals(OUT_ARG) && i + 1 < args.length) {
+                reportPath = Path.of(args[++i]);
+            }
+        }
+        if (!requested) {
+            return null;
+        }
+        var scenario = BenchmarkScenario.fromName(scenarioName);
+        if (reportPath == null) {
+            reportPath = Path.of("benchmark-" + scenario.getName() + ".json");
+        }
+        return new BenchmarkRunner(scenario, reportPath);
+    }
+
+    @Override
+    public void create() {
+        game.create();
+        // The quality tier, and the render scale it controls, would change what's measured, so keep them fixed.
+        game.getQualityGovernor().setEnabled(false);
+        game.getQualityGovernor().setTier(QUALITY_TIER);
+        profiler = new GLProfiler(Gdx.graphics);
+        profiler.enable();
+        subscribeToGc();
+    }
+
+    @Override
+    public void render() {
+        script.beforeFrame(Gdx.graphics.getDeltaTime());
+        if (script.isFinished()) {
+            finish();
+            return;
+        }
+
+        pinRenderScale();
+        profiler.reset();
+        game.render();
+
+        long now = System.nanoTime();
+        if (script.isMeasuring()) {
+            if (lastFrameNanos < 0) {
+                measureStartNanos = now;
+            } else {
+                frameTimesMillis.add((now - lastFrameNanos) / 1_000_000f);
+                drawCalls.add(profiler.getDrawCalls());
+            }
+            lastFrameNanos = now;
+            measureEndNanos = now;
+        }
+    }
+
+    /**
+     * The gameplay screen reads its render scale from the config when it's built, so override it once it's up.
+     */
+    private void pinRenderScale() {
+        if (game.getScreen() instanceof GamePlayScreen) {
+            ((GamePlayScreen) game.getScreen()).getWorldRenderScaler().setScale(RENDER_SCALE);
+        }
+    }
+
+    private void finish() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        unsubscribeFromGc();
+        try {
+            var parent = reportPath.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(reportPath, report(), StandardCharsets.UTF_8);
+            System.out.println("[Benchmark] " + script.getScenario().getName() + ": "
+                + frameTimesMillis.getCount() + " frames, p99 "
+                + String.format(Locale.ROOT, "%.2f", frameTimesMillis.percentile(99)) + " ms. Report: "
+                + reportPath.toAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("[Benchmark] Couldn't write " + reportPath + ": " + e.getMessage());
+        }
+        Gdx.app.exit();
+    }
+
+    /**
+     * Listen for GC notifications, to record each pause rather than just a total.
+     */
+    private void subscribeToGc() {
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (!(bean instanceof NotificationEmitter)) {
+                continue;
+            }
+            var emitter = (NotificationEmitter) bean;
+            NotificationListener listener = (notification, handback) -> {
+                if (!notification.getType().equals(GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION)) {
+                    return;
+                }
+                var info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+                // Concurrent cycles run beside the game, so they aren't pauses.
+                if (info.getGcName().contains("Concurrent") || info.getGcName().contains("Cycles")) {
+                    return;
+                }
+                recordGcPause(info.getGcName(), info.getGcInfo().getDuration());
+            };
+            emitter.addNotificationListener(listener, null, null);
+            gcUnsubscribes.add(() -> {
+                try {
+                    emitter.removeNotificationListener(listener);
+                } catch (javax.management.ListenerNotFoundException ignored) {
+                }
+            });
+        }
+    }
+
+    /**
+     * Called on the JMX notification thread.
+     */
+    private synchronized void recordGcPause(String collector, long millis) {
+        if (!script.isMeasuring()) {
+            return;
+        }
+        gcPausesMillis.add(millis);
+        var totals = gcByCollector.computeIfAbsent(collector, name -> new long[2]);
+        totals[0]++;
+        totals[1] += millis;
+    }
+
+    private void unsubscribeFromGc() {
+        for (var unsubscribe : gcUnsubscribes) {
+            unsubscribe.run();
+        }
+        gcUnsubscribes.clear();
+    }
+
+    private synchronized String report() {
+        var json = new StringBuilder();
+        json.append("{\n");
+        json.append("  \"scenario\": \"").append(script.getScenario().getName()).append("\",\n");
+        json.append("  \"seed\": ").append(BenchmarkScript.SEED).append(",\n");
+        json.append("  \"java\": \"").append(System.getProperty("java.version")).append("\",\n");
+        json.append("  \"renderer\": \"").append(escape(Gdx.gl.glGetString(GL20.GL_RENDERER))).append("\",\n");
+        json.append("  \"qualityTier\": \"").append(QUALITY_TIER).append("\",\n");
+        json.append("  \"renderScale\": ").append(number(RENDER_SCALE)).append(",\n");
+        json.append("  \"frames\": ").append(frameTimesMillis.getCount()).append(",\n");
+        json.append("  \"seconds\": ").append(number((measureEndNanos - measureStartNanos) / 1e9)).append(",\n");
+        json.append("  \"frameTimeMillis\": ").append(summary(frameTimesMillis)).append(",\n");
+        json.append("  \"drawCalls\": ").append(summary(drawCalls)).append(",\n");
+        json.append("  \"gc\": {\n");
+        json.append("    \"pauses\": ").append(gcPausesMillis.getCount()).append(",\n");
+        json.append("    \"totalMillis\": ").append(number(gcPausesMillis.getMean() * gcPausesMillis.getCount())).append(",\n");
+        json.append("    \"maxMillis\": ").append(number(gcPausesMillis.getMax())).append(",\n");
+        json.append("    \"collectors\": {");
+        boolean first = true;
+        for (var entry : gcByCollector.entrySet()) {
+            json.append(first ? "\n" : ",\n");
+            json.append("      \"").append(escape(entry.getKey())).append("\": {\"pauses\": ")
+                .append(entry.getValue()[0]).append(", \"totalMillis\": ").append(entry.getValue()[1]).append("}");
+            first = false;
+        }
+        json.append(first ? "}\n" : "\n    }\n");
+        json.append("  }\n");
+        json.append("}\n");
+        return json.toString();
+    }
+
+    private static String summary(FrameStats stats) {
+        return "{\"mean\": " + number(stats.getMean())
+            + ", \"p50\": " + number(stats.percentile(50))
+            + ", \"p90\": " + number(stats.percentile(90))
+            + ", \"p99\": " + number(stats.percentile(99))
+            + ", \"p99.9\": " + number(stats.percentile(99.9f))
+            + ", \"max\": " + number(stats.getMax()) + "}";
+    }
+
+    private static String number(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    private static String escape(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        game.resize(width, height);
+    }
+
+    @Override
+    public void pause() {
+        game.pause();
+    }
+
+    @Override
+    public void resume() {
+        game.resume();
+    }
+
+    @Override
+    public void dispose() {
+        unsubscribeFromGc();
+        if (profiler != null) {
+            profiler.disable();
+        }
+        game.dispose();
+    }
+}
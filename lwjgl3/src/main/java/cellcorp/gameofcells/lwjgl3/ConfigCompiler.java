@@ -0,0 +1,29 @@
+package cellcorp.gameofcells.lwjgl3;
+
+import cellcorp.gameofcells.providers.CompiledConfig;
+import cellcorp.gameofcells.providers.ConfigParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Compiles `config.txt` into `config.bin`, for the `compileConfig` Gradle task.
+ * Problems in the config are printed, so they show up in the build instead of at startup.
+ */
+public class ConfigCompiler {
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: ConfigCompiler <config.txt> <config.bin>");
+            System.exit(2);
+        }
+        byte[] source = Files.readAllBytes(Path.of(args[0]));
+        var snapshot = ConfigParser.parse(new String(source, StandardCharsets.UTF_8));
+        for (String problem : snapshot.getProblems()) {
+            System.err.println(args[0] + ", " + problem);
+        }
+        Files.write(Path.of(args[1]), CompiledConfig.encode(snapshot, CompiledConfig.hash(source)));
+        System.out.println("Compiled " + snapshot.size() + " config values into " + args[1]);
+    }
+}
@@ -9,10 +9,18 @@ public class Lwjgl3Launcher {
     public static void main(String[] args) {
         if (StartupHelper.startNewJvmIfRequired())
             return; // This handles macOS support and helps on Windows.
-        createApplication();
+        createApplication(args);
     }
 
-    private static Lwjgl3Application createApplication() {
+    private static Lwjgl3Application createApplication(String[] args) {
+        var benchmark = BenchmarkRunner.fromArgs(args);
+        if (benchmark != null) {
+            return new Lwjgl3Application(benchmark, getBenchmarkConfiguration());
+        }
+        var probe = StartupProbe.fromArgs(args);
+        if (probe != null) {
+            return new Lwjgl3Application(probe, getDefaultConfiguration());
+        }
         return new Lwjgl3Application(Main.createMain(), getDefaultConfiguration());
     }
 
@@ -40,4 +48,13 @@ public class Lwjgl3Launcher {
         configuration.setWindowIcon("libgdx128.png", "libgdx64.png", "libgdx32.png", "libgdx16.png");
         return configuration;
     }
+
+    /** Like the default configuration, but uncapped, so benchmarks measure how fast frames can go. */
+    private static Lwjgl3ApplicationConfiguration getBenchmarkConfiguration() {
+        Lwjgl3ApplicationConfiguration configuration = getDefaultConfiguration();
+        configuration.setTitle("GameOfCells (benchmark)");
+        configuration.useVsync(false);
+        configuration.setForegroundFPS(0);
+        return configuration;
+    }
 }
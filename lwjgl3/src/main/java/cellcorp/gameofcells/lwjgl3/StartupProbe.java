@@ -0,0 +1,117 @@
+package cellcorp.gameofcells.lwjgl3;
+
+import cellcorp.gameofcells.Main;
+import cellcorp.gameofcells.benchmark.BenchmarkScenario;
+import cellcorp.gameofcells.benchmark.BenchmarkScript;
+import cellcorp.gameofcells.benchmark.ScriptedInputProvider;
+import cellcorp.gameofcells.objects.SpawnManager;
+import cellcorp.gameofcells.screens.LoadingScreen;
+import com.badlogic.gdx.ApplicationListener;
+import com.badlogic.gdx.Gdx;
+
+/**
+ * Wraps the game for startup measurements, and exits once startup is done.
+ * <p>
+ * With {@code --startup-probe}, prints {@link #FIRST_FRAME_MARKER} after the first interactive frame is drawn,
+ * then exits. That's the first frame of a screen other than the {@link LoadingScreen}, normally the main menu,
+ * so the menu's assets and classes have loaded by then. The {@code benchmarkStartup} Gradle task times how long
+ * each launch variant takes to print it.
+ * <p>
+ * With {@code --startup-probe=train}, plays the {@link BenchmarkScenario#FULL} benchmark script instead of waiting
+ * for input: a new game, a walk through the chunks around spawn, every shop upgrade, and a split. That way the
+ * training run loads the menu, gameplay, shop, and split screen classes, not just the ones startup needs.
+ * Screens the script doesn't visit, like settings or game over, aren't covered.
+ * Used by {@code trainCds} to build the AppCDS archive, and by {@code traceNativeMetadata} to record reachability
+ * metadata for native images.
+ */
+public class StartupProbe implements ApplicationListener {
+    /**
+     * Printed to stdout after the first interactive frame. The startup benchmark waits for this line.
+     */
+    public static final String FIRST_FRAME_MARKER = "[StartupProbe] first frame";
+    private static final String ARG = "--startup-probe";
+
+    private final Main game;
+    /**
+     * Plays the training run. Null when only timing the first frame.
+     */
+    private final BenchmarkScript trainingScript;
+    private int frames = 0;
+    private boolean firstFrameReported = false;
+
+    private StartupProbe(Main game, BenchmarkScript trainingScript) {
+        this.game = game;
+        this.trainingScript = trainingScript;
+    }
+
+    /**
+     * Create a probe if the arguments ask for one.
+     *
+     * @return The probe, or null if the arguments don't ask for one.
+     */
+    public static StartupProbe fromArgs(String[] args) {
+        for (String arg : args) {
+            if (arg.equals(ARG)) {
+                return new StartupProbe(Main.createMain(), null);
+            }
+            if (arg.equals(ARG + "=train")) {
+                // Seeded before the game exists, like a benchmark run, so every training run plays the same route.
+                SpawnManager.setRandomSeed(BenchmarkScript.SEED);
+                var input = new ScriptedInputProvider();
+                var game = Main.createMain(input);
+                return new StartupProbe(game, new BenchmarkScript(BenchmarkScenario.FULL, game, input));
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void create() {
+        game.create();
+    }
+
+    @Override
+    public void render() {
+        if (trainingScript != null) {
+            trainingScript.beforeFrame(Gdx.graphics.getDeltaTime());
+            if (trainingScript.isFinished()) {
+                System.out.println("[StartupProbe] training run done after " + frames + " frames");
+                Gdx.app.exit();
+                return;
+            }
+        }
+
+        // The screen drawn this frame. Rendering may switch to the next one.
+        var screen = game.getScreen();
+        game.render();
+        frames++;
+        if (!firstFrameReported && screen != null && !(screen instanceof LoadingScreen)) {
+            firstFrameReported = true;
+            System.out.println(FIRST_FRAME_MARKER);
+            System.out.flush();
+        }
+        if (trainingScript == null && firstFrameReported) {
+            Gdx.app.exit();
+        }
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        game.resize(width, height);
+    }
+
+    @Override
+    public void pause() {
+        game.pause();
+    }
+
+    @Override
+    public void resume() {
+        game.resume();
+    }
+
+    @Override
+    public void dispose() {
+        game.dispose();
+    }
+}